@@ -98,6 +98,7 @@ public final class NBTConstants {
     public static final String FILTER = "filter";
     public static final String FILTERS = "filters";
     public static final String FINISHED = "finished";
+    public static final String FLOOD_FILL = "floodFill";
     public static final String FLUID_STORED = "fluid";
     public static final String FLUID_TANKS = "FluidTanks";
     public static final String FOLLOW = "follow";
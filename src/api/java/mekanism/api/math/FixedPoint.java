@@ -0,0 +1,287 @@
+package mekanism.api.math;
+
+/**
+ * Primitive companion to {@link FloatingLong} that represents values as a single {@code long} holding the number of ten thousandths (the precision of a
+ * {@link FloatingLong}). This allows doing chains of arithmetic on hot paths without creating any intermediary objects.
+ * <br><br>
+ * Fixed point values are always positive and can represent up to {@link #MAX_VALUE} (roughly 922 trillion). Operations saturate at {@link #MAX_VALUE} instead of
+ * overflowing, and clamp at {@link #ZERO} instead of becoming negative. For any inputs and results that are within that range the results are exactly the same as
+ * performing the equivalent operation on a {@link FloatingLong}, so callers that may be working with larger values should check {@link #fits(FloatingLong)} first
+ * and fall back to using {@link FloatingLong} directly.
+ *
+ * @since 10.3.1
+ */
+public final class FixedPoint {
+
+    private FixedPoint() {
+    }
+
+    /**
+     * The number of fixed point units that make up one whole unit.
+     */
+    public static final long SCALE = 10_000;
+    /**
+     * A fixed point value representing {@code 0}
+     */
+    public static final long ZERO = 0;
+    /**
+     * A fixed point value representing {@code 1}
+     */
+    public static final long ONE = SCALE;
+    /**
+     * The maximum value that can be represented as a fixed point value.
+     */
+    public static final long MAX_VALUE = Long.MAX_VALUE;
+    private static final long MAX_WHOLE = MAX_VALUE / SCALE;
+    private static final long MAX_DECIMAL_AT_MAX_WHOLE = MAX_VALUE % SCALE;
+    /**
+     * Largest remainder that can be multiplied by {@code SCALE * 10} without overflowing an unsigned long.
+     */
+    private static final long MAX_REMAINDER_SHIFT = Long.divideUnsigned(Long.divideUnsigned(Long.divideUnsigned(-1L, SCALE), SCALE), 10);
+
+    /**
+     * Checks if the given {@link FloatingLong} can be represented exactly as a fixed point value.
+     *
+     * @param value The {@link FloatingLong} to check.
+     *
+     * @return {@code true} if the value can be represented without saturating.
+     */
+    public static boolean fits(FloatingLong value) {
+        long whole = value.getValue();
+        //Note: Negative whole values represent unsigned values that are larger than Long.MAX_VALUE
+        return whole >= 0 && (whole < MAX_WHOLE || whole == MAX_WHOLE && value.getDecimal() <= MAX_DECIMAL_AT_MAX_WHOLE);
+    }
+
+    /**
+     * Converts the given {@link FloatingLong} to a fixed point value, saturating at {@link #MAX_VALUE} if it does not {@link #fits(FloatingLong) fit}.
+     *
+     * @param value The {@link FloatingLong} to convert.
+     *
+     * @return Fixed point value.
+     */
+    public static long of(FloatingLong value) {
+        return fits(value) ? value.getValue() * SCALE + value.getDecimal() : MAX_VALUE;
+    }
+
+    /**
+     * Converts the given unsigned whole number to a fixed point value, saturating at {@link #MAX_VALUE}.
+     *
+     * @param whole The unsigned whole number to convert.
+     *
+     * @return Fixed point value.
+     */
+    public static long of(long whole) {
+        return whole < 0 || whole > MAX_WHOLE ? MAX_VALUE : whole * SCALE;
+    }
+
+    /**
+     * Creates a new mutable {@link FloatingLong} representing the given fixed point value.
+     *
+     * @param value Fixed point value.
+     *
+     * @return A mutable {@link FloatingLong}.
+     */
+    public static FloatingLong toFloatingLong(long value) {
+        return FloatingLong.create(whole(value), decimal(value));
+    }
+
+    /**
+     * Writes the given fixed point value into the given {@link FloatingLong}, modifying it in place unless it is a constant in which case a new mutable {@link
+     * FloatingLong} is returned instead.
+     *
+     * @param value  Fixed point value.
+     * @param target {@link FloatingLong} to try and reuse.
+     *
+     * @return The {@link FloatingLong} representing the given value.
+     *
+     * @apiNote It is recommended to set the target to the result, in the same way as when using {@link FloatingLong#plusEqual(FloatingLong)}
+     * <br>
+     * {@code target = FixedPoint.toFloatingLong(value, target)}
+     */
+    public static FloatingLong toFloatingLong(long value, FloatingLong target) {
+        return target.setAndClampValues(whole(value), decimal(value));
+    }
+
+    /**
+     * @param value Fixed point value.
+     *
+     * @return The whole number portion of the given value.
+     */
+    public static long whole(long value) {
+        return value / SCALE;
+    }
+
+    /**
+     * @param value Fixed point value.
+     *
+     * @return The decimal portion of the given value, in the same form as {@link FloatingLong#getDecimal()}.
+     */
+    public static short decimal(long value) {
+        return (short) (value % SCALE);
+    }
+
+    /**
+     * Equivalent to {@link FloatingLong#add(FloatingLong)}.
+     *
+     * @return The sum of the two values, saturating at {@link #MAX_VALUE}.
+     */
+    public static long add(long a, long b) {
+        long result = a + b;
+        //Both values are positive, so if the result is negative it overflowed
+        return result < 0 ? MAX_VALUE : result;
+    }
+
+    /**
+     * Equivalent to {@link FloatingLong#subtract(FloatingLong)}.
+     *
+     * @return The difference of the two values, clamped at {@link #ZERO}.
+     */
+    public static long subtract(long a, long b) {
+        return b >= a ? ZERO : a - b;
+    }
+
+    /**
+     * Equivalent to {@link FloatingLong#multiply(FloatingLong)}, any precision past the precision of a fixed point value is truncated.
+     *
+     * @return The product of the two values, saturating at {@link #MAX_VALUE}.
+     */
+    public static long multiply(long a, long b) {
+        if (a == ZERO || b == ZERO) {
+            return ZERO;
+        }
+        //(aWhole * SCALE + aDecimal) * b / SCALE = aWhole * b + aDecimal * b / SCALE
+        // and aDecimal * b / SCALE = aDecimal * bWhole + aDecimal * bDecimal / SCALE
+        long aWhole = a / SCALE;
+        long aDecimal = a % SCALE;
+        long result = multiplySaturating(aWhole, b);
+        result = add(result, aDecimal * (b / SCALE));
+        return add(result, aDecimal * (b % SCALE) / SCALE);
+    }
+
+    /**
+     * Equivalent to {@link FloatingLong#divide(FloatingLong)}, the result is rounded half up to the precision of a fixed point value.
+     *
+     * @return The quotient of the two values, saturating at {@link #MAX_VALUE}.
+     *
+     * @throws ArithmeticException if {@code b} is zero.
+     */
+    public static long divide(long a, long b) {
+        if (b == ZERO) {
+            throw new ArithmeticException("Division by zero");
+        } else if (a == ZERO) {
+            return ZERO;
+        } else if (b == ONE) {
+            return a;
+        } else if (b % SCALE == 0) {
+            //Dividing by a whole number, which FloatingLong handles using a different algorithm
+            return divideByWhole(a, b / SCALE);
+        }
+        long whole = a / b;
+        long remainder = a % b;
+        long fraction;
+        if (remainder <= MAX_VALUE / SCALE) {
+            long scaledRemainder = remainder * SCALE;
+            fraction = scaledRemainder / b;
+            remainder = scaledRemainder % b;
+        } else {
+            //The remainder is too large to scale directly, so do the long division one digit at a time instead
+            fraction = 0;
+            for (long unit = 1; unit < SCALE; unit *= 10) {
+                long digit = 0;
+                long accumulated = 0;
+                for (int i = 0; i < 10; i++) {
+                    //Both accumulated and remainder are smaller than b, so the sum fits in an unsigned long
+                    accumulated += remainder;
+                    if (Long.compareUnsigned(accumulated, b) >= 0) {
+                        accumulated -= b;
+                        digit++;
+                    }
+                }
+                fraction = fraction * 10 + digit;
+                remainder = accumulated;
+            }
+        }
+        if (remainder >= b - remainder) {
+            //Round half up
+            fraction++;
+        }
+        return add(multiplySaturating(whole, SCALE), fraction);
+    }
+
+    /**
+     * Equivalent to {@link FloatingLong#divide(long)}, the result is rounded to the precision of a fixed point value using the same algorithm as {@link FloatingLong}.
+     *
+     * @param a        Fixed point value.
+     * @param toDivide Unsigned whole number to divide by.
+     *
+     * @return The quotient of the two values.
+     *
+     * @throws ArithmeticException if {@code toDivide} is zero.
+     */
+    public static long divideByWhole(long a, long toDivide) {
+        if (toDivide == 0) {
+            throw new ArithmeticException("Division by zero");
+        } else if (a == ZERO || toDivide == 1) {
+            return a;
+        }
+        long whole = whole(a);
+        long remainder = Long.remainderUnsigned(whole, toDivide);
+        whole = Long.divideUnsigned(whole, toDivide);
+        //Calculate the decimal with one extra digit of precision so that we can round it, this mirrors FloatingLong#divideEquals(long)
+        // so that the results match exactly
+        long decimal;
+        if (Long.compareUnsigned(remainder, MAX_REMAINDER_SHIFT) >= 0) {
+            decimal = Long.divideUnsigned(remainder, Long.divideUnsigned(toDivide, SCALE * 10));
+        } else {
+            decimal = Long.divideUnsigned(remainder * SCALE * 10, toDivide);
+            decimal += Long.divideUnsigned(decimal(a) * 10L, toDivide);
+        }
+        if (decimal % 10 >= 5) {
+            decimal += 10;
+            if (decimal >= SCALE * 10) {
+                whole++;
+                decimal -= SCALE * 10;
+            }
+        }
+        return add(multiplySaturating(whole, SCALE), decimal / 10);
+    }
+
+    /**
+     * Equivalent to {@link FloatingLong#divideToLevel(FloatingLong)}.
+     *
+     * @return The ratio of the two values as a double between zero and one (inclusive).
+     */
+    public static double divideToLevel(long a, long b) {
+        return b == ZERO || a > b ? 1 : toDouble(divide(a, b));
+    }
+
+    /**
+     * Equivalent to {@link FloatingLong#doubleValue()}.
+     */
+    public static double toDouble(long value) {
+        return whole(value) + decimal(value) / (double) SCALE;
+    }
+
+    /**
+     * Clamps the given value between the given min and max.
+     */
+    public static long clamp(long value, long min, long max) {
+        return value < min ? min : Math.min(value, max);
+    }
+
+    /**
+     * Equivalent to {@link FloatingLong#compareTo(FloatingLong)} except that the magnitude of the result is not guaranteed to match.
+     */
+    public static int compare(long a, long b) {
+        return Long.compare(a, b);
+    }
+
+    private static long multiplySaturating(long a, long b) {
+        if (a == 0 || b == 0) {
+            return 0;
+        } else if (b > MAX_VALUE / a) {
+            return MAX_VALUE;
+        }
+        return a * b;
+    }
+}
@@ -191,7 +191,7 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      *
      * @return If this {@link FloatingLong} is constant, it returns a new object otherwise it returns this {@link FloatingLong} after updating the internal values.
      */
-    private FloatingLong setAndClampValues(long value, short decimal) {
+    FloatingLong setAndClampValues(long value, short decimal) {
         if (decimal < 0) {
             decimal = 0;
         } else if (decimal > MAX_DECIMAL) {
@@ -653,7 +653,10 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      * @implNote This caps the returned value at {@code 1}
      */
     public double divideToLevel(FloatingLong toDivide) {
-        //TODO: Optimize out creating another object
+        if (FixedPoint.fits(this) && FixedPoint.fits(toDivide)) {
+            //If both values fit as fixed point values, we can calculate the level without creating another object
+            return FixedPoint.divideToLevel(FixedPoint.of(this), FixedPoint.of(toDivide));
+        }
         return toDivide.isZero() || greaterThan(toDivide) ? 1 : divide(toDivide).doubleValue();
     }
 
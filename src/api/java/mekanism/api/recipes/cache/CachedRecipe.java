@@ -1,23 +1,29 @@
 package mekanism.api.recipes.cache;
 
 import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
-import it.unimi.dsi.fastutil.objects.ObjectArraySet;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.math.FloatingLong;
-import mekanism.api.math.FloatingLongConsumer;
 import mekanism.api.math.FloatingLongSupplier;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.CachedRecipe.OperationTracker.RecipeError;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Base class to help implement handling of Mekanism recipes.
@@ -30,9 +36,13 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
      */
     protected final RECIPE recipe;
     /**
-     * Set of all the errors from when this {@link CachedRecipe} last calculated all the errors.
+     * Bitset of all the errors from when this {@link CachedRecipe} last calculated all the errors.
      */
-    private Set<RecipeError> errors = Collections.emptySet();
+    private final BitSet errors = new BitSet();
+    /**
+     * Tracker that gets reset and reused each time this {@link CachedRecipe} processes so that we don't have to create a new one every tick.
+     */
+    private final OperationTracker tracker = new OperationTracker();
     /**
      * Used to check if the {@link CachedRecipe} should recheck for all errors.
      */
@@ -73,18 +83,12 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
      */
     private FloatingLongSupplier perTickEnergy = () -> FloatingLong.ZERO;
     /**
-     * Gets the energy currently stored in the machine/object executing this {@link CachedRecipe}.
-     *
-     * @implNote Defaults to returning no energy stored.
-     */
-    private FloatingLongSupplier storedEnergy = () -> FloatingLong.ZERO;
-    /**
-     * Called to consume energy.
+     * Energy container of the machine/object executing this {@link CachedRecipe}, used for looking up the stored energy and consuming energy.
      *
-     * @implNote Defaults to doing nothing.
+     * @implNote Defaults to not having any energy stored.
      */
-    private FloatingLongConsumer useEnergy = energy -> {
-    };
+    @Nullable
+    private IEnergyContainer energyContainer;
 
     /**
      * Gets the baseline maximum number of operations that can be performed if everything is working properly. The returned value should be at least one.
@@ -120,6 +124,23 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
     private IntConsumer operatingTicksChanged = ticks -> {
     };
 
+    /**
+     * Supplies a value that changes whenever something this {@link CachedRecipe} depends on may have changed, or {@code null} if every tick should be fully
+     * recalculated.
+     *
+     * @implNote Defaults to {@code null}.
+     */
+    @Nullable
+    private LongSupplier changeCounter;
+    /**
+     * Whether the last time this {@link CachedRecipe} processed it was unable to perform any operations and captured what it depends on, so that it can skip
+     * recalculating until something changes.
+     */
+    private boolean idle;
+    private long idleChangeCount;
+    private FloatingLong idleStoredEnergy = FloatingLong.ZERO;
+    private FloatingLong idleEnergyPerTick = FloatingLong.ZERO;
+
     /**
      * @param recipe           Recipe.
      * @param recheckAllErrors Returns {@code true} if processing should be continued even if an error is hit in order to gather all the errors. It is recommended to not
@@ -169,9 +190,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
         // from our container, it likely is not worth it as if we make the assumption we can extract all stored energy it cuts down on
         // processing. If we move the energy requirement checks to after checking about inputs it may become worthwhile
         this.perTickEnergy = Objects.requireNonNull(perTickEnergy, "The per tick energy cannot be null.");
-        Objects.requireNonNull(energyContainer, "Energy container cannot be null.");
-        this.storedEnergy = energyContainer::getEnergy;
-        this.useEnergy = energy -> energyContainer.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
+        this.energyContainer = Objects.requireNonNull(energyContainer, "Energy container cannot be null.");
         return this;
     }
 
@@ -258,16 +277,66 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
     }
 
     /**
-     * Updates the known errors to the given set, and calls {@link #onErrorsChange} if the errors actually changed.
+     * Sets the supplier of a counter that changes whenever the inputs, outputs, or anything else this {@link CachedRecipe} depends on may have changed. When set and
+     * the last tick was unable to perform any operations, this {@link CachedRecipe} will skip recalculating its operations until either the counter changes, the
+     * stored or required energy changes, or it is told to recheck all its errors.
+     *
+     * @param changeCounter Supplies the current value of the change counter.
+     *
+     * @apiNote This should not be used by holders where the result of {@link #calculateOperationsThisTick(OperationTracker)} or
+     * {@link #setPostProcessOperations(Consumer) post-processing} may change without the holder being marked as changed, for example due to the time of day.
+     * <br>
+     * If this method is not used, this {@link CachedRecipe} recalculates how many operations it can perform every tick.
+     */
+    public CachedRecipe<RECIPE> setChangeCounter(LongSupplier changeCounter) {
+        this.changeCounter = Objects.requireNonNull(changeCounter, "Change counter cannot be null.");
+        return this;
+    }
+
+    /**
+     * Updates the known errors to the given bitset, and calls {@link #onErrorsChange} if the errors actually changed.
      */
-    private void updateErrors(Set<RecipeError> errors) {
+    private void updateErrors(BitSet errors) {
         //Validate the errors actually changed as they potentially are just the same ones we found last go around
         if (!this.errors.equals(errors)) {
-            this.errors = errors;
-            onErrorsChange.accept(errors);
+            this.errors.clear();
+            this.errors.or(errors);
+            onErrorsChange.accept(errors.isEmpty() ? Collections.emptySet() : new RecipeErrorSet((BitSet) errors.clone()));
+        }
+    }
+
+    /**
+     * Clears the known errors, and calls {@link #onErrorsChange} if there were any.
+     */
+    private void clearErrors() {
+        if (!errors.isEmpty()) {
+            errors.clear();
+            onErrorsChange.accept(Collections.emptySet());
         }
     }
 
+    private FloatingLong getStoredEnergy() {
+        return energyContainer == null ? FloatingLong.ZERO : energyContainer.getEnergy();
+    }
+
+    /**
+     * @return {@code true} if we were unable to perform any operations last tick and nothing has changed since then.
+     */
+    private boolean isStillIdle() {
+        return idle && changeCounter != null && changeCounter.getAsLong() == idleChangeCount && getStoredEnergy().equals(idleStoredEnergy) &&
+               perTickEnergy.get().equals(idleEnergyPerTick);
+    }
+
+    /**
+     * @return {@code true} if the last time this {@link CachedRecipe} processed it was unable to perform any operations, and it won't recalculate how many it can
+     * perform until something it depends on changes.
+     *
+     * @see #setChangeCounter(LongSupplier)
+     */
+    public boolean isIdle() {
+        return idle;
+    }
+
     /**
      * Sets the number of operating ticks that have passed so far. This is used to allow {@link CachedRecipe} holders to persist and load recipe progress.
      *
@@ -286,9 +355,16 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
         //TODO: Evaluate adding in some marker that gets set to true here that then denies the various callbacks/builders from being used
         // as once we start processing the cached recipe should basically be immutable
         int operations;
-        if (canHolderFunction.getAsBoolean()) {
+        boolean canFunction = canHolderFunction.getAsBoolean();
+        if (canFunction) {
+            boolean checkAll = recheckAllErrors.getAsBoolean();
+            if (!checkAll && isStillIdle()) {
+                //Nothing we depend on has changed since last tick, so we still can't perform any operations, and our errors are the same
+                setActive.accept(false);
+                return;
+            }
             setupVariableValues();
-            OperationTracker tracker = new OperationTracker(errors, recheckAllErrors.getAsBoolean(), baselineMaxOperations.getAsInt());
+            tracker.reset(errors, checkAll, baselineMaxOperations.getAsInt());
             calculateOperationsThisTick(tracker);
             if (tracker.shouldContinueChecking()) {
                 postProcessOperations.accept(tracker);
@@ -306,11 +382,11 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
             }
         } else {
             operations = 0;
-            if (!errors.isEmpty()) {
-                updateErrors(Collections.emptySet());
-            }
+            idle = false;
+            clearErrors();
         }
         if (operations > 0) {
+            idle = false;
             setActive.accept(true);
             //Always use energy, as that is a constant thing we can check
             useEnergy(operations);
@@ -337,6 +413,14 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
                 operatingTicksChanged.accept(operatingTicks);
                 resetCache();
             }
+            if (canFunction && changeCounter != null) {
+                //Capture what we depend on after any callbacks have run, so that they don't count as something having changed
+                idle = true;
+                idleChangeCount = changeCounter.getAsLong();
+                //Note: We copy the energy values as constants as they may be mutable instances owned by the holder
+                idleStoredEnergy = getStoredEnergy().copyAsConst();
+                idleEnergyPerTick = perTickEnergy.get().copyAsConst();
+            }
         }
     }
 
@@ -381,9 +465,15 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
         if (operations == 1) {
             //While floating long will short circuit any calculations if multiplied by one given we require making a copy to ensure we don't
             // modify the source value, if we do the check here manually as well, then we can skip creating unnecessary objects
-            useEnergy.accept(energy);
+            extractEnergy(energy);
         } else {
-            useEnergy.accept(energy.multiply(operations));
+            extractEnergy(energy.multiply(operations));
+        }
+    }
+
+    private void extractEnergy(FloatingLong energy) {
+        if (energyContainer != null) {
+            energyContainer.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
         }
     }
 
@@ -404,7 +494,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
             if (!energyPerTick.isZero()) {
                 //Make sure we don't have any integer overflow in calculating how much we have room for
                 //TODO: Evaluate moving this check to after checking if inputs are empty, as those may be a cheaper check
-                int operations = storedEnergy.get().divideToInt(energyPerTick);
+                int operations = getStoredEnergy().divideToInt(energyPerTick);
                 //Update the max amount we can perform from our energy (we apply this at the end so that we can see if we have a reduced
                 // operation count due to energy
                 tracker.maxForEnergy = operations;
@@ -460,13 +550,13 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
         private static final int MISMATCHED_RECIPE = -2;
 
         /**
-         * Set of all the errors from when the {@link CachedRecipe} last calculated the complete set of errors.
+         * Bitset of all the errors from when the {@link CachedRecipe} last calculated the complete set of errors.
          */
-        private final Set<RecipeError> lastErrors;
+        private BitSet lastErrors = new BitSet();
         /**
-         * Set of errors that the {@link CachedRecipe} has run into so far while calculating how many operations it can perform at once.
+         * Bitset of errors that the {@link CachedRecipe} has run into so far while calculating how many operations it can perform at once.
          */
-        private Set<RecipeError> errors = Collections.emptySet();
+        private final BitSet errors = new BitSet();
         /**
          * Used to determine if this tracker should try and check for all existing errors ({@code true}) or short circuit as soon as it knows no processing can be done.
          */
@@ -474,7 +564,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
         /**
          * Caches whether we have checked if {@link #lastErrors} contains all {@link #errors}.
          *
-         * @implNote Starts at {@code true} as {@link #lastErrors} will always contain the contents of an empty set (the default for new {@link #errors}).
+         * @implNote Starts at {@code true} as {@link #lastErrors} will always contain all the errors of an empty set (the default for new {@link #errors}).
          */
         private boolean checkedErrors = true;
         /**
@@ -486,24 +576,43 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
          */
         private int maxForEnergy;
 
+        private OperationTracker() {
+        }
+
         /**
-         * @param lastErrors  Set of the last errors the {@link CachedRecipe} had.
+         * Resets this tracker so that it can be reused for another tick.
+         *
+         * @param lastErrors  Bitmask of the last errors the {@link CachedRecipe} had.
          * @param checkAll    {@code true} if this tracker should try and check for all existing errors.
          * @param startingMax Starting maximum number of operations that the {@link CachedRecipe} can perform this tick.
          */
-        private OperationTracker(Set<RecipeError> lastErrors, boolean checkAll, int startingMax) {
+        private void reset(BitSet lastErrors, boolean checkAll, int startingMax) {
             this.lastErrors = lastErrors;
+            this.errors.clear();
             this.checkAll = checkAll;
+            this.checkedErrors = true;
             this.currentMax = startingMax;
             this.maxForEnergy = currentMax;
         }
 
+        /**
+         * @return {@code true} if the last errors contain all the errors we have run into so far.
+         */
+        private boolean lastErrorsContainAll() {
+            for (int index = errors.nextSetBit(0); index >= 0; index = errors.nextSetBit(index + 1)) {
+                if (!lastErrors.get(index)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         /**
          * @return {@code true} if the errors from this {@link OperationTracker} should be copied to the {@link ICachedRecipeHolder}.
          */
         private boolean hasErrorsToCopy() {
             if (currentMax == MISMATCHED_RECIPE) {
-                errors = Collections.emptySet();
+                errors.clear();
                 //Return true as if we have a mismatched recipe we want to clear any errors that exist
                 return true;
             } else if (checkAll || currentMax > 0) {
@@ -516,7 +625,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
             // mark that we have errors we want to copy over.
             // Note: We don't need to check if errors is not empty as checkedErrors will be true if we don't
             // have any errors
-            return !checkedErrors && !lastErrors.containsAll(errors);
+            return !checkedErrors && !lastErrorsContainAll();
         }
 
         /**
@@ -537,7 +646,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
                 } else if (!checkedErrors) {
                     //If we haven't compared our current errors since we have added some to the last set of errors the recipe had
                     // check if the last set of errors contains all of our current errors.
-                    if (!lastErrors.containsAll(errors)) {
+                    if (!lastErrorsContainAll()) {
                         // if it doesn't we set checkAll to true as we know we have some new errors and want to be able to collect
                         // them all, and this way we will be able to shortcut any further checks to if our last errors has all our
                         // current errors as we know it will be true.
@@ -612,13 +721,9 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
          */
         public void addError(RecipeError error) {
             Objects.requireNonNull(error, "Error cannot be null.");
-            if (errors.isEmpty()) {
-                //If our set of errors is empty, then it is the default empty set, and we need to initialize it
-                // Note: As we expect to have a small number of errors, we use an array set as it should be more efficient
-                errors = new ObjectArraySet<>();
-            }
             //Add the error to our known errors
-            if (errors.add(error)) {
+            if (!errors.get(error.index)) {
+                errors.set(error.index);
                 // and if we didn't already know about that error, mark that we haven't compared our current errors
                 // to the previous set of errors the cached recipe had
                 checkedErrors = false;
@@ -627,9 +732,13 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
 
         /**
          * Marker class for errors {@link CachedRecipe}s may run into when processing a recipe.
+         *
+         * @implNote Errors are tracked by index in a {@link BitSet}, which only grows past a single word if an addon creates more than 64 errors.
          */
         public static final class RecipeError {
 
+            private static final List<RecipeError> ERRORS = new ArrayList<>();
+
             /**
              * Common representation for when a recipe errors due to the inputs not producing what is currently in the output.
              */
@@ -666,13 +775,61 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
             /**
              * Creates a new marker for tracking an error.
              */
-            public static RecipeError create() {
-                //noinspection InstantiationOfUtilityClass
-                return new RecipeError();
+            public static synchronized RecipeError create() {
+                RecipeError error = new RecipeError(ERRORS.size());
+                ERRORS.add(error);
+                return error;
             }
 
-            private RecipeError() {
+            private final int index;
+
+            private RecipeError(int index) {
+                this.index = index;
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Immutable view of a bitset of {@link RecipeError}s.
+     */
+    private static final class RecipeErrorSet extends AbstractSet<RecipeError> {
+
+        private final BitSet errors;
+
+        private RecipeErrorSet(BitSet errors) {
+            this.errors = errors;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof RecipeError error && errors.get(error.index);
+        }
+
+        @Override
+        public int size() {
+            return errors.cardinality();
+        }
+
+        @Override
+        public Iterator<RecipeError> iterator() {
+            return new Iterator<>() {
+                private int next = errors.nextSetBit(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public RecipeError next() {
+                    if (next < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    int index = next;
+                    next = errors.nextSetBit(index + 1);
+                    return RecipeError.ERRORS.get(index);
+                }
+            };
+        }
+    }
+}
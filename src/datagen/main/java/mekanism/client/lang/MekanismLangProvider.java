@@ -783,6 +783,10 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_CHUNK_LOADED, "Loaded chunk (%1$s).");
         add(MekanismLang.COMMAND_CHUNK_UNLOADED, "Unloaded chunk (%1$s).");
         add(MekanismLang.COMMAND_DEBUG, "Toggled debug mode: %1$s.");
+        add(MekanismLang.COMMAND_RECIPE_INDEX, "%1$s: %3$s input lookups (cache hit rate: %2$s%%).");
+        add(MekanismLang.COMMAND_RECIPE_INDEX_NONE, "No recipe inputs have been looked up yet.");
+        add(MekanismLang.COMMAND_SLEEPING, "%1$s: %2$s sleeping machines, %3$s awake machines.");
+        add(MekanismLang.COMMAND_SLEEPING_NONE, "No machines have ticked yet.");
         add(MekanismLang.COMMAND_TEST_RULES, "Enabled keepInventory, and disabled doMobSpawning, doDaylightCycle, doWeatherCycle and mobGriefing!");
         add(MekanismLang.COMMAND_TP, "Teleported to (%1$s) - saved last position on stack.");
         add(MekanismLang.COMMAND_TPOP, "Returned to (%1$s); %2$s positions on stack.");
@@ -1248,6 +1252,7 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.NETWORK_READER_THROUGHPUT, " *Throughput: %1$s");
         add(MekanismLang.NETWORK_READER_CAPACITY, " *Capacity: %1$s");
         add(MekanismLang.NETWORK_READER_CONNECTED_SIDES, " *Connected sides: %1$s");
+        add(MekanismLang.NETWORK_READER_PATH_CACHE, " *Transporter path cache: %1$s paths, %2$s hits, %3$s misses, %4$s evictions");
         //Sorter
         add(MekanismLang.SORTER_DEFAULT, "Default:");
         add(MekanismLang.SORTER_SINGLE_ITEM, "Single:");
@@ -5,6 +5,7 @@ import java.util.Map;
 import java.util.UUID;
 import mekanism.client.render.RenderTickHandler;
 import mekanism.client.render.tileentity.RenderSPS;
+import mekanism.client.render.transmitter.TransporterItemBatch;
 import mekanism.client.sound.SoundHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.base.IModModule;
@@ -57,6 +58,7 @@ public class MekanismClient {
         RadiationManager.INSTANCE.resetClient();
         SoundHandler.radiationSoundMap.clear();
         RenderSPS.clearBoltRenderers();
+        TransporterItemBatch.reset();
         TransmitterNetworkRegistry.getInstance().clearClientNetworks();
         RenderTickHandler.prevRadiation = 0;
         MekanismRecipeType.clearCache();
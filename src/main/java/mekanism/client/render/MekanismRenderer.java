@@ -30,6 +30,7 @@ import mekanism.client.render.data.ValveRenderData;
 import mekanism.client.render.item.block.RenderFluidTankItem;
 import mekanism.client.render.lib.ColorAtlas;
 import mekanism.client.render.lib.ColorAtlas.ColorRegistryObject;
+import mekanism.client.render.obj.TransmitterBakedModel;
 import mekanism.client.render.tileentity.RenderDigitalMiner;
 import mekanism.client.render.tileentity.RenderDimensionalStabilizer;
 import mekanism.client.render.tileentity.RenderFluidTank;
@@ -399,6 +400,7 @@ public class MekanismRenderer {
         addChemicalSprites(event, MekanismAPI.slurryRegistry());
 
         ModelRenderer.resetCachedModels();
+        TransmitterBakedModel.resetCacheStats();
         RenderDigitalMiner.resetCachedVisuals();
         RenderDimensionalStabilizer.resetCachedVisuals();
         RenderFluidTank.resetCachedModels();
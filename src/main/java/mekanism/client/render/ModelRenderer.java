@@ -2,11 +2,14 @@ package mekanism.client.render;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
+import mekanism.api.MekanismAPI;
 import mekanism.client.render.MekanismRenderer.Model3D;
 import mekanism.client.render.data.RenderData;
 import mekanism.client.render.data.ValveRenderData;
+import mekanism.common.Mekanism;
 import mekanism.common.util.MekanismUtils;
 import net.minecraftforge.fluids.FluidStack;
 
@@ -16,9 +19,13 @@ public final class ModelRenderer {
     }
 
     private static final int BLOCK_STAGES = 1_000;
+    private static final int MAX_CENTER_DATA = 256;
+    private static final int MAX_VALVE_MODELS = 512;
 
-    private static final Map<RenderData, Int2ObjectMap<Model3D>> cachedCenterData = new Object2ObjectOpenHashMap<>();
-    private static final Map<ValveRenderData, Model3D> cachedValveFluids = new Object2ObjectOpenHashMap<>();
+    private static final Map<RenderData, Int2ObjectMap<Model3D>> cachedCenterData = new BoundedCache<>(MAX_CENTER_DATA);
+    private static final Map<ValveRenderData, Model3D> cachedValveFluids = new BoundedCache<>(MAX_VALVE_MODELS);
+    private static long cacheHits;
+    private static long cacheMisses;
 
     public static int getStage(FluidStack stack, int stages, double scale) {
         return getStage(MekanismUtils.lighterThanAirGas(stack), stages, scale);
@@ -42,15 +49,17 @@ public final class ModelRenderer {
         } else {
             stage = Math.min(maxStages, (int) (scale * maxStages));
         }
-        Int2ObjectMap<Model3D> cachedCenter;
-        if (cachedCenterData.containsKey(data)) {
-            cachedCenter = cachedCenterData.get(data);
-            if (cachedCenter.containsKey(stage)) {
-                return cachedCenter.get(stage);
-            }
-        } else {
+        Int2ObjectMap<Model3D> cachedCenter = cachedCenterData.get(data);
+        if (cachedCenter == null) {
             cachedCenterData.put(data, cachedCenter = new Int2ObjectOpenHashMap<>());
+        } else {
+            Model3D cached = cachedCenter.get(stage);
+            if (cached != null) {
+                cacheHits++;
+                return cached;
+            }
         }
+        cacheMisses++;
         if (maxStages == 0) {
             maxStages = stage = 1;
         }
@@ -75,9 +84,12 @@ public final class ModelRenderer {
     }
 
     public static Model3D getValveModel(ValveRenderData data) {
-        if (cachedValveFluids.containsKey(data)) {
-            return cachedValveFluids.get(data);
+        Model3D cached = cachedValveFluids.get(data);
+        if (cached != null) {
+            cacheHits++;
+            return cached;
         }
+        cacheMisses++;
 
         Model3D model = new Model3D();
         MekanismRenderer.prepFlowing(model, data.fluidType);
@@ -140,7 +152,29 @@ public final class ModelRenderer {
     }
 
     public static void resetCachedModels() {
+        if (MekanismAPI.debug && cacheHits + cacheMisses > 0) {
+            Mekanism.logger.info("Fluid model cache: {} hits, {} misses ({}% hit ratio)", cacheHits, cacheMisses,
+                  String.format(Locale.ROOT, "%.2f", 100D * cacheHits / (cacheHits + cacheMisses)));
+        }
+        cacheHits = 0;
+        cacheMisses = 0;
         cachedCenterData.clear();
         cachedValveFluids.clear();
     }
+
+    private static class BoundedCache<KEY, VALUE> extends LinkedHashMap<KEY, VALUE> {
+
+        private final int maxSize;
+
+        private BoundedCache(int maxSize) {
+            //Use access order so that we evict the least recently used models first
+            super(16, 0.75F, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<KEY, VALUE> eldest) {
+            return size() > maxSize;
+        }
+    }
 }
\ No newline at end of file
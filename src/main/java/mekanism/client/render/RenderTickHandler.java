@@ -24,6 +24,7 @@ import mekanism.client.render.lib.QuadUtils;
 import mekanism.client.render.lib.Vertex;
 import mekanism.client.render.lib.effect.BoltRenderer;
 import mekanism.client.render.tileentity.IWireFrameRenderer;
+import mekanism.client.render.transmitter.TransporterItemBatch;
 import mekanism.common.Mekanism;
 import mekanism.common.base.ProfilerConstants;
 import mekanism.common.block.BlockBounding;
@@ -93,6 +94,7 @@ import net.minecraftforge.client.model.data.ModelData;
 import net.minecraftforge.common.util.Lazy;
 import net.minecraftforge.event.TickEvent.Phase;
 import net.minecraftforge.event.TickEvent.RenderTickEvent;
+import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
 
@@ -131,9 +133,23 @@ public class RenderTickHandler {
         }
     }
 
+    @SubscribeEvent
+    public void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) {
+            //Make sure we don't hold onto any items from the level in case it unloaded part way through a frame
+            TransporterItemBatch.reset();
+        }
+    }
+
     @SubscribeEvent
     public void renderWorld(RenderLevelStageEvent event) {
-        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_PARTICLES && boltRenderer.hasBoltsToRender()) {
+        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_ENTITIES) {
+            //Block entities get rendered right after this stage, so start collecting the items in transporters that get rendered as part of them
+            TransporterItemBatch.startBatch(event.getPoseStack());
+        } else if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_BLOCK_ENTITIES) {
+            //Render all the items in transporters that were rendered as part of this pass at once
+            TransporterItemBatch.render(event.getPoseStack(), event.getCamera(), minecraft.renderBuffers().bufferSource());
+        } else if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_PARTICLES && boltRenderer.hasBoltsToRender()) {
             //Only do matrix transforms and mess with buffers if we actually have any bolts to render
             PoseStack matrix = event.getPoseStack();
             matrix.pushPose();
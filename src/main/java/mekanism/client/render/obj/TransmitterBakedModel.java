@@ -1,6 +1,5 @@
 package mekanism.client.render.obj;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -10,10 +9,15 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import mekanism.api.MekanismAPI;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.client.model.data.TransmitterModelData;
 import mekanism.client.render.obj.TransmitterModelConfiguration.IconStatus;
+import mekanism.common.Mekanism;
+import mekanism.common.lib.transmitter.ConnectionType;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
 import net.minecraft.client.renderer.RenderType;
@@ -46,6 +50,29 @@ public class TransmitterBakedModel extends BakedModelWrapper<BakedModel> {
 
     private static final ChunkRenderTypeSet CUTOUT = ChunkRenderTypeSet.of(RenderType.cutout());
     private static final ChunkRenderTypeSet FULL = ChunkRenderTypeSet.of(RenderType.cutout(), RenderType.translucent());
+    /**
+     * Number of bits used to store the connection type of each side in a cache index.
+     */
+    private static final int BITS_PER_SIDE = 2;
+    /**
+     * 4^6 number of connection arrangements. If we have a glass texture (support coloring), the colored arrangements are stored after the uncolored ones.
+     */
+    private static final int ARRANGEMENTS = 1 << (BITS_PER_SIDE * EnumUtils.DIRECTIONS.length);
+    /**
+     * Maximum number of arrangements to keep baked quads for in each model. Most worlds only ever use a small fraction of the possible arrangements, so once this is
+     * reached arrangements that haven't been used recently get evicted to keep memory use flat.
+     */
+    private static final int MAX_CACHED_ARRANGEMENTS = 512;
+
+    private static final LongAdder cacheHits = new LongAdder();
+    private static final LongAdder cacheMisses = new LongAdder();
+    private static final LongAdder cacheEvictions = new LongAdder();
+
+    static {
+        if (ConnectionType.values().length > 1 << BITS_PER_SIDE) {
+            throw new IllegalStateException("Not enough bits per side to index all connection types.");
+        }
+    }
 
     private final ObjModel internal;
     @Nullable
@@ -57,15 +84,33 @@ public class TransmitterBakedModel extends BakedModelWrapper<BakedModel> {
     private final ItemOverrides overrides;
     private final ResourceLocation modelLocation;
 
-    private final Map<QuickHash, List<BakedQuad>> modelCache;
+    /**
+     * Baked quads indexed by connection arrangement, lazily filled in as arrangements are first rendered.
+     *
+     * @implNote Quads get looked up from the chunk builder threads, so lookups are lock free and only adding or evicting arrangements synchronizes on the array.
+     */
+    private final AtomicReferenceArray<List<BakedQuad>> modelCache;
+    /**
+     * Whether each arrangement was used since the clock hand last passed over it, arrangements that were get a second chance instead of being evicted.
+     *
+     * @implNote Written to without synchronization on cache hits, the worst that happens from a lost write is a slightly less optimal eviction.
+     */
+    private final boolean[] referenced;
+    /**
+     * Indices of the cached arrangements, in the order the clock hand goes over them when looking for an arrangement to evict.
+     */
+    private final int[] cachedIndices = new int[MAX_CACHED_ARRANGEMENTS];
+    private int cachedArrangements;
+    private int clockHand;
 
     public TransmitterBakedModel(ObjModel internal, @Nullable ObjModel glass, IGeometryBakingContext owner, ModelBakery bakery,
           Function<Material, TextureAtlasSprite> spriteGetter, ModelState modelTransform, ItemOverrides overrides, ResourceLocation modelLocation) {
         //We define our baked variant to be how the item is. As we should always have model data when we have a state
         super(internal.bake(new VisibleModelConfiguration(owner, Arrays.stream(EnumUtils.DIRECTIONS).map(side ->
               side.getName() + (side.getAxis() == Axis.Y ? "NORMAL" : "NONE")).toList()), bakery, spriteGetter, modelTransform, overrides, modelLocation));
-        //4^6 number of states, if we have a glass texture (support coloring), multiply by 2
-        this.modelCache = new Object2ObjectOpenHashMap<>(glass == null ? 4_096 : 8_192);
+        int indices = glass == null ? ARRANGEMENTS : 2 * ARRANGEMENTS;
+        this.modelCache = new AtomicReferenceArray<>(indices);
+        this.referenced = new boolean[indices];
         this.internal = internal;
         this.glass = glass;
         this.owner = owner;
@@ -91,23 +136,80 @@ public class TransmitterBakedModel extends BakedModelWrapper<BakedModel> {
         TransmitterModelData data = extraData.get(TileEntityTransmitter.TRANSMITTER_PROPERTY);
         if (data != null) {
             boolean hasColor = data.getHasColor() && renderType == RenderType.translucent();
-            QuickHash hash = new QuickHash(data.getConnectionsMap(), hasColor);
-            if (!modelCache.containsKey(hash)) {
-                List<String> visible = new ArrayList<>();
-                for (Direction dir : EnumUtils.DIRECTIONS) {
-                    visible.add(dir.getSerializedName() + data.getConnectionType(dir).getSerializedName().toUpperCase(Locale.ROOT));
-                }
-                List<BakedQuad> result = bake(rand, new TransmitterModelConfiguration(owner, visible, extraData), hasColor, extraData, renderType)
-                      .getQuads(state, null, rand, extraData, renderType);
-                modelCache.put(hash, result);
-                return result;
+            int index = getCacheIndex(data, hasColor);
+            List<BakedQuad> cached = modelCache.get(index);
+            if (cached != null) {
+                cacheHits.increment();
+                referenced[index] = true;
+                return cached;
+            }
+            cacheMisses.increment();
+            List<String> visible = new ArrayList<>();
+            for (Direction dir : EnumUtils.DIRECTIONS) {
+                visible.add(dir.getSerializedName() + data.getConnectionType(dir).getSerializedName().toUpperCase(Locale.ROOT));
             }
-            return modelCache.get(hash);
+            //Note: We bake outside the lock so that chunk builders rendering other arrangements aren't held up, if two threads bake the same arrangement at once,
+            // whichever finishes first wins
+            List<BakedQuad> result = bake(rand, new TransmitterModelConfiguration(owner, visible, extraData), hasColor, extraData, renderType)
+                  .getQuads(state, null, rand, extraData, renderType);
+            return addToCache(index, result);
         }
         //Fallback to our "default" model arrangement. The item variant uses this
         return originalModel.getQuads(state, null, rand, extraData, renderType);
     }
 
+    private static int getCacheIndex(TransmitterModelData data, boolean hasColor) {
+        int index = 0;
+        for (Direction dir : EnumUtils.DIRECTIONS) {
+            index |= data.getConnectionType(dir).ordinal() << (BITS_PER_SIDE * dir.ordinal());
+        }
+        return hasColor ? index + ARRANGEMENTS : index;
+    }
+
+    private List<BakedQuad> addToCache(int index, List<BakedQuad> quads) {
+        synchronized (modelCache) {
+            List<BakedQuad> existing = modelCache.get(index);
+            if (existing != null) {
+                return existing;
+            }
+            int slot = cachedArrangements < MAX_CACHED_ARRANGEMENTS ? cachedArrangements++ : evict();
+            cachedIndices[slot] = index;
+            referenced[index] = true;
+            modelCache.set(index, quads);
+        }
+        return quads;
+    }
+
+    /**
+     * Evicts an arrangement that hasn't been used since the clock hand last passed over it, or the one the hand is at if all of them have been used.
+     *
+     * @return Slot of the evicted arrangement.
+     */
+    private int evict() {
+        for (int checked = 0; checked < MAX_CACHED_ARRANGEMENTS && referenced[cachedIndices[clockHand]]; checked++) {
+            referenced[cachedIndices[clockHand]] = false;
+            clockHand = (clockHand + 1) % MAX_CACHED_ARRANGEMENTS;
+        }
+        int slot = clockHand;
+        modelCache.set(cachedIndices[slot], null);
+        cacheEvictions.increment();
+        clockHand = (clockHand + 1) % MAX_CACHED_ARRANGEMENTS;
+        return slot;
+    }
+
+    /**
+     * Logs how well the quad caches of all transmitter models did since the last time this was called if debug mode is enabled, and then resets the counters.
+     */
+    public static void resetCacheStats() {
+        long hits = cacheHits.sumThenReset();
+        long misses = cacheMisses.sumThenReset();
+        long evictions = cacheEvictions.sumThenReset();
+        if (MekanismAPI.debug && hits + misses > 0) {
+            Mekanism.logger.info("Transmitter model cache: {} hits, {} misses, {} evictions ({}% hit ratio)", hits, misses, evictions,
+                  String.format(Locale.ROOT, "%.2f", 100D * hits / (hits + misses)));
+        }
+    }
+
     /**
      * Rotates the pieces that need rotating.
      */
@@ -29,17 +29,13 @@ import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.Sheets;
 import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider;
-import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.texture.TextureAtlas;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.profiling.ProfilerFiller;
-import net.minecraft.world.entity.EntityType;
-import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult.Type;
 import org.jetbrains.annotations.Nullable;
@@ -55,7 +51,6 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
     @Nullable
     private static SpriteInfo torchOnIcon;
     private final ModelTransporterBox modelBox;
-    private final LazyItemRenderer itemRenderer = new LazyItemRenderer();
 
     public RenderLogisticalTransporter(BlockEntityRendererProvider.Context context) {
         super(context);
@@ -76,23 +71,19 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
         Collection<TransporterStack> inTransit = transporter.getTransit();
         BlockPos pos = tile.getBlockPos();
         if (!inTransit.isEmpty()) {
-            matrix.pushPose();
-            itemRenderer.init(tile.getLevel(), pos);
-
             float partial = partialTick * transporter.tier.getSpeed();
             Collection<TransporterStack> reducedTransit = getReducedTransit(inTransit);
             for (TransporterStack stack : reducedTransit) {
                 float[] stackPos = TransporterUtils.getStackPosition(transporter, stack, partial);
-                matrix.pushPose();
-                matrix.translate(stackPos[0], stackPos[1], stackPos[2]);
-                matrix.scale(0.75F, 0.75F, 0.75F);
-                itemRenderer.renderAsStack(matrix, renderer, stack.itemStack);
-                matrix.popPose();
+                //Items get rendered together with the items from all other transporters once all block entities have been rendered,
+                // unless we aren't being rendered as part of the level's block entities
+                if (!TransporterItemBatch.add(matrix, stack.itemStack, pos.getX() + stackPos[0], pos.getY() + stackPos[1], pos.getZ() + stackPos[2])) {
+                    TransporterItemBatch.renderImmediately(matrix, renderer, stack.itemStack, stackPos[0], stackPos[1], stackPos[2]);
+                }
                 if (stack.color != null) {
                     modelBox.render(matrix, renderer, LightTexture.FULL_BRIGHT, overlayLight, stackPos[0], stackPos[1], stackPos[2], stack.color);
                 }
             }
-            matrix.popPose();
         }
         if (transporter instanceof DiversionTransporter diversionTransporter) {
             Player player = Minecraft.getInstance().player;
@@ -164,7 +155,8 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
         private TransportInformation(TransporterStack transporterStack) {
             this.progress = transporterStack.progress;
             this.color = transporterStack.color;
-            this.item = HashedItem.create(transporterStack.itemStack);
+            //Note: The set of information only lives for the current frame so we can use a raw hashed item instead of copying the stack
+            this.item = HashedItem.raw(transporterStack.itemStack);
         }
 
         @Override
@@ -186,33 +178,4 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
             return obj instanceof TransportInformation other && progress == other.progress && color == other.color && item.equals(other.item);
         }
     }
-
-    private static class LazyItemRenderer {
-
-        @Nullable
-        private ItemEntity entityItem;
-        @Nullable
-        private EntityRenderer<? super ItemEntity> renderer;
-
-        public void init(Level world, BlockPos pos) {
-            if (entityItem == null) {
-                entityItem = new ItemEntity(EntityType.ITEM, world);
-            } else {
-                entityItem.level = world;
-            }
-            entityItem.setPos(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5);
-            //Reset entity age to fix issues with mods like ItemPhysic
-            entityItem.age = 0;
-        }
-
-        private void renderAsStack(PoseStack matrix, MultiBufferSource buffer, ItemStack stack) {
-            if (entityItem != null) {
-                if (renderer == null) {
-                    renderer = Minecraft.getInstance().getEntityRenderDispatcher().getRenderer(entityItem);
-                }
-                entityItem.setItem(stack);
-                renderer.render(entityItem, 0, 0, matrix, buffer, LightTexture.FULL_BRIGHT);
-            }
-        }
-    }
-}
\ No newline at end of file
+}
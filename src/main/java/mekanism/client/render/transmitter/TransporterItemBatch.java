@@ -0,0 +1,352 @@
+package mekanism.client.render.transmitter;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.PoseStack.Pose;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.mojang.math.Matrix3f;
+import com.mojang.math.Matrix4f;
+import com.mojang.math.Quaternion;
+import com.mojang.math.Vector3f;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.client.Camera;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.block.model.ItemTransform;
+import net.minecraft.client.renderer.block.model.ItemTransforms.TransformType;
+import net.minecraft.client.renderer.entity.ItemRenderer;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.inventory.InventoryMenu;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.client.model.data.ModelData;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects the items in transit in all the logistical transporters that get rendered as part of a level's block entity pass, so that they can all be rendered at once
+ * after block entities are done rendering instead of separately for each transporter. Items of the same type only have their model looked up once per pass and get
+ * rendered one after another, and items that are further from the camera than the configured level of detail distance are rendered as a single flat quad of the
+ * item's icon instead of the full model. Transporters that get rendered outside a level's block entity pass, for example in a GUI or by another mod, render their items
+ * immediately instead.
+ *
+ * @implNote Items are rendered directly with the item renderer rather than through an item entity, so mods that change how item entities render (such as ItemPhysic)
+ * don't affect items in transporters, and we don't need to reset the age of an entity to keep them from doing so.
+ */
+@NothingNullByDefault
+public class TransporterItemBatch {
+
+    private static final RenderType LOD_RENDER_TYPE = RenderType.entityCutoutNoCull(InventoryMenu.BLOCK_ATLAS);
+    private static final float SCALE = 0.75F;
+    /**
+     * Half the size of the quad used when rendering an item as a flat icon, matches the size of most items when rendered as a dropped item at {@link #SCALE}.
+     */
+    private static final float LOD_HALF_SIZE = 0.25F * SCALE;
+    /**
+     * Height items are rendered above their position, matches the midpoint of how much dropped items bob up and down.
+     */
+    private static final float BOB_HEIGHT = 0.1F;
+    /**
+     * Directions to check for quads to use as the icon of an item when it doesn't have any unculled quads, in order of preference.
+     */
+    private static final Direction[] ICON_SIDES = {Direction.SOUTH, Direction.UP, Direction.NORTH, Direction.EAST, Direction.WEST, Direction.DOWN};
+
+    private static final RandomSource random = RandomSource.create();
+
+    private static final Map<HashedItem, BatchedItem> items = new Object2ObjectLinkedOpenHashMap<>();
+    /**
+     * Render types the batch rendered into, so that they can be drawn before anything that gets rendered after block entities.
+     */
+    private static final Set<RenderType> usedRenderTypes = new ObjectLinkedOpenHashSet<>();
+    /**
+     * Matrix of the level pass whose block entities are currently being rendered, or {@code null} if no block entity pass is in progress.
+     */
+    @Nullable
+    private static PoseStack passMatrix;
+
+    private TransporterItemBatch() {
+    }
+
+    /**
+     * Called right before a level renders its block entities, to start collecting the items in transporters that get rendered as part of that pass.
+     *
+     * @param matrix Matrix of the level being rendered, that block entities in this pass get rendered with.
+     */
+    public static void startBatch(PoseStack matrix) {
+        //Clear anything left over from a pass that never finished, so that items can't build up across frames
+        items.clear();
+        passMatrix = matrix;
+    }
+
+    /**
+     * Adds an item to be rendered at the end of the current block entity pass, if the transporter is being rendered as part of it.
+     *
+     * @param matrix Matrix the transporter is being rendered with.
+     * @param stack  Item to render.
+     * @param x      X position in the world.
+     * @param y      Y position in the world.
+     * @param z      Z position in the world.
+     *
+     * @return {@code true} if the item was added to the batch, {@code false} if the transporter isn't being rendered as part of a level's block entity pass, and the
+     * item should be rendered immediately with {@link #renderImmediately(PoseStack, MultiBufferSource, ItemStack, float, float, float)} instead.
+     */
+    public static boolean add(PoseStack matrix, ItemStack stack, double x, double y, double z) {
+        if (matrix != passMatrix) {
+            return false;
+        }
+        //Note: We look up using a raw hashed item, but only store copies of the stacks, so that nothing can change our keys if we end up not getting cleared
+        BatchedItem item = items.get(HashedItem.raw(stack));
+        if (item == null) {
+            HashedItem key = HashedItem.create(stack);
+            item = new BatchedItem(key);
+            items.put(key, item);
+        }
+        item.positions.add(x);
+        item.positions.add(y);
+        item.positions.add(z);
+        item.renderAmounts.add(getRenderAmount(stack.getCount()));
+        return true;
+    }
+
+    /**
+     * Renders an item in a transporter that isn't being rendered as part of a level's block entity pass.
+     *
+     * @param matrix   Matrix the transporter is being rendered with.
+     * @param renderer Buffer source the transporter is being rendered with.
+     * @param stack    Item to render.
+     * @param x        X position relative to the transporter.
+     * @param y        Y position relative to the transporter.
+     * @param z        Z position relative to the transporter.
+     */
+    public static void renderImmediately(PoseStack matrix, MultiBufferSource renderer, ItemStack stack, float x, float y, float z) {
+        ItemRenderer itemRenderer = Minecraft.getInstance().getItemRenderer();
+        BakedModel model = itemRenderer.getModel(stack, Minecraft.getInstance().level, null, 0);
+        matrix.pushPose();
+        matrix.translate(x, y, z);
+        renderModel(matrix, renderer, itemRenderer, stack, model, model.getTransforms().getTransform(TransformType.GROUND), getSeed(stack),
+              getRenderAmount(stack.getCount()));
+        matrix.popPose();
+    }
+
+    /**
+     * @return The number of copies of the item to render for a stack of the given size, matches how many copies get rendered for dropped items.
+     */
+    private static int getRenderAmount(int count) {
+        if (count > 48) {
+            return 5;
+        } else if (count > 32) {
+            return 4;
+        } else if (count > 16) {
+            return 3;
+        } else if (count > 1) {
+            return 2;
+        }
+        return 1;
+    }
+
+    /**
+     * Matches the seed used for dropped items, so that the copies of a stack are spread out the same way.
+     */
+    private static long getSeed(ItemStack stack) {
+        return stack.isEmpty() ? 187 : Item.getId(stack.getItem()) + stack.getDamageValue();
+    }
+
+    /**
+     * Renders and then clears all the items that were added during the block entity pass that is ending, and draws them so that they end up in the same place in the
+     * render order as if each transporter had rendered its own items.
+     *
+     * @param matrix   Matrix of the level being rendered, without the camera's position applied.
+     * @param renderer Buffer source the level's block entities were rendered with.
+     */
+    public static void render(PoseStack matrix, Camera camera, MultiBufferSource.BufferSource renderer) {
+        passMatrix = null;
+        Level level = Minecraft.getInstance().level;
+        if (items.isEmpty() || level == null) {
+            items.clear();
+            return;
+        }
+        //Keep track of what render types get used, so that we can draw them now instead of whenever the buffer source happens to get flushed next
+        MultiBufferSource trackingRenderer = renderType -> {
+            usedRenderTypes.add(renderType);
+            return renderer.getBuffer(renderType);
+        };
+        Vec3 camPos = camera.getPosition();
+        int lodDistance = MekanismConfig.client.transporterItemLODDistance.get();
+        double lodDistanceSq = lodDistance == 0 ? Double.MAX_VALUE : lodDistance * (double) lodDistance;
+        ItemRenderer itemRenderer = Minecraft.getInstance().getItemRenderer();
+        boolean hasLOD = false;
+        //Render all the full models first so that render types don't keep switching back and forth between the models and the simple quads
+        for (BatchedItem item : items.values()) {
+            BakedModel model = itemRenderer.getModel(item.stack, level, null, 0);
+            item.model = model;
+            ItemTransform groundTransform = model.getTransforms().getTransform(TransformType.GROUND);
+            long seed = getSeed(item.stack);
+            DoubleList positions = item.positions;
+            for (int i = 0, size = positions.size(); i < size; i += 3) {
+                double x = positions.getDouble(i) - camPos.x;
+                double y = positions.getDouble(i + 1) - camPos.y;
+                double z = positions.getDouble(i + 2) - camPos.z;
+                if (x * x + y * y + z * z > lodDistanceSq) {
+                    hasLOD = true;
+                    continue;
+                }
+                matrix.pushPose();
+                matrix.translate(x, y, z);
+                renderModel(matrix, trackingRenderer, itemRenderer, item.stack, model, groundTransform, seed, item.renderAmounts.getInt(i / 3));
+                matrix.popPose();
+            }
+        }
+        if (hasLOD) {
+            VertexConsumer buffer = trackingRenderer.getBuffer(LOD_RENDER_TYPE);
+            Quaternion rotation = camera.rotation();
+            for (BatchedItem item : items.values()) {
+                if (item.model == null) {
+                    continue;
+                }
+                if (item.icon == null) {
+                    findIcon(item, item.model);
+                }
+                TextureAtlasSprite icon = item.icon;
+                int color = item.iconColor;
+                DoubleList positions = item.positions;
+                for (int i = 0, size = positions.size(); i < size; i += 3) {
+                    double x = positions.getDouble(i) - camPos.x;
+                    double y = positions.getDouble(i + 1) - camPos.y;
+                    double z = positions.getDouble(i + 2) - camPos.z;
+                    if (x * x + y * y + z * z > lodDistanceSq) {
+                        matrix.pushPose();
+                        matrix.translate(x, y + LOD_HALF_SIZE, z);
+                        matrix.mulPose(rotation);
+                        renderIcon(matrix.last(), buffer, icon, color);
+                        matrix.popPose();
+                    }
+                }
+            }
+        }
+        items.clear();
+        for (RenderType renderType : usedRenderTypes) {
+            renderer.endBatch(renderType);
+        }
+        usedRenderTypes.clear();
+    }
+
+    /**
+     * Renders the copies of a stack the same way they get rendered for dropped items, at the origin of the given matrix.
+     */
+    private static void renderModel(PoseStack matrix, MultiBufferSource renderer, ItemRenderer itemRenderer, ItemStack stack, BakedModel model,
+          ItemTransform groundTransform, long seed, int renderAmount) {
+        boolean gui3d = model.isGui3d();
+        float scaleZ = groundTransform.scale.z();
+        matrix.pushPose();
+        matrix.scale(SCALE, SCALE, SCALE);
+        matrix.translate(0, BOB_HEIGHT + 0.25F * groundTransform.scale.y(), 0);
+        random.setSeed(seed);
+        if (!gui3d) {
+            //Center the copies of flat items
+            matrix.translate(0, 0, -0.09375F * (renderAmount - 1) * 0.5F * scaleZ);
+        }
+        for (int copy = 0; copy < renderAmount; copy++) {
+            matrix.pushPose();
+            if (copy > 0) {
+                if (gui3d) {
+                    matrix.translate((random.nextFloat() * 2 - 1) * 0.15F, (random.nextFloat() * 2 - 1) * 0.15F, (random.nextFloat() * 2 - 1) * 0.15F);
+                } else {
+                    matrix.translate((random.nextFloat() * 2 - 1) * 0.15F * 0.5F, (random.nextFloat() * 2 - 1) * 0.15F * 0.5F, 0);
+                }
+            }
+            itemRenderer.render(stack, TransformType.GROUND, false, matrix, renderer, LightTexture.FULL_BRIGHT, OverlayTexture.NO_OVERLAY, model);
+            matrix.popPose();
+            if (!gui3d) {
+                matrix.translate(0, 0, 0.09375F * scaleZ);
+            }
+        }
+        matrix.popPose();
+    }
+
+    /**
+     * Finds the sprite that is actually rendered for the item, rather than the model's particle texture which for block items and layered items often isn't what the
+     * item looks like, along with the tint that gets applied to it.
+     */
+    private static void findIcon(BatchedItem item, BakedModel model) {
+        random.setSeed(42);
+        List<BakedQuad> quads = model.getQuads(null, null, random, ModelData.EMPTY, null);
+        for (int i = 0; quads.isEmpty() && i < ICON_SIDES.length; i++) {
+            random.setSeed(42);
+            quads = model.getQuads(null, ICON_SIDES[i], random, ModelData.EMPTY, null);
+        }
+        if (quads.isEmpty()) {
+            item.icon = model.getParticleIcon(ModelData.EMPTY);
+            item.iconColor = -1;
+        } else {
+            //Use the first quad, for layered items this is the base layer
+            BakedQuad quad = quads.get(0);
+            item.icon = quad.getSprite();
+            item.iconColor = quad.isTinted() ? Minecraft.getInstance().getItemColors().getColor(item.stack, quad.getTintIndex()) : -1;
+        }
+    }
+
+    private static void renderIcon(Pose pose, VertexConsumer buffer, TextureAtlasSprite icon, int color) {
+        Matrix4f matrix = pose.pose();
+        Matrix3f normal = pose.normal();
+        float red = (color >> 16 & 0xFF) / 255F;
+        float green = (color >> 8 & 0xFF) / 255F;
+        float blue = (color & 0xFF) / 255F;
+        vertex(matrix, normal, buffer, -LOD_HALF_SIZE, -LOD_HALF_SIZE, icon.getU1(), icon.getV1(), red, green, blue);
+        vertex(matrix, normal, buffer, -LOD_HALF_SIZE, LOD_HALF_SIZE, icon.getU1(), icon.getV0(), red, green, blue);
+        vertex(matrix, normal, buffer, LOD_HALF_SIZE, LOD_HALF_SIZE, icon.getU0(), icon.getV0(), red, green, blue);
+        vertex(matrix, normal, buffer, LOD_HALF_SIZE, -LOD_HALF_SIZE, icon.getU0(), icon.getV1(), red, green, blue);
+    }
+
+    private static void vertex(Matrix4f matrix, Matrix3f normal, VertexConsumer buffer, float x, float y, float u, float v, float red, float green, float blue) {
+        buffer.vertex(matrix, x, y, 0)
+              .color(red, green, blue, 1F)
+              .uv(u, v)
+              .overlayCoords(OverlayTexture.NO_OVERLAY)
+              .uv2(LightTexture.FULL_BRIGHT)
+              .normal(normal, Vector3f.ZP.x(), Vector3f.ZP.y(), Vector3f.ZP.z())
+              .endVertex();
+    }
+
+    public static void reset() {
+        items.clear();
+        usedRenderTypes.clear();
+        passMatrix = null;
+    }
+
+    private static class BatchedItem {
+
+        private final ItemStack stack;
+        private final DoubleList positions = new DoubleArrayList();
+        /**
+         * Number of copies to render at each position.
+         */
+        private final IntList renderAmounts = new IntArrayList();
+        @Nullable
+        private BakedModel model;
+        @Nullable
+        private TextureAtlasSprite icon;
+        private int iconColor = -1;
+
+        private BatchedItem(HashedItem item) {
+            this.stack = item.getStack();
+        }
+    }
+}
@@ -14,7 +14,9 @@ import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
 import mekanism.common.lib.frequency.FrequencyManager;
+import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
+import mekanism.common.tile.base.TileSleepTracker;
 import mekanism.common.util.WorldUtils;
 import mekanism.common.world.GenHandler;
 import net.minecraft.resources.ResourceKey;
@@ -162,8 +164,12 @@ public class CommonWorldTickHandler {
 
     @SubscribeEvent
     public void onTick(ServerTickEvent event) {
-        if (event.side.isServer() && event.phase == Phase.END) {
-            serverTick();
+        if (event.side.isServer()) {
+            if (event.phase == Phase.START) {
+                MultiblockManager.tickStart();
+            } else if (event.phase == Phase.END) {
+                serverTick();
+            }
         }
     }
 
@@ -182,6 +188,7 @@ public class CommonWorldTickHandler {
     private void tickEnd(ServerLevel world) {
         if (!world.isClientSide) {
             RadiationManager.INSTANCE.tickServerWorld(world);
+            TileSleepTracker.tickEnd(world);
             if (flushTagAndRecipeCaches) {
                 //Loop all open containers and if it is a portable qio dashboard force refresh the window's recipes
                 for (ServerPlayer player : world.players()) {
@@ -53,6 +53,7 @@ import mekanism.common.content.gear.ModuleDispenseBehavior;
 import mekanism.common.content.gear.ModuleHelper;
 import mekanism.common.content.matrix.MatrixMultiblockData;
 import mekanism.common.content.matrix.MatrixValidator;
+import mekanism.common.content.miner.MinerBlockIndex;
 import mekanism.common.content.network.BoxedChemicalNetwork.ChemicalTransferEvent;
 import mekanism.common.content.network.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.content.network.FluidNetwork.FluidTransferEvent;
@@ -73,6 +74,7 @@ import mekanism.common.item.block.machine.ItemBlockFluidTank.FluidTankItemDispen
 import mekanism.common.item.predicate.FullCanteenItemPredicate;
 import mekanism.common.item.predicate.MaxedModuleContainerItemPredicate;
 import mekanism.common.lib.MekAnnotationScanner;
+import mekanism.common.lib.ParallelTickPool;
 import mekanism.common.lib.Version;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.frequency.FrequencyType;
@@ -108,6 +110,7 @@ import mekanism.common.registries.MekanismSlurries;
 import mekanism.common.registries.MekanismSounds;
 import mekanism.common.registries.MekanismTileEntityTypes;
 import mekanism.common.tags.MekanismTags;
+import mekanism.common.tile.base.TileSleepTracker;
 import mekanism.common.tile.component.TileComponentChunkLoader.ChunkValidationCallback;
 import mekanism.common.tile.machine.TileEntityOredictionificator.ODConfigValueInvalidationListener;
 import net.minecraft.advancements.critereon.ItemPredicate;
@@ -215,6 +218,8 @@ public class Mekanism {
         MinecraftForge.EVENT_BUS.addListener(this::serverStopped);
         MinecraftForge.EVENT_BUS.addListener(EventPriority.LOWEST, this::addReloadListenersLowest);
         MinecraftForge.EVENT_BUS.addListener(BinInsertRecipe::onCrafting);
+        MinecraftForge.EVENT_BUS.addListener(MinerBlockIndex::onNeighborNotify);
+        MinecraftForge.EVENT_BUS.addListener(MultiblockManager::onNeighborNotify);
         MinecraftForge.EVENT_BUS.addListener(this::onTagsReload);
         IEventBus modEventBus = FMLJavaModLoadingContext.get().getModEventBus();
         modEventBus.addListener(this::commonSetup);
@@ -309,6 +314,7 @@ public class Mekanism {
 
     private void onTagsReload(TagsUpdatedEvent event) {
         TagCache.resetTagCaches();
+        TileSleepTracker.wakeAll();
     }
 
     private void addReloadListenersLowest(AddReloadListenerEvent event) {
@@ -332,15 +338,18 @@ public class Mekanism {
         worldTickHandler.resetChunkData();
         FrequencyType.clear();
         BoilerMultiblockData.hotMap.clear();
+        MinerBlockIndex.reset();
 
         //Reset consistent managers
         QIOGlobalItemLookup.INSTANCE.reset();
         RadiationManager.INSTANCE.reset();
         MultiblockManager.reset();
+        ParallelTickPool.reset();
         FrequencyManager.reset();
         TransporterManager.reset();
         PathfinderCache.reset();
         TransmitterNetworkRegistry.reset();
+        TileSleepTracker.reset();
     }
 
     private void imcQueue(InterModEnqueueEvent event) {
@@ -418,8 +427,6 @@ public class Mekanism {
         MinecraftForge.EVENT_BUS.register(new CommonPlayerTickHandler());
         MinecraftForge.EVENT_BUS.register(Mekanism.worldTickHandler);
 
-        MinecraftForge.EVENT_BUS.register(RadiationManager.INSTANCE);
-
         //Register with TransmitterNetworkRegistry
         TransmitterNetworkRegistry.initiate();
 
@@ -466,6 +473,8 @@ public class Mekanism {
         //Make sure it is for the same modid as us
         if (config.getModId().equals(MODID) && config instanceof MekanismModConfig mekConfig) {
             mekConfig.clearCache();
+            //Wake up any sleeping tiles in case a value they depend on changed
+            TileSleepTracker.wakeAll();
         }
     }
 
@@ -138,6 +138,10 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_CHUNK_LOADED("command", "chunk.loaded"),
     COMMAND_CHUNK_UNLOADED("command", "chunk.unloaded"),
     COMMAND_DEBUG("command", "debug"),
+    COMMAND_RECIPE_INDEX("command", "recipe_index"),
+    COMMAND_RECIPE_INDEX_NONE("command", "recipe_index.none"),
+    COMMAND_SLEEPING("command", "sleeping"),
+    COMMAND_SLEEPING_NONE("command", "sleeping.none"),
     COMMAND_TEST_RULES("command", "testrules"),
     COMMAND_TP("command", "tp"),
     COMMAND_TPOP("command", "tpop"),
@@ -599,6 +603,7 @@ public enum MekanismLang implements ILangEntry {
     NETWORK_READER_THROUGHPUT("network_reader", "throughput"),
     NETWORK_READER_CAPACITY("network_reader", "capacity"),
     NETWORK_READER_CONNECTED_SIDES("network_reader", "connected"),
+    NETWORK_READER_PATH_CACHE("network_reader", "path_cache"),
     //Sorter
     SORTER_DEFAULT("logistical_sorter", "default"),
     SORTER_SINGLE_ITEM("logistical_sorter", "single_item"),
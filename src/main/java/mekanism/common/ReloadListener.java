@@ -1,6 +1,7 @@
 package mekanism.common;
 
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.tile.base.TileSleepTracker;
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import org.jetbrains.annotations.NotNull;
@@ -11,5 +12,6 @@ public class ReloadListener implements ResourceManagerReloadListener {
     public void onResourceManagerReload(@NotNull ResourceManager resourceManager) {
         CommonWorldTickHandler.flushTagAndRecipeCaches = true;
         MekanismRecipeType.clearCache();
+        TileSleepTracker.wakeAll();
     }
 }
\ No newline at end of file
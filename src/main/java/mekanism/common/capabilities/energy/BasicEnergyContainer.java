@@ -9,6 +9,7 @@ import mekanism.api.NBTConstants;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.functions.ConstantPredicates;
+import mekanism.api.math.FixedPoint;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.nbt.CompoundTag;
@@ -102,7 +103,29 @@ public class BasicEnergyContainer implements IEnergyContainer {
         if (amount.isZero() || !canInsert.test(automationType)) {
             return amount;
         }
-        FloatingLong needed = getRate(automationType).min(getNeeded());
+        FloatingLong rate = getRate(automationType);
+        FloatingLong maxEnergy = getMaxEnergy();
+        if (FixedPoint.fits(amount) && FixedPoint.fits(maxEnergy) && (rate == FloatingLong.MAX_VALUE || FixedPoint.fits(rate))) {
+            //Fast path: do all the math on primitives so that we don't create any intermediary objects
+            long amountToInsert = FixedPoint.of(amount);
+            long needed = FixedPoint.subtract(FixedPoint.of(maxEnergy), FixedPoint.of(stored));
+            if (rate != FloatingLong.MAX_VALUE) {
+                needed = Math.min(needed, FixedPoint.of(rate));
+            }
+            if (needed == FixedPoint.ZERO) {
+                //Fail if we are a full container or our rate is zero
+                return amount;
+            }
+            long toAdd = Math.min(amountToInsert, needed);
+            if (action.execute()) {
+                //If we want to actually insert the energy, then update the current energy
+                // Note: this also will mark that the contents changed
+                stored = FixedPoint.toFloatingLong(FixedPoint.add(FixedPoint.of(stored), toAdd), stored);
+                onContentsChanged();
+            }
+            return toAdd == amountToInsert ? FloatingLong.ZERO : FixedPoint.toFloatingLong(amountToInsert - toAdd);
+        }
+        FloatingLong needed = rate.min(getNeeded());
         if (needed.isZero()) {
             //Fail if we are a full container or our rate is zero
             return amount;
@@ -122,7 +145,25 @@ public class BasicEnergyContainer implements IEnergyContainer {
         if (isEmpty() || amount.isZero() || !canExtract.test(automationType)) {
             return FloatingLong.ZERO;
         }
-        FloatingLong ret = getRate(automationType).min(getEnergy()).min(amount).copy();
+        FloatingLong rate = getRate(automationType);
+        if (FixedPoint.fits(amount) && FixedPoint.fits(stored) && (rate == FloatingLong.MAX_VALUE || FixedPoint.fits(rate))) {
+            //Fast path: do all the math on primitives so that we only have to create the object we return
+            long storedEnergy = FixedPoint.of(stored);
+            long toExtract = Math.min(storedEnergy, FixedPoint.of(amount));
+            if (rate != FloatingLong.MAX_VALUE) {
+                toExtract = Math.min(toExtract, FixedPoint.of(rate));
+            }
+            if (toExtract == FixedPoint.ZERO) {
+                return FloatingLong.ZERO;
+            }
+            if (action.execute()) {
+                //Note: this also will mark that the contents changed
+                stored = FixedPoint.toFloatingLong(storedEnergy - toExtract, stored);
+                onContentsChanged();
+            }
+            return FixedPoint.toFloatingLong(toExtract);
+        }
+        FloatingLong ret = rate.min(getEnergy()).min(amount).copy();
         if (!ret.isZero() && action.execute()) {
             //Note: this also will mark that the contents changed
             stored = stored.minusEqual(ret);
@@ -13,6 +13,11 @@ import mekanism.api.MekanismAPI;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.recipe.IMekanismRecipeTypeProvider;
+import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.cache.AbstractInputRecipeCache;
+import mekanism.common.tile.base.TileSleepTracker;
+import mekanism.common.tile.base.TileSleepTracker.SleepCounts;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
@@ -20,9 +25,11 @@ import net.minecraft.commands.arguments.coordinates.Coordinates;
 import net.minecraft.commands.arguments.coordinates.Vec3Argument;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.GameRules;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 
 public class CommandMek {
@@ -39,6 +46,8 @@ public class CommandMek {
               .then(DebugCommand.register())
               .then(ForceRetrogenCommand.register())
               .then(RadiationCommand.register())
+              .then(RecipeIndexCommand.register())
+              .then(SleepingCommand.register())
               .then(TestRulesCommand.register())
               .then(TpCommand.register())
               .then(TppopCommand.register());
@@ -57,6 +66,54 @@ public class CommandMek {
         }
     }
 
+    private static class RecipeIndexCommand {
+
+        static ArgumentBuilder<CommandSourceStack, ?> register() {
+            return Commands.literal("recipe_index")
+                  .requires(cs -> cs.hasPermission(2))
+                  .executes(ctx -> {
+                      CommandSourceStack source = ctx.getSource();
+                      int reported = 0;
+                      for (IMekanismRecipeTypeProvider<?, ?> recipeTypeProvider : MekanismRecipeType.RECIPE_TYPES.getAllRecipeTypes()) {
+                          MekanismRecipeType<?, ?> recipeType = recipeTypeProvider.getRecipeType();
+                          if (recipeType.getInputCache() instanceof AbstractInputRecipeCache<?> inputCache && inputCache.getIndexLookups() > 0) {
+                              long lookups = inputCache.getIndexLookups();
+                              String hitRatio = String.format("%.1f", 100D * inputCache.getIndexHits() / lookups);
+                              source.sendSuccess(MekanismLang.COMMAND_RECIPE_INDEX.translateColored(EnumColor.GRAY, EnumColor.INDIGO, recipeType.getRegistryName(),
+                                    EnumColor.INDIGO, hitRatio, EnumColor.INDIGO, lookups), false);
+                              reported++;
+                          }
+                      }
+                      if (reported == 0) {
+                          source.sendSuccess(MekanismLang.COMMAND_RECIPE_INDEX_NONE.translateColored(EnumColor.GRAY), false);
+                      }
+                      return reported;
+                  });
+        }
+    }
+
+    private static class SleepingCommand {
+
+        static ArgumentBuilder<CommandSourceStack, ?> register() {
+            return Commands.literal("sleeping")
+                  .requires(cs -> cs.hasPermission(2))
+                  .executes(ctx -> {
+                      CommandSourceStack source = ctx.getSource();
+                      Map<ResourceKey<Level>, SleepCounts> counts = TileSleepTracker.getCounts();
+                      if (counts.isEmpty()) {
+                          source.sendSuccess(MekanismLang.COMMAND_SLEEPING_NONE.translateColored(EnumColor.GRAY), false);
+                      } else {
+                          for (Map.Entry<ResourceKey<Level>, SleepCounts> entry : counts.entrySet()) {
+                              SleepCounts dimensionCounts = entry.getValue();
+                              source.sendSuccess(MekanismLang.COMMAND_SLEEPING.translateColored(EnumColor.GRAY, EnumColor.INDIGO, entry.getKey().location(),
+                                    EnumColor.INDIGO, dimensionCounts.getSleeping(), EnumColor.INDIGO, dimensionCounts.getAwake()), false);
+                          }
+                      }
+                      return counts.size();
+                  });
+        }
+    }
+
     private static class TestRulesCommand {
 
         static ArgumentBuilder<CommandSourceStack, ?> register() {
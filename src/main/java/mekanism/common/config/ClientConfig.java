@@ -34,6 +34,7 @@ public class ClientConfig extends BaseMekanismConfig {
     public final CachedBooleanValue enableHUD;
     public final CachedIntValue energyColor;
     public final CachedIntValue terRange;
+    public final CachedIntValue transporterItemLODDistance;
 
     public final CachedBooleanValue enableMultiblockFormationParticles;
     public final CachedBooleanValue machineEffects;
@@ -81,6 +82,8 @@ public class ClientConfig extends BaseMekanismConfig {
               .define("energyColor", 0x3CFE9A));
         terRange = CachedIntValue.wrap(this, builder.comment("Range at which Tile Entity Renderer's added by Mekanism can render at, for example the contents of multiblocks. Vanilla defaults the rendering range for TERs to 64 for most blocks, but uses a range of 256 for beacons and end gateways.")
               .defineInRange("terRange", 256, 1, 1_024));
+        transporterItemLODDistance = CachedIntValue.wrap(this, builder.comment("Distance (in blocks) from the camera past which items moving through Logistical Transporters are rendered as flat icons instead of full item models. Set to zero to always render full item models.")
+              .defineInRange("transporterItemLODDistance", 32, 0, 1_024));
 
         builder.comment("Particle Config").push(PARTICLE_CATEGORY);
         enableMultiblockFormationParticles = CachedBooleanValue.wrap(this, builder.comment("Set to false to prevent particle spam when loading multiblocks (notification message will display instead).")
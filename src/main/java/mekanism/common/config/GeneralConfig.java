@@ -36,11 +36,13 @@ public class GeneralConfig extends BaseMekanismConfig {
     private static final String RADIATION_CATEGORY = "radiation";
     private static final String PREFILLED_CATEGORY = "prefilled";
     private static final String NUTRITIONAL_PASTE_CATEGORY = "nutritional_paste";
+    private static final String TRANSMITTER_CATEGORY = "transmitters";
 
     private final ForgeConfigSpec configSpec;
 
     public final CachedBooleanValue logPackets;
     public final CachedBooleanValue allowChunkloading;
+    public final CachedBooleanValue idleTileSleeping;
     public final CachedBooleanValue easyMinerFilters;
     public final CachedIntValue blockDeactivationDelay;
     public final CachedConfigValue<List<String>> cardboardModBlacklist;
@@ -52,6 +54,13 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedDoubleValue resistiveHeaterEfficiency;
     public final CachedDoubleValue superheatingHeatTransfer;
     public final CachedIntValue maxSolarNeutronActivatorRate;
+    public final CachedIntValue multiblockFormationBudget;
+    public final CachedIntValue parallelTickThreads;
+    //Transmitters
+    public final CachedBooleanValue parallelNetworkTicking;
+    public final CachedIntValue orphanAssignmentBudget;
+    public final CachedIntValue transporterPathCacheSize;
+    public final CachedIntValue maxAcceptorBackoff;
     //Auto eject
     public final CachedIntValue fluidAutoEjectRate;
     public final CachedLongValue chemicalAutoEjectRate;
@@ -79,6 +88,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue radiationChunkCheckRadius;
     public final CachedDoubleValue radiationSourceDecayRate;
     public final CachedDoubleValue radiationTargetDecayRate;
+    public final CachedIntValue radiationEntityUpdateRate;
     public final CachedDoubleValue radiationNegativeEffectsMinSeverity;
     public final CachedLongValue radioactiveWasteBarrelMaxGas;
     public final CachedIntValue radioactiveWasteBarrelProcessTicks;
@@ -87,6 +97,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue minerSilkMultiplier;
     public final CachedIntValue minerMaxRadius;
     public final CachedIntValue minerTicksPerMine;
+    public final CachedIntValue minerSearchThreads;
     //Laser
     public final CachedBooleanValue aestheticWorldDamage;
     public final CachedIntValue laserRange;
@@ -98,6 +109,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue maxPumpRange;
     public final CachedBooleanValue pumpWaterSources;
     public final CachedIntValue maxPlenisherNodes;
+    public final CachedIntValue floodFillTimeBudget;
     //Quantum Entangloporter
     public final CachedFloatingLongValue entangloporterEnergyBuffer;
     public final CachedIntValue entangloporterFluidBuffer;
@@ -125,6 +137,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("logPackets", false));
         allowChunkloading = CachedBooleanValue.wrap(this, builder.comment("Disable to make the anchor upgrade not do anything.")
               .define("allowChunkloading", true));
+        idleTileSleeping = CachedBooleanValue.wrap(this, builder.comment("Experimental: Allow machines that are unable to process and have nothing else to do to stop ticking until something about them changes.")
+              .define("idleTileSleeping", false));
         easyMinerFilters = CachedBooleanValue.wrap(this, builder.comment("Enable this to allow dragging items from JEI into the target slot of Digital Miner filters.")
               .define("easyMinerFilters", false));
         blockDeactivationDelay = CachedIntValue.wrap(this, builder.comment("How many ticks must pass until a block's active state is synced with the client, if it has been rapidly changing.")
@@ -148,6 +162,21 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("superheatingHeatTransfer", 16_000_000D));
         maxSolarNeutronActivatorRate = CachedIntValue.wrap(this, builder.comment("Peak processing rate for the Solar Neutron Activator. Note: It can go higher than this value in some extreme environments.")
               .define("maxSolarNeutronActivatorRate", 64));
+        multiblockFormationBudget = CachedIntValue.wrap(this, builder.comment("Maximum amount of time (in microseconds) shared between all multiblocks that are forming each tick when they are formed as part of ticking, for example after the chunks they are in are loaded. Multiblocks that run out of time continue forming over the following ticks. Set to zero to always form multiblocks in a single tick.")
+              .defineInRange("multiblockFormationBudget", 0, 0, 1_000_000));
+        parallelTickThreads = CachedIntValue.wrap(this, builder.comment("Number of threads in the pool shared by parallelNetworkTicking and the heat exchange of very large heat networks. Set to zero to use one less than the number of available processors.")
+              .defineInRange("parallelTickThreads", 0, 0, 64));
+
+        builder.comment("Transmitter Network Settings").push(TRANSMITTER_CATEGORY);
+        parallelNetworkTicking = CachedBooleanValue.wrap(this, builder.comment("Experimental: Tick transmitter networks that do not share any acceptors in parallel on the thread pool configured by parallelTickThreads. Only networks whose acceptors are all Mekanism blocks are ticked in parallel, and only finding which of those acceptors can accept anything is done in parallel. Inserting into acceptors and other changes to the world are still done on the server thread.")
+              .define("parallelNetworkTicking", false));
+        orphanAssignmentBudget = CachedIntValue.wrap(this, builder.comment("Maximum amount of time (in microseconds) to spend each tick connecting newly loaded or placed transmitters to networks. Any remaining transmitters will be connected over the following ticks. Set to zero to always connect all transmitters in a single tick.")
+              .defineInRange("orphanAssignmentBudget", 0, 0, 1_000_000));
+        transporterPathCacheSize = CachedIntValue.wrap(this, builder.comment("Maximum number of logistical transporter paths to keep cached, once full the least recently used paths are evicted. Set to zero to disable caching paths.")
+              .defineInRange("transporterPathCacheSize", 8_192, 0, 1_000_000));
+        maxAcceptorBackoff = CachedIntValue.wrap(this, builder.comment("Maximum number of ticks that cables, pipes and tubes wait before offering their contents again to something that refused them. The wait doubles each time it refuses, up to this value. Set to zero to offer to everything every tick.")
+              .defineInRange("maxAcceptorBackoff", 10, 0, 200));
+        builder.pop();
 
         builder.comment("Dynamic Tank Settings").push(DYNAMIC_TANK);
         int maxVolume = 18 * 18 * 18;
@@ -218,6 +247,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("sourceDecayRate", 0.9995D));
         radiationTargetDecayRate = CachedDoubleValue.wrap(this, builder.comment("Radiated objects and entities are multiplied by this constant roughly once per second to represent their dosage decay.")
               .define("targetDecayRate", 0.9995D));
+        radiationEntityUpdateRate = CachedIntValue.wrap(this, builder.comment("How often in ticks the radiation exposure and dosage decay of non player entities is processed. Entities are processed in batches per chunk section, and the exposure is scaled by how long it has been so the dose rate is the same regardless of this value.")
+              .defineInRange("entityUpdateRate", 20, 1, 1_200));
         radiationNegativeEffectsMinSeverity = CachedDoubleValue.wrap(this, builder.comment("Defines the minimum severity radiation dosage severity (scale of 0 to 1) for which negative effects can take place. Set to 1 to disable negative effects completely.")
               .defineInRange("negativeEffectsMinSeverity", 0.1D, 0, 1));
         radioactiveWasteBarrelMaxGas = CachedLongValue.wrap(this, builder.comment("Amount of gas (mB) that can be stored in a Radioactive Waste Barrel.")
@@ -235,6 +266,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("maxRadius", 32, 1, Integer.MAX_VALUE));
         minerTicksPerMine = CachedIntValue.wrap(this, builder.comment("Number of ticks required to mine a single block with a Digital Miner (without any upgrades).")
               .defineInRange("ticksPerMine", 80, 1, Integer.MAX_VALUE));
+        minerSearchThreads = CachedIntValue.wrap(this, builder.comment("Number of threads shared between all Digital Miners for searching for blocks to mine. Set to zero to use half the number of available processors.")
+              .defineInRange("searchThreads", 0, 0, 64));
         builder.pop();
 
         builder.comment("Laser Settings").push(LASER_SETTINGS);
@@ -260,6 +293,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("pumpWaterSources", false));
         maxPlenisherNodes = CachedIntValue.wrap(this, builder.comment("Fluidic Plenisher stops after this many blocks.")
               .define("maxPlenisherNodes", 4_000));
+        floodFillTimeBudget = CachedIntValue.wrap(this, builder.comment("Maximum time in microseconds that an Electric Pump or Fluidic Plenisher may spend searching for the next block to work on in a single tick. If the search isn't done by then it carries on the next tick.")
+              .defineInRange("floodFillTimeBudget", 500, 10, 50_000));
         builder.pop();
 
         builder.comment("Quantum Entangloporter Settings").push(ENTANGLOPORTER_CATEGORY);
@@ -0,0 +1,277 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+import mekanism.common.tags.MekanismTags;
+import mekanism.common.tile.TileEntityBoundingBlock;
+import mekanism.common.tile.machine.TileEntityDigitalMiner;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.LiquidBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.event.level.BlockEvent.NeighborNotifyEvent;
+import net.minecraftforge.fluids.IFluidBlock;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index of every block a Digital Miner could potentially mine in its area, grouped by chunk and then by state, independent of the miner's filters. This allows
+ * the miner to recalculate what it should mine when its filters change without having to search the world again, and is kept up to date as blocks in the area
+ * change.
+ *
+ * @apiNote Positions are stored per chunk using chunk local indices, see {@link #getLocalIndex(int, int, int)}. Sections whose palette had nothing the miner's
+ * filters matched at the time of the search are not indexed, and are instead remembered so that they can be searched if the filters change. The index is only
+ * ever read or modified on the server thread, searches hand their results back to the server thread to be merged in.
+ */
+public class MinerBlockIndex {
+
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<Set<MinerBlockIndex>>> TRACKED = new Object2ObjectOpenHashMap<>();
+
+    private final TileEntityDigitalMiner tile;
+    final Long2ObjectMap<Map<BlockState, BitSet>> blocksByChunk;
+    /**
+     * Sections, packed as {@link SectionPos#asLong()}, that were skipped without being indexed.
+     */
+    final LongSet skippedSections;
+    private final BlockPos startingPos;
+    private final int diameter;
+    private final int height;
+    @Nullable
+    private ResourceKey<Level> trackedDimension;
+    /**
+     * Positions, packed as {@link BlockPos#asLong()}, of blocks that changed while a search was adding to this index. These get applied once the results of the
+     * search have been merged, so that changes that happen mid-search aren't lost or overwritten by what the search saw.
+     */
+    @Nullable
+    private LongSet changedWhileSearching;
+
+    public MinerBlockIndex(TileEntityDigitalMiner tile, BlockPos startingPos, int diameter, int height, Long2ObjectMap<Map<BlockState, BitSet>> blocksByChunk,
+          LongSet skippedSections) {
+        this.tile = tile;
+        this.startingPos = startingPos;
+        this.diameter = diameter;
+        this.height = height;
+        this.blocksByChunk = blocksByChunk;
+        this.skippedSections = skippedSections;
+    }
+
+    /**
+     * Checks if the given state is something that may be mined, without taking into account the miner's filters or the position of the block.
+     */
+    public static boolean isIndexable(BlockState state) {
+        if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST)) {
+            //Skip air and blacklisted blocks
+            return false;
+        }
+        //Skip liquids
+        Block block = state.getBlock();
+        return !(block instanceof LiquidBlock) && !(block instanceof IFluidBlock);
+    }
+
+    /**
+     * Checks if the given state at the given position is something that may be mined, without taking into account the miner's filters.
+     */
+    public static boolean isIndexable(BlockGetter world, BlockPos pos, BlockState state, BlockPos minerPos) {
+        //Skip the miner itself, unbreakable blocks, and any bounding blocks
+        return isIndexable(state) && !minerPos.equals(pos) && state.getDestroySpeed(world, pos) >= 0 &&
+               WorldUtils.getTileEntity(TileEntityBoundingBlock.class, world, pos) == null;
+    }
+
+    /**
+     * @return Index of the position in the chunk it is in, relative to the bottom of the miner's area.
+     */
+    public static int getLocalIndex(int x, int relativeY, int z) {
+        return relativeY << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    /**
+     * @return {@code true} if this index was built for the given area.
+     */
+    public boolean matches(BlockPos startingPos, int diameter, int height) {
+        return this.startingPos.equals(startingPos) && this.diameter == diameter && this.height == height;
+    }
+
+    /**
+     * Calculates which blocks should be mined, in the form the Digital Miner stores them (by chunk with indices relative to the miner's starting position).
+     *
+     * @param shouldMine Checks if a given state should be mined, this will only be called once per state.
+     */
+    public Long2ObjectMap<BitSet> collectTargets(Predicate<BlockState> shouldMine) {
+        Long2ObjectMap<BitSet> targets = new Long2ObjectOpenHashMap<>();
+        Object2BooleanMap<BlockState> accepted = new Object2BooleanOpenHashMap<>();
+        for (Long2ObjectMap.Entry<Map<BlockState, BitSet>> entry : blocksByChunk.long2ObjectEntrySet()) {
+            long chunk = entry.getLongKey();
+            int chunkMinX = SectionPos.sectionToBlockCoord(ChunkPos.getX(chunk));
+            int chunkMinZ = SectionPos.sectionToBlockCoord(ChunkPos.getZ(chunk));
+            BitSet chunkTargets = null;
+            for (Map.Entry<BlockState, BitSet> blockEntry : entry.getValue().entrySet()) {
+                if (accepted.computeIfAbsent(blockEntry.getKey(), shouldMine::test)) {
+                    if (chunkTargets == null) {
+                        chunkTargets = new BitSet();
+                    }
+                    BitSet positions = blockEntry.getValue();
+                    for (int local = positions.nextSetBit(0); local >= 0; local = positions.nextSetBit(local + 1)) {
+                        chunkTargets.set(getIndex(chunkMinX + (local & 15), local >> 8, chunkMinZ + (local >> 4 & 15)));
+                    }
+                }
+            }
+            if (chunkTargets != null && !chunkTargets.isEmpty()) {
+                targets.put(chunk, chunkTargets);
+            }
+        }
+        return targets;
+    }
+
+    private int getIndex(int x, int relativeY, int z) {
+        return (x - startingPos.getX()) + (z - startingPos.getZ()) * diameter + relativeY * diameter * diameter;
+    }
+
+    private boolean contains(BlockPos pos) {
+        int x = pos.getX() - startingPos.getX();
+        int y = pos.getY() - startingPos.getY();
+        int z = pos.getZ() - startingPos.getZ();
+        return x >= 0 && x < diameter && y >= 0 && y < height && z >= 0 && z < diameter;
+    }
+
+    private void onBlockChanged(Level level, BlockPos pos, BlockState state) {
+        if (!contains(pos)) {
+            return;
+        } else if (changedWhileSearching != null) {
+            changedWhileSearching.add(pos.asLong());
+            return;
+        }
+        long chunk = WorldUtils.getChunkPosAsLong(pos);
+        int relativeY = pos.getY() - startingPos.getY();
+        boolean indexable = isIndexable(level, pos, state, tile.getBlockPos());
+        if (skippedSections.contains(SectionPos.asLong(pos))) {
+            //We don't index skipped sections, as they get searched in full if the filters change, but the miner may still want the new block
+            tile.onIndexedBlockChanged(chunk, getIndex(pos.getX(), relativeY, pos.getZ()), indexable ? state : null);
+            return;
+        }
+        int local = getLocalIndex(pos.getX(), relativeY, pos.getZ());
+        Map<BlockState, BitSet> chunkBlocks = blocksByChunk.get(chunk);
+        if (chunkBlocks != null) {
+            //We don't know what the block used to be, so just make sure it isn't stored under any state
+            chunkBlocks.values().removeIf(positions -> {
+                positions.clear(local);
+                return positions.isEmpty();
+            });
+        }
+        if (indexable) {
+            if (chunkBlocks == null) {
+                chunkBlocks = new Object2ObjectOpenHashMap<>();
+                blocksByChunk.put(chunk, chunkBlocks);
+            }
+            chunkBlocks.computeIfAbsent(state, s -> new BitSet()).set(local);
+        }
+        tile.onIndexedBlockChanged(chunk, getIndex(pos.getX(), relativeY, pos.getZ()), indexable ? state : null);
+    }
+
+    /**
+     * Starts tracking this index if it isn't already, and records any blocks that change until {@link #endSearch(Level)} is called instead of updating the index.
+     */
+    void beginSearch(Level level) {
+        track(level);
+        if (changedWhileSearching == null) {
+            changedWhileSearching = new LongOpenHashSet();
+        }
+    }
+
+    /**
+     * Stops recording changed blocks and applies the changes that happened since {@link #beginSearch(Level)} based on the current state of the world.
+     */
+    void endSearch(Level level) {
+        LongSet changed = changedWhileSearching;
+        changedWhileSearching = null;
+        if (changed != null) {
+            BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            for (LongIterator iterator = changed.iterator(); iterator.hasNext(); ) {
+                pos.set(iterator.nextLong());
+                if (WorldUtils.isBlockLoaded(level, pos)) {
+                    onBlockChanged(level, pos.immutable(), level.getBlockState(pos));
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts listening to changes to blocks in the area of this index. Calling this when already tracked does nothing.
+     */
+    public void track(Level level) {
+        if (trackedDimension == null) {
+            trackedDimension = level.dimension();
+            Long2ObjectMap<Set<MinerBlockIndex>> trackedChunks = TRACKED.computeIfAbsent(trackedDimension, dimension -> new Long2ObjectOpenHashMap<>());
+            forEachChunk(chunk -> trackedChunks.computeIfAbsent(chunk, c -> new ObjectOpenHashSet<>()).add(this));
+        }
+    }
+
+    /**
+     * Stops listening to changes to blocks in the area of this index.
+     */
+    public void untrack() {
+        if (trackedDimension != null) {
+            Long2ObjectMap<Set<MinerBlockIndex>> trackedChunks = TRACKED.get(trackedDimension);
+            if (trackedChunks != null) {
+                forEachChunk(chunk -> {
+                    Set<MinerBlockIndex> indices = trackedChunks.get(chunk);
+                    if (indices != null && indices.remove(this) && indices.isEmpty()) {
+                        trackedChunks.remove(chunk);
+                    }
+                });
+                if (trackedChunks.isEmpty()) {
+                    TRACKED.remove(trackedDimension);
+                }
+            }
+            trackedDimension = null;
+        }
+        changedWhileSearching = null;
+    }
+
+    private void forEachChunk(LongConsumer consumer) {
+        int minChunkX = SectionPos.blockToSectionCoord(startingPos.getX());
+        int maxChunkX = SectionPos.blockToSectionCoord(startingPos.getX() + diameter - 1);
+        int minChunkZ = SectionPos.blockToSectionCoord(startingPos.getZ());
+        int maxChunkZ = SectionPos.blockToSectionCoord(startingPos.getZ() + diameter - 1);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                consumer.accept(ChunkPos.asLong(chunkX, chunkZ));
+            }
+        }
+    }
+
+    public static void onNeighborNotify(NeighborNotifyEvent event) {
+        if (!TRACKED.isEmpty() && event.getLevel() instanceof Level level && !level.isClientSide()) {
+            Long2ObjectMap<Set<MinerBlockIndex>> trackedChunks = TRACKED.get(level.dimension());
+            if (trackedChunks != null) {
+                BlockPos pos = event.getPos();
+                Set<MinerBlockIndex> indices = trackedChunks.get(WorldUtils.getChunkPosAsLong(pos));
+                if (indices != null) {
+                    for (MinerBlockIndex index : indices) {
+                        index.onBlockChanged(level, pos, event.getState());
+                    }
+                }
+            }
+        }
+    }
+
+    public static void reset() {
+        TRACKED.clear();
+    }
+}
@@ -2,34 +2,67 @@ package mekanism.common.content.miner;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.math.MathUtils;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.ILangEntry;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
-import mekanism.common.tags.MekanismTags;
-import mekanism.common.tile.TileEntityBoundingBlock;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.tile.machine.TileEntityDigitalMiner;
-import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.PathNavigationRegion;
-import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.LiquidBlock;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraftforge.fluids.IFluidBlock;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.Nullable;
 
-public class ThreadMinerSearch extends Thread {
+/**
+ * Searches the area of a Digital Miner for blocks to mine. The area is split up into one task per chunk section, which are run on a pool that is shared between
+ * all miners. Once they have all finished, the server thread merges the results of the tasks into a {@link MinerBlockIndex}, see {@link #tryFinish()}.
+ */
+public class ThreadMinerSearch {
+
+    @Nullable
+    private static ForkJoinPool pool;
+    private static int poolThreads;
 
     private final TileEntityDigitalMiner tile;
-    private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+    /**
+     * Cache of whether a state should be mined based on our filters, shared between all the section tasks.
+     */
+    private final Map<BlockState, Boolean> acceptedStates = new ConcurrentHashMap<>();
+    private final AtomicInteger found = new AtomicInteger();
     private PathNavigationRegion chunkCache;
-    public State state = State.IDLE;
-    public int found = 0;
+    /**
+     * Index the results of the current search get merged into, only accessed from the server thread.
+     */
+    @Nullable
+    private MinerBlockIndex index;
+    private boolean indexReused;
+    private List<SectionSearch> sections = List.of();
+    /**
+     * Set by the last section task to finish, so that the server thread knows it can merge the results.
+     */
+    private volatile boolean sectionsDone;
+    private volatile boolean cancelled;
+    public volatile State state = State.IDLE;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
         this.tile = tile;
@@ -39,67 +72,282 @@ public class ThreadMinerSearch extends Thread {
         this.chunkCache = cache;
     }
 
-    @Override
-    public void run() {
+    public int getFound() {
+        return found.get();
+    }
+
+    /**
+     * Stops any section tasks that have not started yet from searching, and makes sure the results of this search are not passed to the miner. This should only be
+     * called from the server thread.
+     */
+    public void cancel() {
+        cancelled = true;
+        releaseIndex();
+    }
+
+    private void releaseIndex() {
+        if (index != null) {
+            if (indexReused) {
+                //The miner still has the index, so apply any changes to it that we recorded while searching
+                index.endSearch(tile.getLevel());
+            } else {
+                //Nothing else has a reference to the index we were building, so stop listening for changes to it
+                index.untrack();
+            }
+            index = null;
+        }
+    }
+
+    private boolean isCancelled() {
+        //Make sure the miner is still valid and something hasn't gone wrong
+        return cancelled || tile.isRemoved();
+    }
+
+    /**
+     * Starts searching. This should only be called from the server thread.
+     *
+     * @param existingIndex Index from a previous search, if it still covers the area of the miner it is used instead of searching the world again.
+     */
+    public void start(@Nullable MinerBlockIndex existingIndex) {
         state = State.SEARCHING;
-        List<MinerFilter<?>> filters = tile.getFilters();
-        if (!tile.getInverse() && filters.isEmpty()) {
+        if (!tile.getInverse() && tile.getFilters().isEmpty()) {
             state = State.FINISHED;
             return;
         }
-        Map<Block, MinerFilter<?>> acceptedItems = new Object2ObjectOpenHashMap<>();
-        BlockPos pos = tile.getStartingPos();
+        BlockPos startingPos = tile.getStartingPos();
         int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getBlockPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
+        int height = tile.getTotalSize() / (diameter * diameter);
+        int minX = startingPos.getX(), minY = startingPos.getY(), minZ = startingPos.getZ();
+        int maxX = minX + diameter - 1, maxY = minY + height - 1, maxZ = minZ + diameter - 1;
+        List<SectionSearch> sections = new ArrayList<>();
+        MinerBlockIndex reusedIndex = null;
+        if (existingIndex != null && existingIndex.matches(startingPos, diameter, height)) {
+            //Nothing has changed about the area we are mining, so we only need to reevaluate which blocks match our filters,
+            // and search any sections we skipped last time due to our old filters not matching anything in them
+            if (existingIndex.skippedSections.isEmpty()) {
+                finish(existingIndex);
                 return;
             }
-            BlockPos testPos = pos.offset(i % diameter, i / diameter / diameter, (i / diameter) % diameter);
-            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
+            reusedIndex = existingIndex;
+            for (LongIterator iterator = existingIndex.skippedSections.iterator(); iterator.hasNext(); ) {
+                long section = iterator.nextLong();
+                sections.add(new SectionSearch(SectionPos.x(section), SectionPos.y(section), SectionPos.z(section)));
             }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || state.getDestroySpeed(chunkCache, testPos) < 0) {
-                //Skip air, blacklisted blocks, and unbreakable blocks
-                continue;
-            }
-            info = state.getBlock();
-            if (info instanceof LiquidBlock || info instanceof IFluidBlock) {
-                //Skip liquids
-                continue;
-            }
-            MinerFilter<?> filterFound = null;
-            if (acceptedItems.containsKey(info)) {
-                filterFound = acceptedItems.get(info);
-            } else {
-                if (tile.isReplaceTarget(info.asItem())) {
-                    continue;
+        } else {
+            for (int chunkX = SectionPos.blockToSectionCoord(minX); chunkX <= SectionPos.blockToSectionCoord(maxX); chunkX++) {
+                for (int chunkZ = SectionPos.blockToSectionCoord(minZ); chunkZ <= SectionPos.blockToSectionCoord(maxZ); chunkZ++) {
+                    for (int sectionY = SectionPos.blockToSectionCoord(minY); sectionY <= SectionPos.blockToSectionCoord(maxY); sectionY++) {
+                        sections.add(new SectionSearch(chunkX, sectionY, chunkZ));
+                    }
                 }
-                for (MinerFilter<?> filter : filters) {
-                    if (filter.canFilter(state)) {
-                        filterFound = filter;
-                        break;
+            }
+        }
+        indexReused = reusedIndex != null;
+        index = reusedIndex == null ? new MinerBlockIndex(tile, startingPos, diameter, height, new Long2ObjectOpenHashMap<>(), new LongOpenHashSet()) : reusedIndex;
+        //Record any changes to blocks in our area while we are searching, so that we can apply them once we have merged what we found
+        index.beginSearch(tile.getLevel());
+        this.sections = sections;
+        if (sections.isEmpty()) {
+            sectionsDone = true;
+            return;
+        }
+        AtomicInteger remaining = new AtomicInteger(sections.size());
+        ForkJoinPool pool = getPool();
+        for (SectionSearch section : sections) {
+            pool.execute(() -> {
+                try {
+                    if (!isCancelled()) {
+                        section.search(startingPos, maxX, maxY, maxZ);
+                    }
+                } catch (Exception e) {
+                    Mekanism.logger.error("Error searching section {} for Digital Miner at {}", SectionPos.of(section.chunkX, section.sectionY, section.chunkZ),
+                          tile.getBlockPos(), e);
+                } finally {
+                    if (remaining.decrementAndGet() == 0) {
+                        //Let the server thread merge the results, as it is the only thread that may touch the index
+                        sectionsDone = true;
                     }
                 }
-                acceptedItems.put(info, filterFound);
+            });
+        }
+    }
+
+    /**
+     * Merges the results of the search into the index and passes them to the miner if all the sections are done being searched. This should only be called from
+     * the server thread.
+     */
+    public void tryFinish() {
+        if (state == State.SEARCHING && sectionsDone && index != null && !isCancelled()) {
+            MinerBlockIndex index = this.index;
+            this.index = null;
+            mergeSections(index, sections);
+            sections = List.of();
+            finish(index);
+            //Now that the miner has what we found, apply anything that changed while we were searching to both the index and the miner's targets
+            index.endSearch(tile.getLevel());
+        }
+    }
+
+    private static void mergeSections(MinerBlockIndex index, List<SectionSearch> sections) {
+        Long2ObjectMap<Map<BlockState, BitSet>> blocksByChunk = index.blocksByChunk;
+        LongSet skippedSections = index.skippedSections;
+        for (SectionSearch section : sections) {
+            long sectionKey = SectionPos.asLong(section.chunkX, section.sectionY, section.chunkZ);
+            if (section.skipped) {
+                skippedSections.add(sectionKey);
+            } else {
+                skippedSections.remove(sectionKey);
             }
-            if (tile.getInverse() == (filterFound == null)) {
-                long chunk = WorldUtils.getChunkPosAsLong(testPos);
-                oresToMine.computeIfAbsent(chunk, k -> new BitSet()).set(i);
-                found++;
+            if (section.result != null) {
+                Map<BlockState, BitSet> chunkBlocks = blocksByChunk.get(section.chunkKey);
+                if (chunkBlocks == null) {
+                    blocksByChunk.put(section.chunkKey, section.result);
+                } else {
+                    //Sections are stored using chunk local indices so different sections of the same chunk never overlap
+                    section.result.forEach((state, positions) -> chunkBlocks.merge(state, positions, (a, b) -> {
+                        a.or(b);
+                        return a;
+                    }));
+                }
             }
         }
+    }
 
+    private void finish(MinerBlockIndex index) {
+        if (isCancelled()) {
+            return;
+        }
+        Long2ObjectMap<BitSet> oresToMine = index.collectTargets(this::isAccepted);
+        int toMine = 0;
+        for (BitSet chunkToMine : oresToMine.values()) {
+            toMine += chunkToMine.cardinality();
+        }
         state = State.FINISHED;
         chunkCache = null;
         if (tile.searcher == this) {
             //Only update search if we are still valid and didn't get replaced due to a reset call
-            tile.updateFromSearch(oresToMine, found);
+            tile.updateFromSearch(index, oresToMine, toMine);
+        }
+    }
+
+    /**
+     * Checks if the given state should be mined based on the miner's filters.
+     */
+    private boolean isAccepted(BlockState state) {
+        Boolean accepted = acceptedStates.get(state);
+        if (accepted == null) {
+            accepted = tile.shouldMine(state);
+            acceptedStates.put(state, accepted);
+        }
+        return accepted;
+    }
+
+    private static ForkJoinPool getPool() {
+        int threads = MekanismConfig.general.minerSearchThreads.get();
+        if (threads <= 0) {
+            threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+        if (pool == null || poolThreads != threads) {
+            if (pool != null) {
+                //Let any searches that are already running finish, but don't accept any new ones
+                pool.shutdown();
+            }
+            poolThreads = threads;
+            pool = new ForkJoinPool(threads, forkJoinPool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName("Mekanism Digital Miner Search-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                //Make sure we can load mod classes from the worker threads
+                thread.setContextClassLoader(Mekanism.class.getClassLoader());
+                return thread;
+            }, (thread, throwable) -> Mekanism.logger.error("Uncaught exception in Digital Miner search on {}", thread.getName(), throwable), false);
+        }
+        return pool;
+    }
+
+    private class SectionSearch {
+
+        private final int chunkX;
+        private final int sectionY;
+        private final int chunkZ;
+        private final long chunkKey;
+        @Nullable
+        private Map<BlockState, BitSet> result;
+        /**
+         * Whether this section was skipped because nothing in it matched our filters, as opposed to there being nothing in it that could be mined at all.
+         */
+        private boolean skipped;
+
+        private SectionSearch(int chunkX, int sectionY, int chunkZ) {
+            this.chunkX = chunkX;
+            this.sectionY = sectionY;
+            this.chunkZ = chunkZ;
+            this.chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+        }
+
+        private void search(BlockPos startingPos, int maxX, int maxY, int maxZ) {
+            if (canSkip()) {
+                return;
+            }
+            int minY = startingPos.getY();
+            int startX = Math.max(startingPos.getX(), SectionPos.sectionToBlockCoord(chunkX)), endX = Math.min(maxX, SectionPos.sectionToBlockCoord(chunkX, 15));
+            int startY = Math.max(minY, SectionPos.sectionToBlockCoord(sectionY)), endY = Math.min(maxY, SectionPos.sectionToBlockCoord(sectionY, 15));
+            int startZ = Math.max(startingPos.getZ(), SectionPos.sectionToBlockCoord(chunkZ)), endZ = Math.min(maxZ, SectionPos.sectionToBlockCoord(chunkZ, 15));
+            BlockPos minerPos = tile.getBlockPos();
+            BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
+            BlockState lastState = null;
+            BitSet lastPositions = null;
+            boolean lastAccepted = false;
+            int sectionFound = 0;
+            for (int y = startY; y <= endY; y++) {
+                if (isCancelled()) {
+                    return;
+                }
+                for (int z = startZ; z <= endZ; z++) {
+                    for (int x = startX; x <= endX; x++) {
+                        testPos.set(x, y, z);
+                        BlockState state = chunkCache.getBlockState(testPos);
+                        if (!MinerBlockIndex.isIndexable(chunkCache, testPos, state, minerPos)) {
+                            continue;
+                        }
+                        if (state != lastState) {
+                            //States tend to be grouped together, so cache the last state we looked up
+                            if (result == null) {
+                                result = new Object2ObjectOpenHashMap<>();
+                            }
+                            lastState = state;
+                            lastPositions = result.computeIfAbsent(state, s -> new BitSet());
+                            lastAccepted = isAccepted(state);
+                        }
+                        lastPositions.set(MinerBlockIndex.getLocalIndex(x, y - minY, z));
+                        if (lastAccepted) {
+                            sectionFound++;
+                        }
+                    }
+                }
+            }
+            found.addAndGet(sectionFound);
+        }
+
+        /**
+         * Checks the palette of the section to see if there is anything in it that we may want to mine.
+         */
+        private boolean canSkip() {
+            BlockGetter chunkGetter = chunkCache.getChunkForCollisions(chunkX, chunkZ);
+            if (chunkGetter instanceof ChunkAccess chunk) {
+                int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+                if (sectionIndex >= 0 && sectionIndex < chunk.getSectionsCount()) {
+                    LevelChunkSection section = chunk.getSection(sectionIndex);
+                    if (section.hasOnlyAir() || !section.getStates().maybeHas(MinerBlockIndex::isIndexable)) {
+                        //Nothing in this section can be mined regardless of our filters
+                        return true;
+                    }
+                    //Skip the section if none of the states in it match our filters, and let the index know, so it can search it if our filters change
+                    skipped = !section.getStates().maybeHas(state -> MinerBlockIndex.isIndexable(state) && isAccepted(state));
+                    return skipped;
+                }
+            }
+            return false;
         }
     }
 
@@ -127,4 +375,4 @@ public class ThreadMinerSearch extends Thread {
             return MathUtils.getByIndexMod(MODES, index);
         }
     }
-}
\ No newline at end of file
+}
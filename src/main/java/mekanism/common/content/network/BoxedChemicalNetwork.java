@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.MekanismAPI;
@@ -39,8 +38,6 @@ import mekanism.common.util.EmitUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
-import net.minecraftforge.common.MinecraftForge;
-import net.minecraftforge.common.util.LazyOptional;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -58,6 +55,13 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
     @NotNull
     public BoxedChemical lastChemical = BoxedChemical.EMPTY;
     private long prevTransferAmount;
+    @Nullable
+    private ChemicalHandlerTarget<?, ?, ?> emissionTarget;
+    /**
+     * Type of the chemical we last emitted, so that we know when to stop backing off from acceptors that refused it.
+     */
+    @Nullable
+    private Chemical<?> emittedChemical;
 
     public BoxedChemicalNetwork(UUID networkID) {
         super(networkID);
@@ -244,37 +248,79 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         }
     }
 
-    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long tickEmit(@NotNull STACK stack) {
+    @SuppressWarnings("unchecked")
+    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> void prepareEmission(@NotNull STACK stack) {
         ChemicalType chemicalType = ChemicalType.getTypeFor(stack);
-        Collection<Map<Direction, LazyOptional<BoxedChemicalHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack, acceptorValues.size() * 2);
-        for (Map<Direction, LazyOptional<BoxedChemicalHandler>> acceptors : acceptorValues) {
-            for (LazyOptional<BoxedChemicalHandler> lazyAcceptor : acceptors.values()) {
-                lazyAcceptor.ifPresent(acceptor -> {
-                    IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getHandlerFor(chemicalType);
-                    if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
-                        target.addHandler(handler);
+        if (emittedChemical != stack.getType()) {
+            //Acceptors that refused the chemical we were emitting before may accept the new one
+            emittedChemical = stack.getType();
+            acceptorEmitter.resetBackoff();
+        }
+        acceptorEmitter.update(acceptorCache);
+        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target;
+        if (emissionTarget == null) {
+            emissionTarget = target = new ChemicalHandlerTarget<>(stack, 0);
+        } else {
+            //Note: The target doesn't store anything that depends on the type of chemical between emissions, so we can safely reuse it for any type
+            target = (ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>>) emissionTarget;
+            target.reset(stack);
+        }
+        for (int i = 0, size = acceptorEmitter.size(); i < size; i++) {
+            BoxedChemicalHandler acceptor = acceptorEmitter.getAcceptor(i);
+            if (acceptor != null) {
+                IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getHandlerFor(chemicalType);
+                if (handler != null) {
+                    long simulated = stack.getAmount() - handler.insertChemical(stack, Action.SIMULATE).getAmount();
+                    if (simulated > 0) {
+                        acceptorEmitter.accepted(i);
+                        target.addHandler(handler, simulated);
+                    } else {
+                        acceptorEmitter.refused(i);
                     }
-                });
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void emit() {
+        Current current = chemicalTank.getCurrent();
+        if (current == Current.EMPTY) {
+            prevTransferAmount = 0;
+            if (emissionTarget != null) {
+                emissionTarget.clear();
             }
+        } else {
+            IChemicalTank<?, ?> tank = chemicalTank.getTankFromCurrent(current);
+            prevTransferAmount = emit(tank.getStack());
+            MekanismUtils.logMismatchedStackSize(tank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
         }
-        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long emit(@NotNull STACK stack) {
+        //Note: prepareEmission will have already reset the target for this type of chemical
+        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target =
+              (ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>>) emissionTarget;
+        long sent = EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+        //Clear the target, so we don't keep any references to the handlers around until the next time we emit
+        target.clear();
+        return sent;
     }
 
     @Override
     public void onUpdate() {
         super.onUpdate();
         if (needsUpdate) {
-            MinecraftForge.EVENT_BUS.post(new ChemicalTransferEvent(this, lastChemical));
+            postTransferEvent(new ChemicalTransferEvent(this, lastChemical));
             needsUpdate = false;
         }
         Current current = chemicalTank.getCurrent();
         if (current == Current.EMPTY) {
             prevTransferAmount = 0;
         } else {
-            IChemicalTank<?, ?> tank = chemicalTank.getTankFromCurrent(current);
-            prevTransferAmount = tickEmit(tank.getStack());
-            MekanismUtils.logMismatchedStackSize(tank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
+            prepareEmission(chemicalTank.getTankFromCurrent(current).getStack());
+            emitOnMainThread();
         }
     }
 
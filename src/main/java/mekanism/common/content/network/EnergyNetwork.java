@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
@@ -17,13 +16,12 @@ import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
 import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
 import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
+import mekanism.common.lib.distribution.FloatingLongSplitInfo;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
-import net.minecraftforge.common.MinecraftForge;
-import net.minecraftforge.common.util.LazyOptional;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -33,6 +31,10 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     public final VariableCapacityEnergyContainer energyContainer;
     private FloatingLong prevTransferAmount = FloatingLong.ZERO;
     private FloatingLong floatingLongCapacity = FloatingLong.ZERO;
+    //Reusable emission state so that steady state emission does not have to allocate a bunch of objects each tick
+    private final EnergyAcceptorTarget emissionTarget = new EnergyAcceptorTarget(0);
+    private final FloatingLongSplitInfo emissionSplit = new FloatingLongSplitInfo(FloatingLong.ZERO, 0);
+    private FloatingLong emissionAmount = FloatingLong.ZERO.copy();
 
     public EnergyNetwork(UUID networkID) {
         super(networkID);
@@ -48,7 +50,7 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     @Override
     protected void forceScaleUpdate() {
         if (!energyContainer.isEmpty() && !energyContainer.getMaxEnergy().isZero()) {
-            currentScale = Math.min(1, energyContainer.getEnergy().divide(energyContainer.getMaxEnergy()).floatValue());
+            currentScale = (float) energyContainer.getEnergy().divideToLevel(energyContainer.getMaxEnergy());
         } else {
             currentScale = 0;
         }
@@ -127,19 +129,31 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         }
     }
 
-    private FloatingLong tickEmit(FloatingLong energyToSend) {
-        Collection<Map<Direction, LazyOptional<IStrictEnergyHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        EnergyAcceptorTarget target = new EnergyAcceptorTarget(acceptorValues.size() * 2);
-        for (Map<Direction, LazyOptional<IStrictEnergyHandler>> acceptors : acceptorValues) {
-            for (LazyOptional<IStrictEnergyHandler> lazyAcceptor : acceptors.values()) {
-                lazyAcceptor.ifPresent(acceptor -> {
-                    if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
-                        target.addHandler(acceptor);
-                    }
-                });
+    private void prepareEmission(FloatingLong energyToSend) {
+        acceptorEmitter.update(acceptorCache);
+        //Copy the energy to send into our scratch value, so that changes to our buffer during emission don't affect the amount we are trying to send
+        emissionAmount = emissionAmount.minusEqual(emissionAmount).plusEqual(energyToSend);
+        emissionTarget.clear();
+        for (int i = 0, size = acceptorEmitter.size(); i < size; i++) {
+            IStrictEnergyHandler acceptor = acceptorEmitter.getAcceptor(i);
+            if (acceptor != null) {
+                if (acceptor.insertEnergy(emissionAmount, Action.SIMULATE).smallerThan(emissionAmount)) {
+                    acceptorEmitter.accepted(i);
+                    emissionTarget.addHandler(acceptor);
+                } else {
+                    acceptorEmitter.refused(i);
+                }
             }
         }
-        return EmitUtils.sendToAcceptors(target, energyToSend.copy());
+    }
+
+    @Override
+    protected void emit() {
+        //Note: We copy the amount sent as it is backed by the split info, which gets reset and reused the next time we emit
+        prevTransferAmount = EmitUtils.sendToAcceptors(emissionTarget, emissionSplit, emissionAmount).copy();
+        energyContainer.extract(prevTransferAmount, Action.EXECUTE, AutomationType.INTERNAL);
+        //Clear the target, so we don't keep any references to the handlers around until the next time we emit
+        emissionTarget.clear();
     }
 
     @Override
@@ -151,14 +165,14 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     public void onUpdate() {
         super.onUpdate();
         if (needsUpdate) {
-            MinecraftForge.EVENT_BUS.post(new EnergyTransferEvent(this));
+            postTransferEvent(new EnergyTransferEvent(this));
             needsUpdate = false;
         }
         if (energyContainer.isEmpty()) {
             prevTransferAmount = FloatingLong.ZERO;
         } else {
-            prevTransferAmount = tickEmit(energyContainer.getEnergy());
-            energyContainer.extract(prevTransferAmount, Action.EXECUTE, AutomationType.INTERNAL);
+            prepareEmission(energyContainer.getEnergy());
+            emitOnMainThread();
         }
     }
 
@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.fluid.IExtendedFluidTank;
@@ -18,14 +17,12 @@ import mekanism.common.content.network.distribution.FluidTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.EmitUtils;
-import mekanism.common.util.FluidUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
-import net.minecraftforge.common.MinecraftForge;
-import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -36,6 +33,11 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     @NotNull
     public FluidStack lastFluid = FluidStack.EMPTY;
     private int prevTransferAmount;
+    private final FluidHandlerTarget emissionTarget = new FluidHandlerTarget(FluidStack.EMPTY, 0);
+    /**
+     * Type of the fluid we last emitted, so that we know when to stop backing off from acceptors that refused it.
+     */
+    private FluidStack emittedFluid = FluidStack.EMPTY;
 
     //TODO: Make fluid storage support storing as longs?
     private int intCapacity;
@@ -149,33 +151,49 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
         }
     }
 
-    private int tickEmit(@NotNull FluidStack fluidToSend) {
-        Collection<Map<Direction, LazyOptional<IFluidHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend, acceptorValues.size() * 2);
-        for (Map<Direction, LazyOptional<IFluidHandler>> acceptors : acceptorValues) {
-            for (LazyOptional<IFluidHandler> lazyAcceptor : acceptors.values()) {
-                lazyAcceptor.ifPresent(acceptor -> {
-                    if (FluidUtils.canFill(acceptor, fluidToSend)) {
-                        target.addHandler(acceptor);
-                    }
-                });
+    private void prepareEmission(@NotNull FluidStack fluidToSend) {
+        if (!emittedFluid.isFluidEqual(fluidToSend)) {
+            //Acceptors that refused the fluid we were emitting before may accept the new one
+            emittedFluid = new FluidStack(fluidToSend, 1);
+            acceptorEmitter.resetBackoff();
+        }
+        acceptorEmitter.update(acceptorCache);
+        emissionTarget.reset(fluidToSend);
+        for (int i = 0, size = acceptorEmitter.size(); i < size; i++) {
+            IFluidHandler acceptor = acceptorEmitter.getAcceptor(i);
+            if (acceptor != null) {
+                int simulated = acceptor.fill(fluidToSend, FluidAction.SIMULATE);
+                if (simulated > 0) {
+                    acceptorEmitter.accepted(i);
+                    emissionTarget.addHandler(acceptor, simulated);
+                } else {
+                    acceptorEmitter.refused(i);
+                }
             }
         }
-        return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+    }
+
+    @Override
+    protected void emit() {
+        FluidStack fluidToSend = fluidTank.getFluid();
+        prevTransferAmount = fluidToSend.isEmpty() ? 0 : EmitUtils.sendToAcceptors(emissionTarget, fluidToSend.getAmount(), fluidToSend);
+        //Clear the target, so we don't keep any references to the handlers around until the next time we emit
+        emissionTarget.clear();
+        MekanismUtils.logMismatchedStackSize(fluidTank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
     }
 
     @Override
     public void onUpdate() {
         super.onUpdate();
         if (needsUpdate) {
-            MinecraftForge.EVENT_BUS.post(new FluidTransferEvent(this, lastFluid));
+            postTransferEvent(new FluidTransferEvent(this, lastFluid));
             needsUpdate = false;
         }
         if (fluidTank.isEmpty()) {
             prevTransferAmount = 0;
         } else {
-            prevTransferAmount = tickEmit(fluidTank.getFluid());
-            MekanismUtils.logMismatchedStackSize(fluidTank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
+            prepareEmission(fluidTank.getFluid());
+            emitOnMainThread();
         }
     }
 
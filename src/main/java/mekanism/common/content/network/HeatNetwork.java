@@ -1,23 +1,30 @@
 package mekanism.common.content.network;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import mekanism.api.heat.HeatAPI;
-import mekanism.api.heat.HeatAPI.HeatTransfer;
 import mekanism.api.heat.IHeatHandler;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.network.transmitter.ThermodynamicConductor;
 import mekanism.common.lib.transmitter.DynamicNetwork;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
+import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, ThermodynamicConductor> {
 
     private double meanTemp = HeatAPI.AMBIENT_TEMP;
     private double heatLost;
     private double heatTransferred;
+    /**
+     * Solver for the current layout of the network, lazily created the first time the network ticks after its layout changes.
+     */
+    @Nullable
+    private HeatNetworkSolver solver;
 
     public HeatNetwork(UUID networkID) {
         super(networkID);
@@ -47,22 +54,67 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
     @Override
     public void onUpdate() {
         super.onUpdate();
-        double newSumTemp = 0, newHeatLost = 0, newHeatTransferred = 0;
-        for (ThermodynamicConductor transmitter : transmitters) {
-            HeatTransfer transfer = transmitter.simulate();
-            newHeatTransferred += transfer.adjacentTransfer();
-            newHeatLost += transfer.environmentTransfer();
+        if (solver == null) {
+            solver = HeatNetworkSolver.create(transmitters);
         }
-        //After we updated the heat values of all the transmitters, we need to update the temperatures
-        // we do this after instead of when iterating initially so that if heat is transferred from one
-        // conductor to one we already updated then we want it to have the proper total temperature
-        for (ThermodynamicConductor transmitter : transmitters) {
-            transmitter.updateHeatCapacitors(null);
-            newSumTemp += transmitter.getTotalTemperature();
+        solver.tick();
+        heatLost = solver.getEnvironmentTransfer();
+        heatTransferred = solver.getAdjacentTransfer();
+        meanTemp = solver.getMeanTemperature();
+    }
+
+    /**
+     * Writes the heat stored in the solver back to the conductors, and makes it so that the solver gets recreated the next time the network ticks. This should be
+     * called whenever the conductors in the network or what they are connected to changes.
+     */
+    public void invalidateSolver() {
+        if (solver != null) {
+            solver.detach();
+            solver = null;
         }
-        heatLost = newHeatLost;
-        heatTransferred = newHeatTransferred;
-        meanTemp = newSumTemp / transmittersSize();
+    }
+
+    @Override
+    protected void addTransmitterFromCommit(ThermodynamicConductor transmitter) {
+        invalidateSolver();
+        super.addTransmitterFromCommit(transmitter);
+    }
+
+    @Override
+    public void addTransmitter(ThermodynamicConductor transmitter) {
+        invalidateSolver();
+        super.addTransmitter(transmitter);
+    }
+
+    @Override
+    public void removeTransmitter(ThermodynamicConductor transmitter) {
+        invalidateSolver();
+        super.removeTransmitter(transmitter);
+    }
+
+    @Override
+    public void acceptorChanged(ThermodynamicConductor transmitter, Direction side) {
+        invalidateSolver();
+        super.acceptorChanged(transmitter, side);
+    }
+
+    @Override
+    public List<ThermodynamicConductor> adoptTransmittersAndAcceptorsFrom(HeatNetwork net) {
+        invalidateSolver();
+        net.invalidateSolver();
+        return super.adoptTransmittersAndAcceptorsFrom(net);
+    }
+
+    @Override
+    public void invalidate(@Nullable ThermodynamicConductor triggerTransmitter) {
+        invalidateSolver();
+        super.invalidate(triggerTransmitter);
+    }
+
+    @Override
+    public void deregister() {
+        invalidateSolver();
+        super.deregister();
     }
 
     @Override
@@ -0,0 +1,408 @@
+package mekanism.common.content.network;
+
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.bytes.ByteList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import mekanism.api.heat.HeatAPI;
+import mekanism.api.heat.IHeatHandler;
+import mekanism.common.content.network.transmitter.ThermodynamicConductor;
+import mekanism.common.lib.ParallelTickPool;
+import mekanism.common.tier.ConductorTier;
+import mekanism.common.tile.transmitter.TileEntityThermodynamicConductor;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Solves the heat exchange of all the conductors in a {@link HeatNetwork} using flat arrays of their heat, capacities and conductances, and a precomputed list of
+ * which conductors are next to each other. While a solver is attached, it is what stores the heat of the conductors, and the conductors' capacitors read and write
+ * through to it. The heat gets written back to the capacitors when the solver is detached, which happens whenever the layout of the network changes.
+ *
+ * @implNote The exchange step matches {@link mekanism.common.capabilities.heat.ITileHeatHandler#simulate()} followed by updating the capacitors. All transfers are
+ * calculated from the temperatures at the start of the step, so the order conductors are processed in doesn't matter, and each conductor can be processed
+ * independently by gathering the heat its neighbors give it.
+ */
+public class HeatNetworkSolver {
+
+    /**
+     * Minimum number of conductors in a network before the exchange step gets split up and run in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 8_192;
+    private static final int PARALLEL_CHUNK_SIZE = 2_048;
+    private static final int SIDES = EnumUtils.DIRECTIONS.length;
+    private static final ConductorTier[] TIERS = ConductorTier.values();
+    /**
+     * Side is connected to something that isn't a conductor in this network.
+     */
+    @VisibleForTesting
+    static final int ACCEPTOR = -1;
+    /**
+     * Side isn't connected to anything.
+     */
+    @VisibleForTesting
+    static final int NOT_CONNECTED = -2;
+
+    private final ThermodynamicConductor[] conductors;
+    private final byte[] tiers;
+    private final double[] heatCapacity;
+    /**
+     * Ambient temperature on each side of each conductor, indexed by {@code conductor * SIDES + side}.
+     */
+    private final double[] ambientTemperature;
+    private final double[] heat;
+    private final double[] nextHeat;
+    /**
+     * Heat that was handed to conductors since the last step, for example by the blocks they are connected to.
+     */
+    private final double[] pendingHeat;
+    private final double[] adjacentTransfer;
+    private final double[] environmentTransfer;
+    private final double[] syncedTemperature;
+    /**
+     * Whether each conductor has been marked as changed since it was last saved, so that we don't need to keep marking it every tick.
+     */
+    private final boolean[] unsaved;
+    /**
+     * Conductors next to each conductor that are connected to each other on both sides, the neighbors of conductor {@code i} are stored from
+     * {@code adjacencyStart[i]} to {@code adjacencyStart[i + 1]}.
+     */
+    private final int[] adjacencyStart;
+    private final int[] adjacentConductors;
+    private final byte[] adjacentSides;
+    /**
+     * Sides of conductors that are connected to something other than a conductor in this network, or to a conductor that isn't connected back. These go through
+     * the heat handler of the acceptor each tick.
+     */
+    private final int[] acceptorConductors;
+    private final Direction[] acceptorSides;
+    /**
+     * Heat handlers of the acceptors and how much heat to give them this tick, stored until we are on the main thread to actually give it to them.
+     */
+    private final IHeatHandler[] acceptorSinks;
+    private final double[] acceptorHeat;
+    private final Runnable giveAcceptorHeat = this::giveAcceptorHeat;
+    private final double[] tierInverseConduction = new double[TIERS.length];
+    private final double[] tierInverseInsulation = new double[TIERS.length];
+    private boolean attached = true;
+
+    private double lastAdjacentTransfer;
+    private double lastEnvironmentTransfer;
+    private double meanTemperature = HeatAPI.AMBIENT_TEMP;
+
+    /**
+     * Creates a solver for the given conductors and attaches it to them.
+     */
+    static HeatNetworkSolver create(Collection<ThermodynamicConductor> transmitters) {
+        ThermodynamicConductor[] conductors = transmitters.toArray(new ThermodynamicConductor[0]);
+        int count = conductors.length;
+        ConductorTier[] conductorTiers = new ConductorTier[count];
+        double[] heatCapacity = new double[count];
+        double[] heat = new double[count];
+        double[] syncedTemperature = new double[count];
+        double[] ambientTemperature = new double[count * SIDES];
+        int[] sideNeighbors = new int[count * SIDES];
+        Reference2IntMap<ThermodynamicConductor> indices = new Reference2IntOpenHashMap<>(count);
+        indices.defaultReturnValue(ACCEPTOR);
+        for (int i = 0; i < count; i++) {
+            indices.put(conductors[i], i);
+        }
+        for (int i = 0; i < count; i++) {
+            ThermodynamicConductor conductor = conductors[i];
+            //Apply any heat the conductor was given before we started tracking it
+            conductor.buffer.update();
+            conductorTiers[i] = conductor.tier;
+            heatCapacity[i] = conductor.buffer.getHeatCapacity();
+            heat[i] = conductor.buffer.getHeat();
+            syncedTemperature[i] = conductor.getClientTemperature();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                int sideIndex = i * SIDES + side.ordinal();
+                ambientTemperature[sideIndex] = conductor.getAmbientTemperature(side);
+                if (conductor.getAdjacent(side) == null) {
+                    sideNeighbors[sideIndex] = NOT_CONNECTED;
+                } else {
+                    BlockEntity tile = conductor.getAcceptorCache().getConnectedAcceptorTile(side);
+                    sideNeighbors[sideIndex] = tile instanceof TileEntityThermodynamicConductor neighborTile ? indices.getInt(neighborTile.getTransmitter()) : ACCEPTOR;
+                }
+            }
+        }
+        HeatNetworkSolver solver = new HeatNetworkSolver(conductors, conductorTiers, heatCapacity, heat, syncedTemperature, ambientTemperature, sideNeighbors);
+        //Now that we have read everything we need from the capacitors, take over storing the heat
+        for (int i = 0; i < count; i++) {
+            conductors[i].attachSolver(solver, i);
+        }
+        return solver;
+    }
+
+    /**
+     * @param sideNeighbors What each side of each conductor is connected to, indexed by {@code conductor * SIDES + side}. Either the index of the conductor it is
+     *                      connected to, {@link #ACCEPTOR} or {@link #NOT_CONNECTED}.
+     */
+    @VisibleForTesting
+    HeatNetworkSolver(ThermodynamicConductor[] conductors, ConductorTier[] conductorTiers, double[] heatCapacity, double[] heat, double[] syncedTemperature,
+          double[] ambientTemperature, int[] sideNeighbors) {
+        int count = conductors.length;
+        this.conductors = conductors;
+        this.heatCapacity = heatCapacity;
+        this.heat = heat;
+        this.syncedTemperature = syncedTemperature;
+        this.ambientTemperature = ambientTemperature;
+        tiers = new byte[count];
+        nextHeat = new double[count];
+        pendingHeat = new double[count];
+        adjacentTransfer = new double[count];
+        environmentTransfer = new double[count];
+        unsaved = new boolean[count];
+        adjacencyStart = new int[count + 1];
+        IntList neighbors = new IntArrayList();
+        ByteList neighborSides = new ByteArrayList();
+        IntList acceptorIndices = new IntArrayList();
+        List<Direction> acceptorSideList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tiers[i] = (byte) conductorTiers[i].ordinal();
+            adjacencyStart[i] = neighbors.size();
+            for (int side = 0; side < SIDES; side++) {
+                int neighbor = sideNeighbors[i * SIDES + side];
+                //Directions are ordered in pairs of opposites, so flipping the lowest bit gets the opposite side
+                if (neighbor >= 0 && sideNeighbors[neighbor * SIDES + (side ^ 1)] == i) {
+                    neighbors.add(neighbor);
+                    neighborSides.add((byte) side);
+                } else if (neighbor != NOT_CONNECTED) {
+                    //Note: Exchange only gathers the heat from neighbors that are connected back to us, so if the neighbor isn't connected back (for example if it
+                    // was just disconnected on that side), we give it heat through its heat handler like we do for any other acceptor
+                    acceptorIndices.add(i);
+                    acceptorSideList.add(EnumUtils.DIRECTIONS[side]);
+                }
+            }
+        }
+        adjacencyStart[count] = neighbors.size();
+        adjacentConductors = neighbors.toIntArray();
+        adjacentSides = neighborSides.toByteArray();
+        acceptorConductors = acceptorIndices.toIntArray();
+        acceptorSides = acceptorSideList.toArray(new Direction[0]);
+        acceptorSinks = new IHeatHandler[acceptorConductors.length];
+        acceptorHeat = new double[acceptorConductors.length];
+        updateCoefficients();
+    }
+
+    void tick() {
+        updateCoefficients();
+        double adjacent = transferToAcceptors();
+        exchange();
+        int count = conductors.length;
+        double environment = 0;
+        double sumTemperature = 0;
+        for (int i = 0; i < count; i++) {
+            adjacent += adjacentTransfer[i];
+            environment += environmentTransfer[i];
+            pendingHeat[i] = 0;
+            double newHeat = nextHeat[i];
+            if (newHeat != heat[i]) {
+                heat[i] = newHeat;
+                onHeatChanged(i, newHeat / heatCapacity[i]);
+            }
+            sumTemperature += newHeat / heatCapacity[i];
+        }
+        lastAdjacentTransfer = adjacent;
+        lastEnvironmentTransfer = environment;
+        meanTemperature = count == 0 ? HeatAPI.AMBIENT_TEMP : sumTemperature / count;
+    }
+
+    /**
+     * Looks the coefficients up once per tick, so we don't have to go through the configs for each conductor.
+     */
+    private void updateCoefficients() {
+        for (int tier = 0; tier < TIERS.length; tier++) {
+            tierInverseConduction[tier] = Math.max(1, TIERS[tier].getInverseConduction());
+            tierInverseInsulation[tier] = TIERS[tier].getInverseConductionInsulation();
+        }
+    }
+
+    /**
+     * Calculates the heat of all the conductors after exchanging heat with each other and the environment, splitting the work up between the threads of
+     * {@link ParallelTickPool} if the network is large enough.
+     */
+    @VisibleForTesting
+    void exchange() {
+        exchange(PARALLEL_THRESHOLD, PARALLEL_CHUNK_SIZE, ParallelTickPool::getPool);
+    }
+
+    /**
+     * @param parallelThreshold Minimum number of conductors before the work gets split up and run in parallel.
+     * @param chunkSize         Number of conductors in each piece of work when running in parallel.
+     * @param pool              Pool to run the pieces on, if we are not already on one of the shared pool's worker threads.
+     */
+    @VisibleForTesting
+    void exchange(int parallelThreshold, int chunkSize, Supplier<ForkJoinPool> pool) {
+        int count = conductors.length;
+        if (count < parallelThreshold) {
+            exchange(0, count);
+        } else {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int start = 0; start < count; start += chunkSize) {
+                int from = start;
+                int to = Math.min(count, start + chunkSize);
+                tasks.add(ForkJoinTask.adapt(() -> exchange(from, to)));
+            }
+            if (ParallelTickPool.isOffThread()) {
+                //We are already on one of the shared pool's worker threads as networks are being ticked in parallel, so fork the tasks onto that pool
+                ForkJoinTask.invokeAll(tasks);
+            } else {
+                //Otherwise, submit them to the shared pool rather than letting invokeAll fall back to the common pool
+                pool.get().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+            }
+        }
+    }
+
+    /**
+     * Transfers heat to anything that isn't a conductor in this network. There are normally only a handful of these at the ends of the network, so we just go
+     * through their heat handlers. The heat is removed from our conductors right away, but only given to the acceptors once we are on the main thread, so when
+     * networks are ticked in parallel the acceptors receive it after this network's exchange step rather than before it.
+     */
+    private double transferToAcceptors() {
+        double adjacent = 0;
+        for (int e = 0; e < acceptorConductors.length; e++) {
+            int i = acceptorConductors[e];
+            Direction side = acceptorSides[e];
+            ThermodynamicConductor conductor = conductors[i];
+            IHeatHandler sink = conductor.getAdjacent(side);
+            if (sink != null) {
+                double capacity = heatCapacity[i];
+                double invConduction = sink.getTotalInverseConduction() + tierInverseConduction[tiers[i]];
+                double tempToTransfer = (heat[i] / capacity - ambientTemperature[i * SIDES + side.ordinal()]) / invConduction;
+                double heatToTransfer = tempToTransfer * capacity;
+                pendingHeat[i] -= heatToTransfer;
+                acceptorSinks[e] = sink;
+                acceptorHeat[e] = heatToTransfer;
+                adjacent = conductor.incrementAdjacentTransfer(adjacent, tempToTransfer, side);
+            }
+        }
+        if (acceptorSinks.length > 0) {
+            ParallelTickPool.runOnMainThread(giveAcceptorHeat);
+        }
+        return adjacent;
+    }
+
+    private void giveAcceptorHeat() {
+        for (int e = 0; e < acceptorSinks.length; e++) {
+            IHeatHandler sink = acceptorSinks[e];
+            if (sink != null) {
+                acceptorSinks[e] = null;
+                sink.handleHeat(acceptorHeat[e]);
+            }
+        }
+    }
+
+    /**
+     * Calculates the heat of the given range of conductors after exchanging heat with each other and the environment.
+     *
+     * @implNote Only writes to the given range of the per conductor arrays, so different ranges can be calculated at the same time.
+     */
+    private void exchange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            double capacity = heatCapacity[i];
+            double temperature = heat[i] / capacity;
+            double inverseConduction = tierInverseConduction[tiers[i]];
+            int ambientOffset = i * SIDES;
+            double delta = 0;
+            double adjacent = 0;
+            for (int e = adjacencyStart[i], end = adjacencyStart[i + 1]; e < end; e++) {
+                int j = adjacentConductors[e];
+                int side = adjacentSides[e];
+                double invConduction = inverseConduction + tierInverseConduction[tiers[j]];
+                //Heat we give to the neighbor
+                double tempOut = (temperature - ambientTemperature[ambientOffset + side]) / invConduction;
+                delta -= tempOut * capacity;
+                if (tempOut < 0) {
+                    //Conductor to conductor transfers only count towards the adjacent transfer when they are negative, see ThermodynamicConductor#incrementAdjacentTransfer
+                    adjacent += tempOut;
+                }
+                //Heat the neighbor gives us, from the neighbor's side that faces us
+                double neighborCapacity = heatCapacity[j];
+                double tempIn = (heat[j] / neighborCapacity - ambientTemperature[j * SIDES + (side ^ 1)]) / invConduction;
+                delta += tempIn * neighborCapacity;
+            }
+            double environment = 0;
+            double environmentInverseConduction = HeatAPI.AIR_INVERSE_COEFFICIENT + tierInverseInsulation[tiers[i]] + inverseConduction;
+            for (int side = 0; side < SIDES; side++) {
+                double tempToTransfer = (temperature - ambientTemperature[ambientOffset + side]) / environmentInverseConduction;
+                delta -= tempToTransfer * capacity;
+                if (tempToTransfer > 0) {
+                    //Only count it towards environmental loss if it is hotter than the ambient temperature
+                    environment += tempToTransfer;
+                }
+            }
+            nextHeat[i] = heat[i] + pendingHeat[i] + delta;
+            adjacentTransfer[i] = adjacent;
+            environmentTransfer[i] = environment;
+        }
+    }
+
+    private void onHeatChanged(int index, double temperature) {
+        boolean sync = Math.abs(temperature - syncedTemperature[index]) > (temperature / 20);
+        if (sync) {
+            syncedTemperature[index] = temperature;
+        }
+        if (sync || !unsaved[index]) {
+            unsaved[index] = true;
+            conductors[index].onSolvedHeatChanged(sync, temperature);
+        }
+    }
+
+    @VisibleForTesting
+    double getNextHeat(int index) {
+        return nextHeat[index];
+    }
+
+    public double getHeat(int index) {
+        return heat[index];
+    }
+
+    public void setHeat(int index, double heat) {
+        this.heat[index] = heat;
+    }
+
+    public void handleHeat(int index, double transfer) {
+        pendingHeat[index] += transfer;
+    }
+
+    /**
+     * Called when the given conductor gets saved, so that the next time its heat changes it gets marked as changed again.
+     */
+    public void markSaved(int index) {
+        unsaved[index] = false;
+    }
+
+    /**
+     * Writes the heat back to the capacitors of all the conductors and stops storing it.
+     */
+    void detach() {
+        if (attached) {
+            attached = false;
+            for (int i = 0; i < conductors.length; i++) {
+                conductors[i].detachSolver(heat[i], pendingHeat[i]);
+            }
+        }
+    }
+
+    double getAdjacentTransfer() {
+        return lastAdjacentTransfer;
+    }
+
+    double getEnvironmentTransfer() {
+        return lastEnvironmentTransfer;
+    }
+
+    double getMeanTemperature() {
+        return meanTemperature;
+    }
+}
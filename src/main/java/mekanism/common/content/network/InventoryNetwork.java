@@ -1,6 +1,7 @@
 package mekanism.common.content.network;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -18,13 +19,13 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
-import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.DynamicNetwork;
 import mekanism.common.tile.interfaces.ISideConfiguration;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -32,7 +33,6 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.ChunkAccess;
-import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.items.IItemHandler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -40,6 +40,8 @@ import org.jetbrains.annotations.Nullable;
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
     private final Map<BlockPos, LogisticalTransporterBase> positionedTransmitters = new Object2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+    private long chunkMapTime = -1;
 
     public InventoryNetwork(UUID networkID) {
         super(networkID);
@@ -52,19 +54,23 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
 
     public List<AcceptorData> calculateAcceptors(TransitRequest request, TransporterStack stack, Long2ObjectMap<ChunkAccess> chunkMap) {
         List<AcceptorData> toReturn = new ArrayList<>();
-        for (Map.Entry<BlockPos, Map<Direction, LazyOptional<IItemHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
-            BlockPos pos = entry.getKey();
-            if (!pos.equals(stack.homeLocation)) {
+        for (int slot = 0, positions = acceptorCache.getPositionCount(); slot < positions; slot++) {
+            long packedPos = acceptorCache.getPosition(slot);
+            if (stack.homeLocation == null || packedPos != stack.homeLocation.asLong()) {
+                BlockPos pos = BlockPos.of(packedPos);
                 BlockEntity acceptor = WorldUtils.getTileEntity(getWorld(), chunkMap, pos);
                 if (acceptor == null) {
                     continue;
                 }
                 Map<TransitResponse, AcceptorData> dataMap = new HashMap<>();
                 Coord4D position = new Coord4D(pos, getWorld());
-                for (Map.Entry<Direction, LazyOptional<IItemHandler>> acceptorEntry : entry.getValue().entrySet()) {
-                    Optional<IItemHandler> handler = acceptorEntry.getValue().resolve();
+                int mask = acceptorCache.getDirectionMask(slot);
+                for (Direction side : EnumUtils.DIRECTIONS) {
+                    if ((mask & (1 << side.ordinal())) == 0) {
+                        continue;
+                    }
+                    Optional<IItemHandler> handler = acceptorCache.getAcceptor(slot, side).resolve();
                     if (handler.isPresent()) {
-                        Direction side = acceptorEntry.getKey();
                         //TODO: Figure out how we want to best handle the color check, as without doing it here we don't
                         // actually need to even query the TE
                         if (acceptor instanceof ISideConfiguration config) {
@@ -104,6 +110,20 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return toReturn;
     }
 
+    /**
+     * Gets a cache of chunks for use when routing stacks through this network. The cache is shared by all the routing done during a single tick, and is cleared
+     * once the game time changes, so that we don't hold onto chunks that may have been unloaded.
+     */
+    public Long2ObjectMap<ChunkAccess> getChunkMap() {
+        Level world = getWorld();
+        long time = world == null ? -1 : world.getGameTime();
+        if (time != chunkMapTime) {
+            chunkMapTime = time;
+            chunkMap.clear();
+        }
+        return chunkMap;
+    }
+
     @Nullable
     public LogisticalTransporterBase getTransmitter(BlockPos pos) {
         return positionedTransmitters.get(pos);
@@ -170,19 +190,11 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return super.adoptTransmittersAndAcceptorsFrom(net);
     }
 
-    @Override
-    public void commit() {
-        super.commit();
-        // update the cache when the network has been changed (called when transmitters are added)
-        PathfinderCache.onChanged(this);
-    }
-
     @Override
     public void deregister() {
         super.deregister();
         positionedTransmitters.clear();
-        // update the cache when the network has been removed (when transmitters are removed)
-        PathfinderCache.onChanged(this);
+        chunkMap.clear();
     }
 
     @Override
@@ -1,5 +1,7 @@
 package mekanism.common.content.network.distribution;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import mekanism.api.Action;
 import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
@@ -12,6 +14,11 @@ import org.jetbrains.annotations.NotNull;
 public class ChemicalHandlerTarget<CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>>
       extends Target<HANDLER, Long, @NotNull STACK> {
 
+    /**
+     * Amounts each handler said it would accept when it was added, if the handlers were added with {@link #addHandler(IChemicalHandler, long)}.
+     */
+    private final LongList simulatedAmounts = new LongArrayList();
+
     public ChemicalHandlerTarget(@NotNull STACK type) {
         this.extra = type;
     }
@@ -21,6 +28,31 @@ public class ChemicalHandlerTarget<CHEMICAL extends Chemical<CHEMICAL>, STACK ex
         this.extra = type;
     }
 
+    /**
+     * Adds a handler that we already simulated inserting the current chemical into, so that we don't need to simulate it again when emitting unless something else was
+     * inserted into first.
+     *
+     * @apiNote Either all or none of the handlers should be added with this method.
+     */
+    public void addHandler(HANDLER handler, long simulatedAmount) {
+        addHandler(handler);
+        simulatedAmounts.add(simulatedAmount);
+    }
+
+    /**
+     * Clears this target, so that it can be reused for emitting the given chemical.
+     */
+    public void reset(@NotNull STACK type) {
+        clear();
+        this.extra = type;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        simulatedAmounts.clear();
+    }
+
     @Override
     protected void acceptAmount(HANDLER handler, SplitInfo<Long> splitInfo, Long amount) {
         splitInfo.send(amount - handler.insertChemical(ChemicalUtil.copyWithAmount(extra, amount), Action.EXECUTE).getAmount());
@@ -30,4 +62,12 @@ public class ChemicalHandlerTarget<CHEMICAL extends Chemical<CHEMICAL>, STACK ex
     protected Long simulate(HANDLER handler, @NotNull STACK stack) {
         return stack.getAmount() - handler.insertChemical(stack, Action.SIMULATE).getAmount();
     }
+
+    @Override
+    protected Long simulate(int index, HANDLER handler, @NotNull STACK stack) {
+        if (index < simulatedAmounts.size()) {
+            return simulatedAmounts.getLong(index);
+        }
+        return simulate(handler, stack);
+    }
 }
\ No newline at end of file
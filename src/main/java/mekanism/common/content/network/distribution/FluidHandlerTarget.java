@@ -1,5 +1,7 @@
 package mekanism.common.content.network.distribution;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.Collection;
 import mekanism.common.lib.distribution.SplitInfo;
 import mekanism.common.lib.distribution.Target;
@@ -10,6 +12,11 @@ import org.jetbrains.annotations.NotNull;
 
 public class FluidHandlerTarget extends Target<IFluidHandler, Integer, @NotNull FluidStack> {
 
+    /**
+     * Amounts each handler said it would accept when it was added, if the handlers were added with {@link #addHandler(IFluidHandler, int)}.
+     */
+    private final IntList simulatedAmounts = new IntArrayList();
+
     public FluidHandlerTarget(@NotNull FluidStack type) {
         this.extra = type;
     }
@@ -24,6 +31,31 @@ public class FluidHandlerTarget extends Target<IFluidHandler, Integer, @NotNull
         this.extra = type;
     }
 
+    /**
+     * Adds a handler that we already simulated inserting the current fluid into, so that we don't need to simulate it again when emitting unless something else was
+     * inserted into first.
+     *
+     * @apiNote Either all or none of the handlers should be added with this method.
+     */
+    public void addHandler(IFluidHandler handler, int simulatedAmount) {
+        addHandler(handler);
+        simulatedAmounts.add(simulatedAmount);
+    }
+
+    /**
+     * Clears this target, so that it can be reused for emitting the given fluid.
+     */
+    public void reset(@NotNull FluidStack type) {
+        clear();
+        this.extra = type;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        simulatedAmounts.clear();
+    }
+
     @Override
     protected void acceptAmount(IFluidHandler handler, SplitInfo<Integer> splitInfo, Integer amount) {
         splitInfo.send(handler.fill(new FluidStack(extra, amount), FluidAction.EXECUTE));
@@ -33,4 +65,12 @@ public class FluidHandlerTarget extends Target<IFluidHandler, Integer, @NotNull
     protected Integer simulate(IFluidHandler handler, @NotNull FluidStack fluidStack) {
         return handler.fill(fluidStack, FluidAction.SIMULATE);
     }
+
+    @Override
+    protected Integer simulate(int index, IFluidHandler handler, @NotNull FluidStack fluidStack) {
+        if (index < simulatedAmounts.size()) {
+            return simulatedAmounts.getInt(index);
+        }
+        return simulate(handler, fluidStack);
+    }
 }
\ No newline at end of file
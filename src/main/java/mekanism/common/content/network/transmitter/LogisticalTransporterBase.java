@@ -13,6 +13,7 @@ import mekanism.api.NBTConstants;
 import mekanism.api.text.EnumColor;
 import mekanism.common.Mekanism;
 import mekanism.common.content.network.InventoryNetwork;
+import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.content.transporter.TransporterStack.Path;
@@ -98,6 +99,33 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         return super.isValidAcceptor(tile, side) && getAcceptorCache().isAcceptorAndListen(tile, side, CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
     }
 
+    @Override
+    public void refreshConnections() {
+        byte current = getAllCurrentConnections();
+        super.refreshConnections();
+        if (current != getAllCurrentConnections()) {
+            //Paths through this transporter may no longer be valid, or there may be better ones
+            PathfinderCache.onChanged(getTileWorld(), getTilePos());
+        }
+    }
+
+    @Override
+    public void refreshConnections(Direction side) {
+        byte current = getAllCurrentConnections();
+        super.refreshConnections(side);
+        if (current != getAllCurrentConnections()) {
+            PathfinderCache.onChanged(getTileWorld(), getTilePos());
+        }
+    }
+
+    @Override
+    public void onModeChange(Direction side) {
+        super.onModeChange(side);
+        if (!isRemote()) {
+            PathfinderCache.onChanged(getTileWorld(), getTilePos());
+        }
+    }
+
     public void onUpdateClient() {
         for (TransporterStack stack : transit.values()) {
             stack.progress = Math.min(100, stack.progress + tier.getSpeed());
@@ -254,6 +282,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
     public void remove() {
         super.remove();
         if (!isRemote()) {
+            PathfinderCache.onChanged(getTileWorld(), getTilePos());
             for (TransporterStack stack : getTransit()) {
                 TransporterManager.remove(getTileWorld(), stack);
             }
@@ -4,7 +4,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.DoubleSupplier;
 import mekanism.api.DataHandlerUtils;
+import mekanism.api.IContentsListener;
 import mekanism.api.NBTConstants;
 import mekanism.api.heat.IHeatCapacitor;
 import mekanism.api.heat.IHeatHandler;
@@ -15,7 +17,9 @@ import mekanism.common.capabilities.heat.CachedAmbientTemperature;
 import mekanism.common.capabilities.heat.ITileHeatHandler;
 import mekanism.common.capabilities.heat.VariableHeatCapacitor;
 import mekanism.common.content.network.HeatNetwork;
+import mekanism.common.content.network.HeatNetworkSolver;
 import mekanism.common.lib.Color;
+import mekanism.common.lib.ParallelTickPool;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.lib.transmitter.acceptor.AcceptorCache;
 import mekanism.common.tier.ConductorTier;
@@ -39,11 +43,13 @@ public class ThermodynamicConductor extends Transmitter<IHeatHandler, HeatNetwor
     private double clientTemperature = -1;
     private final List<IHeatCapacitor> capacitors;
     public final VariableHeatCapacitor buffer;
+    private final ConductorHeatCapacitor conductorBuffer;
 
     public ThermodynamicConductor(IBlockProvider blockProvider, TileEntityTransmitter tile) {
         super(tile, TransmissionType.HEAT);
         this.tier = Attribute.getTier(blockProvider, ConductorTier.class);
-        buffer = VariableHeatCapacitor.create(tier.getHeatCapacity(), tier::getInverseConduction, tier::getInverseConductionInsulation, ambientTemperature, this);
+        buffer = conductorBuffer = new ConductorHeatCapacitor(tier.getHeatCapacity(), tier::getInverseConduction, tier::getInverseConductionInsulation,
+              ambientTemperature, this);
         capacitors = Collections.singletonList(buffer);
     }
 
@@ -136,17 +142,71 @@ public class ThermodynamicConductor extends Transmitter<IHeatHandler, HeatNetwor
     @Override
     public void onContentsChanged() {
         if (!isRemote()) {
-            if (clientTemperature == -1) {
-                clientTemperature = ambientTemperature.getAsDouble();
-            }
-            if (Math.abs(buffer.getTemperature() - clientTemperature) > (buffer.getTemperature() / 20)) {
-                clientTemperature = buffer.getTemperature();
+            double temperature = buffer.getTemperature();
+            if (Math.abs(temperature - getClientTemperature()) > (temperature / 20)) {
+                clientTemperature = temperature;
                 getTransmitterTile().sendUpdatePacket();
             }
         }
         getTransmitterTile().setChanged();
     }
 
+    /**
+     * @return The temperature that was last synced to the client.
+     */
+    public double getClientTemperature() {
+        if (clientTemperature == -1) {
+            clientTemperature = ambientTemperature.getAsDouble();
+        }
+        return clientTemperature;
+    }
+
+    /**
+     * Called by the solver of our network when the heat of this conductor changes, instead of {@link #onContentsChanged()}.
+     *
+     * @param sync        {@code true} if the temperature changed by enough since it was last synced that it needs to be synced again.
+     * @param temperature The new temperature.
+     */
+    public void onSolvedHeatChanged(boolean sync, double temperature) {
+        ParallelTickPool.runOnMainThread(() -> {
+            if (sync) {
+                clientTemperature = temperature;
+                getTransmitterTile().sendUpdatePacket();
+            }
+            getTransmitterTile().setChanged();
+        });
+    }
+
+    public void attachSolver(HeatNetworkSolver solver, int index) {
+        conductorBuffer.solver = solver;
+        conductorBuffer.solverIndex = index;
+    }
+
+    public void detachSolver(double heat, double pendingHeat) {
+        conductorBuffer.detach(heat, pendingHeat);
+    }
+
+    @Override
+    public void refreshConnections() {
+        byte connections = getAllCurrentConnections();
+        super.refreshConnections();
+        onConnectionsRefreshed(connections);
+    }
+
+    @Override
+    public void refreshConnections(Direction side) {
+        byte connections = getAllCurrentConnections();
+        super.refreshConnections(side);
+        onConnectionsRefreshed(connections);
+    }
+
+    private void onConnectionsRefreshed(byte previousConnections) {
+        if (previousConnections != getAllCurrentConnections() && hasTransmitterNetwork()) {
+            //What we are connected to changed, so the solver needs to know who to exchange heat with
+            getTransmitterNetwork().invalidateSolver();
+        }
+    }
+
     @Override
     public double getAmbientTemperature(@NotNull Direction side) {
         return ambientTemperature.getTemperature(side);
@@ -175,4 +235,75 @@ public class ThermodynamicConductor extends Transmitter<IHeatHandler, HeatNetwor
         }
         return ITileHeatHandler.super.incrementAdjacentTransfer(currentAdjacentTransfer, tempToTransfer, side);
     }
+
+    /**
+     * Heat capacitor that reads and writes through to the solver of the network the conductor is in while the network is ticking the conductor.
+     */
+    private static class ConductorHeatCapacitor extends VariableHeatCapacitor {
+
+        @Nullable
+        private HeatNetworkSolver solver;
+        private int solverIndex;
+
+        private ConductorHeatCapacitor(double heatCapacity, DoubleSupplier conductionCoefficient, DoubleSupplier insulationCoefficient,
+              @Nullable DoubleSupplier ambientTempSupplier, @Nullable IContentsListener listener) {
+            super(heatCapacity, conductionCoefficient, insulationCoefficient, ambientTempSupplier, listener);
+        }
+
+        private void detach(double heat, double pendingHeat) {
+            solver = null;
+            super.setHeat(heat);
+            if (pendingHeat != 0) {
+                super.handleHeat(pendingHeat);
+            }
+        }
+
+        @Override
+        public double getHeat() {
+            return solver == null ? super.getHeat() : solver.getHeat(solverIndex);
+        }
+
+        @Override
+        public void setHeat(double heat) {
+            if (solver == null) {
+                super.setHeat(heat);
+            } else if (solver.getHeat(solverIndex) != heat) {
+                solver.setHeat(solverIndex, heat);
+                onContentsChanged();
+            }
+        }
+
+        @Override
+        public void handleHeat(double transfer) {
+            if (solver == null) {
+                super.handleHeat(transfer);
+            } else {
+                solver.handleHeat(solverIndex, transfer);
+            }
+        }
+
+        @Override
+        public void update() {
+            //Note: While we have a solver it is what applies any heat we were given
+            if (solver == null) {
+                super.update();
+            }
+        }
+
+        @Override
+        public CompoundTag serializeNBT() {
+            if (solver != null) {
+                solver.markSaved(solverIndex);
+            }
+            return super.serializeNBT();
+        }
+
+        @Override
+        public void deserializeNBT(CompoundTag nbt) {
+            super.deserializeNBT(nbt);
+            if (solver != null) {
+                solver.setHeat(solverIndex, super.getHeat());
+            }
+        }
+    }
 }
\ No newline at end of file
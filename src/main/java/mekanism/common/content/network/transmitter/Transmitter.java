@@ -575,7 +575,8 @@ public abstract class Transmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
 
     protected void markDirtyTransmitters() {
         notifyTileChange();
-        if (hasTransmitterNetwork()) {
+        //Note: If we are not an orphan but don't have a network yet, we are dormant while our network is still being discovered
+        if (hasTransmitterNetwork() || !isOrphan()) {
             //TODO - 1.18: Can this be done in a way that doesn't require reforming the network if it is still valid and the same
             TransmitterNetworkRegistry.invalidateTransmitter(getTransmitter());
         }
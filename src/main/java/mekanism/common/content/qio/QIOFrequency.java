@@ -1,13 +1,11 @@
 package mekanism.common.content.qio;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.SetMultimap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongMaps;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -17,7 +15,6 @@ import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.ObjLongConsumer;
-import java.util.function.Supplier;
 import mekanism.api.Action;
 import mekanism.api.NBTConstants;
 import mekanism.api.inventory.qio.IQIOFrequency;
@@ -25,18 +22,14 @@ import mekanism.api.math.MathUtils;
 import mekanism.api.text.EnumColor;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
-import mekanism.common.base.TagCache;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
-import mekanism.common.lib.WildcardMatcher;
-import mekanism.common.lib.collection.BiMultimap;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.frequency.IColorableFrequency;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.to_client.PacketQIOItemViewerGuiSync;
-import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
@@ -51,23 +44,17 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private static final Random rand = new Random();
 
     private final Map<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
-    private final Map<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
+    // keeps track of the item types stored, their counts, and efficiently handles looking up types by tag, modid, and item
+    private final QIOItemTypeIndex itemIndex = new QIOItemTypeIndex();
     private final Set<IQIODriveHolder> driveHolders = new HashSet<>();
-    // efficiently keep track of the tags utilized by the items stored
-    private final BiMultimap<String, HashedItem> tagLookupMap = new BiMultimap<>();
-    // efficiently keep track of the modids utilized by the items stored
-    private final Map<String, Set<HashedItem>> modIDLookupMap = new HashMap<>();
-    // efficiently keep track of the items for use in fuzzy lookup utilized by the items stored
-    private final Map<Item, Set<HashedItem>> fuzzyItemLookupMap = new HashMap<>();
-    // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
-    private final SetMultimap<String, String> tagWildcardCache = HashMultimap.create();
-    private final Set<String> failedWildcardTags = new HashSet<>();
-    // a sensitive cache for wildcard modid lookups (wildcard -> [matching modids])
-    private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
-    private final Set<String> failedWildcardModIDs = new HashSet<>();
-
-    private final Set<UUID> updatedItems = new HashSet<>();
-    private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
+
+    // ids of the item types that changed since the last time we sent an update to viewing clients
+    private final IntSet updatedItems = new IntOpenHashSet();
+    // ids of the item types that were added since the last time we sent an update, and that viewing clients therefore don't know about yet
+    private final IntSet addedItems = new IntOpenHashSet();
+    // players viewing items -> the sync version they were last sent
+    private final Object2IntMap<ServerPlayer> playersViewingItems = new Object2IntOpenHashMap<>();
+    private int syncVersion;
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
@@ -76,7 +63,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
     private long totalCount, totalCountCapacity;
     private int totalTypeCapacity;
-    // only used on client side, for server side we can just look at itemDataMap.size()
+    // only used on client side, for server side we can just look at itemIndex.size()
     private int clientTypes;
 
     private EnumColor color = EnumColor.INDIGO;
@@ -93,17 +80,19 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     /**
-     * Dangerous function. Don't mess with this map.
+     * Dangerous function. Don't mess with the item data or add or remove items while iterating this.
      *
-     * @return core item data map, tracking item types + their respective counts and containing drives
+     * @return core item data, tracking item types + their respective counts and containing drives
      */
-    public Map<HashedItem, QIOItemTypeData> getItemDataMap() {
-        return itemDataMap;
+    public Collection<QIOItemTypeData> getItemTypeData() {
+        return itemIndex.values();
     }
 
     @Override
     public void forAllStored(ObjLongConsumer<ItemStack> consumer) {
-        itemDataMap.forEach((type, data) -> consumer.accept(type.createStack(1), data.getCount()));
+        for (QIOItemTypeData data : itemIndex.values()) {
+            consumer.accept(data.itemType.createStack(1), data.getCount());
+        }
     }
 
     @Override
@@ -111,23 +100,21 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (stack.isEmpty() || amount <= 0) {
             return 0;
         }
-        HashedItem type = action.execute() ? HashedItem.create(stack) : HashedItem.raw(stack);
+        int id = itemIndex.getId(stack);
         // these checks are extremely important; they prevent us from wasting CPU searching for a place to put the new items,
-        // and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
-        if (totalCount == totalCountCapacity || (!itemDataMap.containsKey(type) && itemDataMap.size() == totalTypeCapacity)) {
+        // and they also prevent us from adding a ghost type to the itemIndex if nothing is inserted
+        if (totalCount == totalCountCapacity || (id == -1 && itemIndex.size() == totalTypeCapacity)) {
             return 0;
         }
         // at this point we're guaranteed at least part of the input stack will be inserted
         QIOItemTypeData data;
-        if (action.execute()) {
-            data = itemDataMap.computeIfAbsent(type, this::createTypeDataForAbsent);
+        if (id != -1) {
+            data = itemIndex.getData(id);
+        } else if (action.execute()) {
+            data = createTypeDataForAbsent(HashedItem.create(stack));
         } else {
-            //If we are simulating, look it up
-            data = itemDataMap.get(type);
-            if (data == null) {
-                // if it doesn't already have that type, fall back to a new item type data that doesn't actually get added
-                data = new QIOItemTypeData(type);
-            }
+            // if we are simulating and don't already have that type, fall back to a new item type data that doesn't actually get added
+            data = new QIOItemTypeData(HashedItem.raw(stack));
         }
         return amount - data.add(amount, action);
     }
@@ -136,229 +123,126 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (stack.isEmpty()) {
             return ItemStack.EMPTY;
         }
-        HashedItem type = HashedItem.create(stack);
+        int id = itemIndex.getId(stack);
         // these checks are extremely important; they prevent us from wasting CPU searching for a place to put the new items,
-        // and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
-        if (totalCount == totalCountCapacity || (!itemDataMap.containsKey(type) && itemDataMap.size() == totalTypeCapacity)) {
+        // and they also prevent us from adding a ghost type to the itemIndex if nothing is inserted
+        if (totalCount == totalCountCapacity || (id == -1 && itemIndex.size() == totalTypeCapacity)) {
             return stack;
         }
         // at this point we're guaranteed at least part of the input stack will be inserted
-        QIOItemTypeData data = itemDataMap.computeIfAbsent(type, this::createTypeDataForAbsent);
-        return type.createStack(MathUtils.clampToInt(data.add(stack.getCount(), Action.EXECUTE)));
+        QIOItemTypeData data = id == -1 ? createTypeDataForAbsent(HashedItem.create(stack)) : itemIndex.getData(id);
+        return data.itemType.createStack(MathUtils.clampToInt(data.add(stack.getCount(), Action.EXECUTE)));
+    }
+
+    private QIOItemTypeData getOrCreateTypeData(HashedItem type) {
+        int id = itemIndex.getId(type);
+        return id == -1 ? createTypeDataForAbsent(type) : itemIndex.getData(id);
     }
 
     private QIOItemTypeData createTypeDataForAbsent(HashedItem type) {
-        ItemStack stack = type.getStack();
-        List<String> tags = TagCache.getItemTags(stack);
-        if (!tags.isEmpty()) {
-            boolean hasAllKeys = tagLookupMap.hasAllKeys(tags);
-            if (tagLookupMap.putAll(tags, type) && !hasAllKeys) {
-                //If we added any tag item combinations, and we didn't have all the keys for tags this item has,
-                // then we need to clear our wildcard cache as our new tags may be valid for some of our wildcards
-                tagWildcardCache.clear();
-                failedWildcardTags.clear();
-            }
-        }
-        modIDLookupMap.computeIfAbsent(MekanismUtils.getModId(stack), modID -> {
-            //If we added a new modid to the lookup map we also want to make sure that we clear our modid wildcard cache
-            // as our new modid may be valid for some of our wildcards
-            modIDWildcardCache.clear();
-            failedWildcardModIDs.clear();
-            return new HashSet<>();
-        }).add(type);
-        //Fuzzy item lookup has no wildcard cache related to it
-        fuzzyItemLookupMap.computeIfAbsent(stack.getItem(), item -> new HashSet<>()).add(type);
         //Ensure we have a matching uuid for this item
         QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type);
-        return new QIOItemTypeData(type);
+        QIOItemTypeData data = itemIndex.add(type, id -> new QIOItemTypeData(type, id));
+        addedItems.add(data.id);
+        return data;
     }
 
     @Override
     public long massExtract(ItemStack stack, long amount, Action action) {
-        if (amount <= 0 || stack.isEmpty() || itemDataMap.isEmpty()) {
+        if (amount <= 0 || stack.isEmpty() || itemIndex.isEmpty()) {
             return 0;
         }
-        HashedItem type = HashedItem.raw(stack);
-        QIOItemTypeData data = itemDataMap.get(type);
-        if (data == null) {
+        int id = itemIndex.getId(stack);
+        if (id == -1) {
             return 0;
         }
+        QIOItemTypeData data = itemIndex.getData(id);
         long removed = data.remove(amount, action);
         // remove this item type if it's now empty
-        if (action.execute() && data.count == 0) {
-            removeItemData(data.itemType);
+        if (action.execute() && data.getCount() == 0) {
+            removeItemData(data);
         }
         return removed;
     }
 
     public ItemStack removeItem(int amount) {
-        return removeByType(null, amount);
+        return itemIndex.isEmpty() ? ItemStack.EMPTY : removeById(itemIndex.nextId(0), amount);
     }
 
     public ItemStack removeItem(ItemStack stack, int amount) {
-        if (stack.isEmpty()) {
+        if (stack.isEmpty() || itemIndex.isEmpty()) {
             return ItemStack.EMPTY;
         }
-        return removeByType(HashedItem.raw(stack), amount);
+        return removeById(itemIndex.getId(stack), amount);
     }
 
     public ItemStack removeByType(@Nullable HashedItem itemType, int amount) {
-        if (itemDataMap.isEmpty() || amount <= 0) {
+        if (itemType == null) {
+            return removeItem(amount);
+        } else if (itemIndex.isEmpty()) {
             return ItemStack.EMPTY;
         }
+        return removeById(itemIndex.getId(itemType), amount);
+    }
 
-        QIOItemTypeData data;
-        if (itemType == null) {
-            Map.Entry<HashedItem, QIOItemTypeData> entry = itemDataMap.entrySet().iterator().next();
-            itemType = entry.getKey();
-            data = entry.getValue();
-        } else {
-            data = itemDataMap.get(itemType);
-            if (data == null) {
-                return ItemStack.EMPTY;
-            }
+    private ItemStack removeById(int id, int amount) {
+        if (id == -1 || amount <= 0) {
+            return ItemStack.EMPTY;
         }
-
+        QIOItemTypeData data = itemIndex.getData(id);
         ItemStack removed = data.remove(amount);
         // remove this item type if it's now empty
-        if (data.count == 0) {
-            removeItemData(data.itemType);
+        if (data.getCount() == 0) {
+            removeItemData(data);
         }
         return removed;
     }
 
-    private void removeItemData(HashedItem type) {
-        itemDataMap.remove(type);
-        //Note: We need to copy the tags to a new collection as otherwise when we start removing them from the lookup
-        // they will also get removed from this view
-        Set<String> tags = new HashSet<>(tagLookupMap.getKeys(type));
-        if (tagLookupMap.removeValue(type) && !tagLookupMap.hasAllKeys(tags)) {
-            //If we completely removed any tags clear our wildcard cache as it may have some wildcards that are
-            // matching a tag that is no longer stored
-            tagWildcardCache.clear();
-            //Note: We don't need to clear the failed wildcard tags as if we are removing tags they still won't have any matches
-        }
-        ItemStack stack = type.getStack();
-        String modID = MekanismUtils.getModId(stack);
-        Set<HashedItem> itemsForMod = modIDLookupMap.get(modID);
-        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
-        // but double check that it is not null just in case
-        // Next if we removed the item successfully, check if the items for that mod is now empty, and if they are
-        // remove the modid from the lookup map, and clear our wildcard cache as it may have some wildcards that are
-        // matching a modid that is no longer stored
-        if (itemsForMod != null && itemsForMod.remove(type) && itemsForMod.isEmpty()) {
-            modIDLookupMap.remove(modID);
-            modIDWildcardCache.clear();
-            //Note: We don't need to clear the failed wildcard modids as if we are removing tags they still won't have any matches
-        }
-        Item item = stack.getItem();
-        Set<HashedItem> itemsByFuzzy = fuzzyItemLookupMap.get(item);
-        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
-        // but double check that it is not null just in case
-        // Next if we removed the item successfully, check if the "fuzzy" items for that item is now empty, and if they are
-        // remove the item completely from the lookup map
-        if (itemsByFuzzy != null && itemsByFuzzy.remove(type) && itemsByFuzzy.isEmpty()) {
-            fuzzyItemLookupMap.remove(item);
-        }
-    }
-
-    public Set<HashedItem> getTypesForItem(Item item) {
-        return Collections.unmodifiableSet(fuzzyItemLookupMap.getOrDefault(item, Collections.emptySet()));
+    private void removeItemData(QIOItemTypeData data) {
+        itemIndex.remove(data.id);
+    }
+
+    public List<HashedItem> getTypesForItem(Item item) {
+        return itemIndex.getTypesForItem(item);
     }
 
     public Object2LongMap<HashedItem> getStacksByItem(Item item) {
-        return getStacksWithCounts(fuzzyItemLookupMap.get(item));
+        return itemIndex.getStacksByItem(item);
     }
 
     public Object2LongMap<HashedItem> getStacksByTag(String tag) {
-        return getStacksWithCounts(tagLookupMap.getValues(tag));
+        return itemIndex.getStacksByTag(tag);
     }
 
     public Object2LongMap<HashedItem> getStacksByModID(String modID) {
-        return getStacksWithCounts(modIDLookupMap.get(modID));
-    }
-
-    private Object2LongMap<HashedItem> getStacksWithCounts(@Nullable Set<HashedItem> items) {
-        if (items == null || items.isEmpty()) {
-            return Object2LongMaps.emptyMap();
-        }
-        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-        for (HashedItem item : items) {
-            ret.put(item, getStored(item));
-        }
-        return ret;
+        return itemIndex.getStacksByModID(modID);
     }
 
     public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
-        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::getAllKeys)) {
-            Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            for (String match : tagWildcardCache.get(wildcard)) {
-                for (HashedItem item : tagLookupMap.getValues(match)) {
-                    //If our return map doesn't already have the stored value in it, calculate it.
-                    // The case where it may have the stored value in it is if an item has multiple
-                    // tags that all match the wildcard
-                    ret.computeIfAbsent(item, (HashedItem type) -> getStored(type));
-                }
-            }
-            return ret;
-        }
-        return Object2LongMaps.emptyMap();
+        return itemIndex.getStacksByTagWildcard(wildcard);
     }
 
     public Object2LongMap<HashedItem> getStacksByModIDWildcard(String wildcard) {
-        if (hasMatchingElements(modIDWildcardCache, failedWildcardModIDs, wildcard, modIDLookupMap::keySet)) {
-            Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            for (String match : modIDWildcardCache.get(wildcard)) {
-                for (HashedItem item : modIDLookupMap.get(match)) {
-                    //Note: Unlike in getStacksByTagWildcard, we don't use computeLongIfAbsent here because
-                    // each stack only has one modid, so while we may have multiple modids that match our
-                    // wildcard, the stacks that correspond to said modids will be unique
-                    ret.put(item, getStored(item));
-                }
-            }
-            return ret;
-        }
-        return Object2LongMaps.emptyMap();
+        return itemIndex.getStacksByModIDWildcard(wildcard);
     }
 
-    private boolean hasMatchingElements(SetMultimap<String, String> wildcardCache, Set<String> failedWildcards, String wildcard, Supplier<Set<String>> entriesSupplier) {
-        if (failedWildcards.contains(wildcard)) {
-            //If we already know this wildcard has no matching things, fail fast
-            return false;
-        }
-        //If we don't have a cached value for the given wildcard, try to build up the corresponding cache
-        if (!wildcardCache.containsKey(wildcard) && !buildWildcardMapping(wildcardCache, wildcard, entriesSupplier.get())) {
-            // If we don't actually have any matches, mark that the wildcard failed, and return false
-            failedWildcards.add(wildcard);
-            return false;
+    public void openItemViewer(ServerPlayer player) {
+        QIOViewerDelta delta = new QIOViewerDelta(itemIndex.size());
+        for (int id = itemIndex.nextId(0); id != -1; id = itemIndex.nextId(id + 1)) {
+            delta.define(id, createViewerType(id));
+            delta.setCount(id, itemIndex.getCount(id));
         }
-        return true;
+        playersViewingItems.put(player, syncVersion);
+        Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.batch(delta, syncVersion, totalCountCapacity, totalTypeCapacity), player);
     }
 
-    /**
-     * @return {@code true} if any wildcards were added.
-     */
-    private boolean buildWildcardMapping(SetMultimap<String, String> wildcardCache, String wildcard, Set<String> entries) {
-        boolean added = false;
-        for (String entry : entries) {
-            if (WildcardMatcher.matches(wildcard, entry)) {
-                added |= wildcardCache.put(wildcard, entry);
-            }
-        }
-        return added;
-    }
-
-    public void openItemViewer(ServerPlayer player) {
-        playersViewingItems.add(player);
-        Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(itemDataMap.size());
-        for (QIOItemTypeData data : itemDataMap.values()) {
-            map.put(new UUIDAwareHashedItem(data.itemType, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(data.itemType)), data.count);
-        }
-        Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.batch(map, totalCountCapacity, totalTypeCapacity), player);
+    private UUIDAwareHashedItem createViewerType(int id) {
+        HashedItem type = itemIndex.getType(id);
+        return new UUIDAwareHashedItem(type, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type));
     }
 
     public void closeItemViewer(ServerPlayer player) {
-        playersViewingItems.remove(player);
+        playersViewingItems.removeInt(player);
     }
 
     @Override
@@ -381,7 +265,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public int getTotalItemTypes(boolean remote) {
-        return remote ? clientTypes : itemDataMap.size();
+        return remote ? clientTypes : itemIndex.size();
     }
 
     public int getTotalItemTypeCapacity() {
@@ -390,12 +274,12 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
     @Override
     public long getStored(ItemStack type) {
-        return getStored(HashedItem.raw(type));
+        int id = itemIndex.getId(type);
+        return id == -1 ? 0 : itemIndex.getCount(id);
     }
 
     public long getStored(HashedItem itemType) {
-        QIOItemTypeData data = itemDataMap.get(itemType);
-        return data == null ? 0 : data.count;
+        return itemIndex.getCount(itemType);
     }
 
     public boolean isStoring(HashedItem itemType) {
@@ -417,18 +301,26 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     public void tick() {
         super.tick();
         if (!updatedItems.isEmpty() || needsUpdate) {
-            Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(updatedItems.size());
-            updatedItems.forEach(uuid -> {
-                HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
-                if (type != null) {//The type should never be null as we create a UUID if there isn't one before adding but validate it
-                    QIOItemTypeData data = itemDataMap.get(type);
-                    map.put(new UUIDAwareHashedItem(type, uuid), data == null ? 0 : data.count);
-                }
-            });
             // flush players that somehow didn't send a container close packet
-            playersViewingItems.removeIf(player -> !(player.containerMenu instanceof QIOItemViewerContainer));
-            playersViewingItems.forEach(player -> Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.update(map, totalCountCapacity, totalTypeCapacity), player));
+            playersViewingItems.keySet().removeIf(player -> !(player.containerMenu instanceof QIOItemViewerContainer));
+            if (!playersViewingItems.isEmpty()) {
+                //All changes made during the tick are coalesced into a single delta that only contains the latest count of each changed type
+                QIOViewerDelta delta = QIOViewerDelta.create(updatedItems, addedItems::contains,
+                      id -> itemIndex.isStored(id) ? itemIndex.getCount(id) : 0, this::createViewerType);
+                int baseVersion = syncVersion++;
+                for (Object2IntMap.Entry<ServerPlayer> entry : playersViewingItems.object2IntEntrySet()) {
+                    ServerPlayer player = entry.getKey();
+                    if (entry.getIntValue() == baseVersion) {
+                        Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.update(delta, baseVersion, syncVersion, totalCountCapacity, totalTypeCapacity), player);
+                        entry.setValue(syncVersion);
+                    } else {
+                        //Player somehow missed a version, so just send them everything
+                        openItemViewer(player);
+                    }
+                }
+            }
             updatedItems.clear();
+            addedItems.clear();
             needsUpdate = false;
         }
         // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
@@ -441,10 +333,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         }
 
         if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
-            //Note: We only need to clear tags here as the modids cannot change just because a reload happened
-            tagLookupMap.clear();
-            tagWildcardCache.clear();
-            itemDataMap.values().forEach(item -> tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getStack()), item.itemType));
+            itemIndex.refreshTags();
         }
     }
 
@@ -476,7 +365,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         Set<QIODriveKey> keys = new HashSet<>(driveMap.keySet());
         keys.forEach(key -> removeDrive(key, false));
         driveMap.clear();
-        playersViewingItems.forEach(player -> Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.kill(), player));
+        playersViewingItems.keySet().forEach(player -> Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.kill(), player));
     }
 
     @Override
@@ -484,7 +373,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         int code = super.getSyncHash();
         code = 31 * code + Long.hashCode(totalCount);
         code = 31 * code + Long.hashCode(totalCountCapacity);
-        code = 31 * code + itemDataMap.size();
+        code = 31 * code + itemIndex.size();
         code = 31 * code + totalTypeCapacity;
         code = 31 * code + color.ordinal();
         return code;
@@ -495,7 +384,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         super.write(buf);
         buf.writeVarLong(totalCount);
         buf.writeVarLong(totalCountCapacity);
-        buf.writeVarInt(itemDataMap.size());
+        buf.writeVarInt(itemIndex.size());
         buf.writeVarInt(totalTypeCapacity);
         buf.writeEnum(color);
     }
@@ -534,8 +423,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             totalTypeCapacity += data.getTypeCapacity();
             driveMap.put(key, data);
             data.getItemMap().forEach((storedKey, value) -> {
-                itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(data, value);
-                updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(storedKey));
+                QIOItemTypeData itemData = getOrCreateTypeData(storedKey);
+                itemData.addFromDrive(data, value);
+                updatedItems.add(itemData.id);
             });
             setNeedsUpdate();
         }
@@ -548,15 +438,16 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         QIODriveData data = driveMap.get(key);
         if (updateItemMap) {
             data.getItemMap().forEach((storedKey, value) -> {
-                QIOItemTypeData itemData = itemDataMap.get(storedKey);
-                if (itemData != null) {
+                int id = itemIndex.getId(storedKey);
+                if (id != -1) {
+                    QIOItemTypeData itemData = itemIndex.getData(id);
                     itemData.containingDrives.remove(key);
-                    itemData.count -= value;
+                    itemIndex.grow(id, -value);
                     totalCount -= value;
-                    updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(storedKey));
-                    // remove this entry from the item data map if it's now empty
-                    if (itemData.containingDrives.isEmpty() || itemData.count == 0) {
-                        removeItemData(storedKey);
+                    updatedItems.add(id);
+                    // remove this entry from the item index if it's now empty
+                    if (itemData.containingDrives.isEmpty() || itemData.getCount() == 0) {
+                        removeItemData(itemData);
                     }
                 }
             });
@@ -585,30 +476,38 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         }
     }
 
-    private void setNeedsUpdate(@Nullable HashedItem changedItem) {
+    private void setNeedsUpdate(int changedItem) {
         needsUpdate = true;
         isDirty = true;
-        if (changedItem != null) {
-            updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
+        if (changedItem != -1) {
+            updatedItems.add(changedItem);
         }
     }
 
     private void setNeedsUpdate() {
-        setNeedsUpdate(null);
+        setNeedsUpdate(-1);
     }
 
     public class QIOItemTypeData {
 
         private final HashedItem itemType;
-        private long count = 0;
+        /**
+         * Id of this type in the item index, or {@code -1} if this type is not actually stored and is only being used to simulate an insertion.
+         */
+        private final int id;
         private final Set<QIODriveKey> containingDrives = new HashSet<>();
 
-        public QIOItemTypeData(HashedItem itemType) {
+        private QIOItemTypeData(HashedItem itemType) {
+            this(itemType, -1);
+        }
+
+        private QIOItemTypeData(HashedItem itemType, int id) {
             this.itemType = itemType;
+            this.id = id;
         }
 
         private void addFromDrive(QIODriveData data, long toAdd) {
-            count += toAdd;
+            itemIndex.grow(id, toAdd);
             totalCount += toAdd;
             containingDrives.add(data.getKey());
             setNeedsUpdate();
@@ -636,9 +535,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             }
             if (action.execute()) {
                 // update internal/core values
-                count += amount - toAdd;
+                itemIndex.grow(id, amount - toAdd);
                 totalCount += amount - toAdd;
-                setNeedsUpdate(itemType);
+                setNeedsUpdate(id);
             }
             return toAdd;
         }
@@ -666,9 +565,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
                 }
             }
             if (action.execute()) {
-                count -= removed;
+                itemIndex.grow(id, -removed);
                 totalCount -= removed;
-                setNeedsUpdate(itemType);
+                setNeedsUpdate(id);
             }
             return removed;
         }
@@ -678,8 +577,12 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             return removed == 0 ? ItemStack.EMPTY : itemType.createStack(removed);
         }
 
+        public HashedItem getItemType() {
+            return itemType;
+        }
+
         public long getCount() {
-            return count;
+            return id == -1 ? 0 : itemIndex.getCount(id);
         }
     }
 }
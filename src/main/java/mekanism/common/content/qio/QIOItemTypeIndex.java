@@ -0,0 +1,421 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntHeapPriorityQueue;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import mekanism.common.base.TagCache;
+import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
+import mekanism.common.lib.WildcardMatcher;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.items.ItemHandlerHelper;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index of the item types stored in a {@link QIOFrequency}. Each stored type is given a compact integer id, and the data for each type is kept in parallel arrays
+ * indexed by that id. The arrays are split into fixed size shards so that growing the index never requires copying the data of types that are already stored.
+ * <br><br>
+ * Lookups by item, tag, and modid are done through postings of type ids. Tags and modids are interned, so wildcard lookups only have to be matched against each
+ * distinct tag or modid once, instead of having to look at every stored type.
+ *
+ * @apiNote Only used on the server, and only accessed from the server thread.
+ */
+public class QIOItemTypeIndex {
+
+    private static final int SHARD_BITS = 10;
+    private static final int SHARD_SIZE = 1 << SHARD_BITS;
+    private static final int SHARD_MASK = SHARD_SIZE - 1;
+    private static final int[] NO_TAGS = new int[0];
+
+    private final Object2IntMap<HashedItem> typeIds = new Object2IntOpenHashMap<>();
+    //Lookup for types without any NBT, so that looking up plain items doesn't have to hash the stack
+    private final Reference2IntMap<Item> untaggedTypeIds = new Reference2IntOpenHashMap<>();
+    private final Reference2ObjectMap<Item, IntSet> itemPostings = new Reference2ObjectOpenHashMap<>();
+    private final Postings tagPostings = new Postings();
+    private final Postings modIDPostings = new Postings();
+    //Reuse the lowest ids first so that the used ids stay as densely packed as possible
+    private final IntHeapPriorityQueue freeIds = new IntHeapPriorityQueue();
+    private final Collection<QIOItemTypeData> values = new TypeDataView();
+    private Shard[] shards = new Shard[0];
+    private int nextId;
+    private int size;
+
+    public QIOItemTypeIndex() {
+        typeIds.defaultReturnValue(-1);
+        untaggedTypeIds.defaultReturnValue(-1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return The id of the given type, or {@code -1} if it is not stored.
+     */
+    public int getId(ItemStack stack) {
+        if (!stack.hasTag()) {
+            int id = untaggedTypeIds.getInt(stack.getItem());
+            //Note: We still have to validate the stack can stack with the stored type as it may have capability NBT
+            if (id != -1 && ItemHandlerHelper.canItemStacksStack(getType(id).getStack(), stack)) {
+                return id;
+            }
+        }
+        return typeIds.getInt(HashedItem.raw(stack));
+    }
+
+    /**
+     * @return The id of the given type, or {@code -1} if it is not stored.
+     */
+    public int getId(HashedItem type) {
+        return typeIds.getInt(type);
+    }
+
+    /**
+     * @return {@code true} if there is a type stored with the given id.
+     */
+    public boolean isStored(int id) {
+        return id >= 0 && id < nextId && getType(id) != null;
+    }
+
+    public HashedItem getType(int id) {
+        return shard(id).types[id & SHARD_MASK];
+    }
+
+    public QIOItemTypeData getData(int id) {
+        return shard(id).data[id & SHARD_MASK];
+    }
+
+    public long getCount(int id) {
+        return shard(id).counts[id & SHARD_MASK];
+    }
+
+    /**
+     * @return The stored amount of the given type, or zero if it is not stored.
+     */
+    public long getCount(HashedItem type) {
+        int id = getId(type);
+        return id == -1 ? 0 : getCount(id);
+    }
+
+    void grow(int id, long amount) {
+        shard(id).counts[id & SHARD_MASK] += amount;
+    }
+
+    private Shard shard(int id) {
+        return shards[id >> SHARD_BITS];
+    }
+
+    /**
+     * Adds the given type to the index.
+     *
+     * @param type        Type to add, this should not be a raw hashed item.
+     * @param dataFactory Creates the data for the type from the id it was assigned.
+     *
+     * @return The data that was created for the type.
+     */
+    public QIOItemTypeData add(HashedItem type, IntFunction<QIOItemTypeData> dataFactory) {
+        int id = freeIds.isEmpty() ? nextId++ : freeIds.dequeueInt();
+        int shardIndex = id >> SHARD_BITS;
+        if (shardIndex >= shards.length) {
+            shards = Arrays.copyOf(shards, shardIndex + 1);
+        }
+        if (shards[shardIndex] == null) {
+            shards[shardIndex] = new Shard();
+        }
+        Shard shard = shards[shardIndex];
+        int local = id & SHARD_MASK;
+        QIOItemTypeData data = dataFactory.apply(id);
+        ItemStack stack = type.getStack();
+        shard.types[local] = type;
+        shard.data[local] = data;
+        shard.counts[local] = 0;
+        shard.used++;
+        shard.tags[local] = internTags(stack, id);
+        shard.modIDs[local] = modIDPostings.intern(MekanismUtils.getModId(stack));
+        modIDPostings.add(shard.modIDs[local], id);
+        itemPostings.computeIfAbsent(stack.getItem(), item -> new IntOpenHashSet()).add(id);
+        typeIds.put(type, id);
+        if (!stack.hasTag()) {
+            untaggedTypeIds.putIfAbsent(stack.getItem(), id);
+        }
+        size++;
+        return data;
+    }
+
+    private int[] internTags(ItemStack stack, int id) {
+        List<String> tags = TagCache.getItemTags(stack);
+        if (tags.isEmpty()) {
+            return NO_TAGS;
+        }
+        int[] tagIds = new int[tags.size()];
+        for (int i = 0; i < tagIds.length; i++) {
+            tagIds[i] = tagPostings.intern(tags.get(i));
+            tagPostings.add(tagIds[i], id);
+        }
+        return tagIds;
+    }
+
+    /**
+     * Removes the type with the given id from the index, after which the id may be reused.
+     */
+    public void remove(int id) {
+        Shard shard = shard(id);
+        int local = id & SHARD_MASK;
+        HashedItem type = shard.types[local];
+        if (type == null) {
+            return;
+        }
+        typeIds.removeInt(type);
+        Item item = type.getStack().getItem();
+        if (untaggedTypeIds.getInt(item) == id) {
+            untaggedTypeIds.removeInt(item);
+        }
+        IntSet typesForItem = itemPostings.get(item);
+        if (typesForItem != null && typesForItem.remove(id) && typesForItem.isEmpty()) {
+            itemPostings.remove(item);
+        }
+        for (int tag : shard.tags[local]) {
+            tagPostings.remove(tag, id);
+        }
+        modIDPostings.remove(shard.modIDs[local], id);
+        shard.types[local] = null;
+        shard.data[local] = null;
+        shard.tags[local] = null;
+        shard.counts[local] = 0;
+        shard.used--;
+        freeIds.enqueue(id);
+        size--;
+    }
+
+    /**
+     * @return The first used id at or after the given id, or {@code -1} if there are no more used ids.
+     */
+    public int nextId(int from) {
+        for (int id = from; id < nextId; id++) {
+            Shard shard = shard(id);
+            if (shard.used == 0) {
+                //Skip to the start of the next shard
+                id |= SHARD_MASK;
+            } else if (shard.types[id & SHARD_MASK] != null) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Rebuilds the tag postings, this should be called whenever tags are reloaded.
+     *
+     * @apiNote Modids don't need to be rebuilt as they cannot change just because a reload happened.
+     */
+    public void refreshTags() {
+        tagPostings.clear();
+        for (int id = nextId(0); id != -1; id = nextId(id + 1)) {
+            shard(id).tags[id & SHARD_MASK] = internTags(getType(id).getStack(), id);
+        }
+    }
+
+    /**
+     * Dangerous function. Don't modify the types while iterating this collection.
+     *
+     * @return View of the data of all stored types.
+     */
+    public Collection<QIOItemTypeData> values() {
+        return values;
+    }
+
+    public List<HashedItem> getTypesForItem(Item item) {
+        IntSet ids = itemPostings.get(item);
+        if (ids == null) {
+            return List.of();
+        }
+        List<HashedItem> types = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            types.add(getType(id));
+        }
+        return types;
+    }
+
+    public Object2LongMap<HashedItem> getStacksByItem(Item item) {
+        return getStacksWithCounts(itemPostings.get(item));
+    }
+
+    public Object2LongMap<HashedItem> getStacksByTag(String tag) {
+        return getStacksWithCounts(tagPostings.get(tag));
+    }
+
+    public Object2LongMap<HashedItem> getStacksByModID(String modID) {
+        return getStacksWithCounts(modIDPostings.get(modID));
+    }
+
+    public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
+        return getStacksWithCounts(tagPostings, wildcard);
+    }
+
+    public Object2LongMap<HashedItem> getStacksByModIDWildcard(String wildcard) {
+        return getStacksWithCounts(modIDPostings, wildcard);
+    }
+
+    private Object2LongMap<HashedItem> getStacksWithCounts(@Nullable IntSet ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Object2LongMaps.emptyMap();
+        }
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>(ids.size());
+        for (int id : ids) {
+            ret.put(getType(id), getCount(id));
+        }
+        return ret;
+    }
+
+    private Object2LongMap<HashedItem> getStacksWithCounts(Postings postings, String wildcard) {
+        IntList matches = postings.matchWildcard(wildcard);
+        if (matches.isEmpty()) {
+            return Object2LongMaps.emptyMap();
+        }
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
+        for (int i = 0, matchCount = matches.size(); i < matchCount; i++) {
+            for (int id : postings.get(matches.getInt(i))) {
+                //Note: An item may have multiple tags that match the wildcard, but as the count is the same each time we can just override it
+                ret.put(getType(id), getCount(id));
+            }
+        }
+        return ret;
+    }
+
+    private static class Shard {
+
+        private final HashedItem[] types = new HashedItem[SHARD_SIZE];
+        private final QIOItemTypeData[] data = new QIOItemTypeData[SHARD_SIZE];
+        private final long[] counts = new long[SHARD_SIZE];
+        private final int[] modIDs = new int[SHARD_SIZE];
+        private final int[][] tags = new int[SHARD_SIZE][];
+        private int used;
+    }
+
+    /**
+     * Interned strings (tags or modids) along with the ids of the types that have each one.
+     */
+    private static class Postings {
+
+        private final Object2IntMap<String> ids = new Object2IntOpenHashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<IntSet> postings = new ArrayList<>();
+        //wildcard -> [ids of matching names], as names are only ever interned and not removed this only has to be added to when new names are interned
+        private final Map<String, IntList> wildcardCache = new Object2ObjectOpenHashMap<>();
+
+        private Postings() {
+            ids.defaultReturnValue(-1);
+        }
+
+        private int intern(String name) {
+            int id = ids.getInt(name);
+            if (id == -1) {
+                id = names.size();
+                ids.put(name, id);
+                names.add(name);
+                postings.add(new IntOpenHashSet());
+                //Add the new name to any cached wildcards it matches rather than having to clear the cache
+                for (Map.Entry<String, IntList> entry : wildcardCache.entrySet()) {
+                    if (WildcardMatcher.matches(entry.getKey(), name)) {
+                        entry.getValue().add(id);
+                    }
+                }
+            }
+            return id;
+        }
+
+        private void add(int id, int typeId) {
+            postings.get(id).add(typeId);
+        }
+
+        private void remove(int id, int typeId) {
+            postings.get(id).remove(typeId);
+        }
+
+        private IntSet get(int id) {
+            return postings.get(id);
+        }
+
+        private IntSet get(String name) {
+            int id = ids.getInt(name);
+            return id == -1 ? IntSets.EMPTY_SET : postings.get(id);
+        }
+
+        private IntList matchWildcard(String wildcard) {
+            return wildcardCache.computeIfAbsent(wildcard, w -> {
+                IntList matches = new IntArrayList();
+                for (int id = 0, count = names.size(); id < count; id++) {
+                    if (WildcardMatcher.matches(w, names.get(id))) {
+                        matches.add(id);
+                    }
+                }
+                return matches;
+            });
+        }
+
+        private void clear() {
+            ids.clear();
+            names.clear();
+            postings.clear();
+            wildcardCache.clear();
+        }
+    }
+
+    private class TypeDataView extends AbstractCollection<QIOItemTypeData> {
+
+        @Override
+        public Iterator<QIOItemTypeData> iterator() {
+            return new Iterator<>() {
+                private int next = nextId(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next != -1;
+                }
+
+                @Override
+                public QIOItemTypeData next() {
+                    if (next == -1) {
+                        throw new NoSuchElementException();
+                    }
+                    QIOItemTypeData data = getData(next);
+                    next = nextId(next + 1);
+                    return data;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntCollection;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.network.BasePacketHandler;
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * Changes to the item types of a {@link QIOFrequency} that get sent to the players viewing its items. Types are referred to by their id in the frequency's item
+ * index, and the full item is only included the first time a type is sent to a viewer.
+ * <br><br>
+ * Counts are absolute rather than relative so that applying a delta more than once, or on top of a full sync that already included it, is harmless. They are
+ * stored sorted by id so that only the gap between consecutive ids has to be written.
+ */
+public class QIOViewerDelta {
+
+    private final Int2ObjectMap<UUIDAwareHashedItem> definitions;
+    private final int[] ids;
+    private final long[] counts;
+    private int size;
+
+    public QIOViewerDelta(int expectedCounts) {
+        this(new Int2ObjectOpenHashMap<>(), expectedCounts);
+    }
+
+    private QIOViewerDelta(Int2ObjectMap<UUIDAwareHashedItem> definitions, int expectedCounts) {
+        this.definitions = definitions;
+        this.ids = new int[expectedCounts];
+        this.counts = new long[expectedCounts];
+    }
+
+    /**
+     * Creates a delta for the given changed types.
+     *
+     * @param changed     Ids of the types that changed, each type should only be included once.
+     * @param isNew       Checks if the viewers don't know about the type with the given id yet, and it therefore needs to be sent in full.
+     * @param counts      Gets the current count of the type with the given id, or zero if it is no longer stored.
+     * @param definitions Gets the type with the given id so that it can be sent to viewers that don't know about it yet.
+     */
+    public static QIOViewerDelta create(IntCollection changed, IntPredicate isNew, IntToLongFunction counts, IntFunction<UUIDAwareHashedItem> definitions) {
+        int[] sorted = changed.toIntArray();
+        Arrays.sort(sorted);
+        QIOViewerDelta delta = new QIOViewerDelta(sorted.length);
+        for (int id : sorted) {
+            long count = counts.applyAsLong(id);
+            if (count > 0 && isNew.test(id)) {
+                delta.define(id, definitions.apply(id));
+            }
+            delta.setCount(id, count);
+        }
+        return delta;
+    }
+
+    public void define(int id, UUIDAwareHashedItem type) {
+        definitions.put(id, type);
+    }
+
+    /**
+     * Adds the count of the type with the given id. This must be called in order of increasing ids, and a count of zero means the type was removed.
+     */
+    public void setCount(int id, long count) {
+        if (size > 0 && id <= ids[size - 1]) {
+            throw new IllegalArgumentException("Counts must be added in order of increasing ids");
+        }
+        ids[size] = id;
+        counts[size] = count;
+        size++;
+    }
+
+    public Int2ObjectMap<UUIDAwareHashedItem> getDefinitions() {
+        return definitions;
+    }
+
+    /**
+     * @return The number of counts in this delta.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    public long getCount(int index) {
+        return counts[index];
+    }
+
+    public void write(FriendlyByteBuf buffer) {
+        buffer.writeVarInt(definitions.size());
+        for (Int2ObjectMap.Entry<UUIDAwareHashedItem> entry : definitions.int2ObjectEntrySet()) {
+            UUIDAwareHashedItem type = entry.getValue();
+            buffer.writeVarInt(entry.getIntKey());
+            buffer.writeItem(type.getStack());
+            //Shouldn't be null unless something failed, but if it does try to handle it relatively gracefully
+            BasePacketHandler.writeOptional(buffer, type.getUUID(), FriendlyByteBuf::writeUUID);
+        }
+        buffer.writeVarInt(size);
+        int lastId = -1;
+        for (int i = 0; i < size; i++) {
+            buffer.writeVarInt(ids[i] - lastId - 1);
+            buffer.writeVarLong(counts[i]);
+            lastId = ids[i];
+        }
+    }
+
+    public static QIOViewerDelta read(FriendlyByteBuf buffer) {
+        int definitionCount = buffer.readVarInt();
+        Int2ObjectMap<UUIDAwareHashedItem> definitions = definitionCount == 0 ? Int2ObjectMaps.emptyMap() : new Int2ObjectOpenHashMap<>(definitionCount);
+        for (int i = 0; i < definitionCount; i++) {
+            int id = buffer.readVarInt();
+            definitions.put(id, new UUIDAwareHashedItem(buffer.readItem(), BasePacketHandler.readOptional(buffer, FriendlyByteBuf::readUUID)));
+        }
+        QIOViewerDelta delta = new QIOViewerDelta(definitions, buffer.readVarInt());
+        int lastId = -1;
+        for (int i = 0; i < delta.ids.length; i++) {
+            lastId += buffer.readVarInt() + 1;
+            delta.setCount(lastId, buffer.readVarLong());
+        }
+        return delta;
+    }
+}
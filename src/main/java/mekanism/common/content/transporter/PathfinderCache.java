@@ -1,66 +1,147 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
-import mekanism.common.content.network.InventoryNetwork;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
 
+/**
+ * Caches paths found by the {@link TransporterPathfinder}. Paths are indexed by every position they pass through, so that when a transporter changes only the paths
+ * that cross it get evicted instead of all the paths for the network. The cache is bounded and evicts the least recently used paths once it is full.
+ */
 public class PathfinderCache {
 
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static final Object2ObjectLinkedOpenHashMap<PathData, CachedPath> cachedPaths = new Object2ObjectLinkedOpenHashMap<>();
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<Set<PathData>>> pathsByPosition = new Object2ObjectOpenHashMap<>();
+    private static long hits;
+    private static long misses;
+    private static long evictions;
 
-    public static void onChanged(InventoryNetwork... networks) {
-        for (InventoryNetwork network : networks) {
-            cachedPaths.remove(network.getUUID());
+    /**
+     * Evicts all cached paths that pass through the given position.
+     *
+     * @param level Level the position is in.
+     * @param pos   Position that changed.
+     */
+    public static void onChanged(Level level, BlockPos pos) {
+        Long2ObjectMap<Set<PathData>> positions = pathsByPosition.get(level.dimension());
+        if (positions != null) {
+            Set<PathData> crossing = positions.remove(pos.asLong());
+            if (crossing != null) {
+                for (PathData data : crossing) {
+                    CachedPath path = cachedPaths.remove(data);
+                    if (path != null) {
+                        removeFromIndex(positions, data, path);
+                        evictions++;
+                    }
+                }
+                if (positions.isEmpty()) {
+                    pathsByPosition.remove(level.dimension());
+                }
+            }
         }
     }
 
-    public static void addCachedPath(LogisticalTransporterBase start, PathData data, List<BlockPos> positions, double cost) {
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new Object2ObjectOpenHashMap<>()).put(data, new CachedPath(positions, cost));
+    public static void addCachedPath(PathData data, List<BlockPos> positions, double cost) {
+        int maxSize = MekanismConfig.general.transporterPathCacheSize.get();
+        if (maxSize == 0) {
+            return;
+        }
+        CachedPath path = new CachedPath(positions, cost);
+        Long2ObjectMap<Set<PathData>> index = pathsByPosition.computeIfAbsent(data.dimension, dimension -> new Long2ObjectOpenHashMap<>());
+        CachedPath previous = cachedPaths.putAndMoveToLast(data, path);
+        if (previous != null) {
+            removeFromIndex(index, data, previous);
+        }
+        for (BlockPos pos : positions) {
+            index.computeIfAbsent(pos.asLong(), p -> new ObjectOpenHashSet<>()).add(data);
+        }
+        while (cachedPaths.size() > maxSize) {
+            //Evict the least recently used path
+            PathData eldest = cachedPaths.firstKey();
+            CachedPath evicted = cachedPaths.removeFirst();
+            Long2ObjectMap<Set<PathData>> eldestIndex = pathsByPosition.get(eldest.dimension);
+            if (eldestIndex != null) {
+                removeFromIndex(eldestIndex, eldest, evicted);
+            }
+            evictions++;
+        }
     }
 
     public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
         CachedPath ret = null;
-        UUID uuid = start.getTransmitterNetwork().getUUID();
-        if (cachedPaths.containsKey(uuid)) {
-            Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-            for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(start.getTilePos(), end, side));
-                if (ret == null || (test != null && test.cost() < ret.cost())) {
-                    ret = test;
-                }
+        ResourceKey<Level> dimension = start.getTileWorld().dimension();
+        BlockPos startPos = start.getTilePos();
+        for (Direction side : sides) {
+            CachedPath test = cachedPaths.getAndMoveToLast(new PathData(dimension, startPos, end, side));
+            if (ret == null || (test != null && test.cost() < ret.cost())) {
+                ret = test;
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+        }
         return ret;
     }
 
+    private static void removeFromIndex(Long2ObjectMap<Set<PathData>> index, PathData data, CachedPath path) {
+        for (BlockPos pos : path.path()) {
+            long key = pos.asLong();
+            Set<PathData> paths = index.get(key);
+            if (paths != null && paths.remove(data) && paths.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    public static CacheStats getStats() {
+        return new CacheStats(cachedPaths.size(), hits, misses, evictions);
+    }
+
     public static void reset() {
         cachedPaths.clear();
+        pathsByPosition.clear();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
     }
 
     public record CachedPath(List<BlockPos> path, double cost) {
     }
 
+    public record CacheStats(int size, long hits, long misses, long evictions) {
+    }
+
     public static class PathData {
 
+        private final ResourceKey<Level> dimension;
         private final BlockPos startTransporter;
         private final BlockPos end;
         private final Direction endSide;
         private final int hash;
 
-        public PathData(BlockPos s, BlockPos e, Direction es) {
+        public PathData(ResourceKey<Level> d, BlockPos s, BlockPos e, Direction es) {
+            dimension = d;
             startTransporter = s;
             end = e;
             endSide = es;
             int code = 1;
+            code = 31 * code + dimension.hashCode();
             code = 31 * code + startTransporter.hashCode();
             code = 31 * code + end.hashCode();
             code = 31 * code + endSide.hashCode();
@@ -69,7 +150,8 @@ public class PathfinderCache {
 
         @Override
         public boolean equals(Object obj) {
-            return obj instanceof PathData data && data.startTransporter.equals(startTransporter) && data.end.equals(end) && data.endSide == endSide;
+            return obj instanceof PathData data && data.dimension == dimension && data.startTransporter.equals(startTransporter) && data.end.equals(end) &&
+                   data.endSide == endSide;
         }
 
         @Override
@@ -77,4 +159,4 @@ public class PathfinderCache {
             return hash;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,17 @@
 package mekanism.common.content.transporter;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import mekanism.api.text.EnumColor;
 import mekanism.common.content.network.InventoryNetwork;
@@ -45,15 +47,29 @@ public final class TransporterPathfinder {
         if (network == null) {
             return Collections.emptyList();
         }
-        Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+        Long2ObjectMap<ChunkAccess> chunkMap = network.getChunkMap();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap);
         List<Destination> paths = new ArrayList<>();
+        List<AcceptorData> uncachedAcceptors = new ArrayList<>();
         for (AcceptorData data : acceptors) {
-            Destination path = getPath(network, data, start, stack, min, chunkMap);
-            if (path != null) {
-                paths.add(path);
+            TransitResponse response = data.getResponse();
+            if (response.getSendingAmount() >= min) {
+                CachedPath test = PathfinderCache.getCache(start, data.getLocation(), data.getSides());
+                if (test != null && checkPath(network, test.path(), stack)) {
+                    paths.add(new Destination(test.path(), false, response, test.cost()));
+                } else {
+                    uncachedAcceptors.add(data);
+                }
             }
         }
+        if (!uncachedAcceptors.isEmpty()) {
+            //Find the paths to all the destinations we don't have cached paths for in a single search
+            MultiTargetPathfinder p = new MultiTargetPathfinder(network, start.getTileWorld(), start.getTilePos(), stack, uncachedAcceptors);
+            p.find(chunkMap, (data, path, side, score) -> {
+                PathfinderCache.addCachedPath(new PathData(start.getTileWorld().dimension(), start.getTilePos(), data.getLocation(), side), path, score);
+                paths.add(new Destination(path, false, data.getResponse(), score));
+            });
+        }
         Collections.sort(paths);
         return paths;
     }
@@ -72,32 +88,6 @@ public final class TransporterPathfinder {
         return true;
     }
 
-    @Nullable
-    private static Destination getPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, int min,
-          Long2ObjectMap<ChunkAccess> chunkMap) {
-        TransitResponse response = data.getResponse();
-        if (response.getSendingAmount() >= min) {
-            BlockPos dest = data.getLocation();
-            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
-            if (test != null && checkPath(network, test.path(), stack)) {
-                return new Destination(test.path(), false, response, test.cost());
-            }
-            Pathfinder p = new Pathfinder(new DestChecker() {
-                @Override
-                public boolean isValid(TransporterStack stack, Direction side, BlockEntity tile) {
-                    return TransporterUtils.canInsert(tile, stack.color, response.getStack(), side, false);
-                }
-            }, network, start.getTileWorld(), dest, start.getTilePos(), stack);
-            p.find(chunkMap);
-            List<BlockPos> path = p.getPath();
-            if (path.size() >= 2) {
-                PathfinderCache.addCachedPath(start, new PathData(start.getTilePos(), dest, p.getSide()), path, p.finalScore);
-                return new Destination(path, false, response, p.finalScore);
-            }
-        }
-        return null;
-    }
-
     @Nullable
     public static Destination getNewBasePath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
         List<Destination> paths = getPaths(start, stack, request, min);
@@ -165,7 +155,7 @@ public final class TransporterPathfinder {
             return null;
         }
         if (stack.homeLocation != null) {
-            Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+            Long2ObjectMap<ChunkAccess> chunkMap = network.getChunkMap();
             Pathfinder p = new Pathfinder(new DestChecker() {
                 @Override
                 public boolean isValid(TransporterStack stack, Direction side, BlockEntity tile) {
@@ -345,6 +335,144 @@ public final class TransporterPathfinder {
         }
     }
 
+    /**
+     * Dijkstra search from a single transporter that finds the cheapest path to each of a set of destinations at once, rather than running a separate {@link
+     * Pathfinder} for each destination. Each destination keeps the same search bound as the single destination {@link Pathfinder}, so only paths through
+     * transporters within twice the straight line distance to a destination (or four blocks if it is closer) can reach it.
+     */
+    public static class MultiTargetPathfinder {
+
+        private final Map<BlockPos, List<AcceptorData>> targets = new Object2ObjectOpenHashMap<>();
+        private final Object2DoubleOpenHashMap<BlockPos> targetBounds = new Object2DoubleOpenHashMap<>();
+        private final Map<BlockPos, BlockPos> navMap = new Object2ObjectOpenHashMap<>();
+        private final Object2DoubleOpenHashMap<BlockPos> gScore = new Object2DoubleOpenHashMap<>();
+        private final Set<BlockPos> closedSet = new ObjectOpenHashSet<>();
+        private final PriorityQueue<ScoredPos> openQueue = new PriorityQueue<>(Comparator.comparingDouble(ScoredPos::score));
+        private final InventoryNetwork network;
+        private final BlockPos start;
+        private final TransporterStack transportStack;
+        private final Level world;
+        private int remainingTargets;
+        /**
+         * Largest search bound of any destination we have not found a path to yet, nodes further than this from the start are not expanded.
+         */
+        private double maxSearchDistance;
+
+        public MultiTargetPathfinder(InventoryNetwork network, Level world, BlockPos start, TransporterStack stack, List<AcceptorData> destinations) {
+            this.network = network;
+            this.world = world;
+            this.start = start;
+            transportStack = stack;
+            for (AcceptorData data : destinations) {
+                targets.computeIfAbsent(data.getLocation(), pos -> {
+                    //If the blocks are very close together, allow for path finding up to four blocks away
+                    targetBounds.put(pos, Math.max(2 * WorldUtils.distanceBetween(start, pos), 4));
+                    return new ArrayList<>();
+                }).add(data);
+            }
+            remainingTargets = destinations.size();
+            updateMaxSearchDistance();
+        }
+
+        private void updateMaxSearchDistance() {
+            maxSearchDistance = 0;
+            for (double bound : targetBounds.values()) {
+                maxSearchDistance = Math.max(maxSearchDistance, bound);
+            }
+        }
+
+        /**
+         * Searches outwards from the start until all destinations have been found, or there is nowhere within their search bounds left to search.
+         *
+         * @param chunkMap Cache of chunks to use when looking up the destinations.
+         * @param onFound  Called once for each destination that a path was found to.
+         */
+        public void find(Long2ObjectMap<ChunkAccess> chunkMap, FoundPathConsumer onFound) {
+            gScore.put(start, 0D);
+            openQueue.add(new ScoredPos(start, 0));
+            while (remainingTargets > 0 && !openQueue.isEmpty()) {
+                ScoredPos current = openQueue.poll();
+                BlockPos currentNode = current.pos();
+                if (!closedSet.add(currentNode)) {
+                    //Stale entry for a node we already found a cheaper path to
+                    continue;
+                }
+                double distanceFromStart = WorldUtils.distanceBetween(start, currentNode);
+                if (distanceFromStart > maxSearchDistance) {
+                    //If it is too far away for any remaining destination to consider then don't expand it, but keep going as there may be another path
+                    // that is within range even if it currently has a bit higher of a score
+                    continue;
+                }
+                LogisticalTransporterBase currentNodeTransmitter = network.getTransmitter(currentNode);
+                double currentScore = current.score();
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    BlockPos neighbor = currentNode.relative(direction);
+                    LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
+                    if (transportStack.canInsertToTransporter(neighborTransmitter, direction, currentNodeTransmitter)) {
+                        //If the neighbor is a transporter and the stack is valid for it
+                        double tentativeG = currentScore + neighborTransmitter.getCost();
+                        if (!closedSet.contains(neighbor) && (!gScore.containsKey(neighbor) || tentativeG < gScore.getDouble(neighbor))) {
+                            navMap.put(neighbor, currentNode);
+                            gScore.put(neighbor, tentativeG);
+                            openQueue.add(new ScoredPos(neighbor, tentativeG));
+                        }
+                    } else if (currentNodeTransmitter != null && currentNodeTransmitter.canEmitTo(direction)) {
+                        checkDestinations(currentNode, currentScore, distanceFromStart, direction, neighbor, chunkMap, onFound);
+                    }
+                }
+            }
+        }
+
+        private void checkDestinations(BlockPos currentNode, double currentScore, double distanceFromStart, Direction direction, BlockPos neighbor,
+              Long2ObjectMap<ChunkAccess> chunkMap, FoundPathConsumer onFound) {
+            List<AcceptorData> destinations = targets.get(neighbor);
+            //Only allow reaching the destination from within its own search bound, even if we are expanding this node for a destination that is further away
+            if (destinations != null && distanceFromStart <= targetBounds.getDouble(neighbor)) {
+                BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, neighbor);
+                if (neighborTile != null) {
+                    List<BlockPos> path = null;
+                    Iterator<AcceptorData> iterator = destinations.iterator();
+                    while (iterator.hasNext()) {
+                        AcceptorData data = iterator.next();
+                        if (TransporterUtils.canInsert(neighborTile, transportStack.color, data.getResponse().getStack(), direction, false)) {
+                            //As we visit nodes in order of cost, the first time we are able to reach a destination is the cheapest way to get there
+                            if (path == null) {
+                                path = reconstructPath(neighbor, currentNode);
+                            }
+                            onFound.accept(data, path, direction, currentScore + WorldUtils.distanceBetween(currentNode, neighbor));
+                            iterator.remove();
+                            remainingTargets--;
+                        }
+                    }
+                    if (destinations.isEmpty()) {
+                        targets.remove(neighbor);
+                        targetBounds.removeDouble(neighbor);
+                        updateMaxSearchDistance();
+                    }
+                }
+            }
+        }
+
+        private List<BlockPos> reconstructPath(BlockPos destination, BlockPos nextNode) {
+            List<BlockPos> path = new ArrayList<>();
+            path.add(destination);
+            while (nextNode != null) {
+                path.add(nextNode);
+                nextNode = navMap.get(nextNode);
+            }
+            return path;
+        }
+
+        private record ScoredPos(BlockPos pos, double score) {
+        }
+
+        @FunctionalInterface
+        public interface FoundPathConsumer {
+
+            void accept(AcceptorData data, List<BlockPos> path, Direction side, double score);
+        }
+    }
+
     public static class Pathfinder {
 
         private final Set<BlockPos> openSet = new ObjectOpenHashSet<>();
@@ -47,7 +47,6 @@ import mekanism.common.inventory.container.sync.chemical.SyncableSlurryStack;
 import mekanism.common.inventory.container.sync.list.SyncableList;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.network.to_client.container.PacketUpdateContainer;
-import mekanism.common.network.to_client.container.property.PropertyData;
 import mekanism.common.network.to_server.PacketWindowSelect;
 import mekanism.common.registration.impl.ContainerTypeRegistryObject;
 import mekanism.common.util.EnumUtils;
@@ -643,16 +642,20 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
         // they need it for before we add a bunch of extra logic to handle them
         if (inv.player instanceof ServerPlayer player) {
             //Only check tracked data for changes if we actually have any listeners
-            List<PropertyData> dirtyData = new ArrayList<>();
+            //Note: Changed data is written straight into the packet, and we only create the packet once we find something has changed
+            PacketUpdateContainer packet = null;
             for (short i = 0; i < trackedData.size(); i++) {
                 ISyncableData data = trackedData.get(i);
                 DirtyType dirtyType = data.isDirty();
                 if (dirtyType != DirtyType.CLEAN) {
-                    dirtyData.add(data.getPropertyData(i, dirtyType));
+                    if (packet == null) {
+                        packet = PacketUpdateContainer.create((short) containerId);
+                    }
+                    packet.write(i, data, dirtyType);
                 }
             }
-            if (!dirtyData.isEmpty()) {
-                Mekanism.packetHandler().sendTo(new PacketUpdateContainer((short) containerId, dirtyData), player);
+            if (packet != null) {
+                Mekanism.packetHandler().sendTo(packet, player);
             }
         }
     }
@@ -660,15 +663,13 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
     @Override
     public void sendAllDataToRemote() {
         super.sendAllDataToRemote();
-        if (inv.player instanceof ServerPlayer player) {
+        if (inv.player instanceof ServerPlayer player && !trackedData.isEmpty()) {
             //Send all contents to the listener when it first gets added
-            List<PropertyData> dirtyData = new ArrayList<>();
+            PacketUpdateContainer packet = PacketUpdateContainer.create((short) containerId);
             for (short i = 0; i < trackedData.size(); i++) {
-                dirtyData.add(trackedData.get(i).getPropertyData(i, DirtyType.DIRTY));
-            }
-            if (!dirtyData.isEmpty()) {
-                Mekanism.packetHandler().sendTo(new PacketUpdateContainer((short) containerId, dirtyData), player);
+                packet.write(i, trackedData.get(i), DirtyType.DIRTY);
             }
+            Mekanism.packetHandler().sendTo(packet, player);
         }
     }
     //End container sync management
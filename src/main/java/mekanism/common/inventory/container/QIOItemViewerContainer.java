@@ -1,5 +1,7 @@
 package mekanism.common.inventory.container;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -17,6 +19,7 @@ import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOCraftingTransferHelper;
 import mekanism.common.content.qio.QIOCraftingWindow;
 import mekanism.common.content.qio.QIOFrequency;
+import mekanism.common.content.qio.QIOViewerDelta;
 import mekanism.common.content.qio.SearchQueryParser;
 import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
 import mekanism.common.inventory.GuiComponents.IDropdownEnum;
@@ -61,6 +64,10 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private SortDirection sortDirection = MekanismConfig.client.qioItemViewerSortDirection.get();
 
     private Object2LongMap<UUIDAwareHashedItem> cachedInventory = new Object2LongOpenHashMap<>();
+    // type id in the frequency -> type, for applying updates that only reference types by id
+    private Int2ObjectMap<UUIDAwareHashedItem> syncedTypes = new Int2ObjectOpenHashMap<>();
+    // the version of the frequency's items we last received, or -1 if we are waiting on a full sync
+    private int syncVersion = -1;
     private long cachedCountCapacity;
     private int cachedTypeCapacity;
     private long totalItems;
@@ -114,6 +121,8 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     protected void sync(QIOItemViewerContainer container) {
         container.sortType = sortType;
         container.cachedInventory = cachedInventory;
+        container.syncedTypes = syncedTypes;
+        container.syncVersion = syncVersion;
         container.cachedCountCapacity = cachedCountCapacity;
         container.cachedTypeCapacity = cachedTypeCapacity;
         container.totalItems = totalItems;
@@ -295,31 +304,62 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         return transferSuccess(currentSlot, player, currentSlot.getItem(), ret);
     }
 
-    public void handleBatchUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        cachedInventory = itemMap;
+    public void handleBatchUpdate(QIOViewerDelta delta, int version, long countCapacity, int typeCapacity) {
+        cachedInventory = new Object2LongOpenHashMap<>(delta.size());
+        syncedTypes = new Int2ObjectOpenHashMap<>(delta.size());
+        syncVersion = version;
+        applyDelta(delta);
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
         syncItemList();
     }
 
-    public void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        itemMap.object2LongEntrySet().forEach(entry -> {
-            long value = entry.getLongValue();
-            if (value == 0) {
-                cachedInventory.removeLong(entry.getKey());
-            } else {
-                cachedInventory.put(entry.getKey(), value);
+    public void handleUpdate(QIOViewerDelta delta, int baseVersion, int version, long countCapacity, int typeCapacity) {
+        if (baseVersion != syncVersion) {
+            //We missed an update, request a full sync and ignore any updates until we receive it
+            if (syncVersion != -1) {
+                syncVersion = -1;
+                Mekanism.packetHandler().sendToServer(PacketGuiItemDataRequest.qioItemViewer());
             }
-        });
+            return;
+        }
+        syncVersion = version;
+        applyDelta(delta);
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
         syncItemList();
     }
 
+    private void applyDelta(QIOViewerDelta delta) {
+        for (Int2ObjectMap.Entry<UUIDAwareHashedItem> entry : delta.getDefinitions().int2ObjectEntrySet()) {
+            UUIDAwareHashedItem previous = syncedTypes.put(entry.getIntKey(), entry.getValue());
+            if (previous != null && !previous.equals(entry.getValue())) {
+                //The id got reused by a different type, so make sure we don't keep the old type around
+                cachedInventory.removeLong(previous);
+            }
+        }
+        for (int i = 0, size = delta.size(); i < size; i++) {
+            long count = delta.getCount(i);
+            if (count == 0) {
+                UUIDAwareHashedItem type = syncedTypes.remove(delta.getId(i));
+                if (type != null) {
+                    cachedInventory.removeLong(type);
+                }
+            } else {
+                UUIDAwareHashedItem type = syncedTypes.get(delta.getId(i));
+                if (type != null) {
+                    cachedInventory.put(type, count);
+                }
+            }
+        }
+    }
+
     public void handleKill() {
         itemList = null;
         searchList = null;
         cachedInventory.clear();
+        syncedTypes.clear();
+        syncVersion = -1;
     }
 
     public QIOCraftingTransferHelper getTransferHelper(Player player, QIOCraftingWindow craftingWindow) {
@@ -1,6 +1,7 @@
 package mekanism.common.inventory.container.sync;
 
 import mekanism.common.network.to_client.container.property.PropertyData;
+import net.minecraft.network.FriendlyByteBuf;
 
 public interface ISyncableData {
 
@@ -9,6 +10,17 @@ public interface ISyncableData {
     //DirtyType will either be DIRTY or SIZE
     PropertyData getPropertyData(short property, DirtyType dirtyType);
 
+    /**
+     * Writes the {@link mekanism.common.network.to_client.container.property.PropertyType} and current value of this data to the buffer. Implementations for simple
+     * types should override this to write their value directly rather than creating {@link PropertyData} just to write it.
+     *
+     * @param dirtyType Will either be DIRTY or SIZE
+     */
+    default void writeToPacket(FriendlyByteBuf buffer, DirtyType dirtyType) {
+        //Note: The property index is written separately by the packet, so it doesn't matter what we pass here
+        getPropertyData((short) 0, dirtyType).writeToPacket(buffer);
+    }
+
     enum DirtyType {
         CLEAN,
         SIZE,
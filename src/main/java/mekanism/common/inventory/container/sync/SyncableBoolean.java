@@ -3,6 +3,8 @@ package mekanism.common.inventory.container.sync;
 import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
 import java.util.function.BooleanSupplier;
 import mekanism.common.network.to_client.container.property.BooleanPropertyData;
+import mekanism.common.network.to_client.container.property.PropertyType;
+import net.minecraft.network.FriendlyByteBuf;
 
 /**
  * Version of {@link net.minecraft.world.inventory.DataSlot} for handling booleans
@@ -28,6 +30,12 @@ public abstract class SyncableBoolean implements ISyncableData {
         return new BooleanPropertyData(property, get());
     }
 
+    @Override
+    public void writeToPacket(FriendlyByteBuf buffer, DirtyType dirtyType) {
+        buffer.writeEnum(PropertyType.BOOLEAN);
+        buffer.writeBoolean(get());
+    }
+
     public static SyncableBoolean create(boolean[] booleanArray, int idx) {
         return new SyncableBoolean() {
             @Override
@@ -3,6 +3,8 @@ package mekanism.common.inventory.container.sync;
 import it.unimi.dsi.fastutil.bytes.ByteConsumer;
 import mekanism.api.functions.ByteSupplier;
 import mekanism.common.network.to_client.container.property.BytePropertyData;
+import mekanism.common.network.to_client.container.property.PropertyType;
+import net.minecraft.network.FriendlyByteBuf;
 
 /**
  * Version of {@link net.minecraft.world.inventory.DataSlot} for handling bytes
@@ -28,6 +30,12 @@ public abstract class SyncableByte implements ISyncableData {
         return new BytePropertyData(property, get());
     }
 
+    @Override
+    public void writeToPacket(FriendlyByteBuf buffer, DirtyType dirtyType) {
+        buffer.writeEnum(PropertyType.BYTE);
+        buffer.writeByte(get());
+    }
+
     public static SyncableByte create(byte[] byteArray, int idx) {
         return new SyncableByte() {
             @Override
@@ -3,6 +3,8 @@ package mekanism.common.inventory.container.sync;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleSupplier;
 import mekanism.common.network.to_client.container.property.DoublePropertyData;
+import mekanism.common.network.to_client.container.property.PropertyType;
+import net.minecraft.network.FriendlyByteBuf;
 
 /**
  * Version of {@link net.minecraft.world.inventory.DataSlot} for handling doubles
@@ -28,6 +30,12 @@ public abstract class SyncableDouble implements ISyncableData {
         return new DoublePropertyData(property, get());
     }
 
+    @Override
+    public void writeToPacket(FriendlyByteBuf buffer, DirtyType dirtyType) {
+        buffer.writeEnum(PropertyType.DOUBLE);
+        buffer.writeDouble(get());
+    }
+
     public static SyncableDouble create(double[] doubleArray, int idx) {
         return new SyncableDouble() {
             @Override
@@ -4,6 +4,8 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import mekanism.common.network.to_client.container.property.IntPropertyData;
+import mekanism.common.network.to_client.container.property.PropertyType;
+import net.minecraft.network.FriendlyByteBuf;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -54,4 +56,10 @@ public class SyncableEnum<ENUM extends Enum<ENUM>> implements ISyncableData {
     public IntPropertyData getPropertyData(short property, DirtyType dirtyType) {
         return new IntPropertyData(property, get().ordinal());
     }
+
+    @Override
+    public void writeToPacket(FriendlyByteBuf buffer, DirtyType dirtyType) {
+        buffer.writeEnum(PropertyType.INT);
+        buffer.writeVarInt(get().ordinal());
+    }
 }
\ No newline at end of file
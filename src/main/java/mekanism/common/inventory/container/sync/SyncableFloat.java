@@ -3,6 +3,8 @@ package mekanism.common.inventory.container.sync;
 import it.unimi.dsi.fastutil.floats.FloatConsumer;
 import mekanism.api.functions.FloatSupplier;
 import mekanism.common.network.to_client.container.property.FloatPropertyData;
+import mekanism.common.network.to_client.container.property.PropertyType;
+import net.minecraft.network.FriendlyByteBuf;
 
 /**
  * Version of {@link net.minecraft.world.inventory.DataSlot} for handling floats
@@ -28,6 +30,12 @@ public abstract class SyncableFloat implements ISyncableData {
         return new FloatPropertyData(property, get());
     }
 
+    @Override
+    public void writeToPacket(FriendlyByteBuf buffer, DirtyType dirtyType) {
+        buffer.writeEnum(PropertyType.FLOAT);
+        buffer.writeFloat(get());
+    }
+
     public static SyncableFloat create(float[] floatArray, int idx) {
         return new SyncableFloat() {
             @Override
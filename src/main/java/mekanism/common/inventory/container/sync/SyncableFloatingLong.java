@@ -5,7 +5,9 @@ import java.util.function.Supplier;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.network.to_client.container.property.FloatingLongPropertyData;
 import mekanism.common.network.to_client.container.property.PropertyData;
+import mekanism.common.network.to_client.container.property.PropertyType;
 import mekanism.common.network.to_client.container.property.ShortPropertyData;
+import net.minecraft.network.FriendlyByteBuf;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -65,4 +67,16 @@ public class SyncableFloatingLong implements ISyncableData {
         }
         return new FloatingLongPropertyData(property, get());
     }
+
+    @Override
+    public void writeToPacket(FriendlyByteBuf buffer, DirtyType dirtyType) {
+        if (dirtyType == DirtyType.SIZE) {
+            //If only the size changed, don't bother re-syncing the type
+            buffer.writeEnum(PropertyType.SHORT);
+            buffer.writeShort(get().getDecimal());
+        } else {
+            buffer.writeEnum(PropertyType.FLOATING_LONG);
+            get().writeToBuffer(buffer);
+        }
+    }
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ import mekanism.api.fluid.IExtendedFluidTank;
 import mekanism.common.network.to_client.container.property.FluidStackPropertyData;
 import mekanism.common.network.to_client.container.property.IntPropertyData;
 import mekanism.common.network.to_client.container.property.PropertyData;
+import mekanism.common.network.to_client.container.property.PropertyType;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.fluids.FluidStack;
 import org.jetbrains.annotations.NotNull;
 
@@ -79,4 +81,15 @@ public class SyncableFluidStack implements ISyncableData {
         }
         return new FluidStackPropertyData(property, get());
     }
+
+    @Override
+    public void writeToPacket(FriendlyByteBuf buffer, DirtyType dirtyType) {
+        if (dirtyType == DirtyType.SIZE) {
+            //If only the size changed, don't bother re-syncing the type
+            buffer.writeEnum(PropertyType.INT);
+            buffer.writeVarInt(get().getAmount());
+        } else {
+            ISyncableData.super.writeToPacket(buffer, dirtyType);
+        }
+    }
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package mekanism.common.inventory.container.sync;
 import java.util.function.IntConsumer;
 import java.util.function.IntSupplier;
 import mekanism.common.network.to_client.container.property.IntPropertyData;
+import mekanism.common.network.to_client.container.property.PropertyType;
+import net.minecraft.network.FriendlyByteBuf;
 
 /**
  * Slightly modified version of {@link net.minecraft.world.inventory.DataSlot}
@@ -28,6 +30,12 @@ public abstract class SyncableInt implements ISyncableData {
         return new IntPropertyData(property, get());
     }
 
+    @Override
+    public void writeToPacket(FriendlyByteBuf buffer, DirtyType dirtyType) {
+        buffer.writeEnum(PropertyType.INT);
+        buffer.writeVarInt(get());
+    }
+
     public static SyncableInt create(int[] intArray, int idx) {
         return new SyncableInt() {
             @Override
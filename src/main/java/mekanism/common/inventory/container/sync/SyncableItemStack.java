@@ -5,6 +5,8 @@ import java.util.function.Supplier;
 import mekanism.common.network.to_client.container.property.IntPropertyData;
 import mekanism.common.network.to_client.container.property.ItemStackPropertyData;
 import mekanism.common.network.to_client.container.property.PropertyData;
+import mekanism.common.network.to_client.container.property.PropertyType;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
@@ -72,4 +74,15 @@ public class SyncableItemStack implements ISyncableData {
         }
         return new ItemStackPropertyData(property, get());
     }
+
+    @Override
+    public void writeToPacket(FriendlyByteBuf buffer, DirtyType dirtyType) {
+        if (dirtyType == DirtyType.SIZE) {
+            //If only the size changed, don't bother re-syncing the type
+            buffer.writeEnum(PropertyType.INT);
+            buffer.writeVarInt(get().getCount());
+        } else {
+            ISyncableData.super.writeToPacket(buffer, dirtyType);
+        }
+    }
 }
\ No newline at end of file
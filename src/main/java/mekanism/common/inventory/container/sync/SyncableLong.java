@@ -3,6 +3,8 @@ package mekanism.common.inventory.container.sync;
 import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 import mekanism.common.network.to_client.container.property.LongPropertyData;
+import mekanism.common.network.to_client.container.property.PropertyType;
+import net.minecraft.network.FriendlyByteBuf;
 
 /**
  * Version of {@link net.minecraft.world.inventory.DataSlot} for handling longs
@@ -28,6 +30,12 @@ public abstract class SyncableLong implements ISyncableData {
         return new LongPropertyData(property, get());
     }
 
+    @Override
+    public void writeToPacket(FriendlyByteBuf buffer, DirtyType dirtyType) {
+        buffer.writeEnum(PropertyType.LONG);
+        buffer.writeVarLong(get());
+    }
+
     public static SyncableLong create(long[] longArray, int idx) {
         return new SyncableLong() {
             @Override
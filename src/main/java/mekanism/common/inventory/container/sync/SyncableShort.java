@@ -2,7 +2,9 @@ package mekanism.common.inventory.container.sync;
 
 import it.unimi.dsi.fastutil.shorts.ShortConsumer;
 import mekanism.api.functions.ShortSupplier;
+import mekanism.common.network.to_client.container.property.PropertyType;
 import mekanism.common.network.to_client.container.property.ShortPropertyData;
+import net.minecraft.network.FriendlyByteBuf;
 
 /**
  * Version of {@link net.minecraft.world.inventory.DataSlot} for handling shorts
@@ -28,6 +30,12 @@ public abstract class SyncableShort implements ISyncableData {
         return new ShortPropertyData(property, get());
     }
 
+    @Override
+    public void writeToPacket(FriendlyByteBuf buffer, DirtyType dirtyType) {
+        buffer.writeEnum(PropertyType.SHORT);
+        buffer.writeShort(get());
+    }
+
     public static SyncableShort create(short[] shortArray, int idx) {
         return new SyncableShort() {
             @Override
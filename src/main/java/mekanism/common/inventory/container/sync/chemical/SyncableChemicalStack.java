@@ -6,6 +6,8 @@ import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.IEmptyStackProvider;
 import mekanism.common.inventory.container.sync.ISyncableData;
+import mekanism.common.network.to_client.container.property.PropertyType;
+import net.minecraft.network.FriendlyByteBuf;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -57,4 +59,15 @@ public abstract class SyncableChemicalStack<CHEMICAL extends Chemical<CHEMICAL>,
         }
         return DirtyType.CLEAN;
     }
+
+    @Override
+    public void writeToPacket(FriendlyByteBuf buffer, DirtyType dirtyType) {
+        if (dirtyType == DirtyType.SIZE) {
+            //If only the size changed, don't bother re-syncing the type
+            buffer.writeEnum(PropertyType.LONG);
+            buffer.writeVarLong(get().getAmount());
+        } else {
+            ISyncableData.super.writeToPacket(buffer, dirtyType);
+        }
+    }
 }
\ No newline at end of file
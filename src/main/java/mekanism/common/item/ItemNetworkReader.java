@@ -16,6 +16,8 @@ import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.content.transporter.PathfinderCache.CacheStats;
 import mekanism.common.lib.transmitter.DynamicNetwork;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
@@ -88,6 +90,9 @@ public class ItemNetworkReader extends ItemEnergized {
                 for (Component component : TransmitterNetworkRegistry.getInstance().toComponents()) {
                     player.sendSystemMessage(TextComponentUtil.build(EnumColor.DARK_GRAY, component));
                 }
+                CacheStats pathCacheStats = PathfinderCache.getStats();
+                player.sendSystemMessage(MekanismLang.NETWORK_READER_PATH_CACHE.translateColored(EnumColor.GRAY, EnumColor.DARK_GRAY, pathCacheStats.size(),
+                      EnumColor.DARK_GRAY, pathCacheStats.hits(), EnumColor.DARK_GRAY, pathCacheStats.misses(), EnumColor.DARK_GRAY, pathCacheStats.evictions()));
                 displayEndBorder(player);
             }
         }
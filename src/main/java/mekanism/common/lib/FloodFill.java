@@ -0,0 +1,138 @@
+package mekanism.common.lib;
+
+import mekanism.api.NBTConstants;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.lib.collection.PackedPosSet;
+import mekanism.common.util.NBTUtils;
+import net.minecraft.nbt.CompoundTag;
+
+/**
+ * Incremental flood fill shared by the Electric Pump and Fluidic Plenisher. Keeps track of the positions that have been visited and the frontier of positions that
+ * still need to be processed, and processes frontier positions until one of them yields a result or the time budget runs out. This lets machines search huge
+ * areas a bit at a time without ever stalling a tick, and both sets are stored as {@link PackedPosSet bitmaps} so that they stay small in memory and when saved.
+ *
+ * @implNote Positions are packed as longs in the format of {@link net.minecraft.core.BlockPos#asLong()}.
+ */
+public class FloodFill {
+
+    private final PackedPosSet visited = new PackedPosSet();
+    private final PackedPosSet frontier = new PackedPosSet();
+
+    /**
+     * Marks the given position as visited.
+     *
+     * @return {@code true} if the position had not been visited before.
+     */
+    public boolean visit(long pos) {
+        return visited.add(pos);
+    }
+
+    public boolean isVisited(long pos) {
+        return visited.contains(pos);
+    }
+
+    public int getVisitedCount() {
+        return visited.size();
+    }
+
+    /**
+     * Adds the given position to the frontier so that it gets processed by a future {@link #search(NodeVisitor, long)}.
+     */
+    public void addToFrontier(long pos) {
+        frontier.add(pos);
+    }
+
+    public boolean hasFrontier() {
+        return !frontier.isEmpty();
+    }
+
+    public boolean isEmpty() {
+        return visited.isEmpty() && frontier.isEmpty();
+    }
+
+    /**
+     * Processes positions from the frontier until one of them yields a result, the frontier is exhausted, or the configured time budget runs out.
+     *
+     * @param visitor Processes a single position on the frontier.
+     */
+    public SearchResult search(NodeVisitor visitor) {
+        return search(visitor, MekanismConfig.general.floodFillTimeBudget.get() * 1_000L);
+    }
+
+    /**
+     * Processes positions from the frontier until one of them yields a result, the frontier is exhausted, or the time budget runs out.
+     *
+     * @param visitor     Processes a single position on the frontier.
+     * @param budgetNanos Maximum time to spend searching, at least one position is always processed if there is one.
+     */
+    public SearchResult search(NodeVisitor visitor, long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+        while (!frontier.isEmpty()) {
+            long pos = frontier.first();
+            VisitResult result = visitor.visit(pos);
+            if (result != VisitResult.FOUND) {
+                frontier.remove(pos);
+            }
+            if (result != VisitResult.DONE) {
+                return SearchResult.FOUND;
+            } else if (System.nanoTime() - deadline >= 0) {
+                return frontier.isEmpty() ? SearchResult.EXHAUSTED : SearchResult.OUT_OF_TIME;
+            }
+        }
+        return SearchResult.EXHAUSTED;
+    }
+
+    public void clear() {
+        visited.clear();
+        frontier.clear();
+    }
+
+    public CompoundTag serializeNBT() {
+        CompoundTag nbt = new CompoundTag();
+        nbt.putLongArray(NBTConstants.USED_NODES, visited.toLongArray());
+        nbt.putLongArray(NBTConstants.ACTIVE_NODES, frontier.toLongArray());
+        return nbt;
+    }
+
+    public void deserializeNBT(CompoundTag nbt) {
+        clear();
+        NBTUtils.setLongArrayIfPresent(nbt, NBTConstants.USED_NODES, visited::fromLongArray);
+        NBTUtils.setLongArrayIfPresent(nbt, NBTConstants.ACTIVE_NODES, frontier::fromLongArray);
+    }
+
+    @FunctionalInterface
+    public interface NodeVisitor {
+
+        /**
+         * Processes a position on the frontier, adding any newly found positions to the frontier.
+         */
+        VisitResult visit(long pos);
+    }
+
+    public enum VisitResult {
+        /**
+         * Found a result at or next to the position, and the position should stay on the frontier as it may have more to give.
+         */
+        FOUND,
+        /**
+         * Found a result at the position, and the position is done with.
+         */
+        FOUND_AND_DONE,
+        /**
+         * Nothing was found, and the position is done with.
+         */
+        DONE
+    }
+
+    public enum SearchResult {
+        FOUND,
+        /**
+         * Ran out of time before finding anything, but there are still positions on the frontier.
+         */
+        OUT_OF_TIME,
+        /**
+         * There is nothing left on the frontier.
+         */
+        EXHAUSTED
+    }
+}
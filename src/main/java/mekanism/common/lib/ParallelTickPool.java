@@ -0,0 +1,186 @@
+package mekanism.common.lib;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Fork-join pool shared by everything that opts into ticking in parallel, along with the handling for deferring anything that has to happen on the main thread until
+ * all the parallel work of a tick is done.
+ *
+ * @apiNote Only used on the server, and only ever driven from the server thread.
+ */
+public final class ParallelTickPool {
+
+    private static final ThreadLocal<List<Runnable>> CURRENT_DEFERRED_TASKS = new ThreadLocal<>();
+
+    @Nullable
+    private static ForkJoinPool pool;
+    private static int poolThreads;
+
+    private ParallelTickPool() {
+    }
+
+    /**
+     * Runs the given task once the step that is currently being run is back on the main thread. If we are not currently running a step on one of the worker threads
+     * the task is run immediately.
+     *
+     * @param task Task that touches the world or posts events and therefore must be run on the main thread.
+     */
+    public static void runOnMainThread(Runnable task) {
+        List<Runnable> deferredTasks = CURRENT_DEFERRED_TASKS.get();
+        if (deferredTasks == null) {
+            task.run();
+        } else {
+            deferredTasks.add(task);
+        }
+    }
+
+    /**
+     * @return {@code true} if the current thread is in the middle of running a step off the main thread.
+     */
+    public static boolean isOffThread() {
+        return CURRENT_DEFERRED_TASKS.get() != null;
+    }
+
+    /**
+     * Runs the given steps on the shared pool, see {@link #runSteps(List, Consumer, ForkJoinPool, BooleanSupplier)}.
+     */
+    public static <STEP> void runSteps(List<STEP> steps, Consumer<STEP> runner, BooleanSupplier pollMainThreadTask) {
+        if (steps.size() < 2) {
+            runSerially(steps, runner);
+        } else {
+            runSteps(steps, runner, getPool(), pollMainThreadTask);
+        }
+    }
+
+    private static <STEP> void runSerially(List<STEP> steps, Consumer<STEP> runner) {
+        //Not worth handing off to the pool as there is nothing to run in parallel
+        for (STEP step : steps) {
+            runner.accept(step);
+        }
+    }
+
+    /**
+     * Runs the given steps, in parallel if there is more than one of them, and then runs any tasks the steps deferred to the main thread in the order of the steps.
+     * Steps that only touch their own state therefore end up with the same result as if all the steps were run serially. If any step throws, the tasks deferred by it
+     * and the steps before it are run, and then the exception is rethrown on the calling thread, the same as it would have been if the steps were run serially.
+     *
+     * @param steps              Steps to run.
+     * @param runner             Runs a single step.
+     * @param pool               Pool to run the steps on if there is more than one of them.
+     * @param pollMainThreadTask Runs a single task that the steps may be waiting on the main thread for, such as loading a chunk, returning {@code false} if there
+     *                           was nothing to run.
+     */
+    public static <STEP> void runSteps(List<STEP> steps, Consumer<STEP> runner, ForkJoinPool pool, BooleanSupplier pollMainThreadTask) {
+        if (steps.size() < 2) {
+            runSerially(steps, runner);
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(steps.size());
+        List<List<Runnable>> deferredTasks = new ArrayList<>(steps.size());
+        Throwable[] failures = new Throwable[steps.size()];
+        for (int i = 0; i < steps.size(); i++) {
+            STEP step = steps.get(i);
+            List<Runnable> stepTasks = new ArrayList<>();
+            deferredTasks.add(stepTasks);
+            int index = i;
+            pool.execute(() -> {
+                CURRENT_DEFERRED_TASKS.set(stepTasks);
+                try {
+                    runner.accept(step);
+                } catch (Throwable throwable) {
+                    failures[index] = throwable;
+                } finally {
+                    CURRENT_DEFERRED_TASKS.remove();
+                    latch.countDown();
+                }
+            });
+        }
+        if (!await(latch, pollMainThreadTask)) {
+            return;
+        }
+        //Now that all the steps are done, apply anything that needs to happen on the main thread in a deterministic order
+        for (int i = 0; i < steps.size(); i++) {
+            for (Runnable task : deferredTasks.get(i)) {
+                task.run();
+            }
+            Throwable failure = failures[i];
+            if (failure != null) {
+                for (int j = i + 1; j < failures.length; j++) {
+                    if (failures[j] != null) {
+                        failure.addSuppressed(failures[j]);
+                    }
+                }
+                if (failure instanceof RuntimeException exception) {
+                    throw exception;
+                } else if (failure instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Error while running step in parallel", failure);
+            }
+        }
+    }
+
+    /**
+     * Waits for all steps to finish, while still processing any tasks that the workers had to schedule on the main thread.
+     *
+     * @return {@code false} if we were interrupted while waiting.
+     */
+    private static boolean await(CountDownLatch latch, BooleanSupplier pollMainThreadTask) {
+        while (latch.getCount() > 0) {
+            if (!pollMainThreadTask.getAsBoolean()) {
+                try {
+                    latch.await(50, TimeUnit.MICROSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    Mekanism.logger.error("Interrupted while waiting for steps to finish running in parallel.");
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The shared pool, (re)creating it if the configured number of threads changed.
+     */
+    public static ForkJoinPool getPool() {
+        int threads = MekanismConfig.general.parallelTickThreads.get();
+        if (threads <= 0) {
+            threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        }
+        if (pool == null || poolThreads != threads) {
+            shutdown();
+            poolThreads = threads;
+            pool = new ForkJoinPool(threads, forkJoinPool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName("Mekanism Parallel Tick Worker-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                //Make sure we can load mod classes from the worker threads
+                thread.setContextClassLoader(Mekanism.class.getClassLoader());
+                return thread;
+            }, (thread, throwable) -> Mekanism.logger.error("Uncaught exception while ticking in parallel on {}", thread.getName(), throwable), false);
+        }
+        return pool;
+    }
+
+    public static void reset() {
+        shutdown();
+    }
+
+    private static void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.util.NoSuchElementException;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+
+/**
+ * Set of block positions, stored as a bitmap of the 16x16x16 blocks in each chunk section that contains at least one of the positions. This takes far less memory
+ * than a set of {@link BlockPos} objects for the dense regions flood fills tend to cover, and can be saved as a single long array.
+ *
+ * @implNote Positions are passed around packed as longs in the format of {@link BlockPos#asLong()}. Sections are kept in insertion order, and within a section
+ * positions are ordered from the bottom up, so {@link #first()} tends to keep returning positions near each other.
+ */
+public class PackedPosSet {
+
+    private static final int WORDS = 16 * 16 * 16 / Long.SIZE;
+
+    private final Long2ObjectLinkedOpenHashMap<Section> sections = new Long2ObjectLinkedOpenHashMap<>();
+    private int size;
+
+    /**
+     * @return {@code true} if the position wasn't already in the set.
+     */
+    public boolean add(long pos) {
+        long key = sectionKey(pos);
+        Section section = sections.get(key);
+        if (section == null) {
+            section = new Section();
+            sections.put(key, section);
+        }
+        int index = index(pos);
+        long bit = 1L << index;
+        int word = index >>> 6;
+        if ((section.words[word] & bit) == 0) {
+            section.words[word] |= bit;
+            section.size++;
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the position was in the set.
+     */
+    public boolean remove(long pos) {
+        long key = sectionKey(pos);
+        Section section = sections.get(key);
+        if (section != null) {
+            int index = index(pos);
+            long bit = 1L << index;
+            int word = index >>> 6;
+            if ((section.words[word] & bit) != 0) {
+                section.words[word] &= ~bit;
+                size--;
+                if (--section.size == 0) {
+                    sections.remove(key);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean contains(long pos) {
+        Section section = sections.get(sectionKey(pos));
+        if (section == null) {
+            return false;
+        }
+        int index = index(pos);
+        return (section.words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @return The first position in the set.
+     *
+     * @throws NoSuchElementException if the set is empty.
+     */
+    public long first() {
+        if (sections.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        long key = sections.firstLongKey();
+        long[] words = sections.get(key).words;
+        for (int word = 0; word < WORDS; word++) {
+            if (words[word] != 0) {
+                int index = (word << 6) | Long.numberOfTrailingZeros(words[word]);
+                return BlockPos.asLong(SectionPos.sectionToBlockCoord(SectionPos.x(key), index & 15),
+                      SectionPos.sectionToBlockCoord(SectionPos.y(key), index >>> 8), SectionPos.sectionToBlockCoord(SectionPos.z(key), (index >>> 4) & 15));
+            }
+        }
+        //Should never happen as we remove sections as soon as they become empty
+        throw new IllegalStateException("Empty section in packed position set");
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        sections.clear();
+        size = 0;
+    }
+
+    /**
+     * Writes this set to a long array. Each section is written as its key, followed by a mask of which of its words have any positions in them, followed by those
+     * words.
+     */
+    public long[] toLongArray() {
+        LongArrayList data = new LongArrayList();
+        for (Long2ObjectMap.Entry<Section> entry : sections.long2ObjectEntrySet()) {
+            long[] words = entry.getValue().words;
+            long mask = 0;
+            for (int word = 0; word < WORDS; word++) {
+                if (words[word] != 0) {
+                    mask |= 1L << word;
+                }
+            }
+            data.add(entry.getLongKey());
+            data.add(mask);
+            for (int word = 0; word < WORDS; word++) {
+                if (words[word] != 0) {
+                    data.add(words[word]);
+                }
+            }
+        }
+        return data.toLongArray();
+    }
+
+    /**
+     * Replaces the contents of this set with the positions in an array written by {@link #toLongArray()}.
+     */
+    public void fromLongArray(long[] data) {
+        clear();
+        int i = 0;
+        while (i + 1 < data.length) {
+            long key = data[i++];
+            long mask = data[i++];
+            Section section = new Section();
+            for (int word = 0; word < WORDS && i < data.length; word++) {
+                if ((mask & (1L << word)) != 0) {
+                    section.words[word] = data[i++];
+                    section.size += Long.bitCount(section.words[word]);
+                }
+            }
+            if (section.size > 0) {
+                sections.put(key, section);
+                size += section.size;
+            }
+        }
+    }
+
+    private static long sectionKey(long pos) {
+        return SectionPos.asLong(SectionPos.blockToSectionCoord(BlockPos.getX(pos)), SectionPos.blockToSectionCoord(BlockPos.getY(pos)),
+              SectionPos.blockToSectionCoord(BlockPos.getZ(pos)));
+    }
+
+    private static int index(long pos) {
+        return (SectionPos.sectionRelative(BlockPos.getY(pos)) << 8) | (SectionPos.sectionRelative(BlockPos.getZ(pos)) << 4) |
+               SectionPos.sectionRelative(BlockPos.getX(pos));
+    }
+
+    private static class Section {
+
+        private final long[] words = new long[WORDS];
+        private int size;
+    }
+}
@@ -1,5 +1,6 @@
 package mekanism.common.lib.distribution;
 
+import mekanism.api.math.FixedPoint;
 import mekanism.api.math.FloatingLong;
 
 public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
@@ -7,16 +8,56 @@ public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
     private FloatingLong amountToSplit;
     private FloatingLong amountPerTarget;
     private FloatingLong sentSoFar;
+    /**
+     * Whether the amount we are splitting fits as a {@link FixedPoint} value and the split math should be done on the primitive values below instead.
+     */
+    private boolean fixedPoint;
+    private long fixedAmountToSplit;
+    private long fixedAmountPerTarget;
+    private long fixedSentSoFar;
 
     public FloatingLongSplitInfo(FloatingLong amountToSplit, int totalTargets) {
         super(totalTargets);
-        this.amountToSplit = amountToSplit.copy();
-        amountPerTarget = toSplitAmong == 0 ? FloatingLong.ZERO : amountToSplit.divide(toSplitAmong);
-        sentSoFar = FloatingLong.ZERO;
+        this.amountToSplit = FloatingLong.ZERO.copy();
+        amountPerTarget = FloatingLong.ZERO.copy();
+        sentSoFar = FloatingLong.ZERO.copy();
+        reset(amountToSplit, totalTargets);
+    }
+
+    /**
+     * Resets this split info so that it can be reused to split a new amount between the given number of targets. The internal values are updated in place so that
+     * reusing a split info does not need to allocate any new objects.
+     *
+     * @param amountToSplit The amount to split between all the targets.
+     * @param totalTargets  The number of targets to split the amount between.
+     *
+     * @apiNote This invalidates any values previously returned by {@link #getTotalSent()}.
+     */
+    public void reset(FloatingLong amountToSplit, int totalTargets) {
+        this.toSplitAmong = totalTargets;
+        this.amountPerChanged = false;
+        fixedPoint = FixedPoint.fits(amountToSplit);
+        if (fixedPoint) {
+            fixedAmountToSplit = FixedPoint.of(amountToSplit);
+            fixedAmountPerTarget = toSplitAmong == 0 ? FixedPoint.ZERO : FixedPoint.divideByWhole(fixedAmountToSplit, toSplitAmong);
+            fixedSentSoFar = FixedPoint.ZERO;
+            amountPerTarget = FixedPoint.toFloatingLong(fixedAmountPerTarget, amountPerTarget);
+        } else {
+            this.amountToSplit = set(this.amountToSplit, amountToSplit);
+            amountPerTarget = set(amountPerTarget, amountToSplit);
+            if (toSplitAmong != 0) {
+                amountPerTarget = amountPerTarget.divideEquals(toSplitAmong);
+            }
+        }
+        sentSoFar = set(sentSoFar, FloatingLong.ZERO);
     }
 
     @Override
     public void send(FloatingLong amountNeeded) {
+        if (fixedPoint) {
+            sendFixed(FixedPoint.of(amountNeeded));
+            return;
+        }
         //If we are giving it, then lower the amount we are checking/splitting
         amountToSplit = amountToSplit.minusEqual(amountNeeded);
         sentSoFar = sentSoFar.plusEqual(amountNeeded);
@@ -24,9 +65,35 @@ public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
         //Only recalculate it if it is not willing to accept/doesn't want the
         // full per side split
         if (!amountNeeded.equals(amountPerTarget) && toSplitAmong != 0) {
-            FloatingLong amountPerLast = amountPerTarget;
-            amountPerTarget = amountToSplit.divide(toSplitAmong);
-            if (!amountPerChanged && !amountPerTarget.equals(amountPerLast)) {
+            //Keep track of the last amount as primitives as we update the amount per target in place
+            long lastValue = amountPerTarget.getValue();
+            short lastDecimal = amountPerTarget.getDecimal();
+            if (amountToSplit.isZero()) {
+                //Note: Dividing zero returns the shared zero constant instead of modifying our scratch value in place, which would then have to be copied the
+                // next time we update it, so just clear the scratch value instead
+                amountPerTarget = set(amountPerTarget, FloatingLong.ZERO);
+            } else {
+                amountPerTarget = set(amountPerTarget, amountToSplit).divideEquals(toSplitAmong);
+            }
+            if (!amountPerChanged && (amountPerTarget.getValue() != lastValue || amountPerTarget.getDecimal() != lastDecimal)) {
+                amountPerChanged = true;
+            }
+        }
+    }
+
+    private void sendFixed(long amountNeeded) {
+        //If we are giving it, then lower the amount we are checking/splitting
+        fixedAmountToSplit = FixedPoint.subtract(fixedAmountToSplit, amountNeeded);
+        fixedSentSoFar = FixedPoint.add(fixedSentSoFar, amountNeeded);
+        sentSoFar = FixedPoint.toFloatingLong(fixedSentSoFar, sentSoFar);
+        toSplitAmong--;
+        //Only recalculate it if it is not willing to accept/doesn't want the
+        // full per side split
+        if (amountNeeded != fixedAmountPerTarget && toSplitAmong != 0) {
+            long amountPerLast = fixedAmountPerTarget;
+            fixedAmountPerTarget = FixedPoint.divideByWhole(fixedAmountToSplit, toSplitAmong);
+            amountPerTarget = FixedPoint.toFloatingLong(fixedAmountPerTarget, amountPerTarget);
+            if (!amountPerChanged && fixedAmountPerTarget != amountPerLast) {
                 amountPerChanged = true;
             }
         }
@@ -48,4 +115,12 @@ public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
     public FloatingLong getTotalSent() {
         return sentSoFar;
     }
-}
\ No newline at end of file
+
+    /**
+     * Sets the given scratch value to the given value, modifying it in place if it is mutable.
+     */
+    private static FloatingLong set(FloatingLong scratch, FloatingLong value) {
+        //Subtracting a value from itself clamps it to zero in place, and then we can add the new value to it
+        return scratch.minusEqual(scratch).plusEqual(value);
+    }
+}
@@ -52,6 +52,17 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
         return handlerCount;
     }
 
+    /**
+     * Removes all handlers from this target so that it can be reused for another emission.
+     *
+     * @apiNote Only supported for targets that were not created with a fixed collection of handlers.
+     */
+    public void clear() {
+        handlers.clear();
+        needed.clear();
+        handlerCount = 0;
+    }
+
     /**
      * Sends the remaining amount to each handler we still have not settled on an amount for. We increment the amount sent in splitInfo as well as adjust the split as
      * needed if one ends up accepting less than it originally wanted. (The most likely case this would change is with multi-blocks where it may return the same desire to
@@ -88,6 +99,23 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
      */
     protected abstract TYPE simulate(HANDLER handler, EXTRA extra);
 
+    /**
+     * Simulate inserting into the handler at the given index.
+     *
+     * @param index   Index of the handler in the order the handlers were added.
+     * @param handler The handler (should correspond with the side we are simulating).
+     * @param extra   All the information we are inserting.
+     *
+     * @return The amount it was actually willing to accept.
+     *
+     * @implNote Targets that already simulated inserting into their handlers when they were added can override this to skip simulating again. This is only used until
+     * something actually gets inserted into one of the handlers, as handlers may share where they store things (for example multiple ports of a multiblock), which
+     * would make the amounts simulated before then out of date.
+     */
+    protected TYPE simulate(int index, HANDLER handler, EXTRA extra) {
+        return simulate(handler, extra);
+    }
+
     /**
      * Calculates how much each handler can take of toSend. If the amount requested is less than the amount per handler/target in splitInfo it immediately sends the
      * requested amount to the handler via {@link #acceptAmount(HANDLER, SplitInfo, Number)}
@@ -96,12 +124,16 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
      * @param splitInfo Information about current overall split.
      */
     public void sendPossible(EXTRA toSend, SplitInfo<TYPE> splitInfo) {
+        int index = 0;
+        boolean inserted = false;
         for (HANDLER entry : handlers) {
-            TYPE amountNeeded = simulate(entry, toSend);
+            TYPE amountNeeded = inserted ? simulate(entry, toSend) : simulate(index, entry, toSend);
+            index++;
             if (amountNeeded.compareTo(splitInfo.getShareAmount()) <= 0) {
                 //Add the amount, in case something changed from simulation only mark actual sent amount
                 // in split info
                 acceptAmount(entry, splitInfo, amountNeeded);
+                inserted = true;
             } else {
                 needed.add(new HandlerType<>(entry, amountNeeded));
             }
@@ -10,6 +10,7 @@ import java.util.UUID;
 import mekanism.api.NBTConstants;
 import mekanism.common.lib.collection.HashList;
 import mekanism.common.lib.frequency.Frequency.FrequencyIdentity;
+import mekanism.common.tile.base.TileSleepTracker;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
@@ -99,6 +100,8 @@ public class FrequencyManager<FREQ extends Frequency> {
             freq.onRemove();
             frequencies.remove(key);
             markDirty();
+            //Wake up any sleeping tiles so that they notice the frequency they are holding no longer exists
+            TileSleepTracker.wakeAll();
             return true;
         }
         return false;
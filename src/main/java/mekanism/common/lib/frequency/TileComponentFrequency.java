@@ -61,6 +61,13 @@ public class TileComponentFrequency implements ITileComponent {
         }
     }
 
+    /**
+     * @return {@code true} if the next tick needs to notify neighbors or save changes to the held frequencies.
+     */
+    public boolean hasPendingChanges() {
+        return needsNotify || needsSave;
+    }
+
     public void track(FrequencyType<?> type, boolean needsSync, boolean needsListCache, boolean notifyNeighbors) {
         supportedFrequencies.put(type, new FrequencyTrackingData(needsSync, needsListCache, notifyNeighbors));
     }
@@ -18,6 +18,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class CuboidStructureValidator<T extends MultiblockData> implements IStructureValidator<T> {
 
@@ -30,6 +31,11 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
     protected Level world;
     protected MultiblockManager<T> manager;
 
+    @Nullable
+    private ValidationSnapshot snapshot;
+    private int snapshotVersion;
+    private int nextLayer;
+
     public CuboidStructureValidator() {
         this(new VoxelCuboid(3, 3, 3), new VoxelCuboid(18, 18, 18));
     }
@@ -48,19 +54,74 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
 
     @Override
     public FormationResult validate(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap) {
+        FormationResult result = validate(ctx, chunkMap, Long.MAX_VALUE);
+        //Note: Without a deadline validation always finishes, but fail just in case
+        return result == null ? FormationResult.FAIL : result;
+    }
+
+    @Nullable
+    @Override
+    public FormationResult validate(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, long deadline) {
+        if (snapshot == null) {
+            snapshot = manager.getValidationSnapshot(world, cuboid);
+            snapshotVersion = snapshot.getVersion();
+        }
+        BlockPos min = cuboid.getMinPos();
+        for (int layers = cuboid.height(); nextLayer < layers; ) {
+            FormationResult ret = validateLayer(ctx, chunkMap, min.getY() + nextLayer, snapshot.getLayer(nextLayer));
+            if (!ret.isFormed()) {
+                return ret;
+            }
+            nextLayer++;
+            if (nextLayer < layers && System.nanoTime() >= deadline) {
+                return null;
+            }
+        }
+        return FormationResult.SUCCESS;
+    }
+
+    @Override
+    public boolean isOutdated() {
+        return snapshot != null && snapshot.getVersion() != snapshotVersion;
+    }
+
+    /**
+     * Validates a horizontal layer of the structure. If nothing in the layer has changed since it was last validated, the stored states are validated instead of
+     * looking each position up again, otherwise the entire layer is looked at and stored for next time.
+     */
+    private FormationResult validateLayer(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, int y, ValidationSnapshot.Layer layer) {
+        //Note: If something in the layer changed without us being notified (for example by commands), the layer won't match, and we look at it again
+        boolean reuse = layer.isValid() && layer.matches(world, chunkMap);
+        if (!reuse) {
+            layer.start();
+        }
         BlockPos min = cuboid.getMinPos(), max = cuboid.getMaxPos();
         BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        int index = 0;
         for (int x = min.getX(); x <= max.getX(); x++) {
-            for (int y = min.getY(); y <= max.getY(); y++) {
-                for (int z = min.getZ(); z <= max.getZ(); z++) {
-                    mutablePos.set(x, y, z);
-                    FormationResult ret = validateNode(ctx, chunkMap, mutablePos);
-                    if (!ret.isFormed()) {
-                        return ret;
+            for (int z = min.getZ(); z <= max.getZ(); z++, index++) {
+                mutablePos.set(x, y, z);
+                BlockState state;
+                if (reuse) {
+                    state = layer.get(index);
+                } else {
+                    Optional<BlockState> optionalState = WorldUtils.getBlockState(world, chunkMap, mutablePos);
+                    if (optionalState.isEmpty()) {
+                        //If the position is not in a loaded chunk or out of bounds of the world, fail
+                        return FormationResult.FAIL;
                     }
+                    state = optionalState.get();
+                    layer.set(index, state);
+                }
+                FormationResult ret = validateNode(ctx, chunkMap, mutablePos, state);
+                if (!ret.isFormed()) {
+                    return ret;
                 }
             }
         }
+        if (!reuse) {
+            layer.finish();
+        }
         return FormationResult.SUCCESS;
     }
 
@@ -73,7 +134,13 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
             //If the position is not in a loaded chunk or out of bounds of the world, fail
             return FormationResult.FAIL;
         }
-        BlockState state = optionalState.get();
+        return validateNode(ctx, chunkMap, pos, optionalState.get());
+    }
+
+    /**
+     * @param pos Mutable BlockPos
+     */
+    protected FormationResult validateNode(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos, BlockState state) {
         StructureRequirement requirement = getStructureRequirement(pos);
         if (requirement.isCasing()) {
             CasingType type = getCasingType(state);
@@ -20,6 +20,7 @@ import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
 
 public class FormationProtocol<T extends MultiblockData> {
 
@@ -37,6 +38,11 @@ public class FormationProtocol<T extends MultiblockData> {
     public final Set<ValveData> valves = new ObjectOpenHashSet<>();
     public final Set<UUID> idsFound = new ObjectOpenHashSet<>();
 
+    @Nullable
+    private IStructureValidator<T> validator;
+    @Nullable
+    private T structureBeingBuilt;
+
     public FormationProtocol(IMultiblock<T> tile, Structure structure) {
         pointer = tile;
         this.structure = structure;
@@ -44,17 +50,29 @@ public class FormationProtocol<T extends MultiblockData> {
     }
 
     public StructureResult buildStructure(IStructureValidator<T> validator) {
-        T structure = pointer.createMultiblock();
-        if (!structure.setShape(validator.getShape())) {
-            return fail(FormationResult.FAIL);
-        }
+        StructureResult result = buildStructure(validator, Long.MAX_VALUE);
+        //Note: Without a deadline validation always finishes, but fail just in case
+        return result == null ? fail(FormationResult.FAIL) : result;
+    }
 
+    @Nullable
+    private StructureResult buildStructure(IStructureValidator<T> validator, long deadline) {
+        if (structureBeingBuilt == null) {
+            structureBeingBuilt = pointer.createMultiblock();
+            if (!structureBeingBuilt.setShape(validator.getShape())) {
+                return fail(FormationResult.FAIL);
+            }
+        }
+        //Note: We don't keep the chunk map between calls as the chunks may have been unloaded in the meantime
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
-        FormationResult result = validator.validate(this, chunkMap);
-        if (!result.isFormed()) {
+        FormationResult result = validator.validate(this, chunkMap, deadline);
+        if (result == null) {
+            return null;
+        } else if (!result.isFormed()) {
             return fail(result);
         }
 
+        T structure = structureBeingBuilt;
         structure.locations = locations;
         structure.internalLocations = internalLocations;
         structure.valves = valves;
@@ -66,12 +84,42 @@ public class FormationProtocol<T extends MultiblockData> {
      * Runs the protocol and updates all nodes that make a part of the multiblock.
      */
     public FormationResult doUpdate() {
-        IStructureValidator<T> validator = manager.createValidator();
-        validator.init(pointer.getTileWorld(), manager, structure);
-        if (!validator.precheck()) {
-            return FormationResult.FAIL;
+        FormationResult result = doUpdate(Long.MAX_VALUE);
+        //Note: Without a deadline validation always finishes, but fail just in case
+        return result == null ? FormationResult.FAIL : result;
+    }
+
+    /**
+     * Runs the protocol until it either finishes or the given deadline passes, and updates all nodes that make a part of the multiblock if it finished. If the deadline
+     * passes, calling this again continues where it left off, or starts over if parts that were already validated have changed.
+     *
+     * @param deadline {@link System#nanoTime()} after which to stop running.
+     *
+     * @return Result of the formation, or {@code null} if it ran out of time before finishing.
+     */
+    @Nullable
+    public FormationResult doUpdate(long deadline) {
+        if (validator != null && validator.isOutdated()) {
+            //Something changed in the part of the structure we already looked at, start over
+            locations.clear();
+            internalLocations.clear();
+            valves.clear();
+            idsFound.clear();
+            validator = null;
+            structureBeingBuilt = null;
+        }
+        if (validator == null) {
+            IStructureValidator<T> validator = manager.createValidator();
+            validator.init(pointer.getTileWorld(), manager, structure);
+            if (!validator.precheck()) {
+                return FormationResult.FAIL;
+            }
+            this.validator = validator;
+        }
+        StructureResult result = buildStructure(validator, deadline);
+        if (result == null) {
+            return null;
         }
-        StructureResult result = buildStructure(validator);
         T structureFound = result.structureFound;
 
         if (structureFound != null && structureFound.locations.contains(pointer.getTilePos())) {
@@ -5,6 +5,7 @@ import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
 
 public interface IStructureValidator<T extends MultiblockData> {
 
@@ -14,6 +15,26 @@ public interface IStructureValidator<T extends MultiblockData> {
 
     FormationResult validate(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap);
 
+    /**
+     * Validates as much of the structure as possible before the given deadline, so that validating large structures can be spread out over multiple ticks. Calling
+     * this again after it returned {@code null} continues where it left off.
+     *
+     * @param deadline {@link System#nanoTime()} after which to stop validating.
+     *
+     * @return Result of the validation, or {@code null} if it ran out of time before finishing.
+     */
+    @Nullable
+    default FormationResult validate(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, long deadline) {
+        return validate(ctx, chunkMap);
+    }
+
+    /**
+     * @return {@code true} if parts of the structure that were already validated have changed since, meaning validation has to start over.
+     */
+    default boolean isOutdated() {
+        return false;
+    }
+
     FormationResult postcheck(T structure, Long2ObjectMap<ChunkAccess> chunkMap);
 
     IShape getShape();
@@ -1,22 +1,44 @@
 package mekanism.common.lib.multiblock;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import mekanism.api.Coord4D;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.lib.math.voxel.VoxelCuboid;
 import mekanism.common.tile.prefab.TileEntityMultiblock;
 import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.event.level.BlockEvent.NeighborNotifyEvent;
 import org.jetbrains.annotations.Nullable;
 
 public class MultiblockManager<T extends MultiblockData> {
 
     private static final Set<MultiblockManager<?>> managers = new ObjectOpenHashSet<>();
+    private static final int MAX_VALIDATION_SNAPSHOTS = 32;
+    /**
+     * Validation snapshots of all managers by the chunks they are in, so that block changes only have to look at the snapshots that can contain them.
+     */
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<List<ValidationSnapshot>>> snapshotsByChunk = new Object2ObjectOpenHashMap<>();
+    /**
+     * {@link System#nanoTime()} after which no more multiblocks should continue forming this tick, shared between all multiblocks so that many of them forming at
+     * once can't each use up the whole budget.
+     */
+    private static long formationDeadline;
+    private static boolean formationDeadlineSet;
 
     private final String name;
     private final String nameLower;
@@ -28,6 +50,10 @@ public class MultiblockManager<T extends MultiblockData> {
      * A map containing references to all multiblock inventory caches.
      */
     public final Map<UUID, CacheWrapper> inventories = new Object2ObjectOpenHashMap<>();
+    /**
+     * Snapshots of the most recently validated structures in each dimension, ordered from least to most recently used.
+     */
+    private final Map<ResourceKey<Level>, List<ValidationSnapshot>> validationSnapshots = new Object2ObjectOpenHashMap<>();
 
     public MultiblockManager(String name, Supplier<MultiblockCache<T>> cacheSupplier, Supplier<IStructureValidator<T>> validatorSupplier) {
         this.name = name;
@@ -65,10 +91,95 @@ public class MultiblockManager<T extends MultiblockData> {
         return false;
     }
 
+    /**
+     * Called at the start of each server tick so that multiblocks get a fresh formation budget.
+     */
+    public static void tickStart() {
+        formationDeadlineSet = false;
+    }
+
+    /**
+     * Gets the deadline multiblocks that are forming over multiple ticks should stop forming by this tick. The deadline is calculated the first time it is needed each
+     * tick, so that the first multiblock to continue forming always gets the full {@link mekanism.common.config.GeneralConfig#multiblockFormationBudget budget}.
+     */
+    static long getFormationDeadline() {
+        if (!formationDeadlineSet) {
+            formationDeadlineSet = true;
+            formationDeadline = System.nanoTime() + MekanismConfig.general.multiblockFormationBudget.get() * 1_000L;
+        }
+        return formationDeadline;
+    }
+
     public static void reset() {
+        formationDeadlineSet = false;
+        snapshotsByChunk.clear();
         for (MultiblockManager<?> manager : managers) {
             manager.inventories.clear();
+            manager.validationSnapshots.clear();
+        }
+    }
+
+    public static void onNeighborNotify(NeighborNotifyEvent event) {
+        if (event.getLevel() instanceof Level level && !level.isClientSide()) {
+            Long2ObjectMap<List<ValidationSnapshot>> chunks = snapshotsByChunk.get(level.dimension());
+            if (chunks != null) {
+                BlockPos pos = event.getPos();
+                List<ValidationSnapshot> snapshots = chunks.get(ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ())));
+                if (snapshots != null) {
+                    for (ValidationSnapshot snapshot : snapshots) {
+                        if (snapshot.contains(pos)) {
+                            snapshot.markChanged(pos);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addToChunks(ResourceKey<Level> dimension, ValidationSnapshot snapshot) {
+        Long2ObjectMap<List<ValidationSnapshot>> chunks = snapshotsByChunk.computeIfAbsent(dimension, dim -> new Long2ObjectOpenHashMap<>());
+        for (long chunk : snapshot.getChunks()) {
+            chunks.computeIfAbsent(chunk, c -> new ArrayList<>()).add(snapshot);
+        }
+    }
+
+    private static void removeFromChunks(ResourceKey<Level> dimension, ValidationSnapshot snapshot) {
+        Long2ObjectMap<List<ValidationSnapshot>> chunks = snapshotsByChunk.get(dimension);
+        if (chunks != null) {
+            for (long chunk : snapshot.getChunks()) {
+                List<ValidationSnapshot> snapshots = chunks.get(chunk);
+                if (snapshots != null && snapshots.remove(snapshot) && snapshots.isEmpty()) {
+                    chunks.remove(chunk);
+                }
+            }
+            if (chunks.isEmpty()) {
+                snapshotsByChunk.remove(dimension);
+            }
+        }
+    }
+
+    /**
+     * Gets the snapshot of the last validation of the given cuboid, or creates an empty one if there isn't one.
+     */
+    ValidationSnapshot getValidationSnapshot(Level world, VoxelCuboid cuboid) {
+        List<ValidationSnapshot> snapshots = validationSnapshots.computeIfAbsent(world.dimension(), dimension -> new ArrayList<>());
+        for (int i = 0, size = snapshots.size(); i < size; i++) {
+            ValidationSnapshot snapshot = snapshots.get(i);
+            if (snapshot.matches(cuboid)) {
+                if (i < size - 1) {
+                    //Move it to the end, so it is the most recently used
+                    snapshots.add(snapshots.remove(i));
+                }
+                return snapshot;
+            }
+        }
+        ValidationSnapshot snapshot = new ValidationSnapshot(cuboid);
+        snapshots.add(snapshot);
+        addToChunks(world.dimension(), snapshot);
+        if (snapshots.size() > MAX_VALIDATION_SNAPSHOTS) {
+            removeFromChunks(world.dimension(), snapshots.remove(0));
         }
+        return snapshot;
     }
 
     public void invalidate(IMultiblock<?> multiblock) {
@@ -11,6 +11,9 @@ import java.util.NavigableMap;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.ToIntFunction;
+import mekanism.api.MekanismAPI;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.lib.math.voxel.BlockPosBuilder;
 import mekanism.common.lib.math.voxel.VoxelPlane;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
@@ -21,6 +24,7 @@ import net.minecraft.core.Vec3i;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
 
 public class Structure {
 
@@ -39,6 +43,13 @@ public class Structure {
     private MultiblockData multiblockData;
     private IMultiblock<?> controller;
 
+    /**
+     * Formation that is being spread out over multiple ticks as it ran out of time.
+     */
+    @Nullable
+    private FormationProtocol<?> pendingFormation;
+    private long pendingFormationTick;
+
     private Structure() {
     }
 
@@ -96,6 +107,7 @@ public class Structure {
     public void markForUpdate(Level world, boolean invalidate) {
         updateTimestamp = world.getGameTime();
         didUpdate = false;
+        pendingFormation = null;
         if (invalidate) {
             invalidate(world);
         } else {
@@ -108,13 +120,39 @@ public class Structure {
         updateTimestamp = tile.getLevel().getGameTime() - 1;
         didUpdate = false;
         invalidate(tile.getLevel());
-        tick(tile, tryValidate);
+        tick(tile, tryValidate, true);
     }
 
     public <TILE extends BlockEntity & IMultiblockBase> void tick(TILE tile, boolean tryValidate) {
-        if (!didUpdate && updateTimestamp == tile.getLevel().getGameTime() - 1) {
+        tick(tile, tryValidate, false);
+    }
+
+    private <TILE extends BlockEntity & IMultiblockBase> void tick(TILE tile, boolean tryValidate, boolean immediate) {
+        long gameTime = tile.getLevel().getGameTime();
+        if (!didUpdate && updateTimestamp == gameTime - 1) {
             didUpdate = true;
-            runUpdate(tile);
+            int budget = MekanismConfig.general.multiblockFormationBudget.get();
+            if (immediate || budget == 0 || getController() == null || multiblockData != null) {
+                runUpdate(tile);
+            } else {
+                pendingFormation = getController().createFormationProtocol();
+                pendingFormationTick = gameTime - 1;
+            }
+        }
+        if (pendingFormation != null && pendingFormationTick != gameTime) {
+            //Note: Every node of the structure ticks it, so make sure we only continue forming it once per tick
+            pendingFormationTick = gameTime;
+            //The budget is shared between all multiblocks, so if others already used it up this tick wait until next tick
+            long deadline = MultiblockManager.getFormationDeadline();
+            if (System.nanoTime() >= deadline) {
+                if (MekanismAPI.debug) {
+                    Mekanism.logger.info("No formation time left this tick for multiblock at {}, continuing next tick", tile.getBlockPos());
+                }
+            } else if (pendingFormation.doUpdate(deadline) != null) {
+                pendingFormation = null;
+            } else if (MekanismAPI.debug) {
+                Mekanism.logger.info("Ran out of time forming multiblock at {}, continuing next tick", tile.getBlockPos());
+            }
         }
         if (tryValidate && !isValid()) {
             validate(tile, new Long2ObjectOpenHashMap<>());
@@ -122,6 +160,8 @@ public class Structure {
     }
 
     public <TILE extends BlockEntity & IMultiblockBase> FormationResult runUpdate(TILE tile) {
+        //Any formation that was in progress is superseded by this one
+        pendingFormation = null;
         if (getController() != null && multiblockData == null) {
             return getController().createFormationProtocol().doUpdate();
         }
@@ -206,6 +246,7 @@ public class Structure {
     public void invalidate(Level world) {
         removeMultiblock(world);
         valid = false;
+        pendingFormation = null;
     }
 
     public void removeMultiblock(Level world) {
@@ -0,0 +1,133 @@
+package mekanism.common.lib.multiblock;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import java.util.Optional;
+import mekanism.common.lib.math.voxel.VoxelCuboid;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+
+/**
+ * Block states seen the last time a cuboid structure was validated, stored per horizontal layer of the structure. When the structure gets validated again, for
+ * example after the chunks it is in get reloaded, layers that had blocks change in them since then are looked at from scratch, and the others are validated from the
+ * stored states after making sure they still match the world.
+ */
+class ValidationSnapshot {
+
+    private final BlockPos minPos;
+    private final BlockPos maxPos;
+    private final long[] chunks;
+    private final Layer[] layers;
+    private int version;
+
+    ValidationSnapshot(VoxelCuboid cuboid) {
+        this.minPos = cuboid.getMinPos().immutable();
+        this.maxPos = cuboid.getMaxPos().immutable();
+        int minChunkX = SectionPos.blockToSectionCoord(minPos.getX()), maxChunkX = SectionPos.blockToSectionCoord(maxPos.getX());
+        int minChunkZ = SectionPos.blockToSectionCoord(minPos.getZ()), maxChunkZ = SectionPos.blockToSectionCoord(maxPos.getZ());
+        this.chunks = new long[(maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1)];
+        int chunk = 0;
+        for (int x = minChunkX; x <= maxChunkX; x++) {
+            for (int z = minChunkZ; z <= maxChunkZ; z++) {
+                chunks[chunk++] = ChunkPos.asLong(x, z);
+            }
+        }
+        int layerSize = (maxPos.getX() - minPos.getX() + 1) * (maxPos.getZ() - minPos.getZ() + 1);
+        this.layers = new Layer[cuboid.height()];
+        for (int i = 0; i < layers.length; i++) {
+            layers[i] = new Layer(minPos.getY() + i, layerSize);
+        }
+    }
+
+    boolean matches(VoxelCuboid cuboid) {
+        return minPos.equals(cuboid.getMinPos()) && maxPos.equals(cuboid.getMaxPos());
+    }
+
+    boolean contains(BlockPos pos) {
+        return pos.getX() >= minPos.getX() && pos.getX() <= maxPos.getX() && pos.getY() >= minPos.getY() && pos.getY() <= maxPos.getY() &&
+               pos.getZ() >= minPos.getZ() && pos.getZ() <= maxPos.getZ();
+    }
+
+    /**
+     * @return Packed {@link ChunkPos positions} of the chunks the structure is in.
+     */
+    long[] getChunks() {
+        return chunks;
+    }
+
+    /**
+     * Marks the layer containing the given position as needing to be looked up in the world again.
+     */
+    void markChanged(BlockPos pos) {
+        layers[pos.getY() - minPos.getY()].valid = false;
+        version++;
+    }
+
+    /**
+     * @return Counter that gets incremented every time a block in the structure changes.
+     */
+    int getVersion() {
+        return version;
+    }
+
+    Layer getLayer(int layer) {
+        return layers[layer];
+    }
+
+    /**
+     * States of every position in a layer, including the air inside the structure, ordered by x and then z.
+     */
+    class Layer {
+
+        private final int y;
+        private final BlockState[] states;
+        private boolean valid;
+
+        private Layer(int y, int size) {
+            this.y = y;
+            this.states = new BlockState[size];
+        }
+
+        boolean isValid() {
+            return valid;
+        }
+
+        void start() {
+            valid = false;
+        }
+
+        BlockState get(int index) {
+            return states[index];
+        }
+
+        void set(int index, BlockState state) {
+            states[index] = state;
+        }
+
+        void finish() {
+            valid = true;
+        }
+
+        /**
+         * Checks if the blocks that were stored are still the same. This looks at every position, including the air inside the structure, so that blocks that got
+         * changed without causing block updates (for example by commands) are noticed as well.
+         */
+        boolean matches(Level world, Long2ObjectMap<ChunkAccess> chunkMap) {
+            BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+            int index = 0;
+            for (int x = minPos.getX(); x <= maxPos.getX(); x++) {
+                for (int z = minPos.getZ(); z <= maxPos.getZ(); z++) {
+                    Optional<BlockState> state = WorldUtils.getBlockState(world, chunkMap, mutablePos.set(x, y, z));
+                    if (state.isEmpty() || state.get() != states[index++]) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import mekanism.api.Chunk3D;
+import mekanism.api.Coord4D;
+import mekanism.common.lib.radiation.RadiationManager.LevelAndMaxMagnitude;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Spatial index of radiation sources that keeps track of the bounds of the sources in each chunk section, so that calculating the radiation level at a position can
+ * skip chunks that don't have any sources in range of the position without looking at each of their sources. The radiation level is still the exact sum of the
+ * exposure of each source in range, the same as when looking at every source in the chunks around the position.
+ */
+class RadiationFieldIndex {
+
+    private final Map<ResourceKey<Level>, Long2ObjectMap<ChunkRadiation>> dimensions = new Object2ObjectOpenHashMap<>();
+
+    /**
+     * Adds the given source to the bounds of the sources in its chunk.
+     *
+     * @param chunkSources Live view of the sources in the source's chunk.
+     */
+    void radiate(Chunk3D chunk, Map<Coord4D, RadiationSource> chunkSources, RadiationSource source) {
+        dimensions.computeIfAbsent(chunk.dimension, dimension -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(chunk.toLong(), pos -> new ChunkRadiation(chunk, chunkSources))
+              .radiate(source.getPos());
+    }
+
+    /**
+     * Recalculates the bounds of the sources in the given chunk, removing it if there are none left.
+     */
+    void update(Chunk3D chunk) {
+        Long2ObjectMap<ChunkRadiation> chunks = dimensions.get(chunk.dimension);
+        if (chunks != null) {
+            ChunkRadiation chunkRadiation = chunks.get(chunk.toLong());
+            if (chunkRadiation != null && !chunkRadiation.recalculate()) {
+                remove(chunks, chunk);
+            }
+        }
+    }
+
+    /**
+     * Updates the given chunk after all the sources in it decayed, removing it if there are none left.
+     *
+     * @param removedAny {@code true} if any sources were removed from the chunk by decaying.
+     */
+    void decay(Chunk3D chunk, boolean removedAny) {
+        //Decaying only changes the magnitude of the remaining sources, so the bounds only need to be recalculated if any sources were removed
+        if (removedAny) {
+            update(chunk);
+        }
+    }
+
+    void remove(Chunk3D chunk) {
+        Long2ObjectMap<ChunkRadiation> chunks = dimensions.get(chunk.dimension);
+        if (chunks != null) {
+            remove(chunks, chunk);
+        }
+    }
+
+    private void remove(Long2ObjectMap<ChunkRadiation> chunks, Chunk3D chunk) {
+        chunks.remove(chunk.toLong());
+        if (chunks.isEmpty()) {
+            dimensions.remove(chunk.dimension);
+        }
+    }
+
+    void clear() {
+        dimensions.clear();
+    }
+
+    /**
+     * Calculates the radiation level and max magnitude of the sources at the given position.
+     *
+     * @param coord       Position.
+     * @param chunkRadius Radius in chunks to look for sources in.
+     * @param maxRange    Max distance in blocks sources can be from the position.
+     */
+    LevelAndMaxMagnitude getLevelAndMaxMagnitude(Coord4D coord, int chunkRadius, int maxRange) {
+        double level = RadiationManager.BASELINE;
+        double maxMagnitude = RadiationManager.BASELINE;
+        Long2ObjectMap<ChunkRadiation> chunks = dimensions.get(coord.dimension);
+        if (chunks != null) {
+            double maxRangeSquared = (double) maxRange * maxRange;
+            for (ChunkRadiation chunkRadiation : getChunksInRange(chunks, coord.getX() >> 4, coord.getZ() >> 4, chunkRadius)) {
+                if (chunkRadiation.anyInRange(coord.getX(), coord.getY(), coord.getZ(), coord.getX(), coord.getY(), coord.getZ(), maxRangeSquared)) {
+                    for (RadiationSource source : chunkRadiation.sources.values()) {
+                        // we only compute exposure when within the max range bounds
+                        if (source.getPos().distanceTo(coord) <= maxRange) {
+                            level += computeExposure(coord, source);
+                            maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
+                        }
+                    }
+                }
+            }
+        }
+        return new LevelAndMaxMagnitude(level, maxMagnitude);
+    }
+
+    /**
+     * Gathers the sources that may be in range of any position in the given chunk section, so that the radiation level of many positions in the section can be
+     * calculated without having to look at the chunks around each position separately.
+     *
+     * @param sectionPos  Position of the section, as a packed {@link SectionPos}.
+     * @param chunkRadius Radius in chunks to look for sources in.
+     * @param maxRange    Max distance in blocks sources can be from a position.
+     *
+     * @return Radiation in the section, or {@code null} if there is no radiation in the dimension.
+     */
+    @Nullable
+    SectionField getSectionField(ResourceKey<Level> dimension, long sectionPos, int chunkRadius, int maxRange) {
+        Long2ObjectMap<ChunkRadiation> chunks = dimensions.get(dimension);
+        if (chunks == null) {
+            return null;
+        }
+        int minX = SectionPos.sectionToBlockCoord(SectionPos.x(sectionPos));
+        int minY = SectionPos.sectionToBlockCoord(SectionPos.y(sectionPos));
+        int minZ = SectionPos.sectionToBlockCoord(SectionPos.z(sectionPos));
+        double maxRangeSquared = (double) maxRange * maxRange;
+        SectionField field = new SectionField(maxRange);
+        for (ChunkRadiation chunkRadiation : getChunksInRange(chunks, SectionPos.x(sectionPos), SectionPos.z(sectionPos), chunkRadius)) {
+            if (chunkRadiation.anyInRange(minX, minY, minZ, minX + 15, minY + 15, minZ + 15, maxRangeSquared)) {
+                field.sources.addAll(chunkRadiation.sources.values());
+            }
+        }
+        return field;
+    }
+
+    /**
+     * Gets the chunks with radiation that are in the same area as {@link Chunk3D#expand(int)} would be.
+     */
+    private static List<ChunkRadiation> getChunksInRange(Long2ObjectMap<ChunkRadiation> chunks, int chunkX, int chunkZ, int chunkRadius) {
+        if (chunkRadius == 1) {
+            //Note: Chunk3D#expand treats a radius of one as only being the center chunk, so we do the same to keep the config behaving the same
+            chunkRadius = 0;
+        }
+        List<ChunkRadiation> inRange = new ArrayList<>();
+        int diameter = 2 * chunkRadius + 1;
+        if (chunks.size() < diameter * diameter) {
+            //If there are fewer chunks with radiation than chunks in range, check the chunks with radiation
+            for (ChunkRadiation chunkRadiation : chunks.values()) {
+                if (Math.abs(chunkRadiation.chunk.x - chunkX) <= chunkRadius && Math.abs(chunkRadiation.chunk.z - chunkZ) <= chunkRadius) {
+                    inRange.add(chunkRadiation);
+                }
+            }
+        } else {
+            for (int x = chunkX - chunkRadius; x <= chunkX + chunkRadius; x++) {
+                for (int z = chunkZ - chunkRadius; z <= chunkZ + chunkRadius; z++) {
+                    ChunkRadiation chunkRadiation = chunks.get(ChunkPos.asLong(x, z));
+                    if (chunkRadiation != null) {
+                        inRange.add(chunkRadiation);
+                    }
+                }
+            }
+        }
+        return inRange;
+    }
+
+    static double computeExposure(Coord4D coord, RadiationSource source) {
+        return source.getMagnitude() / Math.max(1, coord.distanceToSquared(source.getPos()));
+    }
+
+    /**
+     * @return Squared distance between the closest points of the two given boxes.
+     */
+    private static double distanceSquared(int minX1, int minY1, int minZ1, int maxX1, int maxY1, int maxZ1, int minX2, int minY2, int minZ2, int maxX2, int maxY2,
+          int maxZ2) {
+        double x = Math.max(0, Math.max(minX1 - maxX2, minX2 - maxX1));
+        double y = Math.max(0, Math.max(minY1 - maxY2, minY2 - maxY1));
+        double z = Math.max(0, Math.max(minZ1 - maxZ2, minZ2 - maxZ1));
+        return x * x + y * y + z * z;
+    }
+
+    /**
+     * Sources that may affect a chunk section.
+     */
+    static class SectionField {
+
+        private final int maxRange;
+        private final List<RadiationSource> sources = new ArrayList<>();
+
+        private SectionField(int maxRange) {
+            this.maxRange = maxRange;
+        }
+
+        /**
+         * @return {@code true} if nothing in the section can be affected by radiation.
+         */
+        boolean isEmpty() {
+            return sources.isEmpty();
+        }
+
+        /**
+         * Calculates the radiation level at the given position in the section.
+         */
+        double getLevel(Coord4D coord) {
+            double level = RadiationManager.BASELINE;
+            for (RadiationSource source : sources) {
+                // we only compute exposure when within the max range bounds
+                if (source.getPos().distanceTo(coord) <= maxRange) {
+                    level += computeExposure(coord, source);
+                }
+            }
+            return level;
+        }
+    }
+
+    private static class ChunkRadiation {
+
+        private final Chunk3D chunk;
+        private final Map<Coord4D, RadiationSource> sources;
+        /**
+         * Bounds of the sources in each section of the chunk, keyed by section y.
+         */
+        private final Int2ObjectMap<SectionBounds> sections = new Int2ObjectOpenHashMap<>();
+
+        private ChunkRadiation(Chunk3D chunk, Map<Coord4D, RadiationSource> sources) {
+            this.chunk = chunk;
+            this.sources = sources;
+        }
+
+        private void radiate(Coord4D pos) {
+            int sectionY = SectionPos.blockToSectionCoord(pos.getY());
+            SectionBounds section = sections.get(sectionY);
+            if (section == null) {
+                section = new SectionBounds();
+                sections.put(sectionY, section);
+            }
+            section.include(pos);
+        }
+
+        /**
+         * @return {@code false} if there are no sources left in the chunk.
+         */
+        private boolean recalculate() {
+            sections.clear();
+            for (Coord4D pos : sources.keySet()) {
+                radiate(pos);
+            }
+            return !sources.isEmpty();
+        }
+
+        /**
+         * @return {@code true} if any source in this chunk may be within range of a position in the given box.
+         */
+        private boolean anyInRange(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, double maxRangeSquared) {
+            for (SectionBounds section : sections.values()) {
+                if (distanceSquared(minX, minY, minZ, maxX, maxY, maxZ, section.minX, section.minY, section.minZ, section.maxX, section.maxY, section.maxZ) <=
+                    maxRangeSquared) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class SectionBounds {
+
+        private int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        private int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+
+        private void include(Coord4D pos) {
+            minX = Math.min(minX, pos.getX());
+            minY = Math.min(minY, pos.getY());
+            minZ = Math.min(minZ, pos.getZ());
+            maxX = Math.max(maxX, pos.getX());
+            maxY = Math.max(maxY, pos.getY());
+            maxZ = Math.max(maxZ, pos.getZ());
+        }
+    }
+}
@@ -3,20 +3,22 @@ package mekanism.common.lib.radiation;
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.IntSupplier;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import mekanism.api.Chunk3D;
 import mekanism.api.Coord4D;
@@ -27,7 +29,6 @@ import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasHandler;
 import mekanism.api.chemical.gas.IGasTank;
 import mekanism.api.chemical.gas.attribute.GasAttributes.Radiation;
-import mekanism.api.functions.ConstantPredicates;
 import mekanism.api.radiation.IRadiationManager;
 import mekanism.api.radiation.IRadiationSource;
 import mekanism.api.radiation.capability.IRadiationEntity;
@@ -37,6 +38,7 @@ import mekanism.common.Mekanism;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.lib.collection.HashList;
+import mekanism.common.lib.radiation.RadiationFieldIndex.SectionField;
 import mekanism.common.network.to_client.PacketRadiationData;
 import mekanism.common.registries.MekanismDamageSource;
 import mekanism.common.registries.MekanismParticleTypes;
@@ -45,12 +47,14 @@ import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.world.damagesource.DamageSource;
@@ -63,8 +67,6 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.saveddata.SavedData;
 import net.minecraft.world.level.storage.DimensionDataStorage;
 import net.minecraftforge.common.util.LazyOptional;
-import net.minecraftforge.event.entity.living.LivingEvent.LivingTickEvent;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -110,6 +112,13 @@ public class RadiationManager implements IRadiationManager {
 
     private final Table<Chunk3D, Coord4D, RadiationSource> radiationTable = HashBasedTable.create();
     private final Table<Chunk3D, Coord4D, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
+    private final RadiationFieldIndex fieldIndex = new RadiationFieldIndex();
+    /**
+     * Non player entities with a high enough dose for radiation to have any effects on them, by dimension. Updated each time entity radiation is processed.
+     */
+    private final Map<ResourceKey<Level>, List<LivingEntity>> irradiatedEntities = new Object2ObjectOpenHashMap<>();
+    private final Set<ResourceKey<Level>> pendingClientUpdates = new ObjectOpenHashSet<>();
+    private boolean pendingClientUpdateAll;
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Object2DoubleMap<UUID> playerEnvironmentalExposureMap = new Object2DoubleOpenHashMap<>();
@@ -177,6 +186,7 @@ public class RadiationManager implements IRadiationManager {
         Map<Coord4D, RadiationSource> chunkSources = radiationTable.row(chunk);
         if (!chunkSources.isEmpty()) {
             chunkSources.clear();
+            fieldIndex.remove(chunk);
             markDirty();
             updateClientRadiationForAll(chunk.dimension);
         }
@@ -187,6 +197,7 @@ public class RadiationManager implements IRadiationManager {
         Chunk3D chunk = new Chunk3D(coord);
         if (radiationTable.contains(chunk, coord)) {
             radiationTable.remove(chunk, coord);
+            fieldIndex.update(chunk);
             markDirty();
             updateClientRadiationForAll(coord.dimension);
         }
@@ -202,19 +213,7 @@ public class RadiationManager implements IRadiationManager {
     }
 
     public LevelAndMaxMagnitude getRadiationLevelAndMaxMagnitude(Coord4D coord) {
-        double level = BASELINE;
-        double maxMagnitude = BASELINE;
-        for (Chunk3D chunk : new Chunk3D(coord).expand(MekanismConfig.general.radiationChunkCheckRadius.get())) {
-            for (Map.Entry<Coord4D, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                // we only compute exposure when within the MAX_RANGE bounds
-                if (entry.getKey().distanceTo(coord) <= MAX_RANGE.getAsInt()) {
-                    RadiationSource source = entry.getValue();
-                    level += computeExposure(coord, source);
-                    maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
-                }
-            }
-        }
-        return new LevelAndMaxMagnitude(level, maxMagnitude);
+        return fieldIndex.getLevelAndMaxMagnitude(coord, MekanismConfig.general.radiationChunkCheckRadius.get(), MAX_RANGE.getAsInt());
     }
 
     @Override
@@ -222,15 +221,18 @@ public class RadiationManager implements IRadiationManager {
         if (!isRadiationEnabled()) {
             return;
         }
-        Map<Coord4D, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(coord));
+        Chunk3D chunk = new Chunk3D(coord);
+        Map<Coord4D, RadiationSource> radiationSourceMap = radiationTable.row(chunk);
         RadiationSource src = radiationSourceMap.get(coord);
         if (src == null) {
-            radiationSourceMap.put(coord, new RadiationSource(coord, magnitude));
+            src = new RadiationSource(coord, magnitude);
+            radiationSourceMap.put(coord, src);
         } else {
             src.radiate(magnitude);
         }
+        fieldIndex.radiate(chunk, radiationSourceMap, src);
         markDirty();
-        //Update radiation levels immediately
+        //Update radiation levels for players at the end of the tick
         updateClientRadiationForAll(coord.dimension);
     }
 
@@ -280,15 +282,12 @@ public class RadiationManager implements IRadiationManager {
     public void clearSources() {
         if (!radiationTable.isEmpty()) {
             radiationTable.clear();
+            fieldIndex.clear();
             markDirty();
-            updateClientRadiationForAll(ConstantPredicates.alwaysTrue());
+            updateClientRadiationForAll();
         }
     }
 
-    private double computeExposure(Coord4D coord, RadiationSource source) {
-        return source.getMagnitude() / Math.max(1, coord.distanceToSquared(source.getPos()));
-    }
-
     private double getRadiationResistance(LivingEntity entity) {
         double resistance = 0;
         for (EquipmentSlot type : EnumUtils.ARMOR_SLOTS) {
@@ -301,20 +300,36 @@ public class RadiationManager implements IRadiationManager {
         return resistance;
     }
 
+    /**
+     * Marks the radiation levels of players in the given dimension as needing to be updated. The update happens at the end of the tick, so that things that radiate
+     * many times a tick only cause the players' radiation levels to be calculated once.
+     */
     private void updateClientRadiationForAll(ResourceKey<Level> dimension) {
-        updateClientRadiationForAll(player -> player.getLevel().dimension() == dimension);
+        if (!pendingClientUpdateAll) {
+            pendingClientUpdates.add(dimension);
+        }
     }
 
-    private void updateClientRadiationForAll(Predicate<ServerPlayer> clearForPlayer) {
+    private void updateClientRadiationForAll() {
+        pendingClientUpdateAll = true;
+        pendingClientUpdates.clear();
+    }
+
+    private void flushClientRadiationUpdates() {
+        if (!pendingClientUpdateAll && pendingClientUpdates.isEmpty()) {
+            return;
+        }
         MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
         if (server != null) {
             //Validate it is not null in case we somehow are being called from the client or at some other unexpected time
             for (ServerPlayer player : server.getPlayerList().getPlayers()) {
-                if (clearForPlayer.test(player)) {
+                if (pendingClientUpdateAll || pendingClientUpdates.contains(player.getLevel().dimension())) {
                     updateClientRadiation(player);
                 }
             }
         }
+        pendingClientUpdateAll = false;
+        pendingClientUpdates.clear();
     }
 
     public void updateClientRadiation(ServerPlayer player) {
@@ -370,40 +385,89 @@ public class RadiationManager implements IRadiationManager {
         updateEntityRadiation(player);
     }
 
-    private void updateEntityRadiation(LivingEntity entity) {
+    private void updateEntityRadiation(ServerPlayer player) {
         // terminate early if we're disabled
         if (!isRadiationEnabled()) {
             return;
         }
-        LazyOptional<IRadiationEntity> radiationCap = entity.getCapability(Capabilities.RADIATION_ENTITY);
+        LazyOptional<IRadiationEntity> radiationCap = player.getCapability(Capabilities.RADIATION_ENTITY);
         // each tick, there is a 1/20 chance we will apply radiation to each player
         // this helps distribute the CPU load across ticks, and makes exposure slightly inconsistent
-        if (entity.level.getRandom().nextInt(20) == 0) {
-            double magnitude = getRadiationLevel(entity);
-            if (magnitude > BASELINE && (!(entity instanceof Player player) || MekanismUtils.isPlayingMode(player))) {
+        if (player.level.getRandom().nextInt(20) == 0) {
+            double magnitude = getRadiationLevel(player);
+            if (magnitude > BASELINE && MekanismUtils.isPlayingMode(player)) {
                 // apply radiation to the player
-                radiate(entity, magnitude / 3_600D); // convert to Sv/s
+                radiate(player, magnitude / 3_600D); // convert to Sv/s
             }
             radiationCap.ifPresent(IRadiationEntity::decay);
         }
         // update the radiation capability (decay, sync, effects)
         radiationCap.ifPresent(c -> {
-            c.update(entity);
-            if (entity instanceof ServerPlayer player) {
-                double radiation = c.getRadiation();
-                double scaledRadiation = Math.ceil(radiation / BASELINE);
-                //If the last sync radiation value is different in magnitude by over the baseline, sync
-                // Note: If it is not present this will always be marked as needing a sync as it is not possible for scaledMagnitude
-                // to be zero as magnitude will always be at least BASELINE
-                if (scaledRadiation != playerExposureMap.getOrDefault(player.getUUID(), 0)) {
-                    playerExposureMap.put(player.getUUID(), scaledRadiation);
-                    Mekanism.packetHandler().sendTo(PacketRadiationData.createPlayer(radiation), player);
-                }
+            c.update(player);
+            double radiation = c.getRadiation();
+            double scaledRadiation = Math.ceil(radiation / BASELINE);
+            //If the last sync radiation value is different in magnitude by over the baseline, sync
+            // Note: If it is not present this will always be marked as needing a sync as it is not possible for scaledMagnitude
+            // to be zero as magnitude will always be at least BASELINE
+            if (scaledRadiation != playerExposureMap.getOrDefault(player.getUUID(), 0)) {
+                playerExposureMap.put(player.getUUID(), scaledRadiation);
+                Mekanism.packetHandler().sendTo(PacketRadiationData.createPlayer(radiation), player);
             }
         });
     }
 
-    public void tickServerWorld(Level world) {
+    /**
+     * Processes the radiation of all the non player entities in the given world in one batch, grouped by chunk section so that the radiation around each section
+     * only has to be looked up once.
+     */
+    private void updateEntityRadiation(ServerLevel world, int updateRate) {
+        ResourceKey<Level> dimension = world.dimension();
+        int chunkRadius = MekanismConfig.general.radiationChunkCheckRadius.get();
+        int maxRange = MAX_RANGE.getAsInt();
+        long gameTime = world.getGameTime();
+        //Dosage decays roughly once per second, so figure out how many seconds have passed since the last time we processed entities
+        long decays = gameTime / 20 - (gameTime - updateRate) / 20;
+        //Convert the level from Sv/h to Sv, based on how long it has been since we last processed entities
+        double exposureScale = updateRate / (20 * 3_600D);
+        Long2ObjectMap<List<LivingEntity>> entitiesBySection = new Long2ObjectOpenHashMap<>();
+        for (Entity entity : world.getAllEntities()) {
+            if (entity instanceof LivingEntity living && !(entity instanceof Player) && entity.isAlive() && world.isPositionEntityTicking(entity.blockPosition())) {
+                entitiesBySection.computeIfAbsent(SectionPos.asLong(entity.blockPosition()), pos -> new ArrayList<>()).add(living);
+            }
+        }
+        List<LivingEntity> irradiated = new ArrayList<>();
+        for (Long2ObjectMap.Entry<List<LivingEntity>> entry : entitiesBySection.long2ObjectEntrySet()) {
+            SectionField field = fieldIndex.getSectionField(dimension, entry.getLongKey(), chunkRadius, maxRange);
+            if (field != null && field.isEmpty()) {
+                field = null;
+            }
+            for (LivingEntity entity : entry.getValue()) {
+                Optional<IRadiationEntity> radiationCap = entity.getCapability(Capabilities.RADIATION_ENTITY).resolve();
+                if (radiationCap.isPresent()) {
+                    IRadiationEntity cap = radiationCap.get();
+                    if (field != null) {
+                        double magnitude = field.getLevel(new Coord4D(entity));
+                        if (magnitude > BASELINE) {
+                            cap.radiate(magnitude * exposureScale * (1 - Math.min(1, getRadiationResistance(entity))));
+                        }
+                    }
+                    for (long i = 0; i < decays; i++) {
+                        cap.decay();
+                    }
+                    if (cap.getRadiation() >= MIN_MAGNITUDE) {
+                        irradiated.add(entity);
+                    }
+                }
+            }
+        }
+        if (irradiated.isEmpty()) {
+            irradiatedEntities.remove(dimension);
+        } else {
+            irradiatedEntities.put(dimension, irradiated);
+        }
+    }
+
+    public void tickServerWorld(ServerLevel world) {
         // terminate early if we're disabled
         if (!isRadiationEnabled()) {
             return;
@@ -412,6 +476,20 @@ public class RadiationManager implements IRadiationManager {
             createOrLoad();
         }
 
+        int updateRate = MekanismConfig.general.radiationEntityUpdateRate.get();
+        if (world.getGameTime() % updateRate == 0) {
+            updateEntityRadiation(world, updateRate);
+        }
+        // apply the effects of radiation to any irradiated entities each tick
+        List<LivingEntity> irradiated = irradiatedEntities.get(world.dimension());
+        if (irradiated != null) {
+            for (LivingEntity entity : irradiated) {
+                if (entity.isAlive()) {
+                    entity.getCapability(Capabilities.RADIATION_ENTITY).ifPresent(c -> c.update(entity));
+                }
+            }
+        }
+
         // update meltdowns
         List<Meltdown> dimensionMeltdowns = meltdowns.getOrDefault(world.dimension().location(), Collections.emptyList());
         if (!dimensionMeltdowns.isEmpty()) {
@@ -429,16 +507,20 @@ public class RadiationManager implements IRadiationManager {
         }
         // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
         if (RAND.nextInt(20) == 0) {
-            Collection<RadiationSource> sources = radiationTable.values();
-            if (!sources.isEmpty()) {
-                // remove if source gets too low
-                sources.removeIf(RadiationSource::decay);
+            if (!radiationTable.isEmpty()) {
+                //Note: Copy the chunks as rows get removed from the table when they become empty
+                for (Chunk3D chunk : new ArrayList<>(radiationTable.rowKeySet())) {
+                    // remove if source gets too low
+                    boolean removedAny = radiationTable.row(chunk).values().removeIf(RadiationSource::decay);
+                    fieldIndex.decay(chunk, removedAny);
+                }
                 //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
                 markDirty();
                 //Update radiation levels for any players where it has changed
-                updateClientRadiationForAll(ConstantPredicates.alwaysTrue());
+                updateClientRadiationForAll();
             }
         }
+        flushClientRadiationUpdates();
     }
 
     /**
@@ -463,8 +545,12 @@ public class RadiationManager implements IRadiationManager {
     public void reset() {
         //Clear the table directly instead of via the method, so it doesn't mark it as dirty
         radiationTable.clear();
+        fieldIndex.clear();
         playerEnvironmentalExposureMap.clear();
         playerExposureMap.clear();
+        irradiatedEntities.clear();
+        pendingClientUpdates.clear();
+        pendingClientUpdateAll = false;
         meltdowns.clear();
         dataHandler = null;
         loaded = false;
@@ -479,14 +565,6 @@ public class RadiationManager implements IRadiationManager {
         playerExposureMap.removeDouble(uuid);
     }
 
-    @SubscribeEvent
-    public void onLivingTick(LivingTickEvent event) {
-        Level world = event.getEntity().getCommandSenderWorld();
-        if (!world.isClientSide() && !(event.getEntity() instanceof Player)) {
-            updateEntityRadiation(event.getEntity());
-        }
-    }
-
     public record LevelAndMaxMagnitude(double level, double maxMagnitude) {
     }
 
@@ -571,7 +649,9 @@ public class RadiationManager implements IRadiationManager {
             // don't sync the manager if radiation has been disabled
             if (MekanismAPI.getRadiationManager().isRadiationEnabled()) {
                 for (RadiationSource source : loadedSources) {
-                    manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    Chunk3D chunk = new Chunk3D(source.getPos());
+                    manager.radiationTable.put(chunk, source.getPos(), source);
+                    manager.fieldIndex.radiate(chunk, manager.radiationTable.row(chunk), source);
                 }
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = entry.getValue();
@@ -7,9 +7,12 @@ import java.util.List;
 import java.util.UUID;
 import java.util.function.LongConsumer;
 import mekanism.common.content.network.transmitter.BufferedTransmitter;
+import mekanism.common.lib.ParallelTickPool;
 import mekanism.common.lib.math.Range3D;
+import mekanism.common.lib.transmitter.acceptor.AcceptorEmitter;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -18,6 +21,8 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
       TRANSMITTER extends BufferedTransmitter<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER>> extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER> {
 
     protected final LongSet chunks = new LongOpenHashSet();
+    protected final AcceptorEmitter<ACCEPTOR> acceptorEmitter = new AcceptorEmitter<>();
+    private final Runnable emitTask = this::emit;
     @Nullable
     protected Range3D packetRange;
     protected long capacity;
@@ -96,11 +101,26 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     public void deregister() {
         super.deregister();
         chunks.clear();
+        acceptorEmitter.clear();
         packetRange = null;
     }
 
     protected abstract void forceScaleUpdate();
 
+    /**
+     * Inserts into the acceptors that were found to accept some of our contents when we were updated, and removes what they accepted from our buffer.
+     */
+    protected abstract void emit();
+
+    /**
+     * Runs {@link #emit()} on the main thread. Actually inserting into acceptors can have side effects, such as the acceptors marking themselves as changed or
+     * whatever else third party handlers decide to do, so if we are being ticked off thread only the simulated inserts that find which acceptors want anything
+     * happen off thread.
+     */
+    protected final void emitOnMainThread() {
+        ParallelTickPool.runOnMainThread(emitTask);
+    }
+
     @NotNull
     public abstract BUFFER getBuffer();
 
@@ -169,10 +189,18 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     public void markDirty() {
         if (world != null && !world.isClientSide && world.getGameTime() != lastMarkDirtyTime) {
             lastMarkDirtyTime = world.getGameTime();
-            chunks.forEach((LongConsumer) chunk -> WorldUtils.markChunkDirty(world, WorldUtils.getBlockPosFromChunkPos(chunk)));
+            //Marking the chunks as dirty touches the world, so if we are being ticked off thread wait until we are back on the main thread
+            ParallelTickPool.runOnMainThread(() -> chunks.forEach((LongConsumer) chunk -> WorldUtils.markChunkDirty(world, WorldUtils.getBlockPosFromChunkPos(chunk))));
         }
     }
 
+    /**
+     * Posts the given transfer event on the main thread.
+     */
+    protected void postTransferEvent(TransferEvent<NETWORK> event) {
+        ParallelTickPool.runOnMainThread(() -> MinecraftForge.EVENT_BUS.post(event));
+    }
+
     public Range3D getPacketRange() {
         if (packetRange == null) {
             packetRange = genPacketRange();
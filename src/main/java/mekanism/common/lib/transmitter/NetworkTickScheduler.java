@@ -0,0 +1,269 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import mekanism.api.Coord4D;
+import mekanism.api.MekanismAPI;
+import mekanism.common.Mekanism;
+import mekanism.common.lib.ParallelTickPool;
+import mekanism.common.lib.multiblock.IMultiblock;
+import mekanism.common.lib.multiblock.MultiblockData;
+import mekanism.common.lib.transmitter.acceptor.NetworkAcceptorCache;
+import mekanism.common.tile.TileEntityBoundingBlock;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Opt-in scheduler that runs the {@link DynamicNetwork#onUpdate()} of independent groups of networks on the {@link ParallelTickPool}. Networks that share an
+ * acceptor (or a multiblock behind an acceptor) are always placed in the same group so that they are ticked sequentially on the same thread. Only groups where
+ * every acceptor is one of our own blocks are ticked off thread, as we can't know what third party handlers do even when simulating. Off thread, networks only
+ * resolve and simulate inserting into their acceptors, the actual inserts are deferred until we are back on the main thread, see
+ * {@link DynamicBufferedNetwork#emitOnMainThread()}.
+ *
+ * @apiNote Only used on the server, and only ever driven from the server thread.
+ */
+public class NetworkTickScheduler {
+
+    /**
+     * How often (in ticks) to log the slowest groups when debug mode is enabled.
+     */
+    private static final int DEBUG_LOG_INTERVAL = 100;
+    private static final int DEBUG_LOGGED_GROUPS = 5;
+
+    private final List<NetworkGroup> groups = new ArrayList<>();
+    /**
+     * Groups that have an acceptor that isn't one of our blocks, and therefore always get ticked on the main thread.
+     */
+    private final List<NetworkGroup> mainThreadGroups = new ArrayList<>();
+    private final List<NetworkGroup> parallelGroups = new ArrayList<>();
+    private boolean groupsDirty = true;
+    private int ticksSinceLog;
+
+    /**
+     * Marks that the grouping of networks needs to be recalculated, this should be called whenever a network is added or removed, or the acceptors of a network
+     * change.
+     */
+    void markGroupsDirty() {
+        groupsDirty = true;
+    }
+
+    /**
+     * @return The groups that were ticked last tick along with their timings, sorted from slowest to fastest.
+     */
+    public List<NetworkGroup> getLastTickGroups() {
+        List<NetworkGroup> sorted = new ArrayList<>(groups);
+        sorted.sort(Comparator.comparingLong(NetworkGroup::getLastTickNanos).reversed());
+        return sorted;
+    }
+
+    /**
+     * Ticks all the given networks, falling back to ticking them serially if they all ended up in the same group.
+     */
+    void tick(Collection<DynamicNetwork<?, ?, ?>> networks) {
+        if (groupsDirty) {
+            calculateGroups(networks);
+            groupsDirty = false;
+        }
+        Set<ServerLevel> levels = new ObjectOpenHashSet<>();
+        for (NetworkGroup group : parallelGroups) {
+            if (group.level instanceof ServerLevel serverLevel) {
+                levels.add(serverLevel);
+            }
+        }
+        //While waiting, process any tasks that the workers had to schedule on the main thread (for example looking up chunks)
+        ParallelTickPool.runSteps(parallelGroups, NetworkGroup::tick, () -> {
+            boolean ranTask = false;
+            for (ServerLevel level : levels) {
+                ranTask |= level.getChunkSource().pollTask();
+            }
+            return ranTask;
+        });
+        for (NetworkGroup group : mainThreadGroups) {
+            group.tick();
+        }
+        if (MekanismAPI.debug && ++ticksSinceLog >= DEBUG_LOG_INTERVAL) {
+            ticksSinceLog = 0;
+            logTimings();
+        }
+    }
+
+    private void calculateGroups(Collection<DynamicNetwork<?, ?, ?>> networks) {
+        groups.clear();
+        mainThreadGroups.clear();
+        parallelGroups.clear();
+        List<DynamicNetwork<?, ?, ?>> networkList = new ArrayList<>(networks);
+        int[] parents = new int[networkList.size()];
+        boolean[] foreignAcceptors = new boolean[parents.length];
+        Object2IntMap<Object> acceptorOwners = new Object2IntOpenHashMap<>();
+        acceptorOwners.defaultReturnValue(-1);
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = i;
+            DynamicNetwork<?, ?, ?> network = networkList.get(i);
+            Level level = network.getWorld();
+            if (level == null) {
+                continue;
+            }
+            Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+            NetworkAcceptorCache<?> acceptorCache = network.acceptorCache;
+            for (int slot = 0, positions = acceptorCache.getPositionCount(); slot < positions; slot++) {
+                BlockPos acceptorPos = BlockPos.of(acceptorCache.getPosition(slot));
+                BlockEntity tile = WorldUtils.getTileEntity(level, chunkMap, acceptorPos);
+                if (!(tile instanceof TileEntityUpdateable)) {
+                    foreignAcceptors[i] = true;
+                }
+                Object key = getAcceptorKey(level, chunkMap, acceptorPos, tile);
+                int owner = acceptorOwners.putIfAbsent(key, i);
+                if (owner != -1) {
+                    union(parents, owner, i);
+                }
+            }
+        }
+        Int2IntMap groupIndices = new Int2IntOpenHashMap();
+        groupIndices.defaultReturnValue(-1);
+        for (int i = 0; i < parents.length; i++) {
+            int root = find(parents, i);
+            int groupIndex = groupIndices.get(root);
+            if (groupIndex == -1) {
+                groupIndex = groups.size();
+                groupIndices.put(root, groupIndex);
+                groups.add(new NetworkGroup(networkList.get(i).getWorld()));
+            }
+            NetworkGroup group = groups.get(groupIndex);
+            group.networks.add(networkList.get(i));
+            group.mainThreadOnly |= foreignAcceptors[i];
+        }
+        for (NetworkGroup group : groups) {
+            (group.mainThreadOnly ? mainThreadGroups : parallelGroups).add(group);
+        }
+        if (MekanismAPI.debug) {
+            Mekanism.logger.info("Split {} networks into {} independent tick groups, {} of which have acceptors from other mods and are ticked on the main thread",
+                  parents.length, groups.size(), mainThreadGroups.size());
+        }
+    }
+
+    /**
+     * Gets the key that represents what is actually being interacted with at the given acceptor position. For multiblocks this is the multiblock itself as
+     * different ports may be connected to different networks.
+     */
+    private static Object getAcceptorKey(Level level, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos acceptorPos, @Nullable BlockEntity tile) {
+        if (tile instanceof TileEntityBoundingBlock boundingBlock) {
+            acceptorPos = boundingBlock.getMainPos();
+            tile = WorldUtils.getTileEntity(level, chunkMap, acceptorPos);
+        }
+        if (tile instanceof IMultiblock<?> multiblock) {
+            MultiblockData data = multiblock.getMultiblock();
+            if (data.isFormed() && data.inventoryID != null) {
+                return data.inventoryID;
+            }
+        }
+        return new Coord4D(acceptorPos, level);
+    }
+
+    private static int find(int[] parents, int index) {
+        while (parents[index] != index) {
+            //Path halving
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+        return index;
+    }
+
+    private static void union(int[] parents, int a, int b) {
+        int rootA = find(parents, a);
+        int rootB = find(parents, b);
+        if (rootA != rootB) {
+            parents[rootB] = rootA;
+        }
+    }
+
+    void reset() {
+        groups.clear();
+        mainThreadGroups.clear();
+        parallelGroups.clear();
+        groupsDirty = true;
+        ticksSinceLog = 0;
+    }
+
+    private void logTimings() {
+        List<NetworkGroup> sorted = getLastTickGroups();
+        long total = sorted.stream().mapToLong(NetworkGroup::getLastTickNanos).sum();
+        Mekanism.logger.info("Ticked {} network groups in {} total microseconds of worker time", sorted.size(), total / 1_000);
+        for (int i = 0; i < Math.min(DEBUG_LOGGED_GROUPS, sorted.size()); i++) {
+            NetworkGroup group = sorted.get(i);
+            Mekanism.logger.info("Group of {} networks took {} microseconds, slowest network ({} microseconds): {}", group.networks.size(),
+                  group.getLastTickNanos() / 1_000, group.slowestNetworkNanos / 1_000, group.slowestNetwork);
+        }
+    }
+
+    public static class NetworkGroup {
+
+        private final List<DynamicNetwork<?, ?, ?>> networks = new ArrayList<>();
+        @Nullable
+        private final Level level;
+        /**
+         * Whether any network in this group has an acceptor that isn't one of our blocks.
+         */
+        private boolean mainThreadOnly;
+        private long lastTickNanos;
+        @Nullable
+        private DynamicNetwork<?, ?, ?> slowestNetwork;
+        private long slowestNetworkNanos;
+
+        private NetworkGroup(@Nullable Level level) {
+            this.level = level;
+        }
+
+        private void tick() {
+            long groupStart = System.nanoTime();
+            slowestNetwork = null;
+            slowestNetworkNanos = 0;
+            for (DynamicNetwork<?, ?, ?> network : networks) {
+                long start = System.nanoTime();
+                network.onUpdate();
+                long elapsed = System.nanoTime() - start;
+                if (elapsed > slowestNetworkNanos) {
+                    slowestNetworkNanos = elapsed;
+                    slowestNetwork = network;
+                }
+            }
+            lastTickNanos = System.nanoTime() - groupStart;
+        }
+
+        public List<DynamicNetwork<?, ?, ?>> getNetworks() {
+            return networks;
+        }
+
+        public long getLastTickNanos() {
+            return lastTickNanos;
+        }
+
+        @Nullable
+        public DynamicNetwork<?, ?, ?> getSlowestNetwork() {
+            return slowestNetwork;
+        }
+
+        public long getSlowestNetworkNanos() {
+            return slowestNetworkNanos;
+        }
+
+        public boolean isMainThreadOnly() {
+            return mainThreadOnly;
+        }
+    }
+}
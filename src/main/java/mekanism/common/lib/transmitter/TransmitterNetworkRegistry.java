@@ -2,17 +2,22 @@ package mekanism.common.lib.transmitter;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.Deque;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.lib.ParallelTickPool;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
@@ -36,6 +41,19 @@ public class TransmitterNetworkRegistry {
     private Map<Coord4D, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
     private Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
     private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
+    /**
+     * The batch of orphans that is currently being assigned to networks, this may take multiple ticks to get through if there are a lot of orphans.
+     */
+    private Map<Coord4D, Transmitter<?, ?, ?>> orphanBatch = Collections.emptyMap();
+    @Nullable
+    private Iterator<Transmitter<?, ?, ?>> orphanBatchIterator;
+    /**
+     * The path finder that ran out of time while discovering its network. All the transmitters it has found so far are dormant (not orphans but also not in a
+     * network) until it finishes.
+     */
+    @Nullable
+    private OrphanPathFinder<?, ?, ?> activeFinder;
+    private final NetworkTickScheduler tickScheduler = new NetworkTickScheduler();
 
     public void addClientNetwork(UUID networkID, DynamicNetwork<?, ?, ?> network) {
         if (!clientNetworks.containsKey(networkID)) {
@@ -68,13 +86,30 @@ public class TransmitterNetworkRegistry {
         getInstance().networksToChange.clear();
         getInstance().invalidTransmitters.clear();
         getInstance().newOrphanTransmitters.clear();
+        getInstance().orphanBatch = Collections.emptyMap();
+        getInstance().orphanBatchIterator = null;
+        getInstance().activeFinder = null;
+        getInstance().tickScheduler.reset();
     }
 
     public static void invalidateTransmitter(Transmitter<?, ?, ?> transmitter) {
+        if (ParallelTickPool.isOffThread()) {
+            ParallelTickPool.runOnMainThread(() -> invalidateTransmitter(transmitter));
+            return;
+        }
+        OrphanPathFinder<?, ?, ?> activeFinder = getInstance().activeFinder;
+        if (activeFinder != null && !transmitter.isOrphan() && !transmitter.hasTransmitterNetwork()) {
+            //The transmitter is dormant, if it is part of the network that is still being discovered then we need to discover it again once it finishes
+            activeFinder.markStale(transmitter);
+        }
         getInstance().invalidTransmitters.add(transmitter);
     }
 
     public static void registerOrphanTransmitter(Transmitter<?, ?, ?> transmitter) {
+        if (ParallelTickPool.isOffThread()) {
+            ParallelTickPool.runOnMainThread(() -> registerOrphanTransmitter(transmitter));
+            return;
+        }
         if (!getInstance().invalidTransmitters.remove(transmitter)) {
             //If we weren't an invalid transmitter, then we need to add it as a new orphan, otherwise removing it is good enough
             // as if it was an orphan before it still will be one, and if it wasn't then it still will be part of the network it
@@ -88,6 +123,10 @@ public class TransmitterNetworkRegistry {
     }
 
     public static void registerChangedNetwork(DynamicNetwork<?, ?, ?> network) {
+        if (ParallelTickPool.isOffThread()) {
+            ParallelTickPool.runOnMainThread(() -> registerChangedNetwork(network));
+            return;
+        }
         getInstance().networksToChange.add(network);
     }
 
@@ -95,12 +134,28 @@ public class TransmitterNetworkRegistry {
         return INSTANCE;
     }
 
+    public NetworkTickScheduler getTickScheduler() {
+        return tickScheduler;
+    }
+
     public void registerNetwork(DynamicNetwork<?, ?, ?> network) {
-        networks.add(network);
+        if (ParallelTickPool.isOffThread()) {
+            ParallelTickPool.runOnMainThread(() -> registerNetwork(network));
+            return;
+        }
+        if (networks.add(network)) {
+            tickScheduler.markGroupsDirty();
+        }
     }
 
     public void removeNetwork(DynamicNetwork<?, ?, ?> network) {
-        networks.remove(network);
+        if (ParallelTickPool.isOffThread()) {
+            ParallelTickPool.runOnMainThread(() -> removeNetwork(network));
+            return;
+        }
+        if (networks.remove(network)) {
+            tickScheduler.markGroupsDirty();
+        }
         networksToChange.remove(network);
     }
 
@@ -110,8 +165,12 @@ public class TransmitterNetworkRegistry {
             removeInvalidTransmitters();
             assignOrphans();
             commitChanges();
-            for (DynamicNetwork<?, ?, ?> net : networks) {
-                net.onUpdate();
+            if (MekanismConfig.general.parallelNetworkTicking.get()) {
+                tickScheduler.tick(networks);
+            } else {
+                for (DynamicNetwork<?, ?, ?> net : networks) {
+                    net.onUpdate();
+                }
             }
         }
     }
@@ -149,19 +208,49 @@ public class TransmitterNetworkRegistry {
     }
 
     private void assignOrphans() {
-        if (!newOrphanTransmitters.isEmpty()) {
-            Map<Coord4D, Transmitter<?, ?, ?>> orphanTransmitters = newOrphanTransmitters;
-            newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
-            if (MekanismAPI.debug) {
-                Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanTransmitters.size());
+        int budget = MekanismConfig.general.orphanAssignmentBudget.get();
+        long deadline = budget == 0 ? Long.MAX_VALUE : System.nanoTime() + budget * 1_000L;
+        do {
+            if (activeFinder != null) {
+                if (!activeFinder.iterate(orphanBatch, deadline)) {
+                    //Out of time, leave what has been discovered so far dormant and continue where we left off next tick
+                    if (MekanismAPI.debug) {
+                        Mekanism.logger.info("Ran out of time assigning orphans, continuing next tick with {} transmitters discovered so far",
+                              activeFinder.connectedTransmitters.size());
+                    }
+                    return;
+                }
+                DynamicNetwork<?, ?, ?> network = activeFinder.finish(this);
+                activeFinder = null;
+                if (network != null) {
+                    networksToChange.add(network);
+                }
             }
+            activeFinder = nextOrphanFinder();
+        } while (activeFinder != null && System.nanoTime() < deadline);
+    }
 
-            for (Transmitter<?, ?, ?> orphanTransmitter : orphanTransmitters.values()) {
-                if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
-                    OrphanPathFinder<?, ?, ?> finder = new OrphanPathFinder<>(orphanTransmitter);
-                    networksToChange.add(finder.getNetworkFromOrphan(orphanTransmitters));
+    @Nullable
+    private OrphanPathFinder<?, ?, ?> nextOrphanFinder() {
+        while (true) {
+            if (orphanBatchIterator == null || !orphanBatchIterator.hasNext()) {
+                if (newOrphanTransmitters.isEmpty()) {
+                    orphanBatch = Collections.emptyMap();
+                    orphanBatchIterator = null;
+                    return null;
+                }
+                //Only start on the next batch once we are done with the current one so that a transmitter is never in two batches at once
+                orphanBatch = newOrphanTransmitters;
+                orphanBatchIterator = orphanBatch.values().iterator();
+                newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
+                if (MekanismAPI.debug) {
+                    Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanBatch.size());
                 }
             }
+            Transmitter<?, ?, ?> orphanTransmitter = orphanBatchIterator.next();
+            if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
+                return new OrphanPathFinder<>(orphanTransmitter);
+            }
         }
     }
 
@@ -172,6 +261,8 @@ public class TransmitterNetworkRegistry {
             for (DynamicNetwork<?, ?, ?> network : networks) {
                 network.commit();
             }
+            //The acceptors of the networks may have changed so make sure we recalculate which networks can be ticked independently
+            tickScheduler.markGroupsDirty();
         }
     }
 
@@ -189,34 +280,87 @@ public class TransmitterNetworkRegistry {
         return components;
     }
 
+    /**
+     * Flood fills out from an orphan to find all the orphans that are connected to it and any existing networks they connect to. The search can be paused when it
+     * runs out of time and resumed on a later tick, in which case the transmitters found so far are left dormant until {@link #finish(TransmitterNetworkRegistry)}
+     * is called.
+     */
     public static class OrphanPathFinder<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER>,
           TRANSMITTER extends Transmitter<ACCEPTOR, NETWORK, TRANSMITTER>> {
 
+        /**
+         * How many positions to check between checking if we have run out of time.
+         */
+        private static final int DEADLINE_CHECK_INTERVAL = 64;
+
         private final CompatibleTransmitterValidator<ACCEPTOR, NETWORK, TRANSMITTER> transmitterValidator;
         private final Set<TRANSMITTER> connectedTransmitters = new ObjectOpenHashSet<>();
         private final Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         private final Set<NETWORK> networksFound = new ObjectOpenHashSet<>();
-        private final Set<BlockPos> iterated = new ObjectOpenHashSet<>();
-        private final Deque<BlockPos> queue = new LinkedList<>();
+        private final LongSet iterated = new LongOpenHashSet();
+        private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
         private final TRANSMITTER startPoint;
         private final Level world;
+        /**
+         * Set if one of the dormant transmitters we already found changed before we finished, which means we need to rediscover the network.
+         */
+        private boolean stale;
 
         OrphanPathFinder(Transmitter<ACCEPTOR, NETWORK, TRANSMITTER> start) {
             startPoint = (TRANSMITTER) start;
             world = startPoint.getTileWorld();
             transmitterValidator = startPoint.getNewOrphanValidator();
+            queue.enqueue(startPoint.getTilePos().asLong());
         }
 
-        NETWORK getNetworkFromOrphan(Map<Coord4D, Transmitter<?, ?, ?>> orphanTransmitters) {
-            //Calculate the network
-            if (queue.peek() != null) {
-                Mekanism.logger.error("OrphanPathFinder queue was not empty?!");
-                queue.clear();
+        /**
+         * Continues discovering the network until either the entire network has been found or the deadline is reached.
+         *
+         * @return {@code true} if the entire network has been discovered.
+         */
+        boolean iterate(Map<Coord4D, Transmitter<?, ?, ?>> orphanTransmitters, long deadline) {
+            //Chunks may have unloaded since the last time we were iterating
+            chunkMap.clear();
+            int checked = 0;
+            while (!queue.isEmpty()) {
+                iterate(orphanTransmitters, queue.dequeueLong());
+                if (++checked % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() >= deadline) {
+                    return queue.isEmpty();
+                }
             }
-            queue.push(startPoint.getTilePos());
-            while (queue.peek() != null) {
-                iterate(orphanTransmitters, queue.removeFirst());
+            return true;
+        }
+
+        void markStale(Transmitter<?, ?, ?> transmitter) {
+            if (!stale && connectedTransmitters.contains(transmitter)) {
+                stale = true;
+            }
+        }
+
+        /**
+         * Creates or merges the network for all the transmitters that were found.
+         *
+         * @return The network, or {@code null} if the discovered transmitters changed while we were finding them and have been reregistered as orphans.
+         */
+        @Nullable
+        NETWORK finish(TransmitterNetworkRegistry registry) {
+            if (stale || connectedTransmitters.stream().anyMatch(transmitter -> !transmitter.isValid())) {
+                //Something changed while we were spread across multiple ticks, rediscover the remaining transmitters from scratch
+                if (MekanismAPI.debug) {
+                    Mekanism.logger.info("Transmitters changed while discovering network, reassigning {} transmitters", connectedTransmitters.size());
+                }
+                for (TRANSMITTER transmitter : connectedTransmitters) {
+                    transmitter.setOrphan(true);
+                    if (transmitter.isValid()) {
+                        registerOrphanTransmitter(transmitter);
+                    }
+                }
+                return null;
             }
+            //Networks we found may have been removed since we found them if we were spread across multiple ticks, in which case their transmitters
+            // are orphans again and will get added to our network when they get assigned
+            networksFound.removeIf(network -> !registry.networks.contains(network));
             //Create the network or grab the found ones
             NETWORK network;
             if (networksFound.size() == 1) {
@@ -239,27 +383,29 @@ public class TransmitterNetworkRegistry {
             return network;
         }
 
-        private void iterate(Map<Coord4D, Transmitter<?, ?, ?>> orphanTransmitters, BlockPos from) {
+        private void iterate(Map<Coord4D, Transmitter<?, ?, ?>> orphanTransmitters, long from) {
             if (iterated.add(from)) {
-                Coord4D fromCoord = new Coord4D(from, world);
-                if (orphanTransmitters.containsKey(fromCoord)) {
-                    Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(fromCoord);
+                BlockPos fromPos = BlockPos.of(from);
+                Coord4D fromCoord = new Coord4D(fromPos, world);
+                Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(fromCoord);
+                if (transmitter != null) {
                     if (transmitter.isValid() && transmitter.isOrphan() && startPoint.supportsTransmissionType(transmitter) &&
                         transmitterValidator.isTransmitterCompatible(transmitter)) {
                         connectedTransmitters.add((TRANSMITTER) transmitter);
                         transmitter.setOrphan(false);
                         for (Direction direction : EnumUtils.DIRECTIONS) {
-                            BlockPos directionPos = from.relative(direction);
+                            mutablePos.setWithOffset(fromPos, direction);
+                            long directionPos = mutablePos.asLong();
                             if (!iterated.contains(directionPos)) {
-                                TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, directionPos);
+                                TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, mutablePos);
                                 if (tile != null && transmitter.isValidTransmitterBasic(tile, direction)) {
-                                    queue.addLast(directionPos);
+                                    queue.enqueue(directionPos);
                                 }
                             }
                         }
                     }
                 } else {
-                    TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, from);
+                    TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, fromPos);
                     if (tile != null && startPoint.supportsTransmissionType(tile)) {
                         NETWORK net = (NETWORK) tile.getTransmitter().getTransmitterNetwork();
                         //Make sure that there is an external network
@@ -271,4 +417,4 @@ public class TransmitterNetworkRegistry {
             }
         }
     }
-}
\ No newline at end of file
+}
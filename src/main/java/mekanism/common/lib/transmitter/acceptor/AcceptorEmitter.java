@@ -0,0 +1,118 @@
+package mekanism.common.lib.transmitter.acceptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.Direction;
+import net.minecraftforge.common.util.LazyOptional;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Persistent list of the acceptors a buffered network emits to, that is only rebuilt when the network's acceptors change. Acceptors that refuse what the network
+ * is trying to emit get backed off from, so that they are only offered to again after a number of ticks that doubles each time they refuse, up to the configured
+ * maximum. This means networks connected to saturated acceptors don't have to keep simulating insertion into them every tick.
+ *
+ * @param <ACCEPTOR> Type of acceptor.
+ */
+public class AcceptorEmitter<ACCEPTOR> {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final List<LazyOptional<ACCEPTOR>> acceptors = new ArrayList<>();
+    /**
+     * Number of ticks each acceptor is currently backed off for after refusing, or zero if it accepted the last time it was offered to.
+     */
+    private int[] backoff = EMPTY;
+    /**
+     * Number of ticks left before each acceptor gets offered to again.
+     */
+    private int[] skipTicks = EMPTY;
+    private int version = -1;
+
+    /**
+     * Rebuilds the list of acceptors if the given cache has changed since we last built it.
+     */
+    public void update(NetworkAcceptorCache<ACCEPTOR> acceptorCache) {
+        if (version != acceptorCache.getVersion()) {
+            version = acceptorCache.getVersion();
+            acceptors.clear();
+            for (int slot = 0, positions = acceptorCache.getPositionCount(); slot < positions; slot++) {
+                int mask = acceptorCache.getDirectionMask(slot);
+                for (Direction side : EnumUtils.DIRECTIONS) {
+                    if ((mask & (1 << side.ordinal())) != 0) {
+                        acceptors.add(acceptorCache.getAcceptor(slot, side));
+                    }
+                }
+            }
+            //Note: As the order of the acceptors may have changed, we can't keep the previous backoff state
+            if (backoff.length == acceptors.size()) {
+                resetBackoff();
+            } else {
+                backoff = acceptors.isEmpty() ? EMPTY : new int[acceptors.size()];
+                skipTicks = acceptors.isEmpty() ? EMPTY : new int[acceptors.size()];
+            }
+        }
+    }
+
+    public int size() {
+        return acceptors.size();
+    }
+
+    /**
+     * Gets the acceptor at the given index if it should be offered to this tick.
+     *
+     * @return The acceptor, or {@code null} if it isn't present or is currently being backed off from.
+     */
+    @Nullable
+    public ACCEPTOR getAcceptor(int index) {
+        if (skipTicks[index] > 0) {
+            skipTicks[index]--;
+            return null;
+        }
+        //Note: We resolve the optional each time rather than caching the handler, so that if it gets invalidated before our acceptor cache
+        // is updated we don't try to insert into it. Using orElse doesn't allocate as the resolved handler is cached by the lazy optional
+        return acceptors.get(index).orElse(null);
+    }
+
+    /**
+     * Marks that the acceptor at the given index would accept at least some of what we are emitting.
+     */
+    public void accepted(int index) {
+        backoff[index] = 0;
+    }
+
+    /**
+     * Marks that the acceptor at the given index refused what we are emitting, and backs off from offering to it again.
+     */
+    public void refused(int index) {
+        refused(index, MekanismConfig.general.maxAcceptorBackoff.get());
+    }
+
+    @VisibleForTesting
+    void refused(int index, int maxBackoff) {
+        if (maxBackoff > 0) {
+            int ticks = Math.min(maxBackoff, backoff[index] == 0 ? 1 : 2 * backoff[index]);
+            backoff[index] = ticks;
+            skipTicks[index] = ticks;
+        }
+    }
+
+    /**
+     * Makes it so that all acceptors get offered to on the next tick. This should be called when what is being emitted changes, as acceptors that refused the
+     * previous contents may accept the new ones.
+     */
+    public void resetBackoff() {
+        Arrays.fill(backoff, 0);
+        Arrays.fill(skipTicks, 0);
+    }
+
+    public void clear() {
+        acceptors.clear();
+        backoff = EMPTY;
+        skipTicks = EMPTY;
+        version = -1;
+    }
+}
@@ -1,71 +1,156 @@
 package mekanism.common.lib.transmitter.acceptor;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.Collection;
-import java.util.EnumMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ByteMap;
+import it.unimi.dsi.fastutil.objects.Object2ByteMaps;
+import it.unimi.dsi.fastutil.objects.Object2ByteOpenHashMap;
+import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraftforge.common.util.LazyOptional;
 
+/**
+ * Cache of the acceptors connected to a network. Each position with at least one acceptor gets a slot in a set of dense arrays holding the position, a bitmask of
+ * which sides of the position have acceptors, and the acceptors themselves, and a map from the packed position to the slot is used for lookups. Slots are kept
+ * contiguous by moving the last slot into any slot that gets removed, so that iterating the acceptors is just a loop from zero to {@link #getPositionCount()}.
+ *
+ * @apiNote Slots are only stable until the cache next changes, which can be detected via {@link #getVersion()}.
+ */
 public class NetworkAcceptorCache<ACCEPTOR> {
 
-    private final Map<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> cachedAcceptors = new Object2ObjectOpenHashMap<>();
-    private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
+    private static final int SIDES = EnumUtils.DIRECTIONS.length;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Long2IntMap slots = new Long2IntOpenHashMap();
+    private long[] positions = new long[INITIAL_CAPACITY];
+    private byte[] directionMasks = new byte[INITIAL_CAPACITY];
+    /**
+     * Acceptors indexed by {@code slot * 6 + side ordinal}, where the side is the side of the acceptor the transmitter is connected to.
+     */
+    private LazyOptional<?>[] acceptors = new LazyOptional<?>[INITIAL_CAPACITY * SIDES];
+    private int positionCount;
+    private int acceptorCount;
+    /**
+     * Bitmask of the sides of each transmitter that have had their acceptor change since the last commit.
+     */
+    private final Object2ByteMap<Transmitter<ACCEPTOR, ?, ?>> changedAcceptors = new Object2ByteOpenHashMap<>();
+    /**
+     * Incremented whenever the cached acceptors may have changed, so that anything derived from them knows when it needs to be recalculated.
+     */
+    private int version;
+
+    public NetworkAcceptorCache() {
+        slots.defaultReturnValue(-1);
+    }
 
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         LazyOptional<ACCEPTOR> acceptor = transmitter.canConnectToAcceptor(side) ? transmitter.getAcceptor(side) : LazyOptional.empty();
-        BlockPos acceptorPos = transmitter.getTilePos().relative(side);
+        long acceptorPos = BlockPos.offset(transmitter.getTilePos().asLong(), side);
         if (acceptor.isPresent()) {
-            cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
-        } else if (cachedAcceptors.containsKey(acceptorPos)) {
-            Map<Direction, LazyOptional<ACCEPTOR>> cached = cachedAcceptors.get(acceptorPos);
-            cached.remove(side.getOpposite());
-            if (cached.isEmpty()) {
-                cachedAcceptors.remove(acceptorPos);
-            }
+            setAcceptor(acceptorPos, side.getOpposite(), acceptor);
         } else {
-            cachedAcceptors.remove(acceptorPos);
+            removeAcceptor(acceptorPos, side.getOpposite());
+        }
+    }
+
+    void setAcceptor(long pos, Direction side, LazyOptional<ACCEPTOR> acceptor) {
+        version++;
+        int slot = slots.get(pos);
+        if (slot == -1) {
+            slot = positionCount++;
+            ensureCapacity(positionCount);
+            slots.put(pos, slot);
+            positions[slot] = pos;
+        }
+        int bit = 1 << side.ordinal();
+        if ((directionMasks[slot] & bit) == 0) {
+            directionMasks[slot] |= bit;
+            acceptorCount++;
+        }
+        acceptors[slot * SIDES + side.ordinal()] = acceptor;
+    }
+
+    void removeAcceptor(long pos, Direction side) {
+        int slot = slots.get(pos);
+        if (slot == -1) {
+            return;
+        }
+        int bit = 1 << side.ordinal();
+        if ((directionMasks[slot] & bit) != 0) {
+            version++;
+            directionMasks[slot] &= ~bit;
+            acceptors[slot * SIDES + side.ordinal()] = null;
+            acceptorCount--;
+            if (directionMasks[slot] == 0) {
+                removeSlot(slot);
+            }
+        }
+    }
+
+    private void removeSlot(int slot) {
+        slots.remove(positions[slot]);
+        int last = --positionCount;
+        if (slot != last) {
+            //Move the last slot into the one we are removing so that the slots stay contiguous
+            positions[slot] = positions[last];
+            directionMasks[slot] = directionMasks[last];
+            System.arraycopy(acceptors, last * SIDES, acceptors, slot * SIDES, SIDES);
+            slots.put(positions[slot], slot);
         }
+        directionMasks[last] = 0;
+        Arrays.fill(acceptors, last * SIDES, (last + 1) * SIDES, null);
     }
 
+    private void ensureCapacity(int capacity) {
+        if (capacity > positions.length) {
+            int newLength = Math.max(capacity, 2 * positions.length);
+            positions = Arrays.copyOf(positions, newLength);
+            directionMasks = Arrays.copyOf(directionMasks, newLength);
+            acceptors = Arrays.copyOf(acceptors, newLength * SIDES);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
-        for (Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> entry : other.cachedAcceptors.entrySet()) {
-            BlockPos pos = entry.getKey();
-            if (cachedAcceptors.containsKey(pos)) {
-                cachedAcceptors.get(pos).putAll(entry.getValue());
-            } else {
-                cachedAcceptors.put(pos, entry.getValue());
+        version++;
+        ensureCapacity(positionCount + other.positionCount);
+        for (int slot = 0; slot < other.positionCount; slot++) {
+            long pos = other.positions[slot];
+            int mask = other.directionMasks[slot];
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if ((mask & (1 << side.ordinal())) != 0) {
+                    setAcceptor(pos, side, (LazyOptional<ACCEPTOR>) other.acceptors[slot * SIDES + side.ordinal()]);
+                }
             }
         }
-        for (Entry<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> entry : other.changedAcceptors.entrySet()) {
+        for (Object2ByteMap.Entry<Transmitter<ACCEPTOR, ?, ?>> entry : Object2ByteMaps.fastIterable(other.changedAcceptors)) {
             Transmitter<ACCEPTOR, ?, ?> transmitter = entry.getKey();
-            if (changedAcceptors.containsKey(transmitter)) {
-                changedAcceptors.get(transmitter).addAll(entry.getValue());
-            } else {
-                changedAcceptors.put(transmitter, entry.getValue());
-            }
+            changedAcceptors.put(transmitter, (byte) (changedAcceptors.getByte(transmitter) | entry.getByteValue()));
         }
     }
 
     public void acceptorChanged(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
-        changedAcceptors.computeIfAbsent(transmitter, t -> EnumSet.noneOf(Direction.class)).add(side);
+        changedAcceptors.put(transmitter, (byte) (changedAcceptors.getByte(transmitter) | (1 << side.ordinal())));
         TransmitterNetworkRegistry.registerChangedNetwork(transmitter.getTransmitterNetwork());
     }
 
     public void commit() {
         if (!changedAcceptors.isEmpty()) {
-            for (Entry<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> entry : changedAcceptors.entrySet()) {
+            for (Object2ByteMap.Entry<Transmitter<ACCEPTOR, ?, ?>> entry : Object2ByteMaps.fastIterable(changedAcceptors)) {
                 Transmitter<ACCEPTOR, ?, ?> transmitter = entry.getKey();
                 if (transmitter.isValid()) {
                     //Update all the changed directions
-                    for (Direction side : entry.getValue()) {
-                        updateTransmitterOnSide(transmitter, side);
+                    int mask = entry.getByteValue();
+                    for (Direction side : EnumUtils.DIRECTIONS) {
+                        if ((mask & (1 << side.ordinal())) != 0) {
+                            updateTransmitterOnSide(transmitter, side);
+                        }
                     }
                 }
             }
@@ -74,35 +159,75 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     }
 
     public void deregister() {
-        cachedAcceptors.clear();
+        version++;
+        slots.clear();
+        Arrays.fill(directionMasks, 0, positionCount, (byte) 0);
+        Arrays.fill(acceptors, 0, positionCount * SIDES, null);
+        positionCount = 0;
+        acceptorCount = 0;
         changedAcceptors.clear();
     }
 
     /**
-     * @apiNote Listeners should not be added to these LazyOptionals here as they may not correspond to an actual handler and may not get invalidated.
+     * @return A number that changes whenever the cached acceptors may have changed.
      */
-    public Set<Map.Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>>> getAcceptorEntrySet() {
-        return cachedAcceptors.entrySet();
+    public int getVersion() {
+        return version;
     }
 
     /**
+     * @return The number of positions that have at least one acceptor, slots range from zero to this number exclusive.
+     */
+    public int getPositionCount() {
+        return positionCount;
+    }
+
+    /**
+     * @return The position of the acceptors in the given slot, packed as a long.
+     */
+    public long getPosition(int slot) {
+        return positions[slot];
+    }
+
+    /**
+     * @return Bitmask of the sides of the position in the given slot that have acceptors, indexed by the ordinal of the side.
+     */
+    public int getDirectionMask(int slot) {
+        return directionMasks[slot];
+    }
+
+    /**
+     * Gets the acceptor on the given side of the position in the given slot.
+     *
+     * @return The acceptor, or {@code null} if there is no acceptor on that side.
+     *
      * @apiNote Listeners should not be added to these LazyOptionals here as they may not correspond to an actual handler and may not get invalidated.
      */
-    public Collection<Map<Direction, LazyOptional<ACCEPTOR>>> getAcceptorValues() {
-        return cachedAcceptors.values();
+    @SuppressWarnings("unchecked")
+    public LazyOptional<ACCEPTOR> getAcceptor(int slot, Direction side) {
+        return (LazyOptional<ACCEPTOR>) acceptors[slot * SIDES + side.ordinal()];
     }
 
     public int getAcceptorCount() {
         //Count multiple connections to the same position as multiple acceptors
-        return cachedAcceptors.values().stream().mapToInt(Map::size).sum();
+        return acceptorCount;
     }
 
     public boolean hasAcceptor(BlockPos acceptorPos) {
-        return cachedAcceptors.containsKey(acceptorPos);
+        return slots.containsKey(acceptorPos.asLong());
     }
 
     public Set<Direction> getAcceptorDirections(BlockPos pos) {
-        //TODO: Do this better?
-        return cachedAcceptors.get(pos).keySet();
+        Set<Direction> directions = EnumSet.noneOf(Direction.class);
+        int slot = slots.get(pos.asLong());
+        if (slot != -1) {
+            int mask = directionMasks[slot];
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if ((mask & (1 << side.ordinal())) != 0) {
+                    directions.add(side);
+                }
+            }
+        }
+        return directions;
     }
-}
\ No newline at end of file
+}
@@ -1,43 +1,50 @@
 package mekanism.common.network.to_client;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import mekanism.common.content.qio.QIOViewerDelta;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
-import mekanism.common.network.BasePacketHandler;
 import mekanism.common.network.IMekanismPacket;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.Nullable;
 
 //TODO - 1.19: Split this packet as it is possible for it to technically become too large and cause a crash
-// Also ideally we only would sync the hashed item for types we haven't sent a given client yet so that then
-// we can also send a smaller packet to each client until they disconnect and then we clear what packets they know
 public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
 
     private final Type type;
-    private final Object2LongMap<UUIDAwareHashedItem> itemMap;
+    @Nullable
+    private final QIOViewerDelta delta;
+    private final int baseVersion;
+    private final int version;
     private final long countCapacity;
     private final int typeCapacity;
 
-    private PacketQIOItemViewerGuiSync(Type type, Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    private PacketQIOItemViewerGuiSync(Type type, @Nullable QIOViewerDelta delta, int baseVersion, int version, long countCapacity, int typeCapacity) {
         this.type = type;
-        this.itemMap = itemMap;
+        this.delta = delta;
+        this.baseVersion = baseVersion;
+        this.version = version;
         this.countCapacity = countCapacity;
         this.typeCapacity = typeCapacity;
     }
 
-    public static PacketQIOItemViewerGuiSync batch(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.BATCH, itemMap, countCapacity, typeCapacity);
+    /**
+     * Full sync of all the items in the frequency, replacing anything the client had before.
+     */
+    public static PacketQIOItemViewerGuiSync batch(QIOViewerDelta delta, int version, long countCapacity, int typeCapacity) {
+        return new PacketQIOItemViewerGuiSync(Type.BATCH, delta, version, version, countCapacity, typeCapacity);
     }
 
-    public static PacketQIOItemViewerGuiSync update(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, itemMap, countCapacity, typeCapacity);
+    /**
+     * Changes since the client was at the given base version, if the client is not at the base version it will request a full sync instead of applying the changes.
+     */
+    public static PacketQIOItemViewerGuiSync update(QIOViewerDelta delta, int baseVersion, int version, long countCapacity, int typeCapacity) {
+        return new PacketQIOItemViewerGuiSync(Type.UPDATE, delta, baseVersion, version, countCapacity, typeCapacity);
     }
 
     public static PacketQIOItemViewerGuiSync kill() {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, null, 0, 0);
+        return new PacketQIOItemViewerGuiSync(Type.KILL, null, 0, 0, 0, 0);
     }
 
     @Override
@@ -45,8 +52,8 @@ public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
         LocalPlayer player = Minecraft.getInstance().player;
         if (player != null && player.containerMenu instanceof QIOItemViewerContainer container) {
             switch (type) {
-                case BATCH -> container.handleBatchUpdate(itemMap, countCapacity, typeCapacity);
-                case UPDATE -> container.handleUpdate(itemMap, countCapacity, typeCapacity);
+                case BATCH -> container.handleBatchUpdate(delta, version, countCapacity, typeCapacity);
+                case UPDATE -> container.handleUpdate(delta, baseVersion, version, countCapacity, typeCapacity);
                 case KILL -> container.handleKill();
             }
         }
@@ -56,29 +63,31 @@ public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
     public void encode(FriendlyByteBuf buffer) {
         buffer.writeEnum(type);
         if (type == Type.BATCH || type == Type.UPDATE) {
+            buffer.writeVarInt(version);
+            if (type == Type.UPDATE) {
+                buffer.writeVarInt(baseVersion);
+            }
             buffer.writeVarLong(countCapacity);
             buffer.writeVarInt(typeCapacity);
-            BasePacketHandler.writeMap(buffer, itemMap, (key, value, buf) -> {
-                buf.writeItem(key.getStack());
-                //Shouldn't be null unless something failed, but if it does try to handle it relatively gracefully
-                BasePacketHandler.writeOptional(buf, key.getUUID(), FriendlyByteBuf::writeUUID);
-                buf.writeVarLong(value);
-            });
+            delta.write(buffer);
         }
     }
 
     public static PacketQIOItemViewerGuiSync decode(FriendlyByteBuf buffer) {
         Type type = buffer.readEnum(Type.class);
+        int version = 0;
+        int baseVersion = 0;
         long countCapacity = 0;
         int typeCapacity = 0;
-        Object2LongMap<UUIDAwareHashedItem> map = null;
+        QIOViewerDelta delta = null;
         if (type == Type.BATCH || type == Type.UPDATE) {
+            version = buffer.readVarInt();
+            baseVersion = type == Type.UPDATE ? buffer.readVarInt() : version;
             countCapacity = buffer.readVarLong();
             typeCapacity = buffer.readVarInt();
-            map = BasePacketHandler.readMap(buffer, Object2LongOpenHashMap::new,
-                  buf -> new UUIDAwareHashedItem(buf.readItem(), BasePacketHandler.readOptional(buf, FriendlyByteBuf::readUUID)), FriendlyByteBuf::readVarLong);
+            delta = QIOViewerDelta.read(buffer);
         }
-        return new PacketQIOItemViewerGuiSync(type, map, countCapacity, typeCapacity);
+        return new PacketQIOItemViewerGuiSync(type, delta, baseVersion, version, countCapacity, typeCapacity);
     }
 
     public enum Type {
@@ -1,52 +1,91 @@
 package mekanism.common.network.to_client.container;
 
-import java.util.ArrayList;
-import java.util.List;
+import io.netty.buffer.Unpooled;
 import mekanism.common.inventory.container.MekanismContainer;
+import mekanism.common.inventory.container.sync.ISyncableData;
+import mekanism.common.inventory.container.sync.ISyncableData.DirtyType;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.network.to_client.container.property.PropertyData;
+import mekanism.common.network.to_client.container.property.PropertyType;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkEvent;
 
+/**
+ * Syncs the properties of a container that have changed. The properties are written straight into a buffer as they are found to have changed, each as its index as
+ * a var int followed by its {@link PropertyType} and value, so that syncing doesn't need to create any intermediary objects per property. The client then reads them
+ * straight out of the buffer once the packet is handled on the main thread.
+ */
 public class PacketUpdateContainer implements IMekanismPacket {
 
     //Note: windowId gets transferred over the network as an unsigned byte
     private final short windowId;
-    private final List<PropertyData> data;
+    private final FriendlyByteBuf data;
 
-    public PacketUpdateContainer(short windowId, List<PropertyData> data) {
+    private PacketUpdateContainer(short windowId, FriendlyByteBuf data) {
         this.windowId = windowId;
         this.data = data;
     }
 
+    /**
+     * Creates an empty packet for the given window that changed properties can be {@link #write(short, ISyncableData, DirtyType) written} to.
+     */
+    public static PacketUpdateContainer create(short windowId) {
+        return new PacketUpdateContainer(windowId, new FriendlyByteBuf(Unpooled.buffer()));
+    }
+
+    /**
+     * Writes the current value of the given property to this packet.
+     *
+     * @param dirtyType Will either be DIRTY or SIZE
+     */
+    public void write(short property, ISyncableData syncableData, DirtyType dirtyType) {
+        data.writeVarInt(property);
+        syncableData.writeToPacket(data, dirtyType);
+    }
+
     @Override
     public void handle(NetworkEvent.Context context) {
         LocalPlayer player = Minecraft.getInstance().player;
         //Ensure that the container is one of ours and that the window id is the same as we expect it to be
         if (player != null && player.containerMenu instanceof MekanismContainer container && container.containerId == windowId) {
             //If so then handle the packet
-            data.forEach(data -> data.handleWindowProperty(container));
+            while (data.isReadable()) {
+                short property = (short) data.readVarInt();
+                PropertyType type = data.readEnum(PropertyType.class);
+                //Read primitives directly into the container, and only create property data for the more complex types
+                switch (type) {
+                    case BOOLEAN -> container.handleWindowProperty(property, data.readBoolean());
+                    case BYTE -> container.handleWindowProperty(property, data.readByte());
+                    case SHORT -> container.handleWindowProperty(property, data.readShort());
+                    case INT -> container.handleWindowProperty(property, data.readVarInt());
+                    case LONG -> container.handleWindowProperty(property, data.readVarLong());
+                    case FLOAT -> container.handleWindowProperty(property, data.readFloat());
+                    case DOUBLE -> container.handleWindowProperty(property, data.readDouble());
+                    default -> {
+                        PropertyData propertyData = type.createData(property, data);
+                        if (propertyData != null) {
+                            propertyData.handleWindowProperty(container);
+                        }
+                    }
+                }
+            }
         }
     }
 
     @Override
     public void encode(FriendlyByteBuf buffer) {
         buffer.writeByte(windowId);
-        buffer.writeCollection(data, (buf, data) -> data.writeToPacket(buf));
+        //Note: We don't move the reader index of our data so that encoding is repeatable
+        buffer.writeBytes(data, data.readerIndex(), data.readableBytes());
     }
 
     public static PacketUpdateContainer decode(FriendlyByteBuf buffer) {
         short windowId = buffer.readUnsignedByte();
-        int size = buffer.readVarInt();
-        List<PropertyData> data = new ArrayList<>(size);
-        for (int i = 0; i < size; i++) {
-            PropertyData propertyData = PropertyData.fromBuffer(buffer);
-            if (propertyData != null) {
-                data.add(propertyData);
-            }
-        }
+        //Copy the properties out of the buffer, so that we can read them once we are on the main thread and the buffer may have been released
+        FriendlyByteBuf data = new FriendlyByteBuf(Unpooled.buffer(buffer.readableBytes()));
+        data.writeBytes(buffer);
         return new PacketUpdateContainer(windowId, data);
     }
-}
\ No newline at end of file
+}
@@ -23,14 +23,12 @@ public abstract class PropertyData {
 
     public abstract void handleWindowProperty(MekanismContainer container);
 
+    /**
+     * Writes the type and value of this data to the buffer.
+     *
+     * @apiNote The property index is not written, as it is written by {@link mekanism.common.network.to_client.container.PacketUpdateContainer}.
+     */
     public void writeToPacket(FriendlyByteBuf buffer) {
         buffer.writeEnum(type);
-        buffer.writeShort(property);
-    }
-
-    public static PropertyData fromBuffer(FriendlyByteBuf buffer) {
-        PropertyType type = buffer.readEnum(PropertyType.class);
-        short property = buffer.readShort();
-        return type.createData(property, buffer);
     }
 }
\ No newline at end of file
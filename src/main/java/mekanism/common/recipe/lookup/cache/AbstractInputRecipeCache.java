@@ -1,8 +1,9 @@
 package mekanism.common.recipe.lookup.cache;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import mekanism.api.recipes.MekanismRecipe;
@@ -13,12 +14,17 @@ import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Basic helper implementation for {@link IInputRecipeCache} that keeps track of the recipe type and if this cache has been initialized yet or not.
+ * Basic helper implementation for {@link IInputRecipeCache} that keeps track of the recipe type, if this cache has been initialized yet or not, and the
+ * {@link InputRecipeIndex input indices} of the cache.
  */
 public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> implements IInputRecipeCache {
 
+    private final List<InputRecipeIndex<?, RECIPE>> indices = new ArrayList<>();
     protected final MekanismRecipeType<RECIPE, ?> recipeType;
     protected boolean initialized;
+    //Note: These are only used for statistics, so we don't care if they are slightly off from lookups happening on multiple threads at once
+    long indexHits;
+    long indexMisses;
 
     protected AbstractInputRecipeCache(MekanismRecipeType<RECIPE, ?> recipeType) {
         this.recipeType = recipeType;
@@ -28,6 +34,49 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
     public void clear() {
         //Mark the cache as no longer being initialized
         initialized = false;
+        for (InputRecipeIndex<?, RECIPE> index : indices) {
+            index.clear();
+        }
+    }
+
+    /**
+     * Creates an index for looking up which complex recipes accept a given input.
+     *
+     * @param cache          Input cache for the input.
+     * @param complexRecipes Recipes where the ingredient for the input is complex.
+     * @param inputExtractor Extracts the ingredient for the input from a recipe.
+     */
+    protected <INPUT, INGREDIENT extends InputIngredient<INPUT>> InputRecipeIndex<INPUT, RECIPE> createIndex(IInputCache<INPUT, INGREDIENT, RECIPE> cache,
+          Collection<RECIPE> complexRecipes, Function<RECIPE, INGREDIENT> inputExtractor) {
+        return createIndex(cache, complexRecipes, (recipe, input) -> inputExtractor.apply(recipe).testType(input));
+    }
+
+    /**
+     * Creates an index for looking up which complex recipes accept a given input.
+     *
+     * @param cache              Input cache for the input.
+     * @param complexRecipes     Recipes that the input cache is not able to fully handle.
+     * @param complexTypeMatches Checks if a complex recipe accepts the type of the given input.
+     */
+    protected <INPUT> InputRecipeIndex<INPUT, RECIPE> createIndex(IInputCache<INPUT, ?, RECIPE> cache, Collection<RECIPE> complexRecipes,
+          BiPredicate<RECIPE, INPUT> complexTypeMatches) {
+        InputRecipeIndex<INPUT, RECIPE> index = new InputRecipeIndex<>(this, cache, complexRecipes, complexTypeMatches);
+        indices.add(index);
+        return index;
+    }
+
+    /**
+     * @return How many lookups into the input indices of this cache were answered without having to check the recipes.
+     */
+    public long getIndexHits() {
+        return indexHits;
+    }
+
+    /**
+     * @return How many lookups into the input indices of this cache there have been.
+     */
+    public long getIndexLookups() {
+        return indexHits + indexMisses;
     }
 
     /**
@@ -56,16 +105,15 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
     }
 
     /**
-     * Helper to check if a cache contains a given input, or if not, if the complex recipe fallback set contains a matching recipe.
+     * Helper to check if a cache contains a given input, or if not, if any of the complex recipes in the given index match.
      */
-    protected <INPUT, INGREDIENT extends InputIngredient<INPUT>, CACHE extends IInputCache<INPUT, INGREDIENT, RECIPE>> boolean containsInput(
-          @Nullable Level world, INPUT input, Function<RECIPE, INGREDIENT> inputExtractor, CACHE cache, Set<RECIPE> complexRecipes) {
+    protected <INPUT> boolean containsInput(@Nullable Level world, INPUT input, IInputCache<INPUT, ?, RECIPE> cache, InputRecipeIndex<INPUT, RECIPE> index) {
         if (cache.isEmpty(input)) {
             //Don't allow empty inputs
             return false;
         }
         initCacheIfNeeded(world);
-        return cache.contains(input) || complexRecipes.stream().anyMatch(recipe -> inputExtractor.apply(recipe).testType(input));
+        return index.contains(input);
     }
 
     /**
@@ -77,22 +125,26 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
      * <li>If the first input is not empty but the second input is empty: This will return true.</li>
      * </ul>
      */
-    protected <INPUT_1, INGREDIENT_1 extends InputIngredient<INPUT_1>, CACHE_1 extends IInputCache<INPUT_1, INGREDIENT_1, RECIPE>, INPUT_2,
-          INGREDIENT_2 extends InputIngredient<INPUT_2>, CACHE_2 extends IInputCache<INPUT_2, INGREDIENT_2, RECIPE>> boolean containsPairing(@Nullable Level world,
-          INPUT_1 input1, Function<RECIPE, INGREDIENT_1> input1Extractor, CACHE_1 cache1, Set<RECIPE> complexIngredients1, INPUT_2 input2,
-          Function<RECIPE, INGREDIENT_2> input2Extractor, CACHE_2 cache2, Set<RECIPE> complexIngredients2) {
+    protected <INPUT_1, INPUT_2, INGREDIENT_2 extends InputIngredient<INPUT_2>> boolean containsPairing(@Nullable Level world, INPUT_1 input1,
+          IInputCache<INPUT_1, ?, RECIPE> cache1, InputRecipeIndex<INPUT_1, RECIPE> index1, INPUT_2 input2, Function<RECIPE, INGREDIENT_2> input2Extractor,
+          IInputCache<INPUT_2, INGREDIENT_2, RECIPE> cache2, InputRecipeIndex<INPUT_2, RECIPE> index2) {
         if (cache1.isEmpty(input1)) {
             //Note: We don't bother checking if 2 is empty here as it will be verified in containsInput
-            return containsInput(world, input2, input2Extractor, cache2, complexIngredients2);
+            return containsInput(world, input2, cache2, index2);
         } else if (cache2.isEmpty(input2)) {
             return true;
         }
         initCacheIfNeeded(world);
+        List<RECIPE> complexMatches = index1.getMatches(input1);
+        if (complexMatches == null) {
+            //No recipes use input 1, so there can't be any that also use input 2
+            return false;
+        }
         //Note: If cache 1 contains input 1 then we only need to test the type of input 2 as we already know input 1 matches
         if (cache1.contains(input1, recipe -> input2Extractor.apply(recipe).testType(input2))) {
             return true;
         }
-        //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex
-        return complexIngredients1.stream().anyMatch(recipe -> input1Extractor.apply(recipe).testType(input1) && input2Extractor.apply(recipe).testType(input2));
+        //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex and matches input 1
+        return complexMatches.stream().anyMatch(recipe -> input2Extractor.apply(recipe).testType(input2));
     }
-}
\ No newline at end of file
+}
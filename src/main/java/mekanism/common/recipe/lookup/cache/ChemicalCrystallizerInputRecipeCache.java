@@ -14,6 +14,7 @@ import mekanism.api.recipes.ChemicalCrystallizerRecipe;
 import mekanism.api.recipes.ingredients.ChemicalStackIngredient;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.lookup.cache.type.ChemicalInputCache;
+import mekanism.common.recipe.lookup.cache.type.IInputCache;
 import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.EnumUtils;
 import net.minecraft.world.level.Level;
@@ -27,15 +28,25 @@ public class ChemicalCrystallizerInputRecipeCache extends AbstractInputRecipeCac
 
     private final Map<ChemicalType, ChemicalInputCache<?, ?, ChemicalCrystallizerRecipe>> typeBasedCache = new EnumMap<>(ChemicalType.class);
     private final Map<ChemicalType, Set<ChemicalCrystallizerRecipe>> typeBasedComplexRecipes = new EnumMap<>(ChemicalType.class);
+    private final Map<ChemicalType, InputRecipeIndex<ChemicalStack<?>, ChemicalCrystallizerRecipe>> typeBasedIndices = new EnumMap<>(ChemicalType.class);
 
     public ChemicalCrystallizerInputRecipeCache(MekanismRecipeType<ChemicalCrystallizerRecipe, ?> recipeType) {
         super(recipeType);
         for (ChemicalType chemicalType : EnumUtils.CHEMICAL_TYPES) {
-            typeBasedCache.put(chemicalType, new ChemicalInputCache<>());
-            typeBasedComplexRecipes.put(chemicalType, new HashSet<>());
+            ChemicalInputCache<?, ?, ChemicalCrystallizerRecipe> cache = new ChemicalInputCache<>();
+            Set<ChemicalCrystallizerRecipe> complexRecipes = new HashSet<>();
+            typeBasedCache.put(chemicalType, cache);
+            typeBasedComplexRecipes.put(chemicalType, complexRecipes);
+            typeBasedIndices.put(chemicalType, createIndex(castCache(cache), complexRecipes, (recipe, stack) -> recipe.testType(stack)));
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static IInputCache<ChemicalStack<?>, ?, ChemicalCrystallizerRecipe> castCache(ChemicalInputCache<?, ?, ChemicalCrystallizerRecipe> cache) {
+        //Note: The cache for each chemical type only ever gets queried with stacks of that type
+        return (IInputCache<ChemicalStack<?>, ?, ChemicalCrystallizerRecipe>) (IInputCache<?, ?, ChemicalCrystallizerRecipe>) cache;
+    }
+
     @Override
     public void clear() {
         super.clear();
@@ -59,8 +70,7 @@ public class ChemicalCrystallizerInputRecipeCache extends AbstractInputRecipeCac
             return false;
         }
         initCacheIfNeeded(world);
-        ChemicalType type = input.getChemicalType();
-        return containsInput(type, input.getChemicalStack()) || typeBasedComplexRecipes.get(type).stream().anyMatch(recipe -> recipe.testType(input));
+        return typeBasedIndices.get(input.getChemicalType()).contains(input.getChemicalStack());
     }
 
     /**
@@ -77,14 +87,8 @@ public class ChemicalCrystallizerInputRecipeCache extends AbstractInputRecipeCac
             return false;
         }
         initCacheIfNeeded(world);
-        ChemicalType type = ChemicalType.getTypeFor(input);
         STACK stack = ChemicalUtil.withAmount(input, 1);
-        return containsInput(type, stack) || typeBasedComplexRecipes.get(type).stream().anyMatch(recipe -> recipe.testType(stack));
-    }
-
-    @SuppressWarnings("unchecked")
-    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> boolean containsInput(ChemicalType type, STACK stack) {
-        return ((ChemicalInputCache<CHEMICAL, STACK, ChemicalCrystallizerRecipe>) typeBasedCache.get(type)).contains(stack);
+        return typeBasedIndices.get(ChemicalType.getTypeFor(input)).contains(stack);
     }
 
     /**
@@ -108,10 +112,15 @@ public class ChemicalCrystallizerInputRecipeCache extends AbstractInputRecipeCac
     @Nullable
     @SuppressWarnings("unchecked")
     private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> ChemicalCrystallizerRecipe findFirstRecipe(ChemicalType type, STACK stack) {
+        List<ChemicalCrystallizerRecipe> complexMatches = typeBasedIndices.get(type).getMatches(stack);
+        if (complexMatches == null) {
+            //No recipes use the input
+            return null;
+        }
         Predicate<ChemicalCrystallizerRecipe> matchPredicate = recipe -> ((ChemicalStackIngredient<CHEMICAL, STACK>) recipe.getInput()).test(stack);
         ChemicalInputCache<CHEMICAL, STACK, ChemicalCrystallizerRecipe> cache = (ChemicalInputCache<CHEMICAL, STACK, ChemicalCrystallizerRecipe>) typeBasedCache.get(type);
         ChemicalCrystallizerRecipe recipe = cache.findFirstRecipe(stack, matchPredicate);
-        return recipe == null ? findFirstRecipe(typeBasedComplexRecipes.get(type), matchPredicate) : recipe;
+        return recipe == null ? findFirstRecipe(complexMatches, matchPredicate) : recipe;
     }
 
     @Override
@@ -23,11 +23,12 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
 
     private final Set<RECIPE> complexIngredientA = new HashSet<>();
     private final Set<RECIPE> complexIngredientB = new HashSet<>();
-    private final Set<RECIPE> complexRecipes = new HashSet<>();
     private final Function<RECIPE, INGREDIENT_A> inputAExtractor;
     private final Function<RECIPE, INGREDIENT_B> inputBExtractor;
     private final CACHE_A cacheA;
     private final CACHE_B cacheB;
+    private final InputRecipeIndex<INPUT_A, RECIPE> indexA;
+    private final InputRecipeIndex<INPUT_B, RECIPE> indexB;
 
     protected DoubleInputRecipeCache(MekanismRecipeType<RECIPE, ?> recipeType, Function<RECIPE, INGREDIENT_A> inputAExtractor, CACHE_A cacheA,
           Function<RECIPE, INGREDIENT_B> inputBExtractor, CACHE_B cacheB) {
@@ -36,6 +37,8 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         this.inputBExtractor = inputBExtractor;
         this.cacheA = cacheA;
         this.cacheB = cacheB;
+        this.indexA = createIndex(cacheA, complexIngredientA, inputAExtractor);
+        this.indexB = createIndex(cacheB, complexIngredientB, inputBExtractor);
     }
 
     @Override
@@ -45,7 +48,6 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         cacheB.clear();
         complexIngredientA.clear();
         complexIngredientB.clear();
-        complexRecipes.clear();
     }
 
     /**
@@ -57,7 +59,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputA(@Nullable Level world, INPUT_A input) {
-        return containsInput(world, input, inputAExtractor, cacheA, complexIngredientA);
+        return containsInput(world, input, cacheA, indexA);
     }
 
     /**
@@ -69,7 +71,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputB(@Nullable Level world, INPUT_B input) {
-        return containsInput(world, input, inputBExtractor, cacheB, complexIngredientB);
+        return containsInput(world, input, cacheB, indexB);
     }
 
     /**
@@ -86,7 +88,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * Object)}.
      */
     public boolean containsInputAB(@Nullable Level world, INPUT_A inputA, INPUT_B inputB) {
-        return containsPairing(world, inputA, inputAExtractor, cacheA, complexIngredientA, inputB, inputBExtractor, cacheB, complexIngredientB);
+        return containsPairing(world, inputA, cacheA, indexA, inputB, inputBExtractor, cacheB, indexB);
     }
 
     /**
@@ -103,7 +105,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * Object)}.
      */
     public boolean containsInputBA(@Nullable Level world, INPUT_A inputA, INPUT_B inputB) {
-        return containsPairing(world, inputB, inputBExtractor, cacheB, complexIngredientB, inputA, inputAExtractor, cacheA, complexIngredientA);
+        return containsPairing(world, inputB, cacheB, indexB, inputA, inputAExtractor, cacheA, indexA);
     }
 
     /**
@@ -146,13 +148,25 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         Predicate<RECIPE> matchPredicate = r -> r.test(inputA, inputB);
         //Lookup a recipe from the specified input map
         RECIPE recipe;
+        List<RECIPE> complexMatches;
         if (useCacheA) {
+            complexMatches = indexA.getMatches(inputA);
+            if (complexMatches == null) {
+                //No recipes use input A
+                return null;
+            }
             recipe = cacheA.findFirstRecipe(inputA, matchPredicate);
         } else {
+            complexMatches = indexB.getMatches(inputB);
+            if (complexMatches == null) {
+                //No recipes use input B
+                return null;
+            }
             recipe = cacheB.findFirstRecipe(inputB, matchPredicate);
         }
-        // if there is no recipe, then check if any of our complex recipes (either a or b being complex) match
-        return recipe == null ? findFirstRecipe(complexRecipes, matchPredicate) : recipe;
+        // if there is no recipe, then check if any of the complex recipes for the input we looked up by match. Any recipes where
+        // that input is not complex would already have been found by looking it up in the input map
+        return recipe == null ? findFirstRecipe(complexMatches, matchPredicate) : recipe;
     }
 
     /**
@@ -174,6 +188,11 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             return null;
         }
         initCacheIfNeeded(world);
+        List<RECIPE> complexMatches = indexA.getMatches(inputA);
+        if (complexMatches == null) {
+            //No recipes use input A
+            return null;
+        }
         Predicate<RECIPE> matchPredicate;
         if (cacheB.isEmpty(inputB)) {
             //If b is empty, lookup by A and our match criteria
@@ -182,10 +201,8 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             matchPredicate = recipe -> inputBExtractor.apply(recipe).testType(inputB) && matchCriteria.test(recipe);
         }
         RECIPE recipe = cacheA.findFirstRecipe(inputA, matchPredicate);
-        if (recipe == null) {
-            return findFirstRecipe(complexRecipes, r -> inputAExtractor.apply(r).testType(inputA) && matchPredicate.test(r));
-        }
-        return recipe;
+        //Note: The complex matches already accept the type of input A
+        return recipe == null ? findFirstRecipe(complexMatches, matchPredicate) : recipe;
     }
 
     @Override
@@ -199,9 +216,6 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             if (complexB) {
                 complexIngredientB.add(recipe);
             }
-            if (complexA || complexB) {
-                complexRecipes.add(recipe);
-            }
         }
     }
 
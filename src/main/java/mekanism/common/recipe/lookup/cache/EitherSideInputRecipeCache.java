@@ -23,6 +23,7 @@ public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends Input
     private final Function<RECIPE, INGREDIENT> inputAExtractor;
     private final Function<RECIPE, INGREDIENT> inputBExtractor;
     private final CACHE cache;
+    private final InputRecipeIndex<INPUT, RECIPE> index;
 
     protected EitherSideInputRecipeCache(MekanismRecipeType<RECIPE, ?> recipeType, Function<RECIPE, INGREDIENT> inputAExtractor,
           Function<RECIPE, INGREDIENT> inputBExtractor, CACHE cache) {
@@ -30,6 +31,8 @@ public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends Input
         this.inputAExtractor = inputAExtractor;
         this.inputBExtractor = inputBExtractor;
         this.cache = cache;
+        this.index = createIndex(cache, complexRecipes, (recipe, input) -> inputAExtractor.apply(recipe).testType(input) ||
+                                                                          inputBExtractor.apply(recipe).testType(input));
     }
 
     @Override
@@ -53,8 +56,7 @@ public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends Input
             return false;
         }
         initCacheIfNeeded(world);
-        return cache.contains(input) || complexRecipes.stream().anyMatch(recipe -> inputAExtractor.apply(recipe).testType(input) ||
-                                                                                   inputBExtractor.apply(recipe).testType(input));
+        return index.contains(input);
     }
 
     /**
@@ -79,6 +81,11 @@ public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends Input
             return true;
         }
         initCacheIfNeeded(world);
+        List<RECIPE> complexMatches = index.getMatches(inputA);
+        if (complexMatches == null) {
+            //No recipes use input A on either side
+            return false;
+        }
         //Note: Even though we know the cache contains input A, we need to check both input A and input B
         // This is because we want to ensure that we allow the inputs being in either order, but in our
         // secondary validation we check inputB first as we know the recipe contains inputA as one of the
@@ -91,8 +98,8 @@ public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends Input
         })) {
             return true;
         }
-        //Our quick lookup cache does not contain it, check any recipes where the ingredients are complex
-        return complexRecipes.stream().anyMatch(recipe -> {
+        //Our quick lookup cache does not contain it, check any recipes where the ingredients are complex and one side matches input A
+        return complexMatches.stream().anyMatch(recipe -> {
             INGREDIENT ingredientA = inputAExtractor.apply(recipe);
             INGREDIENT ingredientB = inputBExtractor.apply(recipe);
             return ingredientA.testType(inputA) && ingredientB.testType(inputB) || ingredientB.testType(inputA) && ingredientA.testType(inputB);
@@ -115,12 +122,17 @@ public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends Input
             return null;
         }
         initCacheIfNeeded(world);
+        List<RECIPE> complexMatches = index.getMatches(inputA);
+        if (complexMatches == null) {
+            //No recipes use input A on either side
+            return null;
+        }
         //Note: The recipe's test method checks both directions
         Predicate<RECIPE> matchPredicate = r -> r.test(inputA, inputB);
         //Lookup a recipe from the input map
         RECIPE recipe = cache.findFirstRecipe(inputA, matchPredicate);
-        // if there is no recipe, then check if any of our complex recipes match
-        return recipe == null ? findFirstRecipe(complexRecipes, matchPredicate) : recipe;
+        // if there is no recipe, then check if any of our complex recipes that use input A match
+        return recipe == null ? findFirstRecipe(complexMatches, matchPredicate) : recipe;
     }
 
     @Override
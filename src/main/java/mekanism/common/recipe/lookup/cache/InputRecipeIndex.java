@@ -0,0 +1,133 @@
+package mekanism.common.recipe.lookup.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.common.CommonWorldTickHandler;
+import mekanism.common.recipe.lookup.cache.type.IInputCache;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Remembers which types of inputs are used by any recipes, and which of the recipes that can't be looked up directly by their input (complex recipes) accept each type
+ * of input. This means repeated lookups for the same type of input don't have to check every complex recipe. Types of inputs that no recipe uses are remembered
+ * separately so that things that check inputs very often, such as ejectors and transporters, can quickly reject them without evicting the types that are used.
+ * <br><br>
+ * Both caches are bounded, and are cleared when the recipe cache is or when tags and recipes are being flushed.
+ *
+ * @implNote Only the type of the input is looked at when checking complex recipes, so the results are the same regardless of the size of the input.
+ */
+public class InputRecipeIndex<INPUT, RECIPE extends MekanismRecipe> {
+
+    private static final int MAX_USED_TYPES = 1_024;
+    private static final int MAX_UNUSED_TYPES = 2_048;
+
+    /**
+     * Map of input types that are used by at least one recipe, to the complex recipes that accept them.
+     */
+    private final Map<Object, List<RECIPE>> usedTypes = new BoundedCache<>(MAX_USED_TYPES);
+    /**
+     * Input types that are not used by any recipe.
+     */
+    private final Set<Object> unusedTypes = Collections.newSetFromMap(new BoundedCache<>(MAX_UNUSED_TYPES));
+    private final AbstractInputRecipeCache<RECIPE> recipeCache;
+    private final IInputCache<INPUT, ?, RECIPE> cache;
+    private final Collection<RECIPE> complexRecipes;
+    private final BiPredicate<RECIPE, INPUT> complexTypeMatches;
+
+    /**
+     * @param recipeCache        Recipe cache this index is for, lookups get counted towards its statistics.
+     * @param cache              Input cache that handles recipes with simple ingredients, and is used to create keys for the inputs.
+     * @param complexRecipes     Recipes that are not fully handled by the input cache. This collection is expected to be updated by the recipe cache.
+     * @param complexTypeMatches Checks if a complex recipe accepts the type of the given input.
+     */
+    InputRecipeIndex(AbstractInputRecipeCache<RECIPE> recipeCache, IInputCache<INPUT, ?, RECIPE> cache, Collection<RECIPE> complexRecipes,
+          BiPredicate<RECIPE, INPUT> complexTypeMatches) {
+        this.recipeCache = recipeCache;
+        this.cache = cache;
+        this.complexRecipes = complexRecipes;
+        this.complexTypeMatches = complexTypeMatches;
+    }
+
+    /**
+     * Gets the complex recipes that accept the type of the given input.
+     *
+     * @param input Recipe input, must not be empty and the recipe cache must already be initialized.
+     *
+     * @return Complex recipes that accept the given input's type, or {@code null} if no recipe, complex or not, accepts the given input's type.
+     *
+     * @implNote This is synchronized as recipe caches may be queried from both the client and server threads in single player.
+     */
+    @Nullable
+    public synchronized List<RECIPE> getMatches(INPUT input) {
+        if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            //Tags may have changed, so don't trust or store anything until the flush is over
+            clear();
+            recipeCache.indexMisses++;
+            return findMatches(input);
+        }
+        Object key = cache.createTypeKey(input, false);
+        if (unusedTypes.contains(key)) {
+            recipeCache.indexHits++;
+            return null;
+        }
+        List<RECIPE> matches = usedTypes.get(key);
+        if (matches != null) {
+            recipeCache.indexHits++;
+            return matches;
+        }
+        recipeCache.indexMisses++;
+        matches = findMatches(input);
+        if (matches == null) {
+            unusedTypes.add(cache.createTypeKey(input, true));
+        } else {
+            usedTypes.put(cache.createTypeKey(input, true), matches);
+        }
+        return matches;
+    }
+
+    @Nullable
+    private List<RECIPE> findMatches(INPUT input) {
+        List<RECIPE> matches = complexRecipes.stream().filter(recipe -> complexTypeMatches.test(recipe, input)).toList();
+        if (matches.isEmpty()) {
+            return cache.contains(input) ? Collections.emptyList() : null;
+        }
+        return matches;
+    }
+
+    /**
+     * Checks if any recipe accepts the type of the given input.
+     *
+     * @param input Recipe input, must not be empty and the recipe cache must already be initialized.
+     *
+     * @return {@code true} if there is a match, {@code false} if there isn't.
+     */
+    public boolean contains(INPUT input) {
+        return getMatches(input) != null;
+    }
+
+    public synchronized void clear() {
+        usedTypes.clear();
+        unusedTypes.clear();
+    }
+
+    private static class BoundedCache<KEY, VALUE> extends LinkedHashMap<KEY, VALUE> {
+
+        private final int maxSize;
+
+        private BoundedCache(int maxSize) {
+            //Use access order so that we evict the least recently used types first
+            super(16, 0.75F, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<KEY, VALUE> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
@@ -24,9 +24,13 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
     private final FluidInputCache<RotaryRecipe> fluidInputCache = new FluidInputCache<>();
     private final Set<RotaryRecipe> complexGasInputRecipes = new HashSet<>();
     private final Set<RotaryRecipe> complexFluidInputRecipes = new HashSet<>();
+    private final InputRecipeIndex<GasStack, RotaryRecipe> gasIndex;
+    private final InputRecipeIndex<FluidStack, RotaryRecipe> fluidIndex;
 
     public RotaryInputRecipeCache(MekanismRecipeType<RotaryRecipe, ?> recipeType) {
         super(recipeType);
+        gasIndex = createIndex(gasInputCache, complexGasInputRecipes, RotaryRecipe::getGasInput);
+        fluidIndex = createIndex(fluidInputCache, complexFluidInputRecipes, RotaryRecipe::getFluidInput);
     }
 
     @Override
@@ -47,7 +51,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInput(@Nullable Level world, FluidStack input) {
-        return containsInput(world, input, RotaryRecipe::getFluidInput, fluidInputCache, complexFluidInputRecipes);
+        return containsInput(world, input, fluidInputCache, fluidIndex);
     }
 
     /**
@@ -59,7 +63,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInput(@Nullable Level world, GasStack input) {
-        return containsInput(world, input, RotaryRecipe::getGasInput, gasInputCache, complexGasInputRecipes);
+        return containsInput(world, input, gasInputCache, gasIndex);
     }
 
     /**
@@ -77,9 +81,14 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
             return null;
         }
         initCacheIfNeeded(world);
+        List<RotaryRecipe> complexMatches = fluidIndex.getMatches(input);
+        if (complexMatches == null) {
+            //No recipes use the input
+            return null;
+        }
         Predicate<RotaryRecipe> matchPredicate = recipe -> recipe.test(input);
         RotaryRecipe recipe = fluidInputCache.findFirstRecipe(input, matchPredicate);
-        return recipe == null ? findFirstRecipe(complexFluidInputRecipes, matchPredicate) : recipe;
+        return recipe == null ? findFirstRecipe(complexMatches, matchPredicate) : recipe;
     }
 
     /**
@@ -97,9 +106,14 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
             return null;
         }
         initCacheIfNeeded(world);
+        List<RotaryRecipe> complexMatches = gasIndex.getMatches(input);
+        if (complexMatches == null) {
+            //No recipes use the input
+            return null;
+        }
         Predicate<RotaryRecipe> matchPredicate = recipe -> recipe.test(input);
         RotaryRecipe recipe = gasInputCache.findFirstRecipe(input, matchPredicate);
-        return recipe == null ? findFirstRecipe(complexGasInputRecipes, matchPredicate) : recipe;
+        return recipe == null ? findFirstRecipe(complexMatches, matchPredicate) : recipe;
     }
 
     @Override
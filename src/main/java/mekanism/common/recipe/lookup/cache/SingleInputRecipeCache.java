@@ -22,11 +22,13 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
     private final Set<RECIPE> complexRecipes = new HashSet<>();
     private final Function<RECIPE, INGREDIENT> inputExtractor;
     private final CACHE cache;
+    private final InputRecipeIndex<INPUT, RECIPE> index;
 
     protected SingleInputRecipeCache(MekanismRecipeType<RECIPE, ?> recipeType, Function<RECIPE, INGREDIENT> inputExtractor, CACHE cache) {
         super(recipeType);
         this.inputExtractor = inputExtractor;
         this.cache = cache;
+        this.index = createIndex(cache, complexRecipes, inputExtractor);
     }
 
     @Override
@@ -45,7 +47,7 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInput(@Nullable Level world, INPUT input) {
-        return containsInput(world, input, inputExtractor, cache, complexRecipes);
+        return containsInput(world, input, cache, index);
     }
 
     /**
@@ -63,9 +65,14 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
+        List<RECIPE> complexMatches = index.getMatches(input);
+        if (complexMatches == null) {
+            //No recipes use the input
+            return null;
+        }
         Predicate<RECIPE> matchPredicate = recipe -> recipe.test(input);
         RECIPE recipe = cache.findFirstRecipe(input, matchPredicate);
-        return recipe == null ? findFirstRecipe(complexRecipes, matchPredicate) : recipe;
+        return recipe == null ? findFirstRecipe(complexMatches, matchPredicate) : recipe;
     }
 
     /**
@@ -97,8 +104,14 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
+        List<RECIPE> complexMatches = index.getMatches(input);
+        if (complexMatches == null) {
+            //No recipes use the input
+            return null;
+        }
         RECIPE recipe = cache.findFirstRecipe(input, matchCriteria);
-        return recipe == null ? findFirstRecipe(complexRecipes, r -> inputExtractor.apply(r).testType(input) && matchCriteria.test(r)) : recipe;
+        //Note: The complex matches already accept the input's type
+        return recipe == null ? findFirstRecipe(complexMatches, matchCriteria) : recipe;
     }
 
     @Override
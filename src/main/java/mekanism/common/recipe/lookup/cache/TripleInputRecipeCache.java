@@ -24,13 +24,15 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
     private final Set<RECIPE> complexIngredientA = new HashSet<>();
     private final Set<RECIPE> complexIngredientB = new HashSet<>();
     private final Set<RECIPE> complexIngredientC = new HashSet<>();
-    private final Set<RECIPE> complexRecipes = new HashSet<>();
     private final Function<RECIPE, INGREDIENT_A> inputAExtractor;
     private final Function<RECIPE, INGREDIENT_B> inputBExtractor;
     private final Function<RECIPE, INGREDIENT_C> inputCExtractor;
     private final CACHE_A cacheA;
     private final CACHE_B cacheB;
     private final CACHE_C cacheC;
+    private final InputRecipeIndex<INPUT_A, RECIPE> indexA;
+    private final InputRecipeIndex<INPUT_B, RECIPE> indexB;
+    private final InputRecipeIndex<INPUT_C, RECIPE> indexC;
 
     protected TripleInputRecipeCache(MekanismRecipeType<RECIPE, ?> recipeType, Function<RECIPE, INGREDIENT_A> inputAExtractor, CACHE_A cacheA,
           Function<RECIPE, INGREDIENT_B> inputBExtractor, CACHE_B cacheB, Function<RECIPE, INGREDIENT_C> inputCExtractor, CACHE_C cacheC) {
@@ -41,6 +43,9 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         this.cacheA = cacheA;
         this.cacheB = cacheB;
         this.cacheC = cacheC;
+        this.indexA = createIndex(cacheA, complexIngredientA, inputAExtractor);
+        this.indexB = createIndex(cacheB, complexIngredientB, inputBExtractor);
+        this.indexC = createIndex(cacheC, complexIngredientC, inputCExtractor);
     }
 
     @Override
@@ -52,7 +57,6 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         complexIngredientA.clear();
         complexIngredientB.clear();
         complexIngredientC.clear();
-        complexRecipes.clear();
     }
 
     /**
@@ -64,7 +68,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputA(@Nullable Level world, INPUT_A input) {
-        return containsInput(world, input, inputAExtractor, cacheA, complexIngredientA);
+        return containsInput(world, input, cacheA, indexA);
     }
 
     /**
@@ -76,7 +80,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputB(@Nullable Level world, INPUT_B input) {
-        return containsInput(world, input, inputBExtractor, cacheB, complexIngredientB);
+        return containsInput(world, input, cacheB, indexB);
     }
 
     /**
@@ -88,7 +92,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputC(@Nullable Level world, INPUT_C input) {
-        return containsInput(world, input, inputCExtractor, cacheC, complexIngredientC);
+        return containsInput(world, input, cacheC, indexC);
     }
 
     /**
@@ -107,8 +111,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * #containsInputCAB(Level, Object, Object, Object)} depending on which input is trying to be inserted.
      */
     public boolean containsInputABC(@Nullable Level world, INPUT_A inputA, INPUT_B inputB, INPUT_C inputC) {
-        return containsGrouping(world, inputA, inputAExtractor, cacheA, complexIngredientA, inputB, inputBExtractor, cacheB, complexIngredientB,
-              inputC, inputCExtractor, cacheC, complexIngredientC);
+        return containsGrouping(world, inputA, cacheA, indexA, inputB, inputBExtractor, cacheB, indexB, inputC, inputCExtractor, cacheC, indexC);
     }
 
     /**
@@ -127,8 +130,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * #containsInputCAB(Level, Object, Object, Object)} depending on which input is trying to be inserted.
      */
     public boolean containsInputBAC(@Nullable Level world, INPUT_A inputA, INPUT_B inputB, INPUT_C inputC) {
-        return containsGrouping(world, inputB, inputBExtractor, cacheB, complexIngredientB, inputA, inputAExtractor, cacheA, complexIngredientA,
-              inputC, inputCExtractor, cacheC, complexIngredientC);
+        return containsGrouping(world, inputB, cacheB, indexB, inputA, inputAExtractor, cacheA, indexA, inputC, inputCExtractor, cacheC, indexC);
     }
 
     /**
@@ -147,8 +149,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * #containsInputBAC(Level, Object, Object, Object)} depending on which input is trying to be inserted.
      */
     public boolean containsInputCAB(@Nullable Level world, INPUT_A inputA, INPUT_B inputB, INPUT_C inputC) {
-        return containsGrouping(world, inputC, inputCExtractor, cacheC, complexIngredientC, inputA, inputAExtractor, cacheA, complexIngredientA,
-              inputB, inputBExtractor, cacheB, complexIngredientB);
+        return containsGrouping(world, inputC, cacheC, indexC, inputA, inputAExtractor, cacheA, indexA, inputB, inputBExtractor, cacheB, indexB);
     }
 
     /**
@@ -163,35 +164,36 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * <li>If only the first input is not empty: This will return true.</li>
      * </ul>
      */
-    private <INPUT_1, INGREDIENT_1 extends InputIngredient<INPUT_1>, CACHE_1 extends IInputCache<INPUT_1, INGREDIENT_1, RECIPE>,
-          INPUT_2, INGREDIENT_2 extends InputIngredient<INPUT_2>, CACHE_2 extends IInputCache<INPUT_2, INGREDIENT_2, RECIPE>,
-          INPUT_3, INGREDIENT_3 extends InputIngredient<INPUT_3>, CACHE_3 extends IInputCache<INPUT_3, INGREDIENT_3, RECIPE>> boolean containsGrouping(@Nullable Level world,
-          INPUT_1 input1, Function<RECIPE, INGREDIENT_1> input1Extractor, CACHE_1 cache1, Set<RECIPE> complexIngredients1,
-          INPUT_2 input2, Function<RECIPE, INGREDIENT_2> input2Extractor, CACHE_2 cache2, Set<RECIPE> complexIngredients2,
-          INPUT_3 input3, Function<RECIPE, INGREDIENT_3> input3Extractor, CACHE_3 cache3, Set<RECIPE> complexIngredients3) {
+    private <INPUT_1, INPUT_2, INGREDIENT_2 extends InputIngredient<INPUT_2>, INPUT_3, INGREDIENT_3 extends InputIngredient<INPUT_3>> boolean containsGrouping(
+          @Nullable Level world, INPUT_1 input1, IInputCache<INPUT_1, ?, RECIPE> cache1, InputRecipeIndex<INPUT_1, RECIPE> index1,
+          INPUT_2 input2, Function<RECIPE, INGREDIENT_2> input2Extractor, IInputCache<INPUT_2, INGREDIENT_2, RECIPE> cache2, InputRecipeIndex<INPUT_2, RECIPE> index2,
+          INPUT_3 input3, Function<RECIPE, INGREDIENT_3> input3Extractor, IInputCache<INPUT_3, INGREDIENT_3, RECIPE> cache3, InputRecipeIndex<INPUT_3, RECIPE> index3) {
         if (cache1.isEmpty(input1)) {
             if (cache3.isEmpty(input3)) {
                 //If 1 and 3 are empty just check 2. We have this extra check here as containsPairing will always return true
                 // if the secondary type is empty, but this is the special case when we don't want that to actually happen
-                return containsInput(world, input2, input2Extractor, cache2, complexIngredients2);
+                return containsInput(world, input2, cache2, index2);
             }
             //Note: We don't bother checking if 2 is empty here as it will be verified in containsPairing
-            return containsPairing(world, input2, input2Extractor, cache2, complexIngredients2, input3, input3Extractor, cache3, complexIngredients3);
+            return containsPairing(world, input2, cache2, index2, input3, input3Extractor, cache3, index3);
         } else if (cache2.isEmpty(input2)) {
             //Note: We don't bother checking if 3 is empty here as it will be verified in containsPairing
-            return containsPairing(world, input1, input1Extractor, cache1, complexIngredients1, input3, input3Extractor, cache3, complexIngredients3);
+            return containsPairing(world, input1, cache1, index1, input3, input3Extractor, cache3, index3);
         } else if (cache3.isEmpty(input3)) {
-            return containsPairing(world, input1, input1Extractor, cache1, complexIngredients1, input2, input2Extractor, cache2, complexIngredients2);
+            return containsPairing(world, input1, cache1, index1, input2, input2Extractor, cache2, index2);
         }
         initCacheIfNeeded(world);
+        List<RECIPE> complexMatches = index1.getMatches(input1);
+        if (complexMatches == null) {
+            //No recipes use input 1, so there can't be any that also use input 2 and 3
+            return false;
+        }
         //Note: If cache 1 contains input 1 then we only need to test the type of input 2 and 3 as we already know input 1 matches
         if (cache1.contains(input1, recipe -> input2Extractor.apply(recipe).testType(input2) && input3Extractor.apply(recipe).testType(input3))) {
             return true;
         }
-        //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex
-        return complexIngredients1.stream().anyMatch(recipe -> input1Extractor.apply(recipe).testType(input1) &&
-                                                               input2Extractor.apply(recipe).testType(input2) &&
-                                                               input3Extractor.apply(recipe).testType(input3));
+        //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex and matches input 1
+        return complexMatches.stream().anyMatch(recipe -> input2Extractor.apply(recipe).testType(input2) && input3Extractor.apply(recipe).testType(input3));
     }
 
     /**
@@ -213,11 +215,17 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             return null;
         }
         initCacheIfNeeded(world);
+        List<RECIPE> complexMatches = indexA.getMatches(inputA);
+        if (complexMatches == null) {
+            //No recipes use input A
+            return null;
+        }
         Predicate<RECIPE> matchPredicate = r -> r.test(inputA, inputB, inputC);
         //Lookup a recipe from the A input map (the fact that it is A is arbitrary, it just as well could be B or C)
         RECIPE recipe = cacheA.findFirstRecipe(inputA, matchPredicate);
-        // if there is no recipe, then check if any of our complex recipes (either a, b, or c being complex) match
-        return recipe == null ? findFirstRecipe(complexRecipes, matchPredicate) : recipe;
+        // if there is no recipe, then check if any of the recipes where a is complex match. Any recipes where a is not complex
+        // would already have been found by looking it up in the input map
+        return recipe == null ? findFirstRecipe(complexMatches, matchPredicate) : recipe;
     }
 
     @Override
@@ -235,9 +243,6 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             if (complexC) {
                 complexIngredientC.add(recipe);
             }
-            if (complexA || complexB || complexC) {
-                complexRecipes.add(recipe);
-            }
         }
     }
 }
\ No newline at end of file
@@ -35,6 +35,12 @@ public class ChemicalInputCache<CHEMICAL extends Chemical<CHEMICAL>, STACK exten
         return stack.getType();
     }
 
+    @Override
+    public Object createTypeKey(STACK input, boolean copy) {
+        //Chemicals don't have any NBT, so the type is all we need
+        return input.getType();
+    }
+
     @Override
     public boolean isEmpty(STACK input) {
         return input.isEmpty();
@@ -40,6 +40,11 @@ public class FluidInputCache<RECIPE extends MekanismRecipe> extends NBTSensitive
         return HashedFluid.raw(stack);
     }
 
+    @Override
+    public Object createTypeKey(FluidStack input, boolean copy) {
+        return copy ? HashedFluid.create(input) : HashedFluid.raw(input);
+    }
+
     @Override
     public boolean isEmpty(FluidStack input) {
         return input.isEmpty();
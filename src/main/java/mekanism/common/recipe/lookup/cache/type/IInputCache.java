@@ -68,6 +68,16 @@ public interface IInputCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, R
         return multi.forEachIngredient(ingredient -> mapInputs(recipe, ingredient));
     }
 
+    /**
+     * Creates a key representing the type of the given input, including any NBT, that can be used to remember the results of lookups for inputs of the same type.
+     *
+     * @param input Input to create a key for.
+     * @param copy  {@code true} if the key is going to be stored, and must not be backed by the given input. {@code false} if it is only used for querying.
+     *
+     * @return Key representing the type of the given input.
+     */
+    Object createTypeKey(INPUT input, boolean copy);
+
     /**
      * Clears this {@link IInputCache}
      */
@@ -62,6 +62,11 @@ public class ItemInputCache<RECIPE extends MekanismRecipe> extends NBTSensitiveI
         return HashedItem.raw(stack);
     }
 
+    @Override
+    public Object createTypeKey(ItemStack input, boolean copy) {
+        return copy ? HashedItem.create(input) : HashedItem.raw(input);
+    }
+
     @Override
     public boolean isEmpty(ItemStack input) {
         return input.isEmpty();
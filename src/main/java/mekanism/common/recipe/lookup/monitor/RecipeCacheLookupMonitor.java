@@ -43,6 +43,14 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> implements
         hasNoRecipe = false;
     }
 
+    /**
+     * @return {@code true} if processing won't do anything until the contents of the holder change, either due to there being no recipe for the current inputs, or the
+     * cached recipe being unable to perform any operations.
+     */
+    public boolean isIdle() {
+        return cachedRecipe == null ? hasNoRecipe : cachedRecipe.isIdle();
+    }
+
     /**
      * Helper that wraps {@link #updateAndProcess()} inside of a brief check to calculate how much energy actually got used.
      */
@@ -255,6 +255,12 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     protected IntSupplier delaySupplier = MekanismConfig.general.blockDeactivationDelay;
     //End variables ITileActive
 
+    //Variables for handling sleeping
+    private final TileSleepState sleepState = new TileSleepState();
+    @Nullable
+    private TileSleepTracker.SleepCounts sleepCounts;
+    //End variables sleeping
+
     //Variables for handling ITileSound
     @Nullable
     private final SoundEvent soundEvent;
@@ -555,6 +561,16 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     public static void tickServer(Level level, BlockPos pos, BlockState state, TileEntityMekanism tile) {
+        if (tile.sleepCounts == null) {
+            tile.sleepCounts = TileSleepTracker.getCounts(level);
+        }
+        if (tile.sleepState.staySleeping(tile.getChangeCount(), tile.frequencyComponent.hasPendingChanges())) {
+            tile.sleepCounts.count(true);
+            tile.ticker++;
+            return;
+        }
+        tile.sleepCounts.count(false);
+        long changeCount = tile.getChangeCount();
         tile.frequencyComponent.tickServer();
         if (tile.supportsUpgrades()) {
             tile.upgradeComponent.tickServer();
@@ -598,10 +614,45 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         if (tile.supportsRedstone()) {
             tile.redstoneLastTick = tile.redstone;
         }
+        //If nothing changed this tick, and we know nothing will change next tick unless something else changes us, go to sleep
+        if (changeCount == tile.getChangeCount() && MekanismConfig.general.idleTileSleeping.get() && tile.isIdle() && tile.canSleep()) {
+            tile.sleepState.sleep(changeCount);
+        }
+    }
+
+    /**
+     * Checks the conditions that would require any tile to keep ticking, regardless of if it is idle.
+     */
+    private boolean isIdle() {
+        if (!playersUsing.isEmpty() || hasChunkloader || persists(SubstanceType.HEAT) || updateDelay > 0 || updateComparators) {
+            return false;
+        } else if (supportsUpgrades() && !upgradeComponent.getUpgradeSlot().isEmpty()) {
+            //Upgrades take multiple ticks to be installed
+            return false;
+        }
+        return !frequencyComponent.hasPendingChanges();
+    }
+
+    /**
+     * Checks if this tile can stop running its server tick until it gets changed. This is only called after a tick in which nothing about this tile changed, and when
+     * it would not be ticking any components.
+     *
+     * @return {@code true} if running the next tick is guaranteed to not do anything unless this tile gets marked as changed, or all tiles get woken up.
+     */
+    protected boolean canSleep() {
+        return false;
+    }
+
+    /**
+     * Wakes this tile up if it is sleeping so that it runs its next server tick.
+     */
+    public void wakeUp() {
+        sleepState.wakeUp();
     }
 
     public void open(Player player) {
         playersUsing.add(player);
+        wakeUp();
     }
 
     public void close(Player player) {
@@ -911,6 +962,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         boolean power = level.hasNeighborSignal(getBlockPos());
         if (redstone != power) {
             redstone = power;
+            wakeUp();
             onPowerChange();
         }
     }
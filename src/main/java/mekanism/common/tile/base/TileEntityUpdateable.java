@@ -28,6 +28,7 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     private Coord4D cachedCoord;
     private boolean cacheCoord;
     private long lastSave;
+    private long changeCount;
 
     public TileEntityUpdateable(TileEntityTypeRegistryObject<?> type, BlockPos pos, BlockState state) {
         super(type.get(), pos, state);
@@ -81,7 +82,15 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
         setChanged(false);
     }
 
+    /**
+     * @return A counter that gets incremented each time this tile is marked as changed, can be used to check if anything may have changed since it was last queried.
+     */
+    public long getChangeCount() {
+        return changeCount;
+    }
+
     protected void setChanged(boolean updateComparator) {
+        changeCount++;
         //Copy of the base impl of markDirty in TileEntity, except only updates comparator state when something changed
         // and if our block supports having a comparator signal, instead of always doing it
         if (level != null) {
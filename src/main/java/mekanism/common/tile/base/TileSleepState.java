@@ -0,0 +1,48 @@
+package mekanism.common.tile.base;
+
+/**
+ * Keeps track of whether a {@link TileEntityMekanism} is sleeping, and what it depended on when it fell asleep, so that it can tell when it has to wake up again.
+ */
+final class TileSleepState {
+
+    private boolean sleeping;
+    private long changeCount;
+    private int wakeEpoch;
+
+    boolean isSleeping() {
+        return sleeping;
+    }
+
+    /**
+     * Checks if a sleeping tile can skip its tick, and wakes it up if anything it depends on changed since it fell asleep.
+     *
+     * @param changeCount    The current change count of the tile.
+     * @param pendingChanges {@code true} if the tile has changes pending that only get applied when it ticks.
+     *
+     * @return {@code true} if the tile is sleeping and should skip its tick.
+     */
+    boolean staySleeping(long changeCount, boolean pendingChanges) {
+        if (sleeping) {
+            if (this.changeCount == changeCount && wakeEpoch == TileSleepTracker.getWakeEpoch() && !pendingChanges) {
+                return true;
+            }
+            sleeping = false;
+        }
+        return false;
+    }
+
+    /**
+     * Puts the tile to sleep until its change count moves away from the given value, or all tiles get woken up.
+     *
+     * @param changeCount The change count of the tile after it ran a tick in which nothing about it changed.
+     */
+    void sleep(long changeCount) {
+        sleeping = true;
+        this.changeCount = changeCount;
+        wakeEpoch = TileSleepTracker.getWakeEpoch();
+    }
+
+    void wakeUp() {
+        sleeping = false;
+    }
+}
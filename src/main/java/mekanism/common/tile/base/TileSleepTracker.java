@@ -0,0 +1,90 @@
+package mekanism.common.tile.base;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Collections;
+import java.util.Map;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+
+/**
+ * Keeps track of how many {@link TileEntityMekanism}s are sleeping (skipping their server tick as nothing about them has changed) and awake in each dimension, and
+ * allows waking up all sleeping tiles when something global that they may depend on changes, such as configs or recipes being reloaded.
+ */
+public class TileSleepTracker {
+
+    private static final Map<ResourceKey<Level>, SleepCounts> COUNTS = new Object2ObjectOpenHashMap<>();
+    private static int wakeEpoch;
+
+    private TileSleepTracker() {
+    }
+
+    /**
+     * @return A value that changes whenever all sleeping tiles should wake up.
+     */
+    public static int getWakeEpoch() {
+        return wakeEpoch;
+    }
+
+    /**
+     * Wakes up all sleeping tiles the next time they would tick.
+     */
+    public static void wakeAll() {
+        wakeEpoch++;
+    }
+
+    static SleepCounts getCounts(Level level) {
+        return COUNTS.computeIfAbsent(level.dimension(), dimension -> new SleepCounts());
+    }
+
+    /**
+     * Called at the end of each level's tick to store how many tiles were sleeping and awake during the tick.
+     */
+    public static void tickEnd(Level level) {
+        SleepCounts counts = COUNTS.get(level.dimension());
+        if (counts != null) {
+            counts.tickEnd();
+        }
+    }
+
+    /**
+     * @return The number of sleeping and awake tiles during the last tick of each dimension.
+     */
+    public static Map<ResourceKey<Level>, SleepCounts> getCounts() {
+        return Collections.unmodifiableMap(COUNTS);
+    }
+
+    public static void reset() {
+        COUNTS.clear();
+    }
+
+    public static class SleepCounts {
+
+        private int sleeping;
+        private int awake;
+        private int lastSleeping;
+        private int lastAwake;
+
+        void count(boolean sleeping) {
+            if (sleeping) {
+                this.sleeping++;
+            } else {
+                awake++;
+            }
+        }
+
+        private void tickEnd() {
+            lastSleeping = sleeping;
+            lastAwake = awake;
+            sleeping = 0;
+            awake = 0;
+        }
+
+        public int getSleeping() {
+            return lastSleeping;
+        }
+
+        public int getAwake() {
+            return lastAwake;
+        }
+    }
+}
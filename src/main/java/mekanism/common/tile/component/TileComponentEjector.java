@@ -111,6 +111,18 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         return this;
     }
 
+    /**
+     * @return {@code true} if this ejector is trying to eject any type.
+     */
+    public boolean isEjecting() {
+        for (Map.Entry<TransmissionType, ConfigInfo> entry : configInfo.entrySet()) {
+            if (entry.getValue().isEjecting() && (canEject == null || canEject.test(entry.getKey()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public void tickServer() {
         for (Map.Entry<TransmissionType, ConfigInfo> entry : configInfo.entrySet()) {
             TransmissionType type = entry.getKey();
@@ -0,0 +1,357 @@
+package mekanism.common.tile.factory;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Balances the inputs of the processes of a factory, so that inputs of the same type are spread out as evenly as possible across the processes holding them, and
+ * spread out into empty processes if there is enough to go around.
+ * <br><br>
+ * The processes holding each type of input are tracked as inputs change, so that when there are no empty processes only the groups of processes that hold an input
+ * that changed need to be rebalanced. When there are empty processes, which group gets to expand into them depends on all the groups, so a full sort is done
+ * instead.
+ *
+ * @param <TYPE> Type of the inputs, inputs that can be stacked together should be equal.
+ */
+public class FactoryInputSorter<TYPE> {
+
+    private final ISortableInputs<TYPE> inputs;
+    private final Object[] types;
+    private final Map<TYPE, IntList> groups = new Object2ObjectOpenHashMap<>();
+    private final BitSet dirty;
+    private final List<TYPE> touched = new ArrayList<>();
+    private int emptyProcesses;
+
+    public FactoryInputSorter(ISortableInputs<TYPE> inputs, int processes) {
+        this.inputs = inputs;
+        this.types = new Object[processes];
+        this.dirty = new BitSet(processes);
+        //We don't know anything about the inputs yet, so treat everything as empty and in need of being checked
+        this.emptyProcesses = processes;
+        markAllDirty();
+    }
+
+    /**
+     * Marks that the input of the given process may have changed.
+     */
+    public void markDirty(int process) {
+        dirty.set(process);
+    }
+
+    /**
+     * Marks that the inputs of all processes may have changed, or that something that affects how much input each process needs may have changed.
+     */
+    public void markAllDirty() {
+        dirty.set(0, types.length);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private TYPE getType(int process) {
+        return (TYPE) types[process];
+    }
+
+    /**
+     * Updates the tracked type of any processes that may have changed, and keeps track of which types of inputs were affected.
+     */
+    private void refresh() {
+        touched.clear();
+        for (int process = dirty.nextSetBit(0); process >= 0; process = dirty.nextSetBit(process + 1)) {
+            TYPE oldType = getType(process);
+            TYPE type;
+            if (oldType != null && inputs.hasInputType(process, oldType)) {
+                //Most changes are just to the amount of the input, so check if the type is the same before looking up the type
+                type = oldType;
+            } else {
+                type = inputs.getInputType(process);
+                if (oldType == null) {
+                    emptyProcesses--;
+                } else {
+                    removeFromGroup(oldType, process);
+                    markTouched(oldType);
+                }
+                if (type == null) {
+                    emptyProcesses++;
+                } else {
+                    addToGroup(type, process);
+                }
+                types[process] = type;
+            }
+            if (type != null) {
+                markTouched(type);
+            }
+        }
+        dirty.clear();
+    }
+
+    private void markTouched(TYPE type) {
+        //Note: There are only ever a handful of processes, so a list is cheaper than a set
+        if (!touched.contains(type)) {
+            touched.add(type);
+        }
+    }
+
+    private void addToGroup(TYPE type, int process) {
+        IntList group = groups.computeIfAbsent(type, t -> new IntArrayList());
+        //Keep the processes sorted so that we distribute in the same order as a full sort would
+        int index = 0;
+        while (index < group.size() && group.getInt(index) < process) {
+            index++;
+        }
+        group.add(index, process);
+    }
+
+    private void removeFromGroup(TYPE type, int process) {
+        IntList group = groups.get(type);
+        if (group != null) {
+            group.rem(process);
+            if (group.isEmpty()) {
+                groups.remove(type);
+            }
+        }
+    }
+
+    /**
+     * Sorts the inputs, only rebalancing the groups of processes that may have changed since the last sort if possible.
+     */
+    public void sort() {
+        refresh();
+        if (emptyProcesses > 0) {
+            sortAll();
+            return;
+        }
+        //As there are no empty processes, each group is independent and any groups that haven't changed are already balanced
+        for (TYPE type : touched) {
+            IntList processes = groups.get(type);
+            if (processes != null && processes.size() > 1) {
+                SortGroup group = new SortGroup(type);
+                for (int i = 0; i < processes.size(); i++) {
+                    int process = processes.getInt(i);
+                    group.processes.add(process);
+                    group.totalCount += inputs.getInputCount(process);
+                }
+                group.initialProcesses = processes.size();
+                distribute(group);
+            }
+        }
+    }
+
+    /**
+     * Sorts the inputs by looking at all the processes.
+     */
+    public void sortAll() {
+        refresh();
+        Map<TYPE, SortGroup> groups = new HashMap<>();
+        List<Integer> emptyProcesses = new ArrayList<>();
+        for (int process = 0; process < types.length; process++) {
+            TYPE type = getType(process);
+            if (type == null) {
+                emptyProcesses.add(process);
+            } else {
+                SortGroup group = groups.computeIfAbsent(type, SortGroup::new);
+                group.processes.add(process);
+                group.totalCount += inputs.getInputCount(process);
+            }
+        }
+        if (groups.isEmpty()) {
+            //If all inputs are empty, just exit
+            return;
+        }
+        for (SortGroup group : groups.values()) {
+            group.initialProcesses = group.processes.size();
+        }
+        if (!emptyProcesses.isEmpty()) {
+            //If we have any empty processes, we need to factor them in as valid targets for inputs to be transferred to
+            addEmptyProcessesAsTargets(groups, emptyProcesses);
+            //Note: Any remaining empty processes are "ignored" as we don't have any spare inputs to distribute to them
+        }
+        for (SortGroup group : groups.values()) {
+            if (group.processes.size() > 1) {
+                distribute(group);
+            }
+        }
+    }
+
+    private void addEmptyProcessesAsTargets(Map<TYPE, SortGroup> groups, List<Integer> emptyProcesses) {
+        for (SortGroup group : groups.values()) {
+            int minPerSlot = group.getMinPerSlot();
+            int maxSlots = group.totalCount / minPerSlot;
+            if (maxSlots <= 1) {
+                //If we don't have enough to even fill the input for a slot for a single recipe; skip
+                continue;
+            }
+            //Otherwise, if we have at least enough for two slots see how many we already have with inputs in them
+            int processCount = group.processes.size();
+            if (maxSlots <= processCount) {
+                //If we don't have enough extra to fill another slot skip
+                continue;
+            }
+            int emptyToAdd = maxSlots - processCount;
+            int added = 0;
+            List<Integer> toRemove = new ArrayList<>();
+            for (int emptyProcess : emptyProcesses) {
+                if (inputs.canAcceptInput(emptyProcess, group.type)) {
+                    //If the input is valid for the stuff in the empty process' outputs then add the empty process to the group,
+                    // and mark the empty process as accounted for
+                    group.processes.add(emptyProcess);
+                    toRemove.add(emptyProcess);
+                    added++;
+                    if (added >= emptyToAdd) {
+                        //If we added as many as we could based on how much input we have; exit
+                        break;
+                    }
+                }
+            }
+            emptyProcesses.removeAll(toRemove);
+            if (emptyProcesses.isEmpty()) {
+                //We accounted for all our empty processes, stop looking at inputs
+                // for purposes of distributing empty processes among them
+                break;
+            }
+        }
+    }
+
+    private void distribute(SortGroup group) {
+        int processCount = group.processes.size();
+        //Note: This isn't based on any limits the slot may have (but we currently don't have any reduced ones, so it doesn't matter)
+        int maxStackSize = inputs.getMaxStackSize(group.type);
+        int numberPerSlot = group.totalCount / processCount;
+        if (numberPerSlot == maxStackSize) {
+            //If all the slots are already maxed out; short-circuit, no balancing is needed
+            return;
+        }
+        int remainder = group.totalCount % processCount;
+        int minPerSlot = group.getMinPerSlot();
+        if (minPerSlot > 1) {
+            int perSlotRemainder = numberPerSlot % minPerSlot;
+            if (perSlotRemainder > 0) {
+                //Reduce the number we distribute per slot by what our excess
+                // is if we are trying to balance it by the size of the input
+                // required by the recipe
+                numberPerSlot -= perSlotRemainder;
+                // and then add how many items we removed to our remainder
+                remainder += perSlotRemainder * processCount;
+                // Note: After this processing the remainder is at most:
+                // processCount - 1 + processCount * (minPerSlot - 1) =
+                // processCount - 1 + processCount * minPerSlot - processCount =
+                // processCount * minPerSlot - 1
+                // Which means that reducing the remainder by minPerSlot for each
+                // slot while we still have a remainder, will make sure
+            }
+            if (numberPerSlot + minPerSlot > maxStackSize) {
+                //If adding how much we want per slot would cause the slot to overflow
+                // we reduce how much we set per slot to how much there is room for
+                // Note: we can do this safely because while our remainder may be
+                // processCount * minPerSlot - 1 (as shown above), if we are in
+                // this if statement, that means that we really have at most:
+                // processCount * maxStackSize - 1 items being distributed and
+                // have: processCount * numberPerSlot + remainder
+                // which means that our remainder is actually at most:
+                // processCount * (maxStackSize - numberPerSlot) - 1
+                // so we can safely set our per slot distribution to maxStackSize - numberPerSlot
+                minPerSlot = maxStackSize - numberPerSlot;
+            }
+        }
+        for (int i = 0; i < processCount; i++) {
+            int process = group.processes.getInt(i);
+            int sizeForSlot = numberPerSlot;
+            if (remainder > 0) {
+                //If we have a remainder, factor it into our slots
+                if (remainder > minPerSlot) {
+                    //If our remainder is greater than how much we need to fill out the min amount for the slot based
+                    // on the recipe then, to keep it distributed as evenly as possible, increase our size for the slot
+                    // by how much we need, and decrease our remainder by that amount
+                    sizeForSlot += minPerSlot;
+                    remainder -= minPerSlot;
+                } else {
+                    //Otherwise, add our entire remainder to the size for slot, and mark our remainder as fully used
+                    sizeForSlot += remainder;
+                    remainder = 0;
+                }
+            }
+            int currentCount = inputs.getInputCount(process);
+            if (currentCount == 0) {
+                //Note: sizeForSlot should never be zero here as we would not have added the empty process to this group
+                // if it would not end up getting any input; check it just in case though
+                if (sizeForSlot > 0) {
+                    inputs.setInput(process, group.type, sizeForSlot);
+                }
+            } else if (currentCount != sizeForSlot) {
+                //Note: If the amount we want to set it to is zero (all got used by earlier processes, which might happen if the
+                // recipe requires a stacked input (minPerSlot > 1)), then this will empty the process
+                inputs.setInput(process, group.type, sizeForSlot);
+            }
+        }
+    }
+
+    private class SortGroup {
+
+        private final TYPE type;
+        private final IntList processes = new IntArrayList();
+        private int initialProcesses;
+        private int totalCount;
+        private int minPerSlot;
+
+        private SortGroup(TYPE type) {
+            this.type = type;
+        }
+
+        private int getMinPerSlot() {
+            if (minPerSlot == 0) {
+                //Calculate it lazily so that we only look up recipes if we actually need to know how much input is required
+                // Note: We only pass the processes that held the input before we added any empty processes
+                minPerSlot = Math.max(1, inputs.getMinPerSlot(type, processes.subList(0, initialProcesses), totalCount));
+            }
+            return minPerSlot;
+        }
+    }
+
+    /**
+     * Access to the inputs of the processes being sorted.
+     */
+    public interface ISortableInputs<TYPE> {
+
+        /**
+         * @return The type of the input in the given process, or {@code null} if it is empty.
+         */
+        @Nullable
+        TYPE getInputType(int process);
+
+        /**
+         * @return {@code true} if the given process is not empty and its input is of the given type.
+         */
+        default boolean hasInputType(int process, TYPE type) {
+            return Objects.equals(getInputType(process), type);
+        }
+
+        int getInputCount(int process);
+
+        int getMaxStackSize(TYPE type);
+
+        /**
+         * Gets the smallest amount of the given type of input that can be processed at once.
+         *
+         * @param processes  Processes holding the input.
+         * @param totalCount The total amount of the input being sorted.
+         */
+        int getMinPerSlot(TYPE type, IntList processes, int totalCount);
+
+        /**
+         * @return {@code true} if the given empty process can be given the given type of input.
+         */
+        boolean canAcceptInput(int process, TYPE type);
+
+        /**
+         * Sets the amount of the input in the given process, a count of zero empties the process.
+         */
+        void setInput(int process, TYPE type, int count);
+    }
+}
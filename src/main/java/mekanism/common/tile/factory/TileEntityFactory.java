@@ -1,17 +1,15 @@
 package mekanism.common.tile.factory;
 
 import it.unimi.dsi.fastutil.ints.IntArraySet;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
-import java.util.function.IntSupplier;
 import mekanism.api.Action;
 import mekanism.api.IContentsListener;
 import mekanism.api.NBTConstants;
@@ -54,6 +52,7 @@ import mekanism.common.tile.component.TileComponentEjector;
 import mekanism.common.tile.component.config.ConfigInfo;
 import mekanism.common.tile.component.config.DataType;
 import mekanism.common.tile.component.config.slot.InventorySlotInfo;
+import mekanism.common.tile.factory.FactoryInputSorter.ISortableInputs;
 import mekanism.common.tile.interfaces.ISustainedData;
 import mekanism.common.tile.prefab.TileEntityConfigurableMachine;
 import mekanism.common.tile.prefab.TileEntityRecipeMachine;
@@ -71,6 +70,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.items.ItemHandlerHelper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -100,6 +100,8 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     private int ticksRequired = 200;
     private boolean sorting;
     private boolean sortingNeeded = true;
+    //Note: This is initialized in presetVariables so that it exists before the slots are created
+    private FactoryInputSorter<HashedItem> inputSorter;
     private FloatingLong lastUsage = FloatingLong.ZERO;
 
     /**
@@ -170,10 +172,15 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     protected void presetVariables() {
         super.presetVariables();
         tier = Attribute.getTier(getBlockType(), FactoryTier.class);
-        Runnable setSortingNeeded = () -> sortingNeeded = true;
+        inputSorter = new FactoryInputSorter<>(new SortableInputs(), tier.processes);
         recipeCacheLookupMonitors = new FactoryRecipeCacheLookupMonitor[tier.processes];
         for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
-            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, setSortingNeeded);
+            int process = i;
+            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, () -> {
+                sortingNeeded = true;
+                //Only the input of this process changed, so only its group of inputs needs to be rebalanced
+                inputSorter.markDirty(process);
+            });
         }
     }
 
@@ -192,7 +199,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         addSlots(builder, listener, () -> {
             listener.onContentsChanged();
             //Mark sorting as being needed again
-            sortingNeeded = true;
+            markAllSortingNeeded();
         });
         //Add the energy slot after adding the other slots so that it has the lowest priority in shift clicking
         //Note: We can just pass ourselves as the listener instead of the listener that updates sorting as well,
@@ -201,6 +208,12 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         return builder.build();
     }
 
+    private void markAllSortingNeeded() {
+        sortingNeeded = true;
+        //Which processes the output slots allow inputs to be moved to, or how much input the recipes need may have changed
+        inputSorter.markAllDirty();
+    }
+
     protected abstract void addSlots(InventorySlotHelper builder, IContentsListener listener, IContentsListener updateSortingListener);
 
     @Nullable
@@ -229,12 +242,16 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
             // would make it so that some slots are now empty (because of stacked inputs
             // being required), we want to make sure we are able to fill those slots
             // with other items.
+            if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+                //Recipes may have changed, so how much input each process needs may have as well
+                inputSorter.markAllDirty();
+            }
             sortInventory();
         } else if (!sortingNeeded && CommonWorldTickHandler.flushTagAndRecipeCaches) {
             //Otherwise, if sorting isn't currently needed and the recipe cache is invalid
             // Mark sorting as being needed again for the next check as recipes may
             // have changed so our current sort may be incorrect
-            sortingNeeded = true;
+            markAllSortingNeeded();
         }
 
         //Copy this so that if it changes we still have the original amount. Don't bother making it a constant though as this way
@@ -323,6 +340,28 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         Arrays.fill(errorTracker.trackedErrors[cacheIndex], false);
     }
 
+    @Override
+    public void onCachedRecipeChanged(@Nullable CachedRecipe<RECIPE> cachedRecipe, int cacheIndex) {
+        IRecipeLookupHandler.super.onCachedRecipeChanged(cachedRecipe, cacheIndex);
+        if (cachedRecipe != null) {
+            //Our processes only depend on our own contents, so they don't have to be rechecked while idle until something changes
+            cachedRecipe.setChangeCounter(this::getChangeCount);
+        }
+    }
+
+    @Override
+    protected boolean canSleep() {
+        if ((sortingNeeded && isSorting()) || !isEjectorIdle()) {
+            return false;
+        }
+        for (FactoryRecipeCacheLookupMonitor<RECIPE> recipeCacheLookupMonitor : recipeCacheLookupMonitors) {
+            if (!recipeCacheLookupMonitor.isIdle()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected void setActiveState(boolean state, int cacheIndex) {
         activeStates[cacheIndex] = state;
     }
@@ -517,227 +556,87 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     //End methods IComputerTile
 
     private void sortInventory() {
-        Map<HashedItem, RecipeProcessInfo> processes = new HashMap<>();
-        List<ProcessInfo> emptyProcesses = new ArrayList<>();
-        for (ProcessInfo processInfo : processInfoSlots) {
-            IInventorySlot inputSlot = processInfo.inputSlot();
-            if (inputSlot.isEmpty()) {
-                emptyProcesses.add(processInfo);
-            } else {
-                ItemStack inputStack = inputSlot.getStack();
-                HashedItem item = HashedItem.raw(inputStack);
-                RecipeProcessInfo recipeProcessInfo = processes.computeIfAbsent(item, i -> new RecipeProcessInfo());
-                recipeProcessInfo.processes.add(processInfo);
-                recipeProcessInfo.totalCount += inputStack.getCount();
-                if (recipeProcessInfo.lazyMinPerSlot == null && !CommonWorldTickHandler.flushTagAndRecipeCaches) {
-                    //If we don't have a lazily initialized min per slot calculation set for it yet
-                    // and our cache is not invalid/out of date due to a reload
-                    CachedRecipe<RECIPE> cachedRecipe = getCachedRecipe(processInfo.process());
-                    if (isCachedRecipeValid(cachedRecipe, inputStack)) {
-                        // And our current process has a cached recipe then set the lazily initialized per slot value
-                        // Note: If something goes wrong, and we end up with zero as how much we need as an input
-                        // we just bump the value up to one to make sure we properly handle it
-                        recipeProcessInfo.lazyMinPerSlot = () -> Math.max(1, getNeededInput(cachedRecipe.getRecipe(), inputStack));
-                    }
-                }
-            }
-        }
-        if (processes.isEmpty()) {
-            //If all input slots are empty, just exit
-            return;
+        inputSorter.sort();
+    }
+
+    public record ProcessInfo(int process, @NotNull FactoryInputInventorySlot inputSlot, @NotNull IInventorySlot outputSlot,
+                              @Nullable IInventorySlot secondaryOutputSlot) {
+    }
+
+    private class SortableInputs implements ISortableInputs<HashedItem> {
+
+        @Nullable
+        @Override
+        public HashedItem getInputType(int process) {
+            IInventorySlot inputSlot = processInfoSlots[process].inputSlot();
+            //Note: We make a copy of the stack as we keep track of the type between sorts
+            return inputSlot.isEmpty() ? null : HashedItem.create(inputSlot.getStack());
         }
-        for (Entry<HashedItem, RecipeProcessInfo> entry : processes.entrySet()) {
-            RecipeProcessInfo recipeProcessInfo = entry.getValue();
-            if (recipeProcessInfo.lazyMinPerSlot == null) {
-                //If we don't have a lazy initializer for our minPerSlot setup, that means that there is
-                // no valid cached recipe for any of the slots of this type currently, so we want to try and
-                // get the recipe we will have for the first slot, once we end up with more items in the stack
-                recipeProcessInfo.lazyMinPerSlot = () -> {
-                    //Note: We put all of this logic in the lazy init, so that we don't actually call any of this
-                    // until it is needed. That way if we have no empty slots and all our input slots are filled
-                    // we don't do any extra processing here, and can properly short circuit
-                    HashedItem item = entry.getKey();
-                    ItemStack largerInput = item.createStack(Math.min(item.getStack().getMaxStackSize(), recipeProcessInfo.totalCount));
-                    ProcessInfo processInfo = recipeProcessInfo.processes.get(0);
-                    //Try getting a recipe for our input with a larger size, and update the cache if we find one
-                    RECIPE recipe = getRecipeForInput(processInfo.process(), largerInput, processInfo.outputSlot(), processInfo.secondaryOutputSlot(), true);
-                    if (recipe != null) {
-                        return Math.max(1, getNeededInput(recipe, largerInput));
-                    }
-                    return 1;
-                };
-            }
+
+        @Override
+        public boolean hasInputType(int process, HashedItem type) {
+            IInventorySlot inputSlot = processInfoSlots[process].inputSlot();
+            return !inputSlot.isEmpty() && ItemHandlerHelper.canItemStacksStack(type.getStack(), inputSlot.getStack());
         }
-        if (!emptyProcesses.isEmpty()) {
-            //If we have any empty slots, we need to factor them in as valid slots for items to transferred to
-            addEmptySlotsAsTargets(processes, emptyProcesses);
-            //Note: Any remaining empty slots are "ignored" as we don't have any
-            // spare items to distribute to them
+
+        @Override
+        public int getInputCount(int process) {
+            return processInfoSlots[process].inputSlot().getCount();
         }
-        //Distribute items among the slots
-        distributeItems(processes);
-    }
-
-    private void addEmptySlotsAsTargets(Map<HashedItem, RecipeProcessInfo> processes, List<ProcessInfo> emptyProcesses) {
-        for (Entry<HashedItem, RecipeProcessInfo> entry : processes.entrySet()) {
-            RecipeProcessInfo recipeProcessInfo = entry.getValue();
-            int minPerSlot = recipeProcessInfo.getMinPerSlot();
-            int maxSlots = recipeProcessInfo.totalCount / minPerSlot;
-            if (maxSlots <= 1) {
-                //If we don't have enough to even fill the input for a slot for a single recipe; skip
-                continue;
-            }
-            //Otherwise, if we have at least enough items for two slots see how many we already have with items in them
-            int processCount = recipeProcessInfo.processes.size();
-            if (maxSlots <= processCount) {
-                //If we don't have enough extra to fill another slot skip
-                continue;
-            }
-            //Note: This is some arbitrary input stack one of the stacks contained
-            ItemStack sourceStack = entry.getKey().getStack();
-            int emptyToAdd = maxSlots - processCount;
-            int added = 0;
-            List<ProcessInfo> toRemove = new ArrayList<>();
-            for (ProcessInfo emptyProcess : emptyProcesses) {
-                if (inputProducesOutput(emptyProcess.process(), sourceStack, emptyProcess.outputSlot(), emptyProcess.secondaryOutputSlot(), true)) {
-                    //If the input is valid for the stuff in the empty process' output slot
-                    // then add our empty process to our recipeProcessInfo, and mark
-                    // the empty process as accounted for
-                    recipeProcessInfo.processes.add(emptyProcess);
-                    toRemove.add(emptyProcess);
-                    added++;
-                    if (added >= emptyToAdd) {
-                        //If we added as many as we could based on how much input we have; exit
-                        break;
-                    }
-                }
-            }
-            emptyProcesses.removeAll(toRemove);
-            if (emptyProcesses.isEmpty()) {
-                //We accounted for all our empty processes, stop looking at inputs
-                // for purposes of distributing empty slots among them
-                break;
-            }
+
+        @Override
+        public int getMaxStackSize(HashedItem type) {
+            return type.getStack().getMaxStackSize();
         }
-    }
 
-    private void distributeItems(Map<HashedItem, RecipeProcessInfo> processes) {
-        for (Entry<HashedItem, RecipeProcessInfo> entry : processes.entrySet()) {
-            RecipeProcessInfo recipeProcessInfo = entry.getValue();
-            int processCount = recipeProcessInfo.processes.size();
-            if (processCount == 1) {
-                //If there is only one process with the item in it; short-circuit, no balancing is needed
-                continue;
-            }
-            HashedItem item = entry.getKey();
-            //Note: This isn't based on any limits the slot may have (but we currently don't have any reduced ones here, so it doesn't matter)
-            int maxStackSize = item.getStack().getMaxStackSize();
-            int numberPerSlot = recipeProcessInfo.totalCount / processCount;
-            if (numberPerSlot == maxStackSize) {
-                //If all the slots are already maxed out; short-circuit, no balancing is needed
-                continue;
-            }
-            int remainder = recipeProcessInfo.totalCount % processCount;
-            int minPerSlot = recipeProcessInfo.getMinPerSlot();
-            if (minPerSlot > 1) {
-                int perSlotRemainder = numberPerSlot % minPerSlot;
-                if (perSlotRemainder > 0) {
-                    //Reduce the number we distribute per slot by what our excess
-                    // is if we are trying to balance it by the size of the input
-                    // required by the recipe
-                    numberPerSlot -= perSlotRemainder;
-                    // and then add how many items we removed to our remainder
-                    remainder += perSlotRemainder * processCount;
-                    // Note: After this processing the remainder is at most:
-                    // processCount - 1 + processCount * (minPerSlot - 1) =
-                    // processCount - 1 + processCount * minPerSlot - processCount =
-                    // processCount * minPerSlot - 1
-                    // Which means that reducing the remainder by minPerSlot for each
-                    // slot while we still have a remainder, will make sure
-                }
-                if (numberPerSlot + minPerSlot > maxStackSize) {
-                    //If adding how much we want per slot would cause the slot to overflow
-                    // we reduce how much we set per slot to how much there is room for
-                    // Note: we can do this safely because while our remainder may be
-                    // processCount * minPerSlot - 1 (as shown above), if we are in
-                    // this if statement, that means that we really have at most:
-                    // processCount * maxStackSize - 1 items being distributed and
-                    // have: processCount * numberPerSlot + remainder
-                    // which means that our remainder is actually at most:
-                    // processCount * (maxStackSize - numberPerSlot) - 1
-                    // so we can safely set our per slot distribution to maxStackSize - numberPerSlot
-                    minPerSlot = maxStackSize - numberPerSlot;
-                }
-            }
-            for (int i = 0; i < processCount; i++) {
-                ProcessInfo processInfo = recipeProcessInfo.processes.get(i);
-                FactoryInputInventorySlot inputSlot = processInfo.inputSlot();
-                int sizeForSlot = numberPerSlot;
-                if (remainder > 0) {
-                    //If we have a remainder, factor it into our slots
-                    if (remainder > minPerSlot) {
-                        //If our remainder is greater than how much we need to fill out the min amount for the slot based
-                        // on the recipe then, to keep it distributed as evenly as possible, increase our size for the slot
-                        // by how much we need, and decrease our remainder by that amount
-                        sizeForSlot += minPerSlot;
-                        remainder -= minPerSlot;
-                    } else {
-                        //Otherwise, add our entire remainder to the size for slot, and mark our remainder as fully used
-                        sizeForSlot += remainder;
-                        remainder = 0;
-                    }
-                }
-                if (inputSlot.isEmpty()) {
-                    //Note: sizeForSlot should never be zero here as we would not have added
-                    // the empty slot to this item's distribution grouping if it would not
-                    // end up getting any items; check it just in case though before creating
-                    // a stack for the slot and setting it
-                    if (sizeForSlot > 0) {
-                        //Note: We use setStackUnchecked here, as there is a very small chance that
-                        // the stack is not actually valid for the slot because of a reload causing
-                        // recipes to change. If this is the case, then we want to properly not crash,
-                        // but we would rather not add any extra overhead about revalidating the item
-                        // each time as it can get somewhat expensive.
-                        inputSlot.setStackUnchecked(item.createStack(sizeForSlot));
-                    }
-                } else {
-                    //Slot is not currently empty
-                    if (sizeForSlot == 0) {
-                        //If the amount of the item we want to set it to is zero (all got used by earlier stacks, which might
-                        // happen if the recipe requires a stacked input (minPerSlot > 1)), then we need to set the slot to empty
-                        inputSlot.setEmpty();
-                    } else if (inputSlot.getCount() != sizeForSlot) {
-                        //Otherwise, if our slot doesn't already contain the amount we want it to,
-                        // we need to adjust how much is stored in it, and log an error if it changed
-                        // by a different amount then we expected
-                        //Note: We use setStackSize here rather than setStack to avoid an unnecessary stack copy call
-                        // as copying item stacks can sometimes be rather expensive in a heavily modded environment
-                        MekanismUtils.logMismatchedStackSize(sizeForSlot, inputSlot.setStackSize(sizeForSlot, Action.EXECUTE));
+        @Override
+        public int getMinPerSlot(HashedItem type, IntList processes, int totalCount) {
+            if (!CommonWorldTickHandler.flushTagAndRecipeCaches) {
+                //If our cache is not invalid/out of date due to a reload, see if any of the processes have a valid cached recipe
+                for (int i = 0; i < processes.size(); i++) {
+                    int process = processes.getInt(i);
+                    ItemStack inputStack = processInfoSlots[process].inputSlot().getStack();
+                    CachedRecipe<RECIPE> cachedRecipe = getCachedRecipe(process);
+                    if (isCachedRecipeValid(cachedRecipe, inputStack)) {
+                        return getNeededInput(cachedRecipe.getRecipe(), inputStack);
                     }
                 }
             }
+            //If there is no valid cached recipe for any of the processes of this type currently, we want to try and
+            // get the recipe we will have for the first process, once we end up with more items in the stack
+            ItemStack largerInput = type.createStack(Math.min(type.getStack().getMaxStackSize(), totalCount));
+            ProcessInfo processInfo = processInfoSlots[processes.getInt(0)];
+            //Try getting a recipe for our input with a larger size, and update the cache if we find one
+            RECIPE recipe = getRecipeForInput(processInfo.process(), largerInput, processInfo.outputSlot(), processInfo.secondaryOutputSlot(), true);
+            return recipe == null ? 1 : getNeededInput(recipe, largerInput);
         }
-    }
-
-    public record ProcessInfo(int process, @NotNull FactoryInputInventorySlot inputSlot, @NotNull IInventorySlot outputSlot,
-                              @Nullable IInventorySlot secondaryOutputSlot) {
-    }
 
-    private static class RecipeProcessInfo {
+        @Override
+        public boolean canAcceptInput(int process, HashedItem type) {
+            ProcessInfo processInfo = processInfoSlots[process];
+            return inputProducesOutput(process, type.getStack(), processInfo.outputSlot(), processInfo.secondaryOutputSlot(), true);
+        }
 
-        private final List<ProcessInfo> processes = new ArrayList<>();
-        @Nullable
-        private IntSupplier lazyMinPerSlot;
-        private int minPerSlot = 1;
-        private int totalCount;
-
-        public int getMinPerSlot() {
-            if (lazyMinPerSlot != null) {
-                //Get the value lazily
-                minPerSlot = lazyMinPerSlot.getAsInt();
-                lazyMinPerSlot = null;
+        @Override
+        public void setInput(int process, HashedItem type, int count) {
+            FactoryInputInventorySlot inputSlot = processInfoSlots[process].inputSlot();
+            if (inputSlot.isEmpty()) {
+                //Note: We use setStackUnchecked here, as there is a very small chance that
+                // the stack is not actually valid for the slot because of a reload causing
+                // recipes to change. If this is the case, then we want to properly not crash,
+                // but we would rather not add any extra overhead about revalidating the item
+                // each time as it can get somewhat expensive.
+                inputSlot.setStackUnchecked(type.createStack(count));
+            } else if (count == 0) {
+                //If the amount of the item we want to set it to is zero (all got used by earlier stacks, which might
+                // happen if the recipe requires a stacked input (minPerSlot > 1)), then we need to set the slot to empty
+                inputSlot.setEmpty();
+            } else {
+                //Otherwise, adjust how much is stored in it, and log an error if it changed by a different amount then we expected
+                //Note: We use setStackSize here rather than setStack to avoid an unnecessary stack copy call
+                // as copying item stacks can sometimes be rather expensive in a heavily modded environment
+                MekanismUtils.logMismatchedStackSize(count, inputSlot.setStackSize(count, Action.EXECUTE));
             }
-            return minPerSlot;
         }
     }
 
@@ -38,6 +38,7 @@ import mekanism.common.capabilities.resolver.BasicCapabilityResolver;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.filter.BaseFilter;
 import mekanism.common.content.filter.IFilter;
+import mekanism.common.content.miner.MinerBlockIndex;
 import mekanism.common.content.miner.MinerFilter;
 import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.miner.ThreadMinerSearch.State;
@@ -122,6 +123,12 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     private Long2ObjectMap<BitSet> oresToMine = Long2ObjectMaps.emptyMap();
     private HashList<MinerFilter<?>> filters = new HashList<>();
     public ThreadMinerSearch searcher = new ThreadMinerSearch(this);
+    /**
+     * Index of all the blocks in our area, this is kept when the miner is reset so that if our area hasn't changed we don't have to search the world again.
+     */
+    @Nullable
+    private MinerBlockIndex blockIndex;
+    private boolean mining;
 
     private int radius;
     private boolean inverse;
@@ -219,6 +226,9 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
             initCalc = true;
         }
 
+        //Searches run off thread, but the results have to be merged into our block index on the server thread
+        searcher.tryFinish();
+
         energySlot.fillContainerOrConvert();
 
         if (MekanismUtils.canFunction(this) && running && searcher.state == State.FINISHED && !oresToMine.isEmpty()) {
@@ -264,13 +274,67 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         }
     }
 
-    public void updateFromSearch(Long2ObjectMap<BitSet> oresToMine, int found) {
+    public void updateFromSearch(MinerBlockIndex blockIndex, Long2ObjectMap<BitSet> oresToMine, int found) {
+        this.blockIndex = blockIndex;
         this.oresToMine = oresToMine;
         cachedToMine = found;
         updateTargetChunk(null);
         markForSave();
     }
 
+    /**
+     * Called by our {@link MinerBlockIndex} when a block in our area changes, to update what we have left to mine.
+     *
+     * @param chunk Chunk the block is in.
+     * @param index Index of the block in the same form as {@link #oresToMine}.
+     * @param state The new state, or {@code null} if it is not something that can be mined.
+     */
+    public void onIndexedBlockChanged(long chunk, int index, @Nullable BlockState state) {
+        if (mining || searcher.state != State.FINISHED) {
+            //Blocks we mine ourselves are removed from the blocks to mine when we mine them
+            return;
+        }
+        BitSet chunkToMine = oresToMine.get(chunk);
+        boolean wasTarget = chunkToMine != null && chunkToMine.get(index);
+        if (wasTarget != (state != null && shouldMine(state))) {
+            if (wasTarget) {
+                chunkToMine.clear(index);
+                cachedToMine--;
+            } else {
+                if (chunkToMine == null) {
+                    chunkToMine = new BitSet();
+                    oresToMine.put(chunk, chunkToMine);
+                }
+                chunkToMine.set(index);
+                cachedToMine++;
+            }
+        }
+    }
+
+    private boolean setReplaceWhileMining(BlockState state, BlockPos pos, @Nullable MinerFilter<?> filter) {
+        mining = true;
+        try {
+            return setReplace(state, pos, filter);
+        } finally {
+            mining = false;
+        }
+    }
+
+    /**
+     * Checks if the given state should be mined based on our filters.
+     */
+    public boolean shouldMine(BlockState state) {
+        if (isReplaceTarget(state.getBlock().asItem())) {
+            return false;
+        }
+        for (MinerFilter<?> filter : filters) {
+            if (filter.canFilter(state)) {
+                return !inverse;
+            }
+        }
+        return inverse;
+    }
+
     public int getDelay() {
         return delayLength;
     }
@@ -460,7 +524,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
                         if (inverse == (matchingFilter == null) && canMine(state, pos)) {
                             //If we can, then
                             List<ItemStack> drops = getDrops(state, pos);
-                            if (canInsert(drops) && setReplace(state, pos, matchingFilter)) {
+                            if (canInsert(drops) && setReplaceWhileMining(state, pos, matchingFilter)) {
                                 add(drops);
                                 missingStack = ItemStack.EMPTY;
                                 level.levelEvent(LevelEvent.PARTICLES_DESTROY_BLOCK, pos, Block.getId(state));
@@ -672,8 +736,13 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         }
         if (searcher.state == State.IDLE) {
             BlockPos startingPos = getStartingPos();
+            if (blockIndex != null && !blockIndex.matches(startingPos, getDiameter(), getMaxY() - getMinY() + 1)) {
+                //Our area changed, so we need to search the world again
+                dropBlockIndex();
+            }
+            //Even when we have an index we may need to search the sections it skipped
             searcher.setChunkCache(new PathNavigationRegion(getLevel(), startingPos, startingPos.offset(getDiameter(), getMaxY() - getMinY() + 1, getDiameter())));
-            searcher.start();
+            searcher.start(blockIndex);
         }
         running = true;
         markForSave();
@@ -681,10 +750,12 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
+            searcher.cancel();
             reset();
         } else if (searcher.state == State.FINISHED) {
             running = false;
+            //Stop listening for changes in our area, so starting again after a reset searches the world again
+            dropBlockIndex();
             markForSave();
             //Reset the target chunk, so it isn't loaded as we might don't want to let the user just have two chunks loaded
             // eternally (or until server restart) by intentionally stopping the miner
@@ -693,7 +764,14 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     }
 
     public void reset() {
-        //TODO: Should the old searcher thread be terminated somehow?
+        //An explicit reset means the world should be searched again, as the index may have missed changes such as chunks generating in our area
+        dropBlockIndex();
+        resetSearch();
+    }
+
+    private void resetSearch() {
+        //Make sure the old searcher doesn't keep searching if it is still running
+        searcher.cancel();
         searcher = new ThreadMinerSearch(this);
         running = false;
         cachedToMine = 0;
@@ -704,6 +782,20 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         markForSave();
     }
 
+    private void dropBlockIndex() {
+        if (blockIndex != null) {
+            blockIndex.untrack();
+            blockIndex = null;
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        searcher.cancel();
+        dropBlockIndex();
+    }
+
     public boolean isReplaceTarget(Item target) {
         if (inverse) {
             //If we are in inverse mode only check our replace target, and not the filter's replace targets
@@ -863,11 +955,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     public void configurationDataSet() {
         super.configurationDataSet();
         if (isRunning()) {
-            //If it was running when we updated the configuration data, stop it, reset it, and start it again
-            // to ensure that there are no desyncs in energy cost due to things like the radius changing but
-            // having the blocks to mine be calculated based on the old radius
-            stop();
-            reset();
+            //If it was running when we updated the configuration data, reset it and start it again to ensure that there are no desyncs
+            // in energy cost due to things like the radius changing but having the blocks to mine be calculated based on the old radius.
+            // We keep our block index as the filters or inverse mode changing doesn't invalidate it, and if the area changed start drops it
+            resetSearch();
             start();
         }
     }
@@ -1056,7 +1147,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     @ComputerMethod
     public int getToMine() {
-        return !isRemote() && searcher.state == State.SEARCHING ? searcher.found : cachedToMine;
+        return !isRemote() && searcher.state == State.SEARCHING ? searcher.getFound() : cachedToMine;
     }
 
     @ComputerMethod
@@ -1,11 +1,8 @@
 package mekanism.common.tile.machine;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.IConfigurable;
@@ -35,6 +32,9 @@ import mekanism.common.integration.computer.annotation.WrappingComputerMethod;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FluidInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
+import mekanism.common.lib.FloodFill;
+import mekanism.common.lib.FloodFill.SearchResult;
+import mekanism.common.lib.FloodFill.VisitResult;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.registries.MekanismFluids;
 import mekanism.common.tile.base.SubstanceType;
@@ -48,9 +48,6 @@ import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
-import net.minecraft.nbt.NbtUtils;
-import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
@@ -92,9 +89,9 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
      */
     public int operatingTicks;
     /**
-     * The nodes that have full sources near them or in them
+     * Keeps track of the positions we have tried to pump from, with the frontier being the nodes that have full sources near them or in them
      */
-    private final Set<BlockPos> recurringNodes = new ObjectOpenHashSet<>();
+    private final FloodFill floodFill = new FloodFill();
 
     private MachineEnergyContainer<TileEntityElectricPump> energyContainer;
     @WrappingComputerMethod(wrapper = ComputerIInventorySlotWrapper.class, methodNames = "getInputItem")
@@ -147,8 +144,12 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
                 operatingTicks++;
                 if (operatingTicks >= ticksRequired) {
                     operatingTicks = 0;
-                    if (suck()) {
+                    SearchResult result = suck();
+                    if (result == SearchResult.FOUND) {
                         energyContainer.extract(energyPerTick, Action.EXECUTE, AutomationType.INTERNAL);
+                    } else if (result == SearchResult.OUT_OF_TIME) {
+                        //Keep searching next tick rather than waiting for another full operation
+                        operatingTicks = ticksRequired - 1;
                     } else {
                         reset();
                     }
@@ -164,33 +165,35 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         return fluidTank.getFluid().getFluid() == MekanismFluids.HEAVY_WATER.getFluid() ? HEAVY_WATER_AMOUNT : FluidType.BUCKET_VOLUME;
     }
 
-    private boolean suck() {
+    private SearchResult suck() {
         boolean hasFilter = upgradeComponent.isUpgradeInstalled(Upgrade.FILTER);
-        //First see if there are any fluid blocks under the pump - if so, suck and adds the location to the recurring list
+        //First see if there are any fluid blocks under the pump - if so, suck and adds the location to the frontier
         if (suck(worldPosition.relative(Direction.DOWN), hasFilter, true)) {
-            return true;
+            return SearchResult.FOUND;
         }
-        //Even though we can add to recurring in the above for loop, we always then exit and don't get to here if we did so
-        List<BlockPos> tempPumpList = new ArrayList<>(recurringNodes);
-        Collections.shuffle(tempPumpList);
-        //Finally, go over the recurring list of nodes and see if there is a fluid block available to suck - if not, will iterate around the recurring block, attempt to suck,
-        //and then add the adjacent block to the recurring list
-        for (BlockPos tempPumpPos : tempPumpList) {
-            if (suck(tempPumpPos, hasFilter, false)) {
-                return true;
+        //Go over the frontier and see if there is a fluid block available to suck - if not, will try to suck from the blocks around the frontier node
+        // that haven't been tried yet, adding any we suck from to the frontier
+        return floodFill.search(pos -> {
+            if (suck(BlockPos.of(pos), hasFilter, false)) {
+                return VisitResult.FOUND;
             }
-            //Add all the blocks surrounding this recurring node to the recurring node list
             for (Direction orientation : EnumUtils.DIRECTIONS) {
-                BlockPos side = tempPumpPos.relative(orientation);
-                if (WorldUtils.distanceBetween(worldPosition, side) <= MekanismConfig.general.maxPumpRange.get()) {
-                    if (suck(side, hasFilter, true)) {
-                        return true;
-                    }
+                long side = BlockPos.offset(pos, orientation);
+                if (isInRange(side) && floodFill.visit(side) && suck(BlockPos.of(side), hasFilter, true)) {
+                    return VisitResult.FOUND;
                 }
             }
-            recurringNodes.remove(tempPumpPos);
-        }
-        return false;
+            //Neither the node nor anything around it that we haven't already tried has fluid left, so we are done with it
+            return VisitResult.DONE;
+        });
+    }
+
+    private boolean isInRange(long pos) {
+        long range = MekanismConfig.general.maxPumpRange.get();
+        long xOffset = BlockPos.getX(pos) - worldPosition.getX();
+        long yOffset = BlockPos.getY(pos) - worldPosition.getY();
+        long zOffset = BlockPos.getZ(pos) - worldPosition.getZ();
+        return xOffset * xOffset + yOffset * yOffset + zOffset * zOffset <= range * range;
     }
 
     private boolean suck(BlockPos pos, boolean hasFilter, boolean addRecurring) {
@@ -255,7 +258,8 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         //Size doesn't matter, but we do want to take the NBT into account
         activeType = new FluidStack(fluidStack, 1);
         if (addRecurring) {
-            recurringNodes.add(pos);
+            floodFill.visit(pos.asLong());
+            floodFill.addToFrontier(pos.asLong());
         }
         fluidTank.insert(fluidStack, Action.EXECUTE, AutomationType.INTERNAL);
         level.gameEvent(null, GameEvent.FLUID_PICKUP, pos);
@@ -274,7 +278,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
 
     public void reset() {
         activeType = FluidStack.EMPTY;
-        recurringNodes.clear();
+        floodFill.clear();
     }
 
     @Override
@@ -284,12 +288,8 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         if (!activeType.isEmpty()) {
             nbtTags.put(NBTConstants.FLUID_STORED, activeType.writeToNBT(new CompoundTag()));
         }
-        if (!recurringNodes.isEmpty()) {
-            ListTag recurringList = new ListTag();
-            for (BlockPos nodePos : recurringNodes) {
-                recurringList.add(NbtUtils.writeBlockPos(nodePos));
-            }
-            nbtTags.put(NBTConstants.RECURRING_NODES, recurringList);
+        if (!floodFill.isEmpty()) {
+            nbtTags.put(NBTConstants.FLOOD_FILL, floodFill.serializeNBT());
         }
     }
 
@@ -298,12 +298,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         super.load(nbt);
         operatingTicks = nbt.getInt(NBTConstants.PROGRESS);
         NBTUtils.setFluidStackIfPresent(nbt, NBTConstants.FLUID_STORED, fluid -> activeType = fluid);
-        if (nbt.contains(NBTConstants.RECURRING_NODES, Tag.TAG_LIST)) {
-            ListTag tagList = nbt.getList(NBTConstants.RECURRING_NODES, Tag.TAG_COMPOUND);
-            for (int i = 0; i < tagList.size(); i++) {
-                recurringNodes.add(NbtUtils.readBlockPos(tagList.getCompound(i)));
-            }
-        }
+        NBTUtils.setCompoundIfPresent(nbt, NBTConstants.FLOOD_FILL, floodFill::deserializeNBT);
     }
 
     @Override
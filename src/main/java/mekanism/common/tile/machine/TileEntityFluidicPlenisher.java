@@ -1,10 +1,7 @@
 package mekanism.common.tile.machine;
 
-import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.IConfigurable;
@@ -35,18 +32,18 @@ import mekanism.common.inventory.container.sync.SyncableBoolean;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FluidInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
+import mekanism.common.lib.FloodFill;
+import mekanism.common.lib.FloodFill.VisitResult;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.base.SubstanceType;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.util.MekanismUtils;
+import mekanism.common.util.NBTUtils;
 import mekanism.common.util.UpgradeUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
-import net.minecraft.nbt.NbtUtils;
-import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
@@ -67,8 +64,10 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
      * How many ticks it takes to run an operation.
      */
     public static final int BASE_TICKS_REQUIRED = 20;
-    private final Set<BlockPos> activeNodes = new ObjectLinkedOpenHashSet<>();
-    private final Set<BlockPos> usedNodes = new ObjectOpenHashSet<>();
+    /**
+     * Keeps track of the positions we have filled, with the frontier being the positions we still need to fill
+     */
+    private final FloodFill floodFill = new FloodFill();
     public boolean finishedCalc;
     public int ticksRequired = BASE_TICKS_REQUIRED;
     /**
@@ -157,49 +156,48 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
     }
 
     private void doPlenish() {
-        if (usedNodes.size() >= MekanismConfig.general.maxPlenisherNodes.get()) {
+        if (floodFill.getVisitedCount() >= MekanismConfig.general.maxPlenisherNodes.get()) {
             finishedCalc = true;
             return;
         }
-        if (activeNodes.isEmpty()) {
-            if (usedNodes.isEmpty()) {
+        if (!floodFill.hasFrontier()) {
+            if (floodFill.isEmpty()) {
                 BlockPos below = getBlockPos().below();
                 if (!canReplace(below, true, true)) {
                     finishedCalc = true;
                     return;
                 }
-                activeNodes.add(below);
+                floodFill.addToFrontier(below.asLong());
             } else {
                 finishedCalc = true;
                 return;
             }
         }
-        Set<BlockPos> toRemove = new ObjectOpenHashSet<>();
-        for (BlockPos nodePos : activeNodes) {
-            if (WorldUtils.isBlockLoaded(level, nodePos)) {
-                if (canReplace(nodePos, true, false) && canExtractBucket() &&
-                    WorldUtils.tryPlaceContainedLiquid(null, level, nodePos, fluidTank.getFluid(), null)) {
-                    level.gameEvent(null, GameEvent.FLUID_PLACE, nodePos);
-                    fluidTank.extract(FluidType.BUCKET_VOLUME, Action.EXECUTE, AutomationType.INTERNAL);
-                }
-                for (Direction dir : dirs) {
-                    BlockPos sidePos = nodePos.relative(dir);
-                    if (WorldUtils.isBlockLoaded(level, sidePos) && canReplace(sidePos, true, true)) {
-                        activeNodes.add(sidePos);
-                    }
+        //Note: If we run out of time skipping over unloaded nodes, we just carry on from where we got to next operation
+        floodFill.search(pos -> {
+            //Mark the node as used regardless of if it is loaded so that we don't try to fill it again
+            floodFill.visit(pos);
+            BlockPos nodePos = BlockPos.of(pos);
+            if (!WorldUtils.isBlockLoaded(level, nodePos)) {
+                return VisitResult.DONE;
+            }
+            if (canReplace(nodePos, false, false) && canExtractBucket() &&
+                WorldUtils.tryPlaceContainedLiquid(null, level, nodePos, fluidTank.getFluid(), null)) {
+                level.gameEvent(null, GameEvent.FLUID_PLACE, nodePos);
+                fluidTank.extract(FluidType.BUCKET_VOLUME, Action.EXECUTE, AutomationType.INTERNAL);
+            }
+            for (Direction dir : dirs) {
+                BlockPos sidePos = nodePos.relative(dir);
+                if (WorldUtils.isBlockLoaded(level, sidePos) && canReplace(sidePos, true, true)) {
+                    floodFill.addToFrontier(sidePos.asLong());
                 }
-                toRemove.add(nodePos);
-                break;
-            } else {
-                toRemove.add(nodePos);
             }
-        }
-        usedNodes.addAll(toRemove);
-        activeNodes.removeAll(toRemove);
+            return VisitResult.FOUND_AND_DONE;
+        });
     }
 
     private boolean canReplace(BlockPos pos, boolean checkNodes, boolean isPathfinding) {
-        if (checkNodes && usedNodes.contains(pos)) {
+        if (checkNodes && floodFill.isVisited(pos.asLong())) {
             return false;
         }
         BlockState state = level.getBlockState(pos);
@@ -235,19 +233,8 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
         super.saveAdditional(nbtTags);
         nbtTags.putInt(NBTConstants.PROGRESS, operatingTicks);
         nbtTags.putBoolean(NBTConstants.FINISHED, finishedCalc);
-        if (!activeNodes.isEmpty()) {
-            ListTag activeList = new ListTag();
-            for (BlockPos wrapper : activeNodes) {
-                activeList.add(NbtUtils.writeBlockPos(wrapper));
-            }
-            nbtTags.put(NBTConstants.ACTIVE_NODES, activeList);
-        }
-        if (!usedNodes.isEmpty()) {
-            ListTag usedList = new ListTag();
-            for (BlockPos obj : usedNodes) {
-                usedList.add(NbtUtils.writeBlockPos(obj));
-            }
-            nbtTags.put(NBTConstants.USED_NODES, usedList);
+        if (!floodFill.isEmpty()) {
+            nbtTags.put(NBTConstants.FLOOD_FILL, floodFill.serializeNBT());
         }
     }
 
@@ -256,23 +243,11 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
         super.load(nbt);
         operatingTicks = nbt.getInt(NBTConstants.PROGRESS);
         finishedCalc = nbt.getBoolean(NBTConstants.FINISHED);
-        if (nbt.contains(NBTConstants.ACTIVE_NODES, Tag.TAG_LIST)) {
-            ListTag tagList = nbt.getList(NBTConstants.ACTIVE_NODES, Tag.TAG_COMPOUND);
-            for (int i = 0; i < tagList.size(); i++) {
-                activeNodes.add(NbtUtils.readBlockPos(tagList.getCompound(i)));
-            }
-        }
-        if (nbt.contains(NBTConstants.USED_NODES, Tag.TAG_LIST)) {
-            ListTag tagList = nbt.getList(NBTConstants.USED_NODES, Tag.TAG_COMPOUND);
-            for (int i = 0; i < tagList.size(); i++) {
-                usedNodes.add(NbtUtils.readBlockPos(tagList.getCompound(i)));
-            }
-        }
+        NBTUtils.setCompoundIfPresent(nbt, NBTConstants.FLOOD_FILL, floodFill::deserializeNBT);
     }
 
     public void reset() {
-        activeNodes.clear();
-        usedNodes.clear();
+        floodFill.clear();
         finishedCalc = false;
     }
 
@@ -207,6 +207,12 @@ public class TileEntitySolarNeutronActivator extends TileEntityRecipeMachine<Gas
               .setBaselineMaxOperations(() -> productionRate > 0 && productionRate < 1 ? 1 : (int) productionRate);
     }
 
+    @Override
+    protected boolean canSkipIdleRecipeChecks() {
+        //Our production rate depends on the weather and time of day, which don't mark us as changed
+        return false;
+    }
+
     @NotNull
     @Override
     public AABB getRenderBoundingBox() {
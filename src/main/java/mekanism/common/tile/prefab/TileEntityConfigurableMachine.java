@@ -54,4 +54,11 @@ public abstract class TileEntityConfigurableMachine extends TileEntityMekanism i
             ejectorComponent.tickServer();
         }
     }
+
+    /**
+     * @return {@code true} if this machine doesn't have an ejector that is trying to eject anything, so it doesn't need to keep ticking.
+     */
+    protected boolean isEjectorIdle() {
+        return ejectorComponent == null || !ejectorComponent.isEjecting();
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import mekanism.api.chemical.slurry.Slurry;
 import mekanism.api.chemical.slurry.SlurryStack;
 import mekanism.api.providers.IBlockProvider;
 import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.cache.CachedRecipe;
 import mekanism.api.recipes.cache.CachedRecipe.OperationTracker.RecipeError;
 import mekanism.common.capabilities.heat.CachedAmbientTemperature;
 import mekanism.common.capabilities.holder.chemical.IChemicalTankHolder;
@@ -94,6 +95,27 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe> ext
         Arrays.fill(trackedErrors, false);
     }
 
+    @Override
+    public void onCachedRecipeChanged(@Nullable CachedRecipe<RECIPE> cachedRecipe, int cacheIndex) {
+        IRecipeLookupHandler.super.onCachedRecipeChanged(cachedRecipe, cacheIndex);
+        if (cachedRecipe != null && canSkipIdleRecipeChecks()) {
+            cachedRecipe.setChangeCounter(this::getChangeCount);
+        }
+    }
+
+    /**
+     * @return {@code true} if whether the cached recipe can process only depends on the contents of this machine, so it doesn't have to be rechecked while it is
+     * unable to process until something changes.
+     */
+    protected boolean canSkipIdleRecipeChecks() {
+        return true;
+    }
+
+    @Override
+    protected boolean canSleep() {
+        return canSkipIdleRecipeChecks() && isEjectorIdle() && recipeCacheLookupMonitor.isIdle();
+    }
+
     protected void onErrorsChanged(Set<RecipeError> errors) {
         for (int i = 0; i < trackedErrors.length; i++) {
             trackedErrors[i] = errors.contains(errorTypes.get(i));
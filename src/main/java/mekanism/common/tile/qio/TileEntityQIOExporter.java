@@ -48,8 +48,8 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
 
     private final EfficientEjector<Object2LongMap.Entry<HashedItem>> filterEjector =
           new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getLongValue()));
-    private final EfficientEjector<Map.Entry<HashedItem, QIOItemTypeData>> filterlessEjector =
-          new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getValue().getCount()));
+    private final EfficientEjector<QIOItemTypeData> filterlessEjector =
+          new EfficientEjector<>(QIOItemTypeData::getItemType, data -> MathUtils.clampToInt(data.getCount()));
 
     public TileEntityQIOExporter(BlockPos pos, BlockState state) {
         super(MekanismBlocks.QIO_EXPORTER, pos, state);
@@ -79,7 +79,7 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
             return;
         }
         if (exportWithoutFilter && getFilters().isEmpty()) {
-            filterlessEjector.eject(freq, back, freq.getItemDataMap().entrySet());
+            filterlessEjector.eject(freq, back, freq.getItemTypeData());
         } else if (!getFilters().isEmpty()) {
             filterEjector.eject(freq, back, getFilterEjectMap(back, freq).object2LongEntrySet());
         }
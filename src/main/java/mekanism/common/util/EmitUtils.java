@@ -90,6 +90,19 @@ public class EmitUtils {
         return sendToAcceptors(availableTargets, new FloatingLongSplitInfo(amountToSplit, availableTargets.getHandlerCount()), amountToSplit);
     }
 
+    /**
+     * @param availableTargets The EnergyAcceptorWrapper targets to send energy fairly to.
+     * @param splitInfo        A reusable split info, this will be reset to split the given amount between the available targets.
+     * @param amountToSplit    The amount of energy to attempt to send
+     *
+     * @return The amount that actually got sent, this is backed by the given split info and will be changed the next time the split info is reset.
+     */
+    public static <HANDLER, TARGET extends Target<HANDLER, FloatingLong, FloatingLong>> FloatingLong sendToAcceptors(TARGET availableTargets,
+          FloatingLongSplitInfo splitInfo, FloatingLong amountToSplit) {
+        splitInfo.reset(amountToSplit, availableTargets.getHandlerCount());
+        return sendToAcceptors(availableTargets, splitInfo, amountToSplit);
+    }
+
     /**
      * Simple helper to loop over each side of the block and complete an action for each tile found
      *
@@ -57,6 +57,25 @@ class FloatingLongPropertyTest implements WithQuickTheories {
         return prng -> FloatingLong.createConst(prng.next(valueConstraint), (short) prng.next(decimalConstraint));
     }
 
+    /**
+     * Generator for all floating longs that fit as a fixed point value
+     */
+    private Gen<FloatingLong> fixedPointFloatingLongs() {
+        //Value constraint is any value that can be represented as fixed point, regardless of the decimal
+        Constraint valueConstraint = Constraint.between(0, FixedPoint.MAX_VALUE / FixedPoint.SCALE - 1).withShrinkPoint(0);
+        Constraint decimalConstraint = Constraint.between(0, 9_999).withShrinkPoint(0);
+        return prng -> FloatingLong.createConst(prng.next(valueConstraint), (short) prng.next(decimalConstraint));
+    }
+
+    private TheoryBuilder2<FloatingLong, FloatingLong> fixedPointPairTheory() {
+        return qt().forAll(fixedPointFloatingLongs(), fixedPointFloatingLongs());
+    }
+
+    //If the expected result does not fit as a fixed point value, then the fixed point operation is expected to saturate instead
+    private static boolean matchesFixedPoint(FloatingLong expected, long actual) {
+        return FixedPoint.fits(expected) ? expected.equals(FixedPoint.toFloatingLong(actual)) : actual == FixedPoint.MAX_VALUE;
+    }
+
     private TheoryBuilder2<FloatingLong, FloatingLong> floatingLongPairTheory() {
         return qt().forAll(allFloatingLongs(), allFloatingLongs());
     }
@@ -118,4 +137,58 @@ class FloatingLongPropertyTest implements WithQuickTheories {
               longs().all()
         ).check((a, b) -> b == 0 || a.divide(b).equals(divideViaBigDecimal(a, FloatingLong.create(b))));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test fixed point conversions round trip")
+    void testFixedPointRoundTrip() {
+        qt().forAll(fixedPointFloatingLongs()).check(a -> a.equals(FixedPoint.toFloatingLong(FixedPoint.of(a))));
+    }
+
+    @Test
+    @DisplayName("Test fixed point addition matches FloatingLong")
+    void testFixedPointAddition() {
+        fixedPointPairTheory().check((a, b) -> matchesFixedPoint(a.add(b), FixedPoint.add(FixedPoint.of(a), FixedPoint.of(b))));
+    }
+
+    @Test
+    @DisplayName("Test fixed point subtraction matches FloatingLong")
+    void testFixedPointSubtraction() {
+        fixedPointPairTheory().check((a, b) -> matchesFixedPoint(a.subtract(b), FixedPoint.subtract(FixedPoint.of(a), FixedPoint.of(b))));
+    }
+
+    @Test
+    @DisplayName("Test fixed point multiplication matches FloatingLong")
+    void testFixedPointMultiplying() {
+        fixedPointPairTheory().check((a, b) -> matchesFixedPoint(a.multiply(b), FixedPoint.multiply(FixedPoint.of(a), FixedPoint.of(b))));
+    }
+
+    @Test
+    @DisplayName("Test fixed point division matches FloatingLong")
+    void testFixedPointDivision() {
+        fixedPointPairTheory().check((a, b) -> b.isZero() || matchesFixedPoint(a.divide(b), FixedPoint.divide(FixedPoint.of(a), FixedPoint.of(b))));
+    }
+
+    @Test
+    @DisplayName("Test fixed point division by long matches FloatingLong")
+    void testFixedPointDivisionByLong() {
+        qt().forAll(
+              fixedPointFloatingLongs(),
+              longs().all()
+        ).check((a, b) -> b == 0 || matchesFixedPoint(a.divide(b), FixedPoint.divideByWhole(FixedPoint.of(a), b)));
+    }
+
+    @Test
+    @DisplayName("Test fixed point divide to level matches FloatingLong")
+    void testFixedPointDivideToLevel() {
+        fixedPointPairTheory().check((a, b) -> {
+            double expected = b.isZero() || a.greaterThan(b) ? 1 : a.divide(b).doubleValue();
+            return expected == FixedPoint.divideToLevel(FixedPoint.of(a), FixedPoint.of(b));
+        });
+    }
+
+    @Test
+    @DisplayName("Test fixed point comparison matches FloatingLong")
+    void testFixedPointCompare() {
+        fixedPointPairTheory().check((a, b) -> Integer.signum(a.compareTo(b)) == Integer.signum(FixedPoint.compare(FixedPoint.of(a), FixedPoint.of(b))));
+    }
+}
@@ -155,4 +155,78 @@ class FloatingLongTest {
     void testConvertingStringToDecimal() {
         Assertions.assertEquals("0.00", FloatingLong.create(0, (short) 1).toString(2));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test fixed point values at the boundary of what fits")
+    void testFixedPointFits() {
+        Assertions.assertTrue(FixedPoint.fits(FixedPoint.toFloatingLong(FixedPoint.MAX_VALUE)));
+        Assertions.assertFalse(FixedPoint.fits(FloatingLong.create(Long.MAX_VALUE / 10_000, (short) 9_999)));
+        Assertions.assertFalse(FixedPoint.fits(FloatingLong.MAX_VALUE));
+        Assertions.assertEquals(FixedPoint.MAX_VALUE, FixedPoint.of(FloatingLong.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Test fixed point multiplication matches with high decimal values")
+    void testFixedPointSanitation() {
+        FloatingLong a = FloatingLong.create(5, (short) 6_789);
+        FloatingLong b = FloatingLong.create(9, (short) 8_765);
+        Assertions.assertEquals(a.multiply(b), FixedPoint.toFloatingLong(FixedPoint.multiply(FixedPoint.of(a), FixedPoint.of(b))));
+    }
+
+    @Test
+    @DisplayName("Test fixed point addition saturating instead of overflowing")
+    void testFixedPointOverflowAdd() {
+        Assertions.assertEquals(FixedPoint.MAX_VALUE, FixedPoint.add(FixedPoint.MAX_VALUE, FixedPoint.ONE));
+    }
+
+    @Test
+    @DisplayName("Test fixed point subtraction clamping at zero")
+    void testFixedPointUnderflowSubtract() {
+        Assertions.assertEquals(FixedPoint.ZERO, FixedPoint.subtract(FixedPoint.ONE, FixedPoint.of(2)));
+    }
+
+    @Test
+    @DisplayName("Test fixed point basic division")
+    void testFixedPointBasicDivision() {
+        FloatingLong a = FloatingLong.create(6, (short) 1_000);
+        FloatingLong b = FloatingLong.create(3, (short) 1_000);
+        Assertions.assertEquals(a.divide(b), FixedPoint.toFloatingLong(FixedPoint.divide(FixedPoint.of(a), FixedPoint.of(b))));
+    }
+
+    @Test
+    @DisplayName("Test fixed point division by a whole number rounding the same way as FloatingLong")
+    void testFixedPointDivisionByWhole() {
+        FloatingLong a = FloatingLong.create(1, (short) 451);
+        Assertions.assertEquals(a.divide(188), FixedPoint.toFloatingLong(FixedPoint.divideByWhole(FixedPoint.of(a), 188)));
+        Assertions.assertEquals(a.divide(FloatingLong.create(188)), FixedPoint.toFloatingLong(FixedPoint.divide(FixedPoint.of(a), FixedPoint.of(188))));
+    }
+
+    @Test
+    @DisplayName("Test fixed point division with a remainder too large to scale directly")
+    void testFixedPointDivisionLargeRemainder() {
+        FloatingLong a = FloatingLong.create(922_337_203_685_477L, (short) 5_807);
+        FloatingLong b = FloatingLong.create(461_168_601_842_738L, (short) 1);
+        Assertions.assertEquals(a.divide(b), FixedPoint.toFloatingLong(FixedPoint.divide(FixedPoint.of(a), FixedPoint.of(b))));
+    }
+
+    @Test
+    @DisplayName("Test fixed point divide to level")
+    void testFixedPointDivideToLevel() {
+        FloatingLong a = FloatingLong.create(1, (short) 1);
+        FloatingLong b = FloatingLong.create(3);
+        Assertions.assertEquals(a.divide(b).doubleValue(), FixedPoint.divideToLevel(FixedPoint.of(a), FixedPoint.of(b)));
+        Assertions.assertEquals(1, FixedPoint.divideToLevel(FixedPoint.of(b), FixedPoint.of(a)));
+        Assertions.assertEquals(1, FixedPoint.divideToLevel(FixedPoint.of(a), FixedPoint.ZERO));
+    }
+
+    @Test
+    @DisplayName("Test writing a fixed point value into an existing FloatingLong")
+    void testFixedPointWriteInPlace() {
+        FloatingLong target = FloatingLong.create(5);
+        Assertions.assertSame(target, FixedPoint.toFloatingLong(FixedPoint.of(7), target));
+        Assertions.assertEquals(FloatingLong.create(7), target);
+        FloatingLong constant = FloatingLong.createConst(5);
+        Assertions.assertNotSame(constant, FixedPoint.toFloatingLong(FixedPoint.of(7), constant));
+        Assertions.assertEquals(FloatingLong.create(5), constant);
+    }
+}
@@ -0,0 +1,176 @@
+package mekanism.common.content.network;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import mekanism.api.heat.HeatAPI;
+import mekanism.common.content.network.transmitter.ThermodynamicConductor;
+import mekanism.common.lib.ParallelTickPool;
+import mekanism.common.tier.ConductorTier;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.Direction;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the heat network solver against the per conductor heat handling")
+class HeatNetworkSolverTest {
+
+    private static final int SIZE = 4;
+    private static final int COUNT = SIZE * SIZE * SIZE;
+    private static final int SIDES = EnumUtils.DIRECTIONS.length;
+    /**
+     * Small enough that the conductors get split up into a number of pieces, with the last one being smaller than the others.
+     */
+    private static final int CHUNK_SIZE = 5;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    private final ConductorTier[] tiers = new ConductorTier[COUNT];
+    private final double[] heatCapacity = new double[COUNT];
+    private final double[] heat = new double[COUNT];
+    private final double[] ambientTemperature = new double[COUNT * SIDES];
+    private final int[] sideNeighbors = new int[COUNT * SIDES];
+
+    /**
+     * Creates a cube of conductors of random tiers and temperatures, that are all connected to their neighbors except for a few random sides.
+     */
+    private void createCube(Random random) {
+        ConductorTier[] values = ConductorTier.values();
+        for (int i = 0; i < COUNT; i++) {
+            tiers[i] = values[random.nextInt(values.length)];
+            heatCapacity[i] = tiers[i].getHeatCapacity();
+            heat[i] = heatCapacity[i] * (HeatAPI.AMBIENT_TEMP + random.nextDouble() * 2_000);
+            int x = i % SIZE, y = (i / SIZE) % SIZE, z = i / (SIZE * SIZE);
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                int sideIndex = i * SIDES + side.ordinal();
+                ambientTemperature[sideIndex] = HeatAPI.AMBIENT_TEMP + random.nextDouble() * 50;
+                int nx = x + side.getStepX(), ny = y + side.getStepY(), nz = z + side.getStepZ();
+                if (nx < 0 || ny < 0 || nz < 0 || nx >= SIZE || ny >= SIZE || nz >= SIZE) {
+                    sideNeighbors[sideIndex] = HeatNetworkSolver.NOT_CONNECTED;
+                } else {
+                    sideNeighbors[sideIndex] = nx + SIZE * (ny + SIZE * nz);
+                }
+            }
+        }
+        //Disconnect a few sides on both ends
+        for (int k = 0; k < 10; k++) {
+            int sideIndex = random.nextInt(COUNT * SIDES);
+            int neighbor = sideNeighbors[sideIndex];
+            if (neighbor >= 0) {
+                sideNeighbors[sideIndex] = HeatNetworkSolver.NOT_CONNECTED;
+                sideNeighbors[neighbor * SIDES + ((sideIndex % SIDES) ^ 1)] = HeatNetworkSolver.NOT_CONNECTED;
+            }
+        }
+    }
+
+    private static double inverseConduction(ConductorTier tier) {
+        return Math.max(1, tier.getInverseConduction());
+    }
+
+    /**
+     * Heat of each conductor after each of them ran {@link mekanism.common.capabilities.heat.ITileHeatHandler#simulate()} and then updated their capacitors.
+     */
+    private double[] simulatePerConductor() {
+        double[] expected = heat.clone();
+        for (int i = 0; i < COUNT; i++) {
+            double temperature = heat[i] / heatCapacity[i];
+            double inverseConduction = inverseConduction(tiers[i]);
+            for (int side = 0; side < SIDES; side++) {
+                int neighbor = sideNeighbors[i * SIDES + side];
+                double ambient = ambientTemperature[i * SIDES + side];
+                if (neighbor >= 0) {
+                    double tempToTransfer = (temperature - ambient) / (inverseConduction(tiers[neighbor]) + inverseConduction);
+                    expected[i] -= tempToTransfer * heatCapacity[i];
+                    expected[neighbor] += tempToTransfer * heatCapacity[i];
+                }
+                double invConduction = HeatAPI.AIR_INVERSE_COEFFICIENT + tiers[i].getInverseConductionInsulation() + inverseConduction;
+                expected[i] -= (temperature - ambient) / invConduction * heatCapacity[i];
+            }
+        }
+        return expected;
+    }
+
+    private HeatNetworkSolver createSolver() {
+        return new HeatNetworkSolver(new ThermodynamicConductor[COUNT], tiers, heatCapacity.clone(), heat.clone(), new double[COUNT], ambientTemperature,
+              sideNeighbors);
+    }
+
+    private static void assertHeatMatches(double[] expected, HeatNetworkSolver solver) {
+        for (int i = 0; i < COUNT; i++) {
+            Assertions.assertEquals(expected[i], solver.getNextHeat(i), Math.abs(expected[i]) * 1E-9, "Conductor " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Test exchanging heat between conductors connected on both sides")
+    void testSymmetricParity() {
+        createCube(new Random(7));
+        double[] expected = simulatePerConductor();
+        HeatNetworkSolver solver = createSolver();
+        solver.exchange();
+        assertHeatMatches(expected, solver);
+    }
+
+    @Test
+    @DisplayName("Test conductors that are only connected in one direction")
+    void testOneWayParity() {
+        createCube(new Random(13));
+        //Connect the first conductor to the conductor above it, but don't connect that conductor back
+        int neighbor = SIZE;
+        sideNeighbors[Direction.UP.ordinal()] = neighbor;
+        sideNeighbors[neighbor * SIDES + Direction.DOWN.ordinal()] = HeatNetworkSolver.NOT_CONNECTED;
+        double[] expected = simulatePerConductor();
+        HeatNetworkSolver solver = createSolver();
+        //The one way side gets handled as an acceptor, which goes through the neighbor's heat handler, so hand the heat over like its handler would
+        double invConduction = inverseConduction(tiers[neighbor]) + inverseConduction(tiers[0]);
+        double tempToTransfer = (heat[0] / heatCapacity[0] - ambientTemperature[Direction.UP.ordinal()]) / invConduction;
+        solver.handleHeat(0, -tempToTransfer * heatCapacity[0]);
+        solver.handleHeat(neighbor, tempToTransfer * heatCapacity[0]);
+        solver.exchange();
+        assertHeatMatches(expected, solver);
+    }
+
+    @Test
+    @DisplayName("Test exchanging heat split up into pieces that are run on a pool")
+    void testParallelParity() {
+        createCube(new Random(21));
+        double[] expected = simulatePerConductor();
+        HeatNetworkSolver solver = createSolver();
+        solver.exchange(1, CHUNK_SIZE, () -> pool);
+        assertHeatMatches(expected, solver);
+    }
+
+    @Test
+    @DisplayName("Test exchanging heat split up into pieces while networks are already being ticked in parallel")
+    void testParallelOffThreadParity() {
+        createCube(new Random(42));
+        double[] expected = simulatePerConductor();
+        List<HeatNetworkSolver> solvers = List.of(createSolver(), createSolver());
+        AtomicInteger offThread = new AtomicInteger();
+        ParallelTickPool.runSteps(solvers, solver -> {
+            if (ParallelTickPool.isOffThread()) {
+                offThread.incrementAndGet();
+            }
+            //The pieces should be forked onto the pool we are already running on, rather than submitted to another pool
+            solver.exchange(1, CHUNK_SIZE, () -> Assertions.fail("Submitted to a pool while already running on one"));
+        }, pool, () -> false);
+        Assertions.assertEquals(solvers.size(), offThread.get());
+        for (HeatNetworkSolver solver : solvers) {
+            assertHeatMatches(expected, solver);
+        }
+    }
+}
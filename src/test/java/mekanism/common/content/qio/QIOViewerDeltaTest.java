@@ -0,0 +1,99 @@
+package mekanism.common.content.qio;
+
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import java.util.Random;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test QIO item viewer delta sync")
+class QIOViewerDeltaTest {
+
+    private static final int TYPES = 50_000;
+    private static final int TICKS = 100;
+    //Roughly 5% of types get changed each tick, some of them more than once
+    private static final int CHANGES_PER_TICK = 3_000;
+
+    private static QIOViewerDelta createDelta(IntSet changed, long[] counts) {
+        return QIOViewerDelta.create(changed, id -> false, id -> counts[id], id -> {
+            throw new IllegalStateException("Types should not need to be defined");
+        });
+    }
+
+    private static FriendlyByteBuf write(QIOViewerDelta delta) {
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        delta.write(buffer);
+        return buffer;
+    }
+
+    @Test
+    @DisplayName("Test counts survive being written and read")
+    void testRoundTrip() {
+        long[] counts = new long[TYPES];
+        IntSet changed = new IntOpenHashSet();
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000; i++) {
+            int id = random.nextInt(TYPES);
+            counts[id] = random.nextInt(3) == 0 ? 0 : 1 + (random.nextLong() >>> 1) % 1_000_000_000_000L;
+            changed.add(id);
+        }
+        QIOViewerDelta read = QIOViewerDelta.read(write(createDelta(changed, counts)));
+        Assertions.assertEquals(changed.size(), read.size());
+        Assertions.assertTrue(read.getDefinitions().isEmpty());
+        int lastId = -1;
+        for (int i = 0; i < read.size(); i++) {
+            int id = read.getId(i);
+            Assertions.assertTrue(id > lastId, "Ids should be sorted");
+            Assertions.assertTrue(changed.contains(id));
+            Assertions.assertEquals(counts[id], read.getCount(i));
+            lastId = id;
+        }
+    }
+
+    @Test
+    @DisplayName("Test counts must be added in order")
+    void testOutOfOrder() {
+        QIOViewerDelta delta = new QIOViewerDelta(2);
+        delta.setCount(5, 1);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> delta.setCount(5, 2));
+    }
+
+    @Test
+    @DisplayName("Test bytes per tick for a busy 50k type frequency stay bounded")
+    void testBytesPerTick() {
+        Random random = new Random(1234);
+        long[] counts = new long[TYPES];
+        for (int id = 0; id < TYPES; id++) {
+            counts[id] = 1 + random.nextInt(1_000_000);
+        }
+        IntSet changed = new IntOpenHashSet();
+        long totalBytes = 0;
+        long totalChanged = 0;
+        for (int tick = 0; tick < TICKS; tick++) {
+            for (int i = 0; i < CHANGES_PER_TICK; i++) {
+                int id = random.nextInt(TYPES);
+                counts[id] = Math.max(1, counts[id] + random.nextInt(129) - 64);
+                changed.add(id);
+            }
+            totalBytes += write(createDelta(changed, counts)).readableBytes();
+            totalChanged += changed.size();
+            changed.clear();
+        }
+        double bytesPerTick = totalBytes / (double) TICKS;
+        double bytesPerType = totalBytes / (double) totalChanged;
+        //The previous protocol sent the full item and a 16 byte UUID for every changed type, so a delta should be a small fraction of just the UUIDs
+        Assertions.assertTrue(bytesPerType < 6, "Expected less than 6 bytes per changed type, got " + bytesPerType);
+        Assertions.assertTrue(bytesPerTick < 6 * CHANGES_PER_TICK, "Expected less than " + 6 * CHANGES_PER_TICK + " bytes per tick, got " + bytesPerTick);
+
+        //For comparison, a full sync of the counts alone
+        IntSet all = new IntOpenHashSet(TYPES);
+        for (int id = 0; id < TYPES; id++) {
+            all.add(id);
+        }
+        int fullBytes = write(createDelta(all, counts)).readableBytes();
+        Assertions.assertTrue(bytesPerTick < fullBytes / 10D, "Expected deltas to be much smaller than a full sync of " + fullBytes + " bytes");
+    }
+}
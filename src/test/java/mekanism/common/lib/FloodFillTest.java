@@ -0,0 +1,110 @@
+package mekanism.common.lib;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.Random;
+import mekanism.common.lib.FloodFill.SearchResult;
+import mekanism.common.lib.FloodFill.VisitResult;
+import mekanism.common.lib.collection.PackedPosSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test flood filling with packed position sets")
+class FloodFillTest {
+
+    private static final int RADIUS = 20;
+
+    private static boolean inSphere(long pos) {
+        int x = BlockPos.getX(pos), y = BlockPos.getY(pos), z = BlockPos.getZ(pos);
+        return x * x + y * y + z * z <= RADIUS * RADIUS;
+    }
+
+    private static void fill(FloodFill floodFill, LongSet filled, long budgetNanos) {
+        floodFill.search(pos -> {
+            floodFill.visit(pos);
+            Assertions.assertTrue(filled.add(pos), "Filled the same position twice");
+            for (Direction direction : Direction.values()) {
+                long side = BlockPos.offset(pos, direction);
+                if (inSphere(side) && !floodFill.isVisited(side)) {
+                    floodFill.addToFrontier(side);
+                }
+            }
+            return VisitResult.FOUND_AND_DONE;
+        }, budgetNanos);
+    }
+
+    @Test
+    @DisplayName("Test filling a sphere one position per search")
+    void testFillSphere() {
+        FloodFill floodFill = new FloodFill();
+        floodFill.addToFrontier(BlockPos.ZERO.asLong());
+        LongSet filled = new LongOpenHashSet();
+        while (floodFill.hasFrontier()) {
+            fill(floodFill, filled, Long.MAX_VALUE);
+        }
+        int expected = 0;
+        for (int x = -RADIUS; x <= RADIUS; x++) {
+            for (int y = -RADIUS; y <= RADIUS; y++) {
+                for (int z = -RADIUS; z <= RADIUS; z++) {
+                    if (inSphere(BlockPos.asLong(x, y, z))) {
+                        expected++;
+                        Assertions.assertTrue(floodFill.isVisited(BlockPos.asLong(x, y, z)));
+                    }
+                }
+            }
+        }
+        Assertions.assertEquals(expected, filled.size());
+        Assertions.assertEquals(expected, floodFill.getVisitedCount());
+    }
+
+    @Test
+    @DisplayName("Test running out of time keeps the frontier for the next search")
+    void testOutOfTime() {
+        FloodFill floodFill = new FloodFill();
+        for (int i = 0; i < 10; i++) {
+            floodFill.addToFrontier(BlockPos.asLong(i * 7, -i, 3 * i));
+        }
+        int[] visits = new int[1];
+        for (int search = 0; search < 9; search++) {
+            Assertions.assertEquals(SearchResult.OUT_OF_TIME, floodFill.search(pos -> {
+                visits[0]++;
+                return VisitResult.DONE;
+            }, 0));
+        }
+        Assertions.assertEquals(SearchResult.EXHAUSTED, floodFill.search(pos -> VisitResult.DONE, 0));
+        Assertions.assertEquals(9, visits[0]);
+        Assertions.assertFalse(floodFill.hasFrontier());
+    }
+
+    @Test
+    @DisplayName("Test packed position sets survive being written to a long array")
+    void testRoundTrip() {
+        Random random = new Random(42);
+        PackedPosSet set = new PackedPosSet();
+        LongSet expected = new LongOpenHashSet();
+        for (int i = 0; i < 5_000; i++) {
+            long pos = BlockPos.asLong(random.nextInt(200) - 100, random.nextInt(380) - 64, random.nextInt(200) - 100);
+            Assertions.assertEquals(expected.add(pos), set.add(pos));
+        }
+        //Remove some of them so that there are partially filled sections
+        for (long pos : expected.toLongArray()) {
+            if (random.nextBoolean()) {
+                Assertions.assertTrue(set.remove(pos));
+                expected.remove(pos);
+            }
+        }
+        PackedPosSet read = new PackedPosSet();
+        read.fromLongArray(set.toLongArray());
+        Assertions.assertEquals(expected.size(), read.size());
+        LongSet drained = new LongOpenHashSet();
+        while (!read.isEmpty()) {
+            long pos = read.first();
+            Assertions.assertTrue(read.remove(pos));
+            drained.add(pos);
+        }
+        Assertions.assertEquals(expected, drained);
+    }
+}
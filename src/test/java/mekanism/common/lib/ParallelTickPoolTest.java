@@ -0,0 +1,151 @@
+package mekanism.common.lib;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test running steps in parallel on the shared tick pool")
+class ParallelTickPoolTest {
+
+    private static final int REACTORS = 64;
+    private static final int TICKS = 200;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    /**
+     * Step that only touches its own state, modeled loosely on a reactor that burns fuel into heat, boils coolant with the heat, and loses some heat to the
+     * environment. Anything that doesn't fit in its tanks gets "released into the world", which has to happen on the main thread.
+     */
+    private static class Reactor {
+
+        private final int id;
+        private final double burnRate;
+        private long fuel;
+        private long coolant;
+        private long steam;
+        private double heat;
+        private double partialBurn;
+        private boolean ranOffThread;
+
+        private Reactor(int id, Random random) {
+            this.id = id;
+            burnRate = 0.5 + random.nextDouble() * 10;
+            fuel = random.nextInt(2_000);
+            coolant = random.nextInt(5_000);
+        }
+
+        private Reactor(Reactor other) {
+            id = other.id;
+            burnRate = other.burnRate;
+            fuel = other.fuel;
+            coolant = other.coolant;
+            steam = other.steam;
+            heat = other.heat;
+            partialBurn = other.partialBurn;
+        }
+
+        private void simulate(List<String> world) {
+            ranOffThread |= ParallelTickPool.isOffThread();
+            double toBurn = Math.min(burnRate, fuel + partialBurn);
+            partialBurn += toBurn;
+            long burnt = (long) partialBurn;
+            partialBurn -= burnt;
+            fuel -= burnt;
+            heat += toBurn * 1_000;
+            long boiled = Math.min(coolant, (long) (heat / 2_500));
+            coolant -= boiled;
+            steam += boiled;
+            heat -= boiled * 2_500;
+            heat *= 0.995;
+            if (steam > 1_000) {
+                long released = steam - 1_000;
+                steam = 1_000;
+                ParallelTickPool.runOnMainThread(() -> world.add(id + " released " + released));
+            }
+            //Slowly refill the coolant so that there is always something happening
+            coolant += id % 7;
+        }
+
+        private void assertMatches(Reactor other, int tick) {
+            Assertions.assertEquals(fuel, other.fuel, "Mismatched fuel of reactor " + id + " at tick " + tick);
+            Assertions.assertEquals(coolant, other.coolant, "Mismatched coolant of reactor " + id + " at tick " + tick);
+            Assertions.assertEquals(steam, other.steam, "Mismatched steam of reactor " + id + " at tick " + tick);
+            Assertions.assertEquals(heat, other.heat, "Mismatched heat of reactor " + id + " at tick " + tick);
+            Assertions.assertEquals(partialBurn, other.partialBurn, "Mismatched partial burn of reactor " + id + " at tick " + tick);
+        }
+    }
+
+    @Test
+    @DisplayName("Test steps that only touch their own state match running them serially")
+    void testMatchesSerial() {
+        Random random = new Random(42);
+        List<Reactor> serial = new ArrayList<>();
+        List<Reactor> parallel = new ArrayList<>();
+        for (int i = 0; i < REACTORS; i++) {
+            Reactor reactor = new Reactor(i, random);
+            serial.add(reactor);
+            parallel.add(new Reactor(reactor));
+        }
+        List<String> serialWorld = new ArrayList<>();
+        List<String> parallelWorld = new ArrayList<>();
+        for (int tick = 0; tick < TICKS; tick++) {
+            for (Reactor reactor : serial) {
+                reactor.simulate(serialWorld);
+            }
+            //Note: The world list is not thread safe, so any changes to it that didn't get deferred to the main thread are likely to show up as mismatches
+            ParallelTickPool.runSteps(parallel, reactor -> reactor.simulate(parallelWorld), pool, () -> false);
+            for (int i = 0; i < REACTORS; i++) {
+                serial.get(i).assertMatches(parallel.get(i), tick);
+            }
+            Assertions.assertEquals(serialWorld, parallelWorld, "Mismatched world changes at tick " + tick);
+        }
+        Assertions.assertFalse(serialWorld.isEmpty(), "Expected some reactors to release steam");
+        Assertions.assertTrue(parallel.stream().allMatch(reactor -> reactor.ranOffThread), "Expected all reactors to be simulated off thread");
+        Assertions.assertFalse(ParallelTickPool.isOffThread());
+    }
+
+    @Test
+    @DisplayName("Test a single step runs on the calling thread")
+    void testSingleStep() {
+        Reactor reactor = new Reactor(3, new Random(7));
+        reactor.coolant = 10_000;
+        reactor.heat = 10_000_000;
+        List<String> world = new ArrayList<>();
+        ParallelTickPool.runSteps(List.of(reactor), r -> r.simulate(world), pool, () -> false);
+        Assertions.assertFalse(reactor.ranOffThread);
+        Assertions.assertEquals(1, world.size());
+    }
+
+    @Test
+    @DisplayName("Test exceptions in steps are rethrown after the tasks deferred before them")
+    void testExceptionPropagates() {
+        List<Integer> steps = List.of(0, 1, 2, 3, 4, 5, 6, 7);
+        List<Integer> world = new ArrayList<>();
+        IllegalStateException thrown = Assertions.assertThrows(IllegalStateException.class, () -> ParallelTickPool.runSteps(steps, step -> {
+            ParallelTickPool.runOnMainThread(() -> world.add(step));
+            if (step == 3 || step == 5) {
+                throw new IllegalStateException("Step " + step);
+            }
+        }, pool, () -> false));
+        Assertions.assertEquals("Step 3", thrown.getMessage());
+        Assertions.assertEquals(1, thrown.getSuppressed().length, "Expected later failures to be suppressed");
+        Assertions.assertEquals(List.of(0, 1, 2, 3), world, "Expected only the tasks up to the failing step to run");
+        Assertions.assertFalse(ParallelTickPool.isOffThread());
+    }
+}
@@ -0,0 +1,99 @@
+package mekanism.common.lib.distribution;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import mekanism.common.lib.distribution.handler.InfiniteIntegerHandler;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+import mekanism.common.util.EmitUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test distributing to targets that simulated their handlers before emitting")
+class CachedSimulationTest {
+
+    /**
+     * Target that remembers what each handler would accept when it gets added, the same way fluid and chemical networks do.
+     */
+    private static class CachedIntegerTarget extends Target<IntegerHandler, Integer, Integer> {
+
+        private final IntList simulatedAmounts = new IntArrayList();
+
+        private void addHandler(IntegerHandler handler, int toSend) {
+            addHandler(handler);
+            simulatedAmounts.add(handler.perform(toSend, true));
+        }
+
+        @Override
+        protected void acceptAmount(IntegerHandler handler, SplitInfo<Integer> splitInfo, Integer amount) {
+            splitInfo.send(handler.perform(amount, false));
+        }
+
+        @Override
+        protected Integer simulate(IntegerHandler handler, Integer offered) {
+            return handler.perform(offered, true);
+        }
+
+        @Override
+        protected Integer simulate(int index, IntegerHandler handler, Integer offered) {
+            return simulatedAmounts.getInt(index);
+        }
+    }
+
+    /**
+     * Storage shared by multiple ports, like the tank of a multiblock.
+     */
+    private static class SharedTank {
+
+        private int space;
+
+        private SharedTank(int space) {
+            this.space = space;
+        }
+    }
+
+    /**
+     * Port into a shared tank, that can only insert up to a given amount at once.
+     */
+    private static class PortHandler extends IntegerHandler {
+
+        private final SharedTank tank;
+        private final int rate;
+
+        private PortHandler(SharedTank tank, int rate) {
+            this.tank = tank;
+            this.rate = rate;
+        }
+
+        @Override
+        public int perform(int amountOffered, boolean isSimulate) {
+            int amountToTake = Math.min(amountOffered, Math.min(rate, tank.space));
+            if (!isSimulate) {
+                accept(amountToTake);
+                tank.space -= amountToTake;
+            }
+            return amountToTake;
+        }
+    }
+
+    @Test
+    @DisplayName("Test ports of the same tank get simulated again after something was inserted")
+    void testSharedTank() {
+        int toSend = 30;
+        SharedTank tank = new SharedTank(18);
+        IntegerHandler infinite = new InfiniteIntegerHandler();
+        PortHandler slowPort = new PortHandler(tank, 8);
+        PortHandler fastPort = new PortHandler(tank, Integer.MAX_VALUE);
+        CachedIntegerTarget target = new CachedIntegerTarget();
+        target.addHandler(infinite, toSend);
+        target.addHandler(slowPort, toSend);
+        //The fast port thinks it can take everything the tank has space for, but after the slow port fills part of the tank it can only take ten,
+        // which is less than its share. If it used the amount it simulated before, it would wait for the remainder, and the one it couldn't take would be lost
+        target.addHandler(fastPort, toSend);
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(target, toSend, toSend));
+        Assertions.assertEquals(0, tank.space);
+        Assertions.assertEquals(8, slowPort.getAccepted());
+        Assertions.assertEquals(10, fastPort.getAccepted());
+        Assertions.assertEquals(12, infinite.getAccepted());
+    }
+}
@@ -0,0 +1,153 @@
+package mekanism.common.lib.radiation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import mekanism.api.Chunk3D;
+import mekanism.api.Coord4D;
+import mekanism.common.lib.radiation.RadiationFieldIndex.SectionField;
+import mekanism.common.lib.radiation.RadiationManager.LevelAndMaxMagnitude;
+import net.minecraft.core.Registry;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quicktheories.WithQuickTheories;
+
+@DisplayName("Test the radiation field index against summing the exposure of every source around a position")
+class RadiationFieldIndexPropertyTest implements WithQuickTheories {
+
+    private static final ResourceKey<Level> DIMENSION = ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation("mekanism", "test"));
+    /**
+     * The index sums the exposure of the same sources as the reference, just in a different order, so the only difference allowed is floating point rounding.
+     */
+    private static final double RELATIVE_ERROR = 1E-12;
+    private static final double DECAY_RATE = 0.5;
+    private static final int OPERATIONS = 200;
+
+    /**
+     * Sources per chunk, these are never removed once added so that they act like the live row views of the radiation table.
+     */
+    private final Map<Chunk3D, Map<Coord4D, RadiationSource>> sources = new HashMap<>();
+    private final RadiationFieldIndex index = new RadiationFieldIndex();
+
+    private static Coord4D randomPos(Random random, int horizontalRange) {
+        return new Coord4D(random.nextInt(2 * horizontalRange) - horizontalRange, random.nextInt(384) - 64, random.nextInt(2 * horizontalRange) - horizontalRange,
+              DIMENSION);
+    }
+
+    private void radiate(Coord4D pos, double magnitude) {
+        Chunk3D chunk = new Chunk3D(pos);
+        Map<Coord4D, RadiationSource> chunkSources = sources.computeIfAbsent(chunk, c -> new HashMap<>());
+        RadiationSource source = chunkSources.get(pos);
+        if (source == null) {
+            source = new RadiationSource(pos, magnitude);
+            chunkSources.put(pos, source);
+        } else {
+            source.radiate(magnitude);
+        }
+        index.radiate(chunk, chunkSources, source);
+    }
+
+    @Nullable
+    private Coord4D randomSource(Random random) {
+        List<RadiationSource> all = new ArrayList<>();
+        sources.values().forEach(chunkSources -> all.addAll(chunkSources.values()));
+        return all.isEmpty() ? null : all.get(random.nextInt(all.size())).getPos();
+    }
+
+    private void removeSource(Random random) {
+        Coord4D pos = randomSource(random);
+        if (pos != null) {
+            Chunk3D chunk = new Chunk3D(pos);
+            sources.get(chunk).remove(pos);
+            index.update(chunk);
+        }
+    }
+
+    private void removeChunk(Random random) {
+        List<Chunk3D> chunks = new ArrayList<>(sources.keySet());
+        if (!chunks.isEmpty()) {
+            Chunk3D chunk = chunks.get(random.nextInt(chunks.size()));
+            sources.get(chunk).clear();
+            index.remove(chunk);
+        }
+    }
+
+    /**
+     * Decays all the sources the same way {@link RadiationManager#tickServer()} does, but without needing the config for the decay rate.
+     */
+    private void decay() {
+        for (Map.Entry<Chunk3D, Map<Coord4D, RadiationSource>> entry : sources.entrySet()) {
+            boolean removedAny = entry.getValue().values().removeIf(source -> {
+                source.radiate(-source.getMagnitude() * (1 - DECAY_RATE));
+                return source.getMagnitude() < RadiationManager.MIN_MAGNITUDE;
+            });
+            index.decay(entry.getKey(), removedAny);
+        }
+    }
+
+    /**
+     * Sums the exposure of every source in the chunks around the position the same way calculating the radiation level did before there was an index.
+     */
+    private LevelAndMaxMagnitude bruteForce(Coord4D coord, int chunkRadius, int maxRange) {
+        double level = RadiationManager.BASELINE;
+        double maxMagnitude = RadiationManager.BASELINE;
+        for (Chunk3D chunk : new Chunk3D(coord).expand(chunkRadius)) {
+            Map<Coord4D, RadiationSource> chunkSources = sources.get(chunk);
+            if (chunkSources != null) {
+                for (RadiationSource source : chunkSources.values()) {
+                    if (source.getPos().distanceTo(coord) <= maxRange) {
+                        level += RadiationFieldIndex.computeExposure(coord, source);
+                        maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
+                    }
+                }
+            }
+        }
+        return new LevelAndMaxMagnitude(level, maxMagnitude);
+    }
+
+    private void assertMatches(Random random, int chunkRadius, int maxRange) {
+        for (int i = 0; i < 10; i++) {
+            Coord4D coord = randomPos(random, 96);
+            LevelAndMaxMagnitude expected = bruteForce(coord, chunkRadius, maxRange);
+            LevelAndMaxMagnitude actual = index.getLevelAndMaxMagnitude(coord, chunkRadius, maxRange);
+            Assertions.assertEquals(expected.level(), actual.level(), expected.level() * RELATIVE_ERROR, () -> "Level at " + coord);
+            Assertions.assertEquals(expected.maxMagnitude(), actual.maxMagnitude(), () -> "Max magnitude at " + coord);
+            SectionField field = index.getSectionField(DIMENSION, SectionPos.asLong(coord.getX() >> 4, coord.getY() >> 4, coord.getZ() >> 4), chunkRadius, maxRange);
+            double sectionLevel = field == null ? RadiationManager.BASELINE : field.getLevel(coord);
+            Assertions.assertEquals(expected.level(), sectionLevel, expected.level() * RELATIVE_ERROR, () -> "Section level at " + coord);
+        }
+    }
+
+    @Test
+    @DisplayName("Test the index matches the brute force sum while sources are added, removed and decayed")
+    void testMatchesBruteForce() {
+        qt().withExamples(50).forAll(longs().all(), integers().between(0, 6), integers().between(1, 96)).checkAssert((seed, chunkRadius, maxRange) -> {
+            sources.clear();
+            index.clear();
+            Random random = new Random(seed);
+            for (int i = 0; i < OPERATIONS; i++) {
+                int operation = random.nextInt(20);
+                if (operation == 0) {
+                    decay();
+                } else if (operation == 1) {
+                    removeChunk(random);
+                } else if (operation < 5) {
+                    removeSource(random);
+                } else {
+                    Coord4D pos = operation < 8 ? randomSource(random) : null;
+                    //Magnitudes across many orders of magnitude so that decaying removes some sources but not others
+                    radiate(pos == null ? randomPos(random, 64) : pos, Math.pow(10, random.nextDouble() * 7 - 5));
+                }
+                assertMatches(random, chunkRadius, maxRange);
+            }
+        });
+    }
+}
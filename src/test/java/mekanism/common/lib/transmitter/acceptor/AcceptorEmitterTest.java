@@ -0,0 +1,104 @@
+package mekanism.common.lib.transmitter.acceptor;
+
+import net.minecraft.core.Direction;
+import net.minecraftforge.common.util.LazyOptional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test backing off from acceptors that refuse what a network emits")
+class AcceptorEmitterTest {
+
+    private static final int MAX_BACKOFF = 10;
+
+    private final NetworkAcceptorCache<String> acceptorCache = new NetworkAcceptorCache<>();
+    private final AcceptorEmitter<String> emitter = new AcceptorEmitter<>();
+
+    @BeforeEach
+    void addAcceptor() {
+        acceptorCache.setAcceptor(0, Direction.NORTH, LazyOptional.of(() -> "acceptor"));
+        emitter.update(acceptorCache);
+    }
+
+    /**
+     * @return Number of ticks the acceptor at the given index gets skipped for before it is offered to again.
+     */
+    private int ticksSkipped(int index) {
+        int skipped = 0;
+        while (emitter.getAcceptor(index) == null) {
+            skipped++;
+            Assertions.assertTrue(skipped <= MAX_BACKOFF, "Acceptor skipped for longer than the max backoff");
+        }
+        return skipped;
+    }
+
+    @Test
+    @DisplayName("Test the backoff doubles each time an acceptor refuses, up to the max")
+    void testBackoffDoubles() {
+        Assertions.assertEquals(0, ticksSkipped(0));
+        int[] expected = {1, 2, 4, 8, MAX_BACKOFF, MAX_BACKOFF};
+        for (int ticks : expected) {
+            emitter.refused(0, MAX_BACKOFF);
+            Assertions.assertEquals(ticks, ticksSkipped(0));
+        }
+    }
+
+    @Test
+    @DisplayName("Test accepting resets the backoff")
+    void testAcceptResets() {
+        for (int i = 0; i < 3; i++) {
+            emitter.refused(0, MAX_BACKOFF);
+            ticksSkipped(0);
+        }
+        emitter.accepted(0);
+        emitter.refused(0, MAX_BACKOFF);
+        Assertions.assertEquals(1, ticksSkipped(0));
+    }
+
+    @Test
+    @DisplayName("Test a max backoff of zero offers to refusing acceptors every tick")
+    void testBackoffDisabled() {
+        for (int i = 0; i < 3; i++) {
+            emitter.refused(0, 0);
+            Assertions.assertEquals(0, ticksSkipped(0));
+        }
+    }
+
+    @Test
+    @DisplayName("Test resetting the backoff, as changing what is emitted does, offers to all acceptors again")
+    void testResetBackoff() {
+        emitter.refused(0, MAX_BACKOFF);
+        emitter.refused(0, MAX_BACKOFF);
+        emitter.resetBackoff();
+        Assertions.assertEquals(0, ticksSkipped(0));
+        emitter.refused(0, MAX_BACKOFF);
+        Assertions.assertEquals(1, ticksSkipped(0));
+    }
+
+    @Test
+    @DisplayName("Test changing the acceptors rebuilds the list and resets the backoff")
+    void testAcceptorsChanged() {
+        emitter.refused(0, MAX_BACKOFF);
+        emitter.refused(0, MAX_BACKOFF);
+        //Nothing changed, so the list is kept as is
+        emitter.update(acceptorCache);
+        Assertions.assertEquals(1, emitter.size());
+        Assertions.assertNull(emitter.getAcceptor(0));
+        acceptorCache.setAcceptor(1, Direction.SOUTH, LazyOptional.of(() -> "other"));
+        emitter.update(acceptorCache);
+        Assertions.assertEquals(2, emitter.size());
+        Assertions.assertEquals("acceptor", emitter.getAcceptor(0));
+        Assertions.assertEquals("other", emitter.getAcceptor(1));
+    }
+
+    @Test
+    @DisplayName("Test invalidated acceptors are not offered to")
+    void testInvalidated() {
+        LazyOptional<String> acceptor = LazyOptional.of(() -> "invalidated");
+        acceptorCache.setAcceptor(1, Direction.SOUTH, acceptor);
+        emitter.update(acceptorCache);
+        acceptor.invalidate();
+        Assertions.assertNull(emitter.getAcceptor(1));
+    }
+}
@@ -0,0 +1,199 @@
+package mekanism.common.tile.base;
+
+import java.util.Collections;
+import java.util.Set;
+import mekanism.api.Action;
+import mekanism.api.AutomationType;
+import mekanism.api.math.FloatingLong;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.cache.CachedRecipe;
+import mekanism.api.recipes.cache.CachedRecipe.OperationTracker.RecipeError;
+import mekanism.common.capabilities.energy.BasicEnergyContainer;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.RecipeSerializer;
+import net.minecraft.world.item.crafting.RecipeType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test idle tiles falling asleep and waking up")
+class TileSleepStateTest {
+
+    private static final FloatingLong ENERGY_PER_TICK = FloatingLong.createConst(10);
+
+    private static class TestRecipe extends MekanismRecipe {
+
+        private TestRecipe() {
+            super(new ResourceLocation("mekanism", "test"));
+        }
+
+        @Override
+        public void write(FriendlyByteBuf buffer) {
+        }
+
+        @Override
+        public boolean isIncomplete() {
+            return false;
+        }
+
+        @Override
+        public RecipeSerializer<?> getSerializer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public RecipeType<?> getType() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Recipe that only needs energy to run, and counts how many operations it finished.
+     */
+    private static class TestCachedRecipe extends CachedRecipe<TestRecipe> {
+
+        private int finished;
+
+        private TestCachedRecipe() {
+            super(new TestRecipe(), () -> false);
+        }
+
+        @Override
+        public boolean isInputValid() {
+            return true;
+        }
+
+        @Override
+        protected void finishProcessing(int operations) {
+            finished += operations;
+        }
+    }
+
+    /**
+     * Minimal recipe machine, whose energy container marks it as changed the same way a tile's contents listener does, and that ticks and falls asleep the same way
+     * {@link TileEntityMekanism#tickServer} does.
+     */
+    private static class Machine {
+
+        private final TileSleepState sleepState = new TileSleepState();
+        private final BasicEnergyContainer energyContainer;
+        private final TestCachedRecipe cachedRecipe;
+        private Set<RecipeError> errors = Collections.emptySet();
+        private long changeCount;
+        private boolean pendingChanges;
+        private int ticksRun;
+
+        private Machine() {
+            energyContainer = BasicEnergyContainer.create(FloatingLong.createConst(1_000), () -> changeCount++);
+            cachedRecipe = new TestCachedRecipe();
+            cachedRecipe.setEnergyRequirements(() -> ENERGY_PER_TICK, energyContainer)
+                  .setErrorsChanged(errors -> this.errors = errors)
+                  .setChangeCounter(() -> changeCount);
+        }
+
+        private void tick() {
+            if (sleepState.staySleeping(changeCount, pendingChanges)) {
+                return;
+            }
+            ticksRun++;
+            pendingChanges = false;
+            long lastChangeCount = changeCount;
+            cachedRecipe.process();
+            if (lastChangeCount == changeCount && cachedRecipe.isIdle()) {
+                sleepState.sleep(lastChangeCount);
+            }
+        }
+
+        private void tick(int ticks) {
+            for (int i = 0; i < ticks; i++) {
+                tick();
+            }
+        }
+
+        /**
+         * Inserts energy like a cable or another mod would through the energy capability.
+         */
+        private void insertEnergy(long amount, Action action) {
+            energyContainer.insert(FloatingLong.createConst(amount), action, AutomationType.EXTERNAL);
+        }
+    }
+
+    private Machine machine;
+
+    @BeforeEach
+    void createSleepingMachine() {
+        machine = new Machine();
+        machine.tick(5);
+        Assertions.assertTrue(machine.sleepState.isSleeping());
+        Assertions.assertEquals(Set.of(RecipeError.NOT_ENOUGH_ENERGY), machine.errors);
+    }
+
+    @Test
+    @DisplayName("Test a machine that can't do anything stays asleep")
+    void testStaysAsleep() {
+        int ticksRun = machine.ticksRun;
+        machine.tick(100);
+        Assertions.assertEquals(ticksRun, machine.ticksRun);
+        Assertions.assertTrue(machine.sleepState.isSleeping());
+    }
+
+    @Test
+    @DisplayName("Test inserting into a sleeping machine wakes it up and clears its recipe errors")
+    void testInsertWakes() {
+        machine.insertEnergy(20, Action.EXECUTE);
+        machine.tick();
+        Assertions.assertFalse(machine.sleepState.isSleeping());
+        Assertions.assertEquals(Collections.emptySet(), machine.errors);
+        machine.tick(10);
+        //Both operations the inserted energy is enough for ran, and then the machine fell asleep again
+        Assertions.assertEquals(2, machine.cachedRecipe.finished);
+        Assertions.assertTrue(machine.energyContainer.isEmpty());
+        Assertions.assertTrue(machine.sleepState.isSleeping());
+        Assertions.assertEquals(Set.of(RecipeError.NOT_ENOUGH_ENERGY), machine.errors);
+    }
+
+    @Test
+    @DisplayName("Test simulating an insert into a sleeping machine doesn't wake it up")
+    void testSimulatedInsert() {
+        machine.insertEnergy(20, Action.SIMULATE);
+        machine.tick();
+        Assertions.assertTrue(machine.sleepState.isSleeping());
+    }
+
+    @Test
+    @DisplayName("Test waking up a machine directly, as a redstone change or opening it does")
+    void testWakeUp() {
+        int ticksRun = machine.ticksRun;
+        machine.sleepState.wakeUp();
+        machine.tick();
+        Assertions.assertEquals(ticksRun + 1, machine.ticksRun);
+        //Nothing actually changed, so it goes right back to sleep
+        Assertions.assertTrue(machine.sleepState.isSleeping());
+        machine.tick(10);
+        Assertions.assertEquals(ticksRun + 1, machine.ticksRun);
+    }
+
+    @Test
+    @DisplayName("Test waking up all tiles, as a config, tag or recipe reload does")
+    void testWakeAll() {
+        int ticksRun = machine.ticksRun;
+        TileSleepTracker.wakeAll();
+        machine.tick();
+        Assertions.assertEquals(ticksRun + 1, machine.ticksRun);
+        //Tiles that fall asleep after everything was woken up stay asleep
+        Assertions.assertTrue(machine.sleepState.isSleeping());
+        machine.tick(10);
+        Assertions.assertEquals(ticksRun + 1, machine.ticksRun);
+    }
+
+    @Test
+    @DisplayName("Test pending frequency changes wake up a machine")
+    void testPendingChanges() {
+        int ticksRun = machine.ticksRun;
+        machine.pendingChanges = true;
+        machine.tick();
+        Assertions.assertEquals(ticksRun + 1, machine.ticksRun);
+    }
+}
@@ -0,0 +1,305 @@
+package mekanism.common.tile.factory;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import mekanism.common.tile.factory.FactoryInputSorter.ISortableInputs;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test factory input sorting")
+class FactoryInputSorterTest {
+
+    private static final int PROCESSES = 9;
+    private static final int MAX_STACK_SIZE = 64;
+    private static final int TYPES = 4;
+
+    /**
+     * Simulated factory inputs, where inputs are represented by integers and type {@code 3} needs two inputs per operation and can't be moved into odd processes.
+     */
+    private static class Inputs implements ISortableInputs<Integer> {
+
+        private final Integer[] types = new Integer[PROCESSES];
+        private final int[] counts = new int[PROCESSES];
+        @Nullable
+        private FactoryInputSorter<Integer> listener;
+        private long lookups;
+
+        @Nullable
+        @Override
+        public Integer getInputType(int process) {
+            lookups++;
+            return types[process];
+        }
+
+        @Override
+        public int getInputCount(int process) {
+            lookups++;
+            return counts[process];
+        }
+
+        @Override
+        public int getMaxStackSize(Integer type) {
+            return MAX_STACK_SIZE;
+        }
+
+        @Override
+        public int getMinPerSlot(Integer type, IntList processes, int totalCount) {
+            lookups++;
+            return type == 3 ? 2 : 1;
+        }
+
+        @Override
+        public boolean canAcceptInput(int process, Integer type) {
+            lookups++;
+            return type != 3 || process % 2 == 0;
+        }
+
+        @Override
+        public void setInput(int process, Integer type, int count) {
+            set(process, count == 0 ? null : type, count);
+        }
+
+        private void set(int process, @Nullable Integer type, int count) {
+            types[process] = type;
+            counts[process] = type == null ? 0 : count;
+            if (listener != null) {
+                //Mirror the factory's input slots marking the process as dirty whenever they change
+                listener.markDirty(process);
+            }
+        }
+
+        private void copyFrom(Inputs other) {
+            System.arraycopy(other.types, 0, types, 0, PROCESSES);
+            System.arraycopy(other.counts, 0, counts, 0, PROCESSES);
+        }
+    }
+
+    /**
+     * Processes holding the same type of input, the same as {@code TileEntityFactory.RecipeProcessInfo} was before sorting was incremental.
+     */
+    private static class LegacyGroup {
+
+        private final List<Integer> processes = new ArrayList<>();
+        private int totalCount;
+    }
+
+    /**
+     * The way {@code TileEntityFactory#sortInventory} sorted inputs before {@link FactoryInputSorter} existed, ported to work on the simulated inputs directly, so
+     * that the sorter is checked against the original algorithm rather than against itself.
+     */
+    private static void legacySort(Inputs inputs) {
+        Map<Integer, LegacyGroup> processes = new HashMap<>();
+        List<Integer> emptyProcesses = new ArrayList<>();
+        for (int process = 0; process < PROCESSES; process++) {
+            Integer type = inputs.types[process];
+            if (type == null) {
+                emptyProcesses.add(process);
+            } else {
+                LegacyGroup group = processes.computeIfAbsent(type, t -> new LegacyGroup());
+                group.processes.add(process);
+                group.totalCount += inputs.counts[process];
+            }
+        }
+        if (processes.isEmpty()) {
+            return;
+        }
+        if (!emptyProcesses.isEmpty()) {
+            legacyAddEmptySlotsAsTargets(processes, emptyProcesses);
+        }
+        legacyDistributeItems(inputs, processes);
+    }
+
+    private static int legacyMinPerSlot(Integer type) {
+        return type == 3 ? 2 : 1;
+    }
+
+    private static void legacyAddEmptySlotsAsTargets(Map<Integer, LegacyGroup> processes, List<Integer> emptyProcesses) {
+        for (Entry<Integer, LegacyGroup> entry : processes.entrySet()) {
+            LegacyGroup group = entry.getValue();
+            int minPerSlot = legacyMinPerSlot(entry.getKey());
+            int maxSlots = group.totalCount / minPerSlot;
+            if (maxSlots <= 1) {
+                continue;
+            }
+            int processCount = group.processes.size();
+            if (maxSlots <= processCount) {
+                continue;
+            }
+            int emptyToAdd = maxSlots - processCount;
+            int added = 0;
+            List<Integer> toRemove = new ArrayList<>();
+            for (Integer emptyProcess : emptyProcesses) {
+                if (entry.getKey() != 3 || emptyProcess % 2 == 0) {
+                    group.processes.add(emptyProcess);
+                    toRemove.add(emptyProcess);
+                    added++;
+                    if (added >= emptyToAdd) {
+                        break;
+                    }
+                }
+            }
+            emptyProcesses.removeAll(toRemove);
+            if (emptyProcesses.isEmpty()) {
+                break;
+            }
+        }
+    }
+
+    private static void legacyDistributeItems(Inputs inputs, Map<Integer, LegacyGroup> processes) {
+        for (Entry<Integer, LegacyGroup> entry : processes.entrySet()) {
+            LegacyGroup group = entry.getValue();
+            int processCount = group.processes.size();
+            if (processCount == 1) {
+                continue;
+            }
+            int numberPerSlot = group.totalCount / processCount;
+            if (numberPerSlot == MAX_STACK_SIZE) {
+                continue;
+            }
+            int remainder = group.totalCount % processCount;
+            int minPerSlot = legacyMinPerSlot(entry.getKey());
+            if (minPerSlot > 1) {
+                int perSlotRemainder = numberPerSlot % minPerSlot;
+                if (perSlotRemainder > 0) {
+                    numberPerSlot -= perSlotRemainder;
+                    remainder += perSlotRemainder * processCount;
+                }
+                if (numberPerSlot + minPerSlot > MAX_STACK_SIZE) {
+                    minPerSlot = MAX_STACK_SIZE - numberPerSlot;
+                }
+            }
+            for (int i = 0; i < processCount; i++) {
+                int process = group.processes.get(i);
+                int sizeForSlot = numberPerSlot;
+                if (remainder > 0) {
+                    if (remainder > minPerSlot) {
+                        sizeForSlot += minPerSlot;
+                        remainder -= minPerSlot;
+                    } else {
+                        sizeForSlot += remainder;
+                        remainder = 0;
+                    }
+                }
+                if (inputs.types[process] == null) {
+                    if (sizeForSlot > 0) {
+                        inputs.set(process, entry.getKey(), sizeForSlot);
+                    }
+                } else if (sizeForSlot == 0) {
+                    inputs.set(process, null, 0);
+                } else if (inputs.counts[process] != sizeForSlot) {
+                    inputs.set(process, inputs.types[process], sizeForSlot);
+                }
+            }
+        }
+    }
+
+    private static void randomChange(Inputs inputs, Random random) {
+        int process = random.nextInt(PROCESSES);
+        switch (random.nextInt(4)) {
+            case 0 -> inputs.set(process, null, 0);
+            case 1 -> inputs.set(process, random.nextInt(TYPES), 1 + random.nextInt(MAX_STACK_SIZE));
+            default -> {
+                //Most changes are processes using up some of their input, or more input being inserted
+                if (inputs.types[process] != null) {
+                    inputs.set(process, inputs.types[process], Math.max(0, Math.min(MAX_STACK_SIZE, inputs.counts[process] + random.nextInt(9) - 6)));
+                }
+            }
+        }
+    }
+
+    private static Inputs fullyLoaded(Random random) {
+        Inputs inputs = new Inputs();
+        for (int process = 0; process < PROCESSES; process++) {
+            inputs.set(process, process % 3, 1 + random.nextInt(MAX_STACK_SIZE));
+        }
+        return inputs;
+    }
+
+    @Test
+    @DisplayName("Test incremental sorting matches the original full sort")
+    void testMatchesFullSort() {
+        Random random = new Random(42);
+        Inputs incremental = new Inputs();
+        FactoryInputSorter<Integer> incrementalSorter = new FactoryInputSorter<>(incremental, PROCESSES);
+        incremental.listener = incrementalSorter;
+        Inputs full = new Inputs();
+        for (int step = 0; step < 100_000; step++) {
+            int changes = 1 + random.nextInt(3);
+            for (int i = 0; i < changes; i++) {
+                randomChange(incremental, random);
+            }
+            full.copyFrom(incremental);
+            //Sort the copy the way factories used to, by looking at every process
+            legacySort(full);
+            incrementalSorter.sort();
+            Assertions.assertArrayEquals(full.types, incremental.types, "Mismatched types at step " + step);
+            Assertions.assertArrayEquals(full.counts, incremental.counts, "Mismatched counts at step " + step + ": " + Arrays.toString(full.counts) + " vs "
+                                                                          + Arrays.toString(incremental.counts));
+        }
+    }
+
+    @Test
+    @DisplayName("Test a single sort balances inputs")
+    void testBalances() {
+        Inputs inputs = new Inputs();
+        inputs.set(0, 0, 64);
+        inputs.set(4, 0, 1);
+        inputs.set(5, 3, 10);
+        FactoryInputSorter<Integer> sorter = new FactoryInputSorter<>(inputs, PROCESSES);
+        sorter.sort();
+        int total = 0;
+        for (int process = 0; process < PROCESSES; process++) {
+            if (inputs.types[process] != null && inputs.types[process] == 0) {
+                total += inputs.counts[process];
+                Assertions.assertTrue(inputs.counts[process] >= 8, "Expected input to be spread out");
+            }
+        }
+        Assertions.assertEquals(65, total);
+        //Type 3 can only go into even processes and should be kept in multiples of two
+        Assertions.assertEquals(10, inputs.counts[5]);
+    }
+
+    @Test
+    @DisplayName("Test incremental sorting of fully loaded nine process factories looks at fewer inputs")
+    void testFullyLoadedLookups() {
+        int factories = 1_000;
+        int ticks = 200;
+        long fullLookups = 0;
+        long incrementalLookups = 0;
+        Random random = new Random(1234);
+        for (int factory = 0; factory < factories; factory++) {
+            long seed = random.nextLong();
+            Inputs full = fullyLoaded(new Random(seed));
+            Inputs incremental = fullyLoaded(new Random(seed));
+            FactoryInputSorter<Integer> fullSorter = new FactoryInputSorter<>(full, PROCESSES);
+            FactoryInputSorter<Integer> incrementalSorter = new FactoryInputSorter<>(incremental, PROCESSES);
+            incremental.listener = incrementalSorter;
+            Random fullRandom = new Random(seed);
+            Random incrementalRandom = new Random(seed);
+            for (int tick = 0; tick < ticks; tick++) {
+                //Each tick a single process uses up one input and gets topped back up so that the factory stays fully loaded
+                int fullProcess = fullRandom.nextInt(PROCESSES);
+                full.set(fullProcess, full.types[fullProcess], Math.max(1, full.counts[fullProcess] - 1));
+                fullSorter.markAllDirty();
+                fullSorter.sortAll();
+
+                int incrementalProcess = incrementalRandom.nextInt(PROCESSES);
+                incremental.set(incrementalProcess, incremental.types[incrementalProcess], Math.max(1, incremental.counts[incrementalProcess] - 1));
+                incrementalSorter.sort();
+            }
+            Assertions.assertArrayEquals(full.counts, incremental.counts);
+            fullLookups += full.lookups;
+            incrementalLookups += incremental.lookups;
+        }
+        //Only the group that changed needs to be looked at, so this should be well under half the lookups of a full sort
+        Assertions.assertTrue(incrementalLookups * 2 < fullLookups, "Expected incremental sorting to look at far fewer inputs");
+    }
+}